@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.prl.models.dto.ccd;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.prl.enums.YesOrNo;
+import uk.gov.hmcts.reform.prl.models.Element;
+import uk.gov.hmcts.reform.prl.models.OrderDetails;
+import uk.gov.hmcts.reform.prl.models.complextypes.OtherDocuments;
+import uk.gov.hmcts.reform.prl.models.documents.Document;
+import uk.gov.hmcts.reform.prl.utils.CaseUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.prl.utils.ElementUtils.element;
+
+/**
+ *  Reads the manage orders section of a case with long order and document collections, binding the
+ *  whole of CaseData against binding only the section through LazyCaseData.
+ *  Run with ./gradlew jmh -Pjmh.includes=LazyCaseDataBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyCaseDataBenchmark {
+
+    @Param({"10", "100"})
+    private int collectionSize;
+
+    private ObjectMapper objectMapper;
+
+    private CaseDetails caseDetails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        List<Element<OrderDetails>> orders = new ArrayList<>(collectionSize);
+        List<Element<OtherDocuments>> otherDocuments = new ArrayList<>(collectionSize);
+        for (int i = 0; i < collectionSize; i++) {
+            orders.add(element(OrderDetails.builder()
+                                   .orderType("Order " + i)
+                                   .typeOfOrder("Final")
+                                   .dateCreated(LocalDateTime.of(2024, 1, 1, 10, 0).plusDays(i))
+                                   .orderDocument(Document.builder().documentFileName("order" + i + ".pdf").build())
+                                   .build()));
+            otherDocuments.add(element(OtherDocuments.builder()
+                                           .documentName("Document " + i)
+                                           .documentOther(Document.builder().documentFileName("other" + i + ".pdf").build())
+                                           .build()));
+        }
+        CaseData caseData = CaseData.builder()
+            .applicantCaseName("Benchmark case")
+            .caseTypeOfApplication("C100")
+            .orderCollection(orders)
+            .otherDocuments(otherDocuments)
+            .manageOrders(ManageOrders.builder()
+                              .isCaseWithdrawn(YesOrNo.No)
+                              .recitalsOrPreamble("Recitals")
+                              .build())
+            .build();
+        caseDetails = CaseDetails.builder()
+            .id(1L)
+            .state("CASE_ISSUED")
+            .data(objectMapper.convertValue(caseData, new TypeReference<Map<String, Object>>() {}))
+            .build();
+    }
+
+    @Benchmark
+    public ManageOrders wholeCaseData() {
+        return CaseUtils.getCaseData(caseDetails, objectMapper).getManageOrders();
+    }
+
+    @Benchmark
+    public ManageOrders lazySection() {
+        return LazyCaseData.of(caseDetails, objectMapper).getManageOrders();
+    }
+}
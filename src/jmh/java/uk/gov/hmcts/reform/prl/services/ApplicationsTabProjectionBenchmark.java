@@ -0,0 +1,223 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.reform.prl.enums.ApplicantOrChildren;
+import uk.gov.hmcts.reform.prl.enums.Gender;
+import uk.gov.hmcts.reform.prl.enums.OrderTypeEnum;
+import uk.gov.hmcts.reform.prl.enums.ProceedingsEnum;
+import uk.gov.hmcts.reform.prl.enums.TypeOfOrderEnum;
+import uk.gov.hmcts.reform.prl.enums.YesOrNo;
+import uk.gov.hmcts.reform.prl.models.Address;
+import uk.gov.hmcts.reform.prl.models.Element;
+import uk.gov.hmcts.reform.prl.models.complextypes.Behaviours;
+import uk.gov.hmcts.reform.prl.models.complextypes.Child;
+import uk.gov.hmcts.reform.prl.models.complextypes.PartyDetails;
+import uk.gov.hmcts.reform.prl.models.complextypes.ProceedingDetails;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.AttendingTheHearing;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.HearingUrgency;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.InternationalElement;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.LitigationCapacity;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.Miam;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.MiamPolicyUpgrade;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.WelshLanguageRequirements;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharm.AllegationsOfHarmOrders;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharm.AllegationsOfHarmOtherConcerns;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharm.AllegationsOfHarmOverview;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharm.ChildAbductionDetails;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.AllegationsOfHarmRevisedChildContact;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.AllegationsOfHarmRevisedOrders;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.AllegationsOfHarmRevisedOverview;
+import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.RevisedChildAbductionDetails;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.AllegationOfHarm;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.AllegationOfHarmRevised;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.AttendHearing;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.ChildPassportDetails;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.MiamDetails;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.MiamPolicyUpgradeDetails;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.C100_CASE_TYPE;
+import static uk.gov.hmcts.reform.prl.utils.ElementUtils.element;
+
+/**
+ *  Builds the applications tab tables that used to be read by converting the whole case to each
+ *  table type, comparing that conversion against the tables built from the fields they show.
+ *  Run with ./gradlew jmh -Pjmh.includes=ApplicationsTabProjectionBenchmark -Pjmh.profilers=gc
+ *  to see the allocation of each alongside the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationsTabProjectionBenchmark {
+
+    private static final List<Class<?>> TABLES = List.of(
+        HearingUrgency.class,
+        Miam.class,
+        MiamPolicyUpgrade.class,
+        InternationalElement.class,
+        AttendingTheHearing.class,
+        LitigationCapacity.class,
+        WelshLanguageRequirements.class,
+        AllegationsOfHarmOverview.class,
+        AllegationsOfHarmOrders.class,
+        ChildAbductionDetails.class,
+        AllegationsOfHarmOtherConcerns.class,
+        AllegationsOfHarmRevisedOverview.class,
+        AllegationsOfHarmRevisedOrders.class,
+        RevisedChildAbductionDetails.class,
+        AllegationsOfHarmRevisedChildContact.class
+    );
+
+    @Param({"5", "20"})
+    private int parties;
+
+    private ObjectMapper objectMapper;
+
+    private ApplicationsTabService applicationsTabService;
+
+    private CaseData caseData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        applicationsTabService = new ApplicationsTabService(objectMapper, null, null, null);
+
+        List<Element<PartyDetails>> applicants = new ArrayList<>(parties);
+        List<Element<PartyDetails>> respondents = new ArrayList<>(parties);
+        List<Element<Child>> children = new ArrayList<>(parties);
+        List<Element<ProceedingDetails>> proceedings = new ArrayList<>(parties);
+        List<Element<Behaviours>> behaviours = new ArrayList<>(parties);
+        for (int i = 0; i < parties; i++) {
+            applicants.add(element(party("Applicant", i)));
+            respondents.add(element(party("Respondent", i)));
+            children.add(element(Child.builder()
+                                     .firstName("Child" + i)
+                                     .lastName("Surname")
+                                     .dateOfBirth(LocalDate.of(2015, 1, 1).plusDays(i))
+                                     .gender(Gender.male)
+                                     .orderAppliedFor(List.of(OrderTypeEnum.childArrangementsOrder))
+                                     .build()));
+            proceedings.add(element(ProceedingDetails.builder()
+                                        .previousOrOngoingProceedings(ProceedingsEnum.previous)
+                                        .caseNumber("CASE" + i)
+                                        .dateStarted(LocalDate.of(2010, 1, 1).plusDays(i))
+                                        .typeOfOrder(List.of(TypeOfOrderEnum.childArrangementOrder))
+                                        .nameOfCourt("Court " + i)
+                                        .build()));
+            behaviours.add(element(Behaviours.builder()
+                                       .abuseNatureDescription("Description " + i)
+                                       .behavioursStartDateAndLength("Since " + (2000 + i))
+                                       .behavioursApplicantSoughtHelp(YesOrNo.No)
+                                       .build()));
+        }
+        caseData = CaseData.builder()
+            .caseTypeOfApplication(C100_CASE_TYPE)
+            .applicants(applicants)
+            .respondents(respondents)
+            .children(children)
+            .othersToNotify(respondents)
+            .existingProceedings(proceedings)
+            .isCaseUrgent(YesOrNo.Yes)
+            .caseUrgencyTimeAndReason("Within a week")
+            .habitualResidentInOtherState(YesOrNo.No)
+            .litigationCapacityFactors("None")
+            .welshLanguageRequirement(YesOrNo.No)
+            .miamDetails(MiamDetails.builder()
+                             .applicantAttendedMiam(YesOrNo.Yes)
+                             .mediatorRegistrationNumber("12345")
+                             .build())
+            .miamPolicyUpgradeDetails(MiamPolicyUpgradeDetails.builder()
+                                          .mpuChildInvolvedInMiam(YesOrNo.No)
+                                          .mediatorRegistrationNumber("12345")
+                                          .build())
+            .attendHearing(AttendHearing.builder().isWelshNeeded(YesOrNo.No).isInterpreterNeeded(YesOrNo.No).build())
+            .allegationOfHarm(AllegationOfHarm.builder()
+                                  .allegationsOfHarmYesNo(YesOrNo.Yes)
+                                  .allegationsOfHarmDomesticAbuseYesNo(YesOrNo.Yes)
+                                  .physicalAbuseVictim(List.of(ApplicantOrChildren.applicants))
+                                  .behaviours(behaviours)
+                                  .ordersNonMolestation(YesOrNo.Yes)
+                                  .ordersNonMolestationDateIssued(LocalDate.of(2020, 1, 1))
+                                  .ordersNonMolestationCourtName("Court")
+                                  .previousAbductionThreats(YesOrNo.No)
+                                  .build())
+            .allegationOfHarmRevised(AllegationOfHarmRevised.builder()
+                                         .newAllegationsOfHarmYesNo(YesOrNo.Yes)
+                                         .newOrdersOccupation(YesOrNo.Yes)
+                                         .newOrdersOccupationDateIssued(LocalDate.of(2020, 1, 1))
+                                         .newAbductionChildHasPassport(YesOrNo.No)
+                                         .childPassportDetails(ChildPassportDetails.builder().build())
+                                         .build())
+            .build();
+    }
+
+    @Benchmark
+    public void wholeCaseConversion(Blackhole blackhole) {
+        for (Class<?> table : TABLES) {
+            blackhole.consume(applicationsTabService.toMap(objectMapper.convertValue(caseData, table)));
+        }
+    }
+
+    @Benchmark
+    public void projections(Blackhole blackhole) {
+        blackhole.consume(applicationsTabService.getHearingUrgencyTable(caseData));
+        blackhole.consume(applicationsTabService.getMiamTable(caseData));
+        blackhole.consume(applicationsTabService.getMiamPolicyUpgradeTable(caseData));
+        blackhole.consume(applicationsTabService.getInternationalElementTable(caseData));
+        blackhole.consume(applicationsTabService.getAttendingTheHearingTable(caseData));
+        blackhole.consume(applicationsTabService.getLitigationCapacityDetails(caseData));
+        blackhole.consume(applicationsTabService.getWelshLanguageRequirementsTable(caseData));
+        blackhole.consume(applicationsTabService.getAllegationsOfHarmOverviewTable(caseData));
+        blackhole.consume(applicationsTabService.getAllegationsOfHarmOrdersTable(caseData));
+        blackhole.consume(applicationsTabService.getChildAbductionTable(caseData));
+        blackhole.consume(applicationsTabService.getAllegationsOfHarmOtherConcerns(caseData));
+        blackhole.consume(applicationsTabService.getAllegationsOfHarmRevisedOverviewTable(caseData));
+        blackhole.consume(applicationsTabService.getAllegationsOfHarmRevisedOrdersTable(caseData));
+        blackhole.consume(applicationsTabService.getRevisedChildAbductionTable(caseData));
+        blackhole.consume(applicationsTabService.getAllegationsOfHarmRevisedChildContact(caseData));
+    }
+
+    private static PartyDetails party(String role, int index) {
+        return PartyDetails.builder()
+            .firstName(role + index)
+            .lastName("Surname" + index)
+            .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(index))
+            .gender(Gender.female)
+            .placeOfBirth("London")
+            .isDateOfBirthKnown(YesOrNo.Yes)
+            .isCurrentAddressKnown(YesOrNo.Yes)
+            .address(Address.builder()
+                         .addressLine1(index + " High Street")
+                         .postTown("London")
+                         .postCode("SW1A 1AA")
+                         .build())
+            .isAddressConfidential(YesOrNo.No)
+            .canYouProvideEmailAddress(YesOrNo.Yes)
+            .email(role.toLowerCase() + index + "@example.com")
+            .canYouProvidePhoneNumber(YesOrNo.Yes)
+            .phoneNumber("0123456789" + index)
+            .build();
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.prl.services.cafcass;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.prl.models.cafcass.hearing.CaseHearing;
+import uk.gov.hmcts.reform.prl.models.cafcass.hearing.HearingDaySchedule;
+import uk.gov.hmcts.reform.prl.models.cafcass.hearing.Hearings;
+import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassCaseData;
+import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassCaseDetail;
+import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Joins a Cafcass search result to its hearings, the way the enrichment in CaseDataService does,
+ *  comparing the hash index against the linear scan per case it replaced. Both make the same updates
+ *  to the cases and their hearings, only the lookup of the hearings of a case differs.
+ *  Run with ./gradlew jmh -Pjmh.includes=CafcassHearingJoinBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CafcassHearingJoinBenchmark {
+
+    private static final long FIRST_CASE_ID = 1_700_000_000_000_000L;
+
+    @Param({"1000", "10000", "50000"})
+    private int cases;
+
+    private CafCassResponse cafCassResponse;
+
+    private List<Hearings> listOfHearingDetails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<CafCassCaseDetail> caseDetails = new ArrayList<>(cases);
+        listOfHearingDetails = new ArrayList<>(cases);
+        for (int i = 0; i < cases; i++) {
+            long caseId = FIRST_CASE_ID + i;
+            caseDetails.add(CafCassCaseDetail.builder()
+                                .id(caseId)
+                                .caseData(CafCassCaseData.builder().build())
+                                .build());
+            // roughly two thirds of the cases have hearings listed
+            if (i % 3 != 0) {
+                listOfHearingDetails.add(hearingsFor(caseId));
+            }
+        }
+        // hearings do not come back in search order
+        Collections.shuffle(listOfHearingDetails, new Random(cases));
+        cafCassResponse = CafCassResponse.builder().cases(caseDetails).total(cases).build();
+    }
+
+    @Benchmark
+    public CafCassResponse hashIndex() {
+        CaseDataService.updateHearingDataCafcass(
+            cafCassResponse,
+            CaseDataService.indexHearingsByCaseRef(listOfHearingDetails)
+        );
+        return cafCassResponse;
+    }
+
+    /**
+     *  The join as it was before the index, doing the same updates to each case and its hearings.
+     */
+    @Benchmark
+    public CafCassResponse linearScan() {
+        if (null != listOfHearingDetails && !listOfHearingDetails.isEmpty()) {
+            for (CafCassCaseDetail cafCassCaseDetail : cafCassResponse.getCases()) {
+                Hearings filteredHearing =
+                    listOfHearingDetails.stream().filter(hearings -> hearings.getCaseRef().equals(String.valueOf(
+                        cafCassCaseDetail.getId()))).findFirst().orElse(null);
+                if (filteredHearing != null) {
+                    cafCassCaseDetail.getCaseData().setHearingData(filteredHearing);
+                    cafCassCaseDetail.getCaseData().setCourtName(filteredHearing.getCourtName());
+                    cafCassCaseDetail.getCaseData().setCourtTypeId(filteredHearing.getCourtTypeId());
+                    filteredHearing.setCourtName(null);
+                    filteredHearing.setCourtTypeId(null);
+                    filteredHearing.getCaseHearings().forEach(
+                        caseHearing -> caseHearing.getHearingDaySchedule().forEach(
+                            hearingDaySchedule -> {
+                                hearingDaySchedule.setEpimsId(hearingDaySchedule.getHearingVenueId());
+                                hearingDaySchedule.setHearingVenueId(null);
+                            }
+                        )
+                    );
+                }
+            }
+        }
+        return cafCassResponse;
+    }
+
+    private static Hearings hearingsFor(long caseId) {
+        HearingDaySchedule hearingDaySchedule = HearingDaySchedule.hearingDayScheduleWith()
+            .hearingVenueId("234946")
+            .build();
+        CaseHearing caseHearing = CaseHearing.caseHearingWith()
+            .hearingID(caseId)
+            .hearingType("ABA5-FFH")
+            .hearingDaySchedule(List.of(hearingDaySchedule))
+            .build();
+        Hearings hearings = new Hearings();
+        hearings.setCaseRef(String.valueOf(caseId));
+        hearings.setCourtName("Court");
+        hearings.setCaseHearings(List.of(caseHearing));
+        return hearings;
+    }
+}
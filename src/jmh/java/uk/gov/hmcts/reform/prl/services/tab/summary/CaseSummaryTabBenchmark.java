@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.prl.services.tab.summary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.prl.config.CaseSummaryTabConfiguration;
+import uk.gov.hmcts.reform.prl.enums.Gender;
+import uk.gov.hmcts.reform.prl.enums.OrderTypeEnum;
+import uk.gov.hmcts.reform.prl.enums.ProceedingsEnum;
+import uk.gov.hmcts.reform.prl.enums.TypeOfOrderEnum;
+import uk.gov.hmcts.reform.prl.enums.YesNoDontKnow;
+import uk.gov.hmcts.reform.prl.enums.YesOrNo;
+import uk.gov.hmcts.reform.prl.models.Address;
+import uk.gov.hmcts.reform.prl.models.Element;
+import uk.gov.hmcts.reform.prl.models.complextypes.Child;
+import uk.gov.hmcts.reform.prl.models.complextypes.PartyDetails;
+import uk.gov.hmcts.reform.prl.models.complextypes.ProceedingDetails;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.AllegationOfHarm;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.AttendHearing;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.AllegationOfHarmGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.AllegationOfHarmRevisedGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.AllocatedJudgeDetailsGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.CaseStatusGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.ConfidentialDetailsGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.DateOfSubmissionGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.OrderAppliedForGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.OtherProceedingsGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.SpecialArrangementsGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.TypeOfApplicationGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.UrgencyGenerator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.C100_CASE_TYPE;
+import static uk.gov.hmcts.reform.prl.utils.ElementUtils.element;
+
+/**
+ *  Generates the summary tab of a C100 case, running the generators one after another on the
+ *  caller's thread against running them at the same time on the summary tab pool.
+ *  Run with ./gradlew jmh -Pjmh.includes=CaseSummaryTabBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaseSummaryTabBenchmark {
+
+    @Param({"5", "50"})
+    private int parties;
+
+    private CaseSummaryGeneratorExecutor sequentialExecutor;
+
+    private CaseSummaryGeneratorExecutor concurrentExecutor;
+
+    private CaseSummaryTabService sequentialService;
+
+    private CaseSummaryTabService concurrentService;
+
+    private CaseData caseData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sequentialExecutor = new CaseSummaryGeneratorExecutor(new CaseSummaryTabConfiguration(false, 0, 4, 100));
+        concurrentExecutor = new CaseSummaryGeneratorExecutor(new CaseSummaryTabConfiguration(true, 0, 4, 100));
+        sequentialService = summaryTabService(sequentialExecutor);
+        concurrentService = summaryTabService(concurrentExecutor);
+
+        List<Element<PartyDetails>> applicants = new ArrayList<>(parties);
+        List<Element<PartyDetails>> respondents = new ArrayList<>(parties);
+        List<Element<Child>> children = new ArrayList<>(parties);
+        List<Element<ProceedingDetails>> proceedings = new ArrayList<>(parties);
+        for (int i = 0; i < parties; i++) {
+            applicants.add(element(party("Applicant", i)));
+            respondents.add(element(party("Respondent", i)));
+            children.add(element(Child.builder()
+                                     .firstName("Child" + i)
+                                     .lastName("Surname")
+                                     .dateOfBirth(LocalDate.of(2015, 1, 1).plusDays(i))
+                                     .gender(Gender.male)
+                                     .orderAppliedFor(List.of(OrderTypeEnum.childArrangementsOrder))
+                                     .build()));
+            proceedings.add(element(ProceedingDetails.builder()
+                                        .previousOrOngoingProceedings(ProceedingsEnum.previous)
+                                        .caseNumber("CASE" + i)
+                                        .typeOfOrder(List.of(TypeOfOrderEnum.childArrangementOrder))
+                                        .nameOfCourt("Court " + i)
+                                        .build()));
+        }
+        caseData = CaseData.builder()
+            .caseTypeOfApplication(C100_CASE_TYPE)
+            .applicants(applicants)
+            .respondents(respondents)
+            .children(children)
+            .previousOrOngoingProceedingsForChildren(YesNoDontKnow.yes)
+            .existingProceedings(proceedings)
+            .ordersApplyingFor(List.of(OrderTypeEnum.childArrangementsOrder))
+            .isCaseUrgent(YesOrNo.Yes)
+            .allegationOfHarm(AllegationOfHarm.builder()
+                                  .allegationsOfHarmYesNo(YesOrNo.Yes)
+                                  .allegationsOfHarmDomesticAbuseYesNo(YesOrNo.Yes)
+                                  .allegationsOfHarmChildAbuseYesNo(YesOrNo.No)
+                                  .allegationsOfHarmChildAbductionYesNo(YesOrNo.No)
+                                  .allegationsOfHarmSubstanceAbuseYesNo(YesOrNo.No)
+                                  .allegationsOfHarmOtherConcernsYesNo(YesOrNo.No)
+                                  .build())
+            .attendHearing(AttendHearing.builder().isSpecialArrangementsRequired(YesOrNo.No).build())
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sequentialExecutor.shutdown();
+        concurrentExecutor.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, Object> sequential() {
+        return sequentialService.updateTab(caseData);
+    }
+
+    @Benchmark
+    public Map<String, Object> concurrent() {
+        return concurrentService.updateTab(caseData);
+    }
+
+    private static CaseSummaryTabService summaryTabService(CaseSummaryGeneratorExecutor executor) {
+        return new CaseSummaryTabService(
+            new AllocatedJudgeDetailsGenerator(),
+            new CaseStatusGenerator(),
+            new ConfidentialDetailsGenerator(),
+            new OrderAppliedForGenerator(),
+            new OtherProceedingsGenerator(),
+            new SpecialArrangementsGenerator(),
+            new UrgencyGenerator(),
+            new AllegationOfHarmGenerator(),
+            new AllegationOfHarmRevisedGenerator(),
+            new DateOfSubmissionGenerator(),
+            new TypeOfApplicationGenerator(),
+            executor
+        );
+    }
+
+    private static PartyDetails party(String firstName, int i) {
+        return PartyDetails.builder()
+            .firstName(firstName + i)
+            .lastName("Surname")
+            .isAddressConfidential(i % 2 == 0 ? YesOrNo.Yes : YesOrNo.No)
+            .isPhoneNumberConfidential(YesOrNo.No)
+            .isEmailAddressConfidential(YesOrNo.No)
+            .address(Address.builder().addressLine1(i + " High Street").postCode("SW1A 1AA").build())
+            .build();
+    }
+}
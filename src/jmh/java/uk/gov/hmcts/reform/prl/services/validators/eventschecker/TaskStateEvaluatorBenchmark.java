@@ -0,0 +1,192 @@
+package uk.gov.hmcts.reform.prl.services.validators.eventschecker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.reform.prl.enums.ApplicantOrChildren;
+import uk.gov.hmcts.reform.prl.enums.Event;
+import uk.gov.hmcts.reform.prl.enums.Gender;
+import uk.gov.hmcts.reform.prl.enums.YesOrNo;
+import uk.gov.hmcts.reform.prl.models.Address;
+import uk.gov.hmcts.reform.prl.models.Element;
+import uk.gov.hmcts.reform.prl.models.complextypes.Behaviours;
+import uk.gov.hmcts.reform.prl.models.complextypes.PartyDetails;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.AllegationOfHarm;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
+import uk.gov.hmcts.reform.prl.models.tasklist.TaskState;
+import uk.gov.hmcts.reform.prl.services.TaskErrorService;
+import uk.gov.hmcts.reform.prl.services.validators.AllegationsOfHarmChecker;
+import uk.gov.hmcts.reform.prl.services.validators.ApplicantsChecker;
+import uk.gov.hmcts.reform.prl.services.validators.RespondentsChecker;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.C100_CASE_TYPE;
+import static uk.gov.hmcts.reform.prl.enums.Event.ALLEGATIONS_OF_HARM;
+import static uk.gov.hmcts.reform.prl.enums.Event.APPLICANT_DETAILS;
+import static uk.gov.hmcts.reform.prl.enums.Event.RESPONDENT_DETAILS;
+import static uk.gov.hmcts.reform.prl.utils.ElementUtils.element;
+
+/**
+ *  Works out the party and allegations of harm task states of a large C100 case the way the task
+ *  list does on every change, comparing the checkers run for every render against task states kept
+ *  against a SHA-256 digest of their case section. The digest is the cheapest key that is safe to keep,
+ *  and computing it costs more than running the checkers, which is why the task list keeps no states.
+ *  Run with ./gradlew jmh -Pjmh.includes=TaskStateEvaluatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskStateEvaluatorBenchmark {
+
+    private static final List<Event> EVENTS = List.of(APPLICANT_DETAILS, RESPONDENT_DETAILS, ALLEGATIONS_OF_HARM);
+
+    @Param({"5", "20"})
+    private int parties;
+
+    private TaskErrorService taskErrorService;
+
+    private EventsChecker eventsChecker;
+
+    private ObjectMapper objectMapper;
+
+    private Map<ByteBuffer, TaskState> keptStates;
+
+    private CaseData caseData;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        taskErrorService = new TaskErrorService();
+        eventsChecker = new EventsChecker();
+        eventsChecker.setApplicantsChecker(new ApplicantsChecker(taskErrorService));
+        eventsChecker.setRespondentsChecker(new RespondentsChecker(taskErrorService));
+        eventsChecker.setAllegationsOfHarmChecker(new AllegationsOfHarmChecker(taskErrorService));
+        eventsChecker.init();
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        List<Element<PartyDetails>> applicants = new ArrayList<>(parties);
+        List<Element<PartyDetails>> respondents = new ArrayList<>(parties);
+        List<Element<Behaviours>> behaviours = new ArrayList<>(parties);
+        for (int i = 0; i < parties; i++) {
+            applicants.add(element(party("Applicant", i)));
+            respondents.add(element(party("Respondent", i)));
+            behaviours.add(element(Behaviours.builder()
+                                       .abuseNatureDescription("Description " + i)
+                                       .behavioursStartDateAndLength("Since " + (2000 + i))
+                                       .behavioursApplicantSoughtHelp(YesOrNo.No)
+                                       .build()));
+        }
+        caseData = CaseData.builder()
+            .caseTypeOfApplication(C100_CASE_TYPE)
+            .applicants(applicants)
+            .respondents(respondents)
+            .allegationOfHarm(AllegationOfHarm.builder()
+                                  .allegationsOfHarmYesNo(YesOrNo.Yes)
+                                  .allegationsOfHarmDomesticAbuseYesNo(YesOrNo.Yes)
+                                  .physicalAbuseVictim(List.of(ApplicantOrChildren.applicants))
+                                  .behaviours(behaviours)
+                                  .ordersNonMolestation(YesOrNo.No)
+                                  .ordersOccupation(YesOrNo.No)
+                                  .ordersForcedMarriageProtection(YesOrNo.No)
+                                  .ordersRestraining(YesOrNo.No)
+                                  .ordersOtherInjunctive(YesOrNo.No)
+                                  .ordersUndertakingInPlace(YesOrNo.No)
+                                  .build())
+            .build();
+        // the first render of the case fills the kept states
+        keptStates = new HashMap<>();
+        for (Event event : EVENTS) {
+            keptStates.put(sectionDigest(event), getTaskState(event));
+        }
+    }
+
+    @Benchmark
+    public void checkersEveryTime(Blackhole blackhole) {
+        taskErrorService.clearErrors();
+        for (Event event : EVENTS) {
+            blackhole.consume(getTaskState(event));
+        }
+    }
+
+    @Benchmark
+    public void statesKeptBySectionDigest(Blackhole blackhole) throws Exception {
+        taskErrorService.clearErrors();
+        for (Event event : EVENTS) {
+            blackhole.consume(keptStates.get(sectionDigest(event)));
+        }
+    }
+
+    // the same chain TaskListService runs for every event
+    private TaskState getTaskState(Event event) {
+        if (eventsChecker.isFinished(event, caseData)) {
+            return TaskState.FINISHED;
+        }
+        if (eventsChecker.hasMandatoryCompleted(event, caseData)) {
+            return TaskState.MANDATORY_COMPLETED;
+        }
+        if (eventsChecker.isStarted(event, caseData)) {
+            return TaskState.IN_PROGRESS;
+        }
+        return eventsChecker.getDefaultState(event, caseData);
+    }
+
+    private ByteBuffer sectionDigest(Event event) throws JsonProcessingException, NoSuchAlgorithmException {
+        Object section = switch (event) {
+            case APPLICANT_DETAILS -> caseData.getApplicants();
+            case RESPONDENT_DETAILS -> caseData.getRespondents();
+            default -> caseData.getAllegationOfHarm();
+        };
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(event.name().getBytes());
+        return ByteBuffer.wrap(digest.digest(objectMapper.writeValueAsBytes(section)));
+    }
+
+    private static PartyDetails party(String role, int index) {
+        return PartyDetails.builder()
+            .firstName(role + index)
+            .lastName("Surname" + index)
+            .dateOfBirth(LocalDate.of(1980, 1, 1).plusDays(index))
+            .gender(Gender.female)
+            .placeOfBirth("London")
+            .isDateOfBirthKnown(YesOrNo.Yes)
+            .isCurrentAddressKnown(YesOrNo.Yes)
+            .isPlaceOfBirthKnown(YesOrNo.Yes)
+            .address(Address.builder()
+                         .addressLine1(index + " High Street")
+                         .postTown("London")
+                         .postCode("SW1A 1AA")
+                         .build())
+            .isAddressConfidential(YesOrNo.No)
+            .isAtAddressLessThan5Years(YesOrNo.No)
+            .canYouProvideEmailAddress(YesOrNo.Yes)
+            .email(role.toLowerCase() + index + "@example.com")
+            .isEmailAddressConfidential(YesOrNo.No)
+            .canYouProvidePhoneNumber(YesOrNo.Yes)
+            .phoneNumber("0123456789" + index)
+            .isPhoneNumberConfidential(YesOrNo.No)
+            .build();
+    }
+}
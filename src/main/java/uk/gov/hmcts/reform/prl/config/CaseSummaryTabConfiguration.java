@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class CaseSummaryTabConfiguration {
+
+    private final boolean concurrent;
+    private final int concurrentFromParties;
+    private final int poolSize;
+    private final int queueCapacity;
+
+    public CaseSummaryTabConfiguration(@Value("${prl.summary-tab.concurrent}") boolean concurrent,
+                                       @Value("${prl.summary-tab.concurrent-from-parties}") int concurrentFromParties,
+                                       @Value("${prl.summary-tab.pool-size}") int poolSize,
+                                       @Value("${prl.summary-tab.queue-capacity}") int queueCapacity) {
+        this.concurrent = concurrent;
+        this.concurrentFromParties = concurrentFromParties;
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+    }
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class DocumentGenerationConfiguration {
+
+    private final boolean concurrent;
+    private final int poolSize;
+    private final int queueCapacity;
+    private final long renderTimeoutMillis;
+    private final long deadlineMillis;
+
+    public DocumentGenerationConfiguration(@Value("${prl.document.generate.concurrent}") boolean concurrent,
+                                           @Value("${prl.document.generate.pool-size}") int poolSize,
+                                           @Value("${prl.document.generate.queue-capacity}") int queueCapacity,
+                                           @Value("${prl.document.generate.render-timeout-millis}") long renderTimeoutMillis,
+                                           @Value("${prl.document.generate.deadline-millis}") long deadlineMillis) {
+        this.concurrent = concurrent;
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.renderTimeoutMillis = renderTimeoutMillis;
+        this.deadlineMillis = deadlineMillis;
+    }
+}
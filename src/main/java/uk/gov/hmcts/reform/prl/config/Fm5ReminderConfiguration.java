@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class Fm5ReminderConfiguration {
+
+    private final int pageSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final String checkpointFile;
+
+    public Fm5ReminderConfiguration(@Value("${private-law.fm5-reminder.page-size}") int pageSize,
+                                    @Value("${private-law.fm5-reminder.workers}") int workers,
+                                    @Value("${private-law.fm5-reminder.max-attempts}") int maxAttempts,
+                                    @Value("${private-law.fm5-reminder.retry-backoff-millis}") long retryBackoffMillis,
+                                    @Value("${private-law.fm5-reminder.checkpoint-file}") String checkpointFile) {
+        this.pageSize = pageSize;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.checkpointFile = checkpointFile;
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class JudicialUserCacheConfiguration {
+
+    private final long maximumSize;
+    private final long ttlMinutes;
+    private final long notFoundTtlMinutes;
+
+    public JudicialUserCacheConfiguration(@Value("${judicialUsers.cache.maximum-size}") long maximumSize,
+                                          @Value("${judicialUsers.cache.ttl-minutes}") long ttlMinutes,
+                                          @Value("${judicialUsers.cache.not-found-ttl-minutes}") long notFoundTtlMinutes) {
+        this.maximumSize = maximumSize;
+        this.ttlMinutes = ttlMinutes;
+        this.notFoundTtlMinutes = notFoundTtlMinutes;
+    }
+}
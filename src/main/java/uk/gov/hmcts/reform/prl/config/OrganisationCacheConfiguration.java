@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class OrganisationCacheConfiguration {
+
+    private final long maximumSize;
+    private final long ttlMinutes;
+    private final long notFoundTtlMinutes;
+
+    public OrganisationCacheConfiguration(@Value("${rd_professional.cache.maximum-size}") long maximumSize,
+                                          @Value("${rd_professional.cache.ttl-minutes}") long ttlMinutes,
+                                          @Value("${rd_professional.cache.not-found-ttl-minutes}") long notFoundTtlMinutes) {
+        this.maximumSize = maximumSize;
+        this.ttlMinutes = ttlMinutes;
+        this.notFoundTtlMinutes = notFoundTtlMinutes;
+    }
+}
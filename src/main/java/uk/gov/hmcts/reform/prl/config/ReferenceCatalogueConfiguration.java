@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("common-data.catalogue")
+public class ReferenceCatalogueConfiguration {
+
+    private long defaultTtlMinutes = 60;
+
+    private Map<String, Long> ttlMinutes = new HashMap<>();
+
+    public long ttlMinutesFor(String category) {
+        return ttlMinutes.entrySet().stream()
+            .filter(entry -> entry.getKey().equalsIgnoreCase(category))
+            .map(Map.Entry::getValue)
+            .findFirst()
+            .orElse(defaultTtlMinutes);
+    }
+}
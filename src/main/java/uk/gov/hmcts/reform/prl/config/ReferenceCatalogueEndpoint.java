@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.services.ReferenceCatalogueCache;
+
+import java.util.List;
+
+/**
+ *  JMX endpoint listing the cached reference catalogues. It is not exposed over HTTP as it can
+ *  evict catalogues, and it is only registered where SPRING_JMX_ENABLED switches JMX on. A refresh
+ *  only marks the catalogue stale, it is reloaded in the background by the next call that needs it,
+ *  so the endpoint never calls common data itself.
+ */
+@Component
+@JmxEndpoint(id = "referencecatalogue")
+@RequiredArgsConstructor
+public class ReferenceCatalogueEndpoint {
+
+    private final ReferenceCatalogueCache referenceCatalogueCache;
+
+    @ReadOperation
+    public List<ReferenceCatalogueCache.EntryDetails> entries() {
+        return referenceCatalogueCache.getEntries();
+    }
+
+    @ReadOperation
+    public ReferenceCatalogueCache.EntryDetails entry(@Selector String key) {
+        return referenceCatalogueCache.getEntry(key);
+    }
+
+    @WriteOperation
+    public ReferenceCatalogueCache.EntryDetails refresh(@Selector String key) {
+        return referenceCatalogueCache.requestRefresh(key);
+    }
+
+    @DeleteOperation
+    public boolean evict(@Selector String key) {
+        return referenceCatalogueCache.evict(key);
+    }
+}
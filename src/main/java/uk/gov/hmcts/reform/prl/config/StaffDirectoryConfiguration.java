@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class StaffDirectoryConfiguration {
+
+    private final int maxConcurrentPages;
+    private final long refreshAfterMinutes;
+
+    public StaffDirectoryConfiguration(@Value("${staffDetails.directory.max-concurrent-pages}") int maxConcurrentPages,
+                                       @Value("${staffDetails.directory.refresh-after-minutes}") long refreshAfterMinutes) {
+        this.maxConcurrentPages = maxConcurrentPages;
+        this.refreshAfterMinutes = refreshAfterMinutes;
+    }
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.prl.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class TaskListRefreshConfiguration {
+
+    private final long coalesceMillis;
+    private final int maxThreads;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    public TaskListRefreshConfiguration(@Value("${prl.task-list-refresh.coalesce-millis}") long coalesceMillis,
+                                        @Value("${prl.task-list-refresh.max-threads}") int maxThreads,
+                                        @Value("${prl.task-list-refresh.max-pending}") int maxPending,
+                                        @Value("${prl.task-list-refresh.max-attempts}") int maxAttempts,
+                                        @Value("${prl.task-list-refresh.retry-backoff-millis}") long retryBackoffMillis) {
+        this.coalesceMillis = coalesceMillis;
+        this.maxThreads = maxThreads;
+        this.maxPending = maxPending;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.prl.config.cafcass;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+public class CafcassEnrichmentConfiguration {
+
+    private final int poolSize;
+    private final int queueCapacity;
+    private final long deadlineMillis;
+    private final int maxConcurrentHearingCalls;
+    private final int maxConcurrentRefDataCalls;
+    private final int maxConcurrentOrganisationCalls;
+
+    public CafcassEnrichmentConfiguration(
+            @Value("${cafcaas.enrichment.pool-size}") int poolSize,
+            @Value("${cafcaas.enrichment.queue-capacity}") int queueCapacity,
+            @Value("${cafcaas.enrichment.deadline-millis}") long deadlineMillis,
+            @Value("${cafcaas.enrichment.max-concurrent-calls.hearings}") int maxConcurrentHearingCalls,
+            @Value("${cafcaas.enrichment.max-concurrent-calls.refdata}") int maxConcurrentRefDataCalls,
+            @Value("${cafcaas.enrichment.max-concurrent-calls.organisations}") int maxConcurrentOrganisationCalls) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        this.deadlineMillis = deadlineMillis;
+        this.maxConcurrentHearingCalls = maxConcurrentHearingCalls;
+        this.maxConcurrentRefDataCalls = maxConcurrentRefDataCalls;
+        this.maxConcurrentOrganisationCalls = maxConcurrentOrganisationCalls;
+    }
+}
@@ -9,5 +9,8 @@ public abstract class CafcassAppConstants {
     public static final String ENGLAND_POSTCODE_NATIONALCODE = "E";
     public static final String CAFCASS_USER_ROLE = "caseworker-privatelaw-cafcass";
     public static final String INVALID_DOCUMENT_TYPE = "Un acceptable format/type of document %s";
+    public static final String LAST_MODIFIED_SORT_FIELD = "last_modified";
+    public static final String REFERENCE_SORT_FIELD = "reference.keyword";
+    public static final String SORT_ORDER_ASC = "asc";
 
 }
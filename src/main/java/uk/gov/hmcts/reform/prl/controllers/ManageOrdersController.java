@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.prl.controllers;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +31,9 @@ import uk.gov.hmcts.reform.prl.models.common.dynamic.DynamicListElement;
 import uk.gov.hmcts.reform.prl.models.complextypes.AppointedGuardianFullName;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.HearingData;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.LazyCaseData;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.StandardDirectionOrder;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.TypedCallbackRequest;
 import uk.gov.hmcts.reform.prl.models.dto.hearings.Hearings;
 import uk.gov.hmcts.reform.prl.models.roleassignment.RoleAssignmentDto;
 import uk.gov.hmcts.reform.prl.services.AmendOrderService;
@@ -478,18 +482,21 @@ public class ManageOrdersController {
     public AboutToStartOrSubmitCallbackResponse validateAndPopulateHearingData(
         @RequestHeader(org.springframework.http.HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
         @RequestHeader(PrlAppsConstants.SERVICE_AUTHORIZATION_HEADER) String s2sToken,
-        @RequestBody CallbackRequest callbackRequest) throws Exception {
+        @RequestBody TypedCallbackRequest callbackRequest) throws Exception {
         if (authorisationService.isAuthorized(authorisation,s2sToken)) {
-            CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+            // the validations only need these sections, the whole case data is bound for the preview
+            LazyCaseData caseData = callbackRequest.getLazyCaseData();
+            CreateSelectOrderOptionsEnum createSelectOrderOptions = caseData.getField(
+                "createSelectOrderOptions", new TypeReference<>() {});
             List<String> errorList;
 
-            if (CreateSelectOrderOptionsEnum.standardDirectionsOrder.equals(caseData.getCreateSelectOrderOptions())) {
+            if (CreateSelectOrderOptionsEnum.standardDirectionsOrder.equals(createSelectOrderOptions)) {
                 //SDO - hearing screen validations
-                errorList = getHearingScreenValidationsForSdo(caseData.getStandardDirectionOrder());
+                errorList = getHearingScreenValidationsForSdo(caseData.getSection(StandardDirectionOrder.class));
             } else {
                 //PRL-4260 - hearing screen validations
                 errorList = getHearingScreenValidations(caseData.getManageOrders().getOrdersHearingDetails(),
-                                                        caseData.getCreateSelectOrderOptions(),
+                                                        createSelectOrderOptions,
                                                         false);
             }
 
@@ -501,7 +508,14 @@ public class ManageOrdersController {
 
             //handle preview order
             return AboutToStartOrSubmitCallbackResponse.builder()
-                .data(manageOrderService.handlePreviewOrder(callbackRequest, authorisation))
+                .data(manageOrderService.handlePreviewOrder(
+                    CallbackRequest.builder()
+                        .eventId(callbackRequest.getEventId())
+                        .caseDetails(callbackRequest.getCaseDetails())
+                        .caseDetailsBefore(callbackRequest.getCaseDetailsBefore())
+                        .build(),
+                    authorisation
+                ))
                 .build();
         } else {
             throw (new RuntimeException(INVALID_CLIENT));
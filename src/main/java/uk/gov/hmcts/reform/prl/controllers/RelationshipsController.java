@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.prl.controllers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,7 +27,7 @@ import uk.gov.hmcts.reform.prl.models.complextypes.ChildrenAndOtherPeopleRelatio
 import uk.gov.hmcts.reform.prl.models.complextypes.ChildrenAndRespondentRelation;
 import uk.gov.hmcts.reform.prl.models.complextypes.PartyDetails;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
-import uk.gov.hmcts.reform.prl.utils.CaseUtils;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.TypedCallbackRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,8 +41,6 @@ import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 @RequiredArgsConstructor
 public class RelationshipsController {
 
-    private final ObjectMapper objectMapper;
-
     private static final String CHILD_AND_APPLICANT_RELATIONS = "buffChildAndApplicantRelations";
 
     @PostMapping(path = "/pre-populate-applicant-to-child-relation", consumes = APPLICATION_JSON, produces = APPLICATION_JSON)
@@ -55,11 +52,11 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse prePopulateApplicantToChildRelation(
             @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-            @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+            @RequestBody TypedCallbackRequest callbackRequest
     ) {
         Map<String, Object> caseDataUpdated = callbackRequest.getCaseDetails().getData();
         List<Element<ChildrenAndApplicantRelation>> applicantChildRelationsList = new ArrayList<>();
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         caseData.getApplicants().forEach(eachApplicant ->
                 caseData.getNewChildDetails().forEach(eachChild -> {
                     ChildrenAndApplicantRelation applicantChildRelations = ChildrenAndApplicantRelation.builder()
@@ -85,11 +82,11 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse prePopulateAmendApplicantToChildRelation(
         @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-        @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+        @RequestBody TypedCallbackRequest callbackRequest
     ) {
         Map<String, Object> caseDataUpdated = callbackRequest.getCaseDetails().getData();
         List<Element<ChildrenAndApplicantRelation>> applicantChildRelationsList = new ArrayList<>();
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         List<Element<ChildrenAndApplicantRelation>> existingApplicantChildRelations = caseData.getRelations().getChildAndApplicantRelations();
         caseData.getApplicants().forEach(eachApplicant ->
                  caseData.getNewChildDetails().forEach(eachChild -> {
@@ -130,9 +127,9 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse populateApplicantToChildRelation(
             @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-            @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+            @RequestBody TypedCallbackRequest callbackRequest
     ) {
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         List<Element<ChildrenAndApplicantRelation>> buffChildAndApplicantRelations = caseData.getRelations().getBuffChildAndApplicantRelations();
         List<Element<ChildrenAndApplicantRelation>> updatedChildAndApplicantRelations = new ArrayList<>();
         buffChildAndApplicantRelations.forEach(relation -> {
@@ -159,11 +156,11 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse prePopulateRespondentToChildRelation(
             @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-            @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+            @RequestBody TypedCallbackRequest callbackRequest
     ) {
         Map<String, Object> caseDataUpdated = callbackRequest.getCaseDetails().getData();
         List<Element<ChildrenAndRespondentRelation>> applicantChildRelationsList = new ArrayList<>();
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         caseData.getRespondents().forEach(eachRespondent ->
                 caseData.getNewChildDetails().forEach(eachChild -> {
                     ChildrenAndRespondentRelation applicantChildRelations = ChildrenAndRespondentRelation.builder()
@@ -189,11 +186,11 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse prePopulateAmendRespondentToChildRelation(
         @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-        @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+        @RequestBody TypedCallbackRequest callbackRequest
     ) {
         Map<String, Object> caseDataUpdated = callbackRequest.getCaseDetails().getData();
         List<Element<ChildrenAndRespondentRelation>> respondentChildRelationsList = new ArrayList<>();
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         List<Element<ChildrenAndRespondentRelation>> existingRespondentChildRelations = caseData.getRelations().getChildAndRespondentRelations();
         caseData.getRespondents().forEach(eachRespondent ->
               caseData.getNewChildDetails().forEach(eachChild -> {
@@ -233,9 +230,9 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse populateRespondentToChildRelation(
             @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-            @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+            @RequestBody TypedCallbackRequest callbackRequest
     ) {
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         List<Element<ChildrenAndRespondentRelation>> buffChildAndRespondentRelations = caseData.getRelations().getBuffChildAndRespondentRelations();
         List<Element<ChildrenAndRespondentRelation>> updatedChildAndRespondentRelations = new ArrayList<>();
         buffChildAndRespondentRelations.stream().forEach(relation -> {
@@ -262,11 +259,11 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse prePopulateOtherPeopleToChildRelation(
             @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-            @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+            @RequestBody TypedCallbackRequest callbackRequest
     ) {
         Map<String, Object> caseDataUpdated = callbackRequest.getCaseDetails().getData();
         List<Element<ChildrenAndOtherPeopleRelation>> otherPeopleChildRelationsList = new ArrayList<>();
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         caseData.getOtherPartyInTheCaseRevised().forEach(eachPeople ->
                 caseData.getNewChildDetails().forEach(eachChild -> {
                     ChildrenAndOtherPeopleRelation otherPeopleChildRelations = ChildrenAndOtherPeopleRelation.builder()
@@ -292,11 +289,11 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse prePopulateAmendOtherPeopleToChildRelation(
         @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-        @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+        @RequestBody TypedCallbackRequest callbackRequest
     ) {
         Map<String, Object> caseDataUpdated = callbackRequest.getCaseDetails().getData();
         List<Element<ChildrenAndOtherPeopleRelation>> otherPeopleChildRelationsList = new ArrayList<>();
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         List<Element<ChildrenAndOtherPeopleRelation>> existingOtherPeopleChildRelations = caseData.getRelations().getChildAndOtherPeopleRelations();
         caseData.getOtherPartyInTheCaseRevised().forEach(eachPeople ->
              caseData.getNewChildDetails().forEach(eachChild -> {
@@ -347,9 +344,9 @@ public class RelationshipsController {
     @SecurityRequirement(name = "Bearer Authentication")
     public AboutToStartOrSubmitCallbackResponse populateOtherPeopleToChildRelation(
             @RequestHeader(HttpHeaders.AUTHORIZATION) @Parameter(hidden = true) String authorisation,
-            @RequestBody uk.gov.hmcts.reform.ccd.client.model.CallbackRequest callbackRequest
+            @RequestBody TypedCallbackRequest callbackRequest
     ) {
-        CaseData caseData = CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper);
+        CaseData caseData = callbackRequest.getCaseData();
         List<Element<ChildrenAndOtherPeopleRelation>> buffChildAndOtherPeopleRelations = caseData.getRelations()
                                                                                             .getBuffChildAndOtherPeopleRelations();
         List<Element<ChildrenAndOtherPeopleRelation>> updatedChildAndOtherPeopleRelations = new ArrayList<>();
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.prl.controllers.cafcass;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import feign.FeignException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -16,15 +19,25 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
 import uk.gov.hmcts.reform.prl.controllers.AbstractCallbackController;
+import uk.gov.hmcts.reform.prl.exception.cafcass.CafcassEnrichmentTimeoutException;
+import uk.gov.hmcts.reform.prl.exception.cafcass.InvalidSearchPageException;
 import uk.gov.hmcts.reform.prl.exception.cafcass.exceptionhandlers.ApiError;
+import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassCaseDetail;
+import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassResponse;
 import uk.gov.hmcts.reform.prl.services.AuthorisationService;
 import uk.gov.hmcts.reform.prl.services.EventService;
 import uk.gov.hmcts.reform.prl.services.cafcass.CaseDataService;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.http.ResponseEntity.status;
@@ -35,6 +48,8 @@ import static uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi.SERVICE_AUTHORIZATI
 @RequestMapping("/cases")
 public class CafCassController extends AbstractCallbackController {
     private static final String BEARER = "Bearer ";
+    private static final String PAGE_SIZE = "page_size";
+    private static final String CONTINUATION_TOKEN = "continuation_token";
     private  final CaseDataService caseDataService;
     private final AuthorisationService authorisationService;
 
@@ -59,11 +74,7 @@ public class CafCassController extends AbstractCallbackController {
         @RequestParam(name = "start_date") String startDate,  @RequestParam(name = "end_date") String endDate
     )  {
         try {
-            serviceAuthorisation = serviceAuthorisation.startsWith(BEARER)
-                ? serviceAuthorisation : BEARER.concat(serviceAuthorisation);
-
-            if (Boolean.TRUE.equals(authorisationService.authoriseUser(authorisation)) && Boolean.TRUE.equals(
-                authorisationService.authoriseService(serviceAuthorisation))) {
+            if (isAuthorised(authorisation, serviceAuthorisation)) {
                 log.info("processing request after authorization");
                 return ResponseEntity.ok(caseDataService.getCaseData(
                     authorisation,
@@ -76,10 +87,91 @@ public class CafCassController extends AbstractCallbackController {
             }
         } catch (ResponseStatusException e) {
             return status(UNAUTHORIZED).body(new ApiError(e.getMessage()));
+        } catch (CafcassEnrichmentTimeoutException e) {
+            return status(GATEWAY_TIMEOUT).body(new ApiError(e.getMessage()));
         } catch (FeignException feignException) {
             return status(feignException.status()).body(new ApiError(feignException.getMessage()));
         } catch (Exception e) {
             return status(INTERNAL_SERVER_ERROR).body(new ApiError(e.getMessage()));
         }
     }
+
+    @GetMapping(path = "/searchCases", params = PAGE_SIZE, consumes = APPLICATION_JSON, produces = APPLICATION_JSON)
+    @Operation(description = "search case data one page at a time, pass the continuation_token from the response to get the next page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search cases page processed successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CafCassResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)})
+    public ResponseEntity<StreamingResponseBody> searchCasesByDatesPaged(
+        @RequestHeader(AUTHORIZATION) String authorisation,
+        @RequestHeader(SERVICE_AUTHORIZATION) String serviceAuthorisation,
+        @RequestParam(name = "start_date") String startDate,  @RequestParam(name = "end_date") String endDate,
+        @RequestParam(name = PAGE_SIZE) int pageSize,
+        @RequestParam(name = CONTINUATION_TOKEN, required = false) String continuationToken
+    )  {
+        try {
+            if (isAuthorised(authorisation, serviceAuthorisation)) {
+                log.info("processing paged request after authorization");
+                CafCassResponse cafCassResponse = caseDataService.getCaseDataPage(
+                    authorisation,
+                    startDate,
+                    endDate,
+                    pageSize,
+                    continuationToken
+                );
+                return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(outputStream -> writeCafCassResponse(cafCassResponse, outputStream));
+            } else {
+                throw new ResponseStatusException(UNAUTHORIZED);
+            }
+        } catch (ResponseStatusException e) {
+            return streamApiError(UNAUTHORIZED.value(), e.getMessage());
+        } catch (InvalidSearchPageException e) {
+            return streamApiError(BAD_REQUEST.value(), e.getMessage());
+        } catch (CafcassEnrichmentTimeoutException e) {
+            return streamApiError(GATEWAY_TIMEOUT.value(), e.getMessage());
+        } catch (FeignException feignException) {
+            return streamApiError(feignException.status(), feignException.getMessage());
+        } catch (Exception e) {
+            return streamApiError(INTERNAL_SERVER_ERROR.value(), e.getMessage());
+        }
+    }
+
+    private boolean isAuthorised(String authorisation, String serviceAuthorisation) {
+        serviceAuthorisation = serviceAuthorisation.startsWith(BEARER)
+            ? serviceAuthorisation : BEARER.concat(serviceAuthorisation);
+
+        return Boolean.TRUE.equals(authorisationService.authoriseUser(authorisation)) && Boolean.TRUE.equals(
+            authorisationService.authoriseService(serviceAuthorisation));
+    }
+
+    /**
+     *  Writes the page to the client one case at a time, so the serialised
+     *  response never has to be held in memory as a whole.
+     */
+    private void writeCafCassResponse(CafCassResponse cafCassResponse, OutputStream outputStream) throws IOException {
+        ObjectWriter caseWriter = objectMapper.writerFor(CafCassCaseDetail.class);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeNumberField("total", cafCassResponse.getTotal());
+            if (cafCassResponse.getContinuationToken() != null) {
+                generator.writeStringField(CONTINUATION_TOKEN, cafCassResponse.getContinuationToken());
+            }
+            generator.writeArrayFieldStart("cases");
+            if (cafCassResponse.getCases() != null) {
+                for (CafCassCaseDetail caseDetail : cafCassResponse.getCases()) {
+                    caseWriter.writeValue(generator, caseDetail);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamApiError(int status, String message) {
+        return status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(outputStream -> objectMapper.writeValue(outputStream, new ApiError(message)));
+    }
 }
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.prl.exception.cafcass;
+
+import java.io.Serializable;
+
+public class CafcassEnrichmentTimeoutException extends RuntimeException implements Serializable {
+    private static final long serialVersionUID = 473928106375512L;
+
+    public CafcassEnrichmentTimeoutException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    public CafcassEnrichmentTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.prl.exception.cafcass;
+
+import java.io.Serializable;
+
+public class InvalidSearchPageException extends RuntimeException implements Serializable {
+    private static final long serialVersionUID = 582031947261853L;
+
+    public InvalidSearchPageException(String errorMessage) {
+        super(errorMessage);
+    }
+
+    public InvalidSearchPageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -58,10 +58,15 @@ public class CaseEventHandler {
     private final TaskErrorService taskErrorService;
     private final RespondentTaskErrorService respondentTaskErrorService;
     private final AllTabServiceImpl allTabService;
+    private final TaskListRefreshQueue taskListRefreshQueue;
 
     @EventListener
     public void handleCaseDataChange(final CaseDataChanged event) {
         final String caseId = String.valueOf(event.getCaseData().getId());
+        taskListRefreshQueue.submit(caseId, () -> refreshTaskLists(caseId));
+    }
+
+    public void refreshTaskLists(String caseId) {
         StartAllTabsUpdateDataContent startAllTabsUpdateDataContent
                 = allTabService.getStartAllTabsUpdate(caseId);
         final String taskList = getUpdatedTaskList(startAllTabsUpdateDataContent.caseData());
@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.prl.handlers;
+
+import feign.FeignException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.config.TaskListRefreshConfiguration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Runs task list and all tabs refreshes off the callback thread. A refresh reads the case back from
+ *  CCD when it runs, so each case has at most one refresh waiting: refreshes asked for within
+ *  prl.task-list-refresh.coalesce-millis of each other are run once, and one asked for while the
+ *  case is being refreshed runs again after it. Refreshes run on at most max-threads threads. A
+ *  refresh rejected by CCD because the case changed under it is retried up to max-attempts times.
+ *  When max-pending cases are already waiting the refresh is run on the caller's thread instead.
+ */
+@Slf4j
+@Component
+public class TaskListRefreshQueue {
+
+    private final TaskListRefreshConfiguration configuration;
+
+    private final ScheduledExecutorService executor;
+
+    private final Map<String, PendingRefresh> refreshes = new ConcurrentHashMap<>();
+
+    public TaskListRefreshQueue(TaskListRefreshConfiguration configuration) {
+        this.configuration = configuration;
+        ScheduledThreadPoolExecutor threadPool = new ScheduledThreadPoolExecutor(
+            configuration.getMaxThreads(),
+            new CustomizableThreadFactory("task-list-refresh-")
+        );
+        threadPool.setRemoveOnCancelPolicy(true);
+        this.executor = threadPool;
+    }
+
+    public void submit(String caseId, Runnable refresh) {
+        if (refreshes.size() >= configuration.getMaxPending() && !refreshes.containsKey(caseId)) {
+            log.warn("Task list refresh queue is full, refreshing case {} now", caseId);
+            refresh.run();
+            return;
+        }
+        final boolean[] schedule = new boolean[1];
+        refreshes.compute(caseId, (id, pending) -> {
+            if (pending == null) {
+                schedule[0] = true;
+                return new PendingRefresh(refresh);
+            }
+            pending.refresh = refresh;
+            if (pending.running) {
+                pending.requestedAgain = true;
+            }
+            return pending;
+        });
+        if (schedule[0]) {
+            schedule(caseId, configuration.getCoalesceMillis());
+        } else {
+            log.debug("Task list refresh for case {} already pending", caseId);
+        }
+    }
+
+    private void schedule(String caseId, long delayMillis) {
+        executor.schedule(() -> run(caseId), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run(String caseId) {
+        final Runnable[] refresh = new Runnable[1];
+        refreshes.computeIfPresent(caseId, (id, pending) -> {
+            pending.running = true;
+            pending.requestedAgain = false;
+            refresh[0] = pending.refresh;
+            return pending;
+        });
+        if (refresh[0] == null) {
+            return;
+        }
+        boolean conflict = false;
+        try {
+            refresh[0].run();
+        } catch (FeignException.Conflict e) {
+            conflict = true;
+            log.info("Task list refresh for case {} conflicted with another update", caseId);
+        } catch (Exception e) {
+            log.error("Task list refresh failed for case {}", caseId, e);
+        }
+        finish(caseId, conflict);
+    }
+
+    private void finish(String caseId, boolean conflict) {
+        final long[] delayMillis = {-1L};
+        refreshes.computeIfPresent(caseId, (id, pending) -> {
+            pending.running = false;
+            if (conflict && ++pending.attempts < configuration.getMaxAttempts()) {
+                delayMillis[0] = configuration.getRetryBackoffMillis() * pending.attempts;
+                return pending;
+            }
+            if (conflict) {
+                log.error("Task list refresh for case {} gave up after {} attempts", caseId, pending.attempts);
+            }
+            if (pending.requestedAgain) {
+                pending.attempts = 0;
+                delayMillis[0] = configuration.getCoalesceMillis();
+                return pending;
+            }
+            return null;
+        });
+        if (delayMillis[0] >= 0) {
+            schedule(caseId, delayMillis[0]);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     *  Only read or changed inside refreshes.compute, which serialises access per case.
+     */
+    private static final class PendingRefresh {
+
+        private Runnable refresh;
+
+        private boolean running;
+
+        private boolean requestedAgain;
+
+        private int attempts;
+
+        private PendingRefresh(Runnable refresh) {
+            this.refresh = refresh;
+        }
+    }
+}
@@ -11,15 +11,13 @@ public class AppObjectMapper {
         throw new IllegalStateException("Utility class");
     }
 
-    private static ObjectMapper om = null;
+    // configured once, callers must not reconfigure it
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
 
     public static ObjectMapper getObjectMapper() {
-        if (om == null) {
-            om = new ObjectMapper();
-            om.registerModule(new JavaTimeModule());
-        }
-        om.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        om.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
-        return om;
+        return OBJECT_MAPPER;
     }
 }
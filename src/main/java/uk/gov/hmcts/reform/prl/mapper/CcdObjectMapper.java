@@ -1,25 +1,52 @@
 package uk.gov.hmcts.reform.prl.mapper;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.request.QueryParam;
 
+/**
+ *  Mappers for CCD payloads. They are configured once here and must not be reconfigured by callers,
+ *  changing the configuration of a mapper in use throws away its serializer caches and changes the
+ *  output for every other caller.
+ */
 public class CcdObjectMapper {
 
     private CcdObjectMapper() {
         throw new IllegalStateException("Utility class");
     }
 
-    private static ObjectMapper om = null;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .enable(SerializationFeature.WRITE_ENUM_KEYS_USING_INDEX);
+
+    // elastic search queries and results, empty values are left out of both
+    private static final ObjectMapper SEARCH_OBJECT_MAPPER = OBJECT_MAPPER.copy()
+        .registerModule(new ParameterNamesModule())
+        .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+    private static final ObjectWriter SEARCH_QUERY_WRITER = SEARCH_OBJECT_MAPPER.writerFor(QueryParam.class);
 
     public static ObjectMapper getObjectMapper() {
-        if (om == null) {
-            om = new ObjectMapper();
-            om.registerModule(new JavaTimeModule());
-        }
-        om.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        om.enable(SerializationFeature.WRITE_ENUM_KEYS_USING_INDEX);
-        return om;
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     *  Writer for CCD elastic search queries. The query is written compact, without empty values.
+     */
+    public static ObjectWriter getSearchQueryWriter() {
+        return SEARCH_QUERY_WRITER;
+    }
+
+    /**
+     *  Converts a CCD elastic search result, leaving out empty values, to the given type.
+     */
+    public static <T> T convertSearchResult(Object searchResult, Class<T> type) {
+        return SEARCH_OBJECT_MAPPER.convertValue(searchResult, type);
     }
 }
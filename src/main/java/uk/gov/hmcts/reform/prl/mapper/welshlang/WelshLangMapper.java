@@ -37,10 +37,9 @@ import uk.gov.hmcts.reform.prl.enums.miampolicyupgrade.MiamDomesticAbuseChecklis
 import uk.gov.hmcts.reform.prl.enums.sdo.SdoHearingUrgentCheckListEnum;
 import uk.gov.hmcts.reform.prl.enums.sdo.SdoTransferApplicationReasonEnum;
 
-import java.util.Arrays;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Set;
 
 public class WelshLangMapper {
 
@@ -65,65 +64,45 @@ public class WelshLangMapper {
      * C100 Welsh Lang Map.
      */
     protected static final Map<String, String> CA_WELSH_MAP = getCaWelshLangMap();
-    protected static final List<String> CA_WELSH_CONDITONAL_MAP = getCaConditionalFieldWelshLangMap();
+    protected static final Set<String> CA_WELSH_CONDITONAL_MAP = getCaConditionalFieldWelshLangMap();
 
     /**
      * FL401 Welsh Lang Map.
      */
     protected static final Map<String, String> DA_WELSH_MAP = getDaWelshLangMap();
-    protected static final List<String> DA_WELSH_CONDITONAL_MAP = getDaConditionalFieldWelshLangMap();
+    protected static final Set<String> DA_WELSH_CONDITONAL_MAP = getDaConditionalFieldWelshLangMap();
+
+    private static final WelshLangTranslator CA_TRANSLATOR = new WelshLangTranslator(CA_WELSH_MAP, CA_WELSH_CONDITONAL_MAP);
+    private static final WelshLangTranslator DA_TRANSLATOR = new WelshLangTranslator(DA_WELSH_MAP, DA_WELSH_CONDITONAL_MAP);
 
     /**
      * Recursive mapper for replacing the English to Welsh.
      */
     public static Object applyWelshTranslation(Object key, Object obj, boolean isCA) {
-        if (obj instanceof String) {
-            obj = getValueFromMap(key, obj, isCA);
-        } else if (obj instanceof List) {
-            List<Object> list = (List<Object>) obj;
-            for (int i = 0; i < list.size(); i++) {
-                Object eachObj = list.get(i);
-                list.set(i, applyWelshTranslation(null, eachObj, isCA));
-            }
-        } else if (obj instanceof Map) {
-            Map<String, Object> innerMap = (Map<String, Object>) obj;
-            innerMap.forEach((k, v) -> {
-                if (v != null) {
-                    innerMap.put(k, applyWelshTranslation(k, v, isCA));
-                }
-            });
-        }
-        return obj;
-    }
-
-    private static Object getValueFromMap(Object key, Object obj, boolean isCA) {
-        if (validateConditionalKey(key, isCA)) {
-            if (validateMappingKey(key, obj, isCA)) {
-                obj = (isCA ? CA_WELSH_MAP : DA_WELSH_MAP).get(key + "_" + obj);
-            } else if (validateObject(obj, isCA)) {
-                obj = (isCA ? CA_WELSH_MAP : DA_WELSH_MAP).get(obj);
-            }
-        }
-        return obj;
+        return (isCA ? CA_TRANSLATOR : DA_TRANSLATOR).translate(key == null ? null : key.toString(), obj);
     }
 
-    private static boolean validateObject(Object obj, boolean isCA) {
-        return (isCA ? CA_WELSH_MAP : DA_WELSH_MAP).containsKey(obj);
-    }
-
-    private static boolean validateMappingKey(Object key, Object obj, boolean isCA) {
-        return key != null && (isCA ? CA_WELSH_MAP : DA_WELSH_MAP).containsKey(key + "_" + obj);
+    /**
+     * Replaces the English to Welsh in each value of the map, in a single pass.
+     */
+    public static Map<String, Object> applyWelshTranslation(Map<String, Object> values, boolean isCA) {
+        (isCA ? CA_TRANSLATOR : DA_TRANSLATOR).translate(null, values);
+        return values;
     }
 
-    private static boolean validateConditionalKey(Object key, boolean isCA) {
-        return !(isCA ? CA_WELSH_CONDITONAL_MAP : DA_WELSH_CONDITONAL_MAP).contains(key);
+    /**
+     * Welsh of each value of the map, leaving the map as it is. Only the parts holding a translated
+     * value are copied, the rest is shared with the English map.
+     */
+    public static Map<String, Object> getWelshTranslation(Map<String, Object> values, boolean isCA) {
+        return (Map<String, Object>) (isCA ? CA_TRANSLATOR : DA_TRANSLATOR).translateCopy(null, values);
     }
 
     /**
      * Excluding conditional fields for changing english to welsh.
      */
-    private static List<String> getCaConditionalFieldWelshLangMap() {
-        return Arrays.asList(
+    private static Set<String> getCaConditionalFieldWelshLangMap() {
+        return Set.of(
             "isAtAddressLessThan5Years",
             "typeOfChildArrangementsOrder",
             "canYouProvideEmailAddress",
@@ -132,7 +111,6 @@ public class WelshLangMapper {
             "isPlaceOfBirthKnown",
             "isCurrentAddressKnown",
             "isAtAddressLessThan5YearsWithDontKnow",
-            "canYouProvideEmailAddress",
             "canYouProvidePhoneNumber",
             "doTheyHaveLegalRepresentation",
             "ordersNonMolestation",
@@ -141,15 +119,13 @@ public class WelshLangMapper {
             "ordersRestraining",
             "ordersOtherInjunctive",
             "ordersUndertakingInPlace",
-            "childrenKnownToLocalAuthority",
-            "childrenSubjectOfChildProtectionPlan",
-            "typeOfChildArrangementsOrder"
+            "childrenSubjectOfChildProtectionPlan"
         );
     }
 
     private static Map<String, String> getCaWelshLangMap() {
 
-        Map<String, String> welshMap = new WeakHashMap<>();
+        Map<String, String> welshMap = new HashMap<>();
 
         /**
          * Common Utils - Yes,No,Information is to be kept confidential,Gender,Don't know.
@@ -919,13 +895,13 @@ public class WelshLangMapper {
     /**
      * Excluding conditional fields for changing english to welsh.
      */
-    private static List<String> getDaConditionalFieldWelshLangMap() {
-        return Arrays.asList("");
+    private static Set<String> getDaConditionalFieldWelshLangMap() {
+        return Set.of("");
     }
 
     private static Map<String, String> getDaWelshLangMap() {
 
-        Map<String, String> welshMap = new WeakHashMap<>();
+        Map<String, String> welshMap = new HashMap<>();
 
         /**
          * Common Utils Yes, No, Don't know.
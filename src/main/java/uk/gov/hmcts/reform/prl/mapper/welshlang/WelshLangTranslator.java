@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.prl.mapper.welshlang;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * English to Welsh translator built once from a Welsh lang map. Entries keyed field_value are split
+ * into a field to value table so a value is looked up against its field without building the
+ * composite key. Every split point of a key is registered, so a lookup matches exactly when the
+ * composite key is in the map, the same as looking up field + "_" + value.
+ */
+final class WelshLangTranslator {
+
+    private final Map<String, String> translations;
+
+    private final Map<String, Map<String, String>> translationsByField = new HashMap<>();
+
+    private final Set<String> conditionalFields;
+
+    WelshLangTranslator(Map<String, String> translations, Set<String> conditionalFields) {
+        this.translations = translations;
+        this.conditionalFields = conditionalFields;
+        translations.forEach((key, welsh) -> {
+            for (int i = key.indexOf('_'); i >= 0; i = key.indexOf('_', i + 1)) {
+                translationsByField.computeIfAbsent(key.substring(0, i), field -> new HashMap<>())
+                    .put(key.substring(i + 1), welsh);
+            }
+        });
+    }
+
+    /**
+     * Translates obj in place where it is a list or map, returning the translated value.
+     */
+    Object translate(String field, Object obj) {
+        if (obj instanceof String value) {
+            return translateValue(field, value);
+        } else if (obj instanceof List) {
+            ListIterator<Object> values = ((List<Object>) obj).listIterator();
+            while (values.hasNext()) {
+                Object value = values.next();
+                Object welsh = translate(null, value);
+                if (welsh != value) {
+                    values.set(welsh);
+                }
+            }
+        } else if (obj instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) obj).entrySet()) {
+                Object value = entry.getValue();
+                if (value != null) {
+                    Object welsh = translate(entry.getKey(), value);
+                    if (welsh != value) {
+                        entry.setValue(welsh);
+                    }
+                }
+            }
+        }
+        return obj;
+    }
+
+    /**
+     * Translates obj without changing it. Lists and maps holding a translated value are copied, the
+     * parts of obj with nothing to translate are shared with the result.
+     */
+    Object translateCopy(String field, Object obj) {
+        if (obj instanceof String value) {
+            return translateValue(field, value);
+        } else if (obj instanceof List) {
+            List<Object> values = (List<Object>) obj;
+            List<Object> copy = null;
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                Object welsh = translateCopy(null, value);
+                if (welsh != value && copy == null) {
+                    copy = new ArrayList<>(values);
+                }
+                if (copy != null) {
+                    copy.set(i, welsh);
+                }
+            }
+            return copy != null ? copy : obj;
+        } else if (obj instanceof Map) {
+            Map<String, Object> values = (Map<String, Object>) obj;
+            Map<String, Object> copy = null;
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                Object value = entry.getValue();
+                Object welsh = value != null ? translateCopy(entry.getKey(), value) : null;
+                if (welsh != value) {
+                    if (copy == null) {
+                        copy = new LinkedHashMap<>(values);
+                    }
+                    copy.put(entry.getKey(), welsh);
+                }
+            }
+            return copy != null ? copy : obj;
+        }
+        return obj;
+    }
+
+    private String translateValue(String field, String value) {
+        if (field != null) {
+            if (conditionalFields.contains(field)) {
+                return value;
+            }
+            Map<String, String> fieldTranslations = translationsByField.get(field);
+            String welsh = fieldTranslations != null ? fieldTranslations.get(value) : null;
+            if (welsh != null) {
+                return welsh;
+            }
+        }
+        return translations.getOrDefault(value, value);
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.prl.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Progress of an FM5 reminder run. The search window is fixed when the run starts, so cases the run
+ * updates drop out of it, and lastModified / reference are the sort values of the last case of the
+ * last page that was fully processed, handed back to elastic search as search_after on resume.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Builder(toBuilder = true)
+public class Fm5ReminderCheckpoint {
+
+    private String runStartedAt;
+    private Long hearingAwayDays;
+    private Long lastModified;
+    private String reference;
+    private long casesProcessed;
+
+    public List<Object> toSearchAfter() {
+        return lastModified != null && reference != null ? List.of(lastModified, reference) : null;
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.prl.models.dto.cafcass;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,4 +21,7 @@ import java.util.List;
 public class CafCassResponse {
     public int total;
     public List<CafCassCaseDetail> cases;
+
+    @JsonProperty("continuation_token")
+    public String continuationToken;
 }
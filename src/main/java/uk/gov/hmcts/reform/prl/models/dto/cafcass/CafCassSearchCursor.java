@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.prl.models.dto.cafcass;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import uk.gov.hmcts.reform.prl.exception.cafcass.InvalidSearchPageException;
+
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Position of the last case returned in a page of the Cafcass search, i.e. the
+ * last_modified / reference sort values handed back to elastic search as search_after.
+ * Clients only ever see it as an opaque continuation token.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class CafCassSearchCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final long lastModified;
+
+    private final String reference;
+
+    public static CafCassSearchCursor fromCase(CafCassCaseDetail caseDetail) {
+        if (caseDetail.getLastModified() == null || caseDetail.getId() == null) {
+            throw new IllegalStateException("Case is missing last modified date or reference to page from");
+        }
+        return new CafCassSearchCursor(
+            caseDetail.getLastModified().toInstant(ZoneOffset.UTC).toEpochMilli(),
+            String.valueOf(caseDetail.getId())
+        );
+    }
+
+    public static CafCassSearchCursor fromToken(String continuationToken) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(continuationToken), UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 2);
+            if (parts.length != 2 || parts[1].isBlank()) {
+                throw new InvalidSearchPageException("Invalid continuation token");
+            }
+            return new CafCassSearchCursor(Long.parseLong(parts[0]), parts[1]);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and Base64 decoding errors are both IllegalArgumentExceptions
+            throw new InvalidSearchPageException("Invalid continuation token", e);
+        }
+    }
+
+    public String toToken() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((lastModified + SEPARATOR + reference).getBytes(UTF_8));
+    }
+
+    public List<Object> toSearchAfter() {
+        return List.of(lastModified, reference);
+    }
+}
@@ -0,0 +1,194 @@
+package uk.gov.hmcts.reform.prl.models.dto.ccd;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.prl.utils.CaseUtils;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ *  Case data of a case read a part at a time. The case details are kept as their json tree and a
+ *  section of the case, one of the @JsonUnwrapped objects of CaseData such as ManageOrders, or a
+ *  single field such as a document collection, is bound from the tree the first time it is asked
+ *  for. Sections get the same values as when the whole of CaseData is bound, which is still done,
+ *  once, by getCaseData for callers that need all of it. Sections are bound with the same codec as
+ *  the whole of CaseData. Safe to use from several threads.
+ */
+public class LazyCaseData {
+
+    // the fields depend on the configuration the case data is bound with, mappers live for the whole app
+    private static final LoadingCache<DeserializationConfig, Set<String>> CASE_DATA_FIELDS = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(CacheLoader.from(LazyCaseData::findCaseDataFields));
+
+    private final JsonNode caseDetails;
+
+    private final JsonNode data;
+
+    private final ObjectCodec codec;
+
+    private final Supplier<CaseData> caseData;
+
+    private final Supplier<JsonNode> sectionData;
+
+    private final Map<Object, Optional<Object>> bound = new ConcurrentHashMap<>();
+
+    public LazyCaseData(JsonNode caseDetails, ObjectCodec codec) {
+        this.caseDetails = caseDetails;
+        this.data = caseDetails.has("case_data") ? caseDetails.get("case_data") : caseDetails.path("data");
+        this.codec = codec;
+        this.caseData = Suppliers.memoize(this::bindCaseData);
+        this.sectionData = Suppliers.memoize(this::findSectionData);
+    }
+
+    public static LazyCaseData of(CaseDetails caseDetails, ObjectMapper objectMapper) {
+        return new LazyCaseData(objectMapper.valueToTree(caseDetails), objectMapper);
+    }
+
+    /**
+     *  The whole of the case data, bound the first time it is asked for.
+     */
+    public CaseData getCaseData() {
+        return caseData.get();
+    }
+
+    public ManageOrders getManageOrders() {
+        return getSection(ManageOrders.class);
+    }
+
+    public ServiceOfApplication getServiceOfApplication() {
+        return getSection(ServiceOfApplication.class);
+    }
+
+    public ServeOrderData getServeOrderData() {
+        return getSection(ServeOrderData.class);
+    }
+
+    public ReviewDocuments getReviewDocuments() {
+        return getSection(ReviewDocuments.class);
+    }
+
+    public DocumentManagementDetails getDocumentManagementDetails() {
+        return getSection(DocumentManagementDetails.class);
+    }
+
+    /**
+     *  One of the @JsonUnwrapped sections of CaseData.
+     *
+     * @param type type of the section
+     * @return the section, bound from the case data the first time it is asked for
+     */
+    public <T> T getSection(Class<T> type) {
+        return type.cast(bound.computeIfAbsent(type, key -> Optional.ofNullable(read(sectionData.get(), type)))
+                             .orElse(null));
+    }
+
+    /**
+     *  A single field of the case data, such as a document or order collection.
+     *
+     * @param field name of the field in the case data
+     * @param type type of the field
+     * @return the field, bound the first time it is asked for, or null when the case does not have it
+     */
+    public <T> T getField(String field, TypeReference<T> type) {
+        return (T) bound.computeIfAbsent(field, key -> Optional.ofNullable(read(data.get(field), type)))
+            .orElse(null);
+    }
+
+    private CaseData bindCaseData() {
+        try {
+            return CaseUtils.getCaseData(caseDetails, codec);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Case data could not be read", e);
+        }
+    }
+
+    // fields of CaseData itself are not passed on to its unwrapped sections when it is bound
+    private JsonNode findSectionData() {
+        if (!data.isObject()) {
+            return data;
+        }
+        Set<String> caseDataFields = CASE_DATA_FIELDS.getUnchecked(deserializationConfig());
+        ObjectNode sectionFields = JsonNodeFactory.instance.objectNode();
+        data.fields().forEachRemaining(field -> {
+            if (!caseDataFields.contains(field.getKey())) {
+                sectionFields.set(field.getKey(), field.getValue());
+            }
+        });
+        return sectionFields;
+    }
+
+    private <T> T read(JsonNode node, Class<T> type) {
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+        try {
+            return codec.treeToValue(node, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read " + type.getSimpleName() + " from the case data", e);
+        }
+    }
+
+    private <T> T read(JsonNode node, TypeReference<T> type) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        try {
+            return codec.readValue(codec.treeAsTokens(node), type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read " + type.getType() + " from the case data", e);
+        }
+    }
+
+    private DeserializationConfig deserializationConfig() {
+        if (codec instanceof ObjectMapper objectMapper) {
+            return objectMapper.getDeserializationConfig();
+        }
+        if (codec instanceof ObjectReader objectReader) {
+            return objectReader.getConfig();
+        }
+        throw new IllegalStateException("Case data sections cannot be read with " + codec.getClass().getSimpleName());
+    }
+
+    private static Set<String> findCaseDataFields(DeserializationConfig config) {
+        BeanDescription description = config.introspect(config.constructType(CaseData.class));
+        Set<String> fields = new HashSet<>(description.getIgnoredPropertyNames());
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            boolean unwrapped = Stream.of(property.getField(), property.getSetter(), property.getGetter())
+                .anyMatch(LazyCaseData::isUnwrapped);
+            boolean deserialized = property.hasField() || property.hasSetter() || property.hasConstructorParameter();
+            if (!unwrapped && deserialized) {
+                fields.add(property.getName());
+                property.findAliases().stream().map(PropertyName::getSimpleName).forEach(fields::add);
+            }
+        }
+        return fields;
+    }
+
+    private static boolean isUnwrapped(AnnotatedMember member) {
+        return member != null && member.hasAnnotation(JsonUnwrapped.class);
+    }
+}
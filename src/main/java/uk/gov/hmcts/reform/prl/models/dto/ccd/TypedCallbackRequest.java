@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.prl.models.dto.ccd;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.Suppliers;
+import lombok.Builder;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ *  CCD callback request with its case data bound straight to CaseData. Taken as the @RequestBody of
+ *  a callback in place of the ccd CallbackRequest, the body is read once into a json tree and the
+ *  case data is bound from that tree instead of from the map of the case data. Nothing is bound
+ *  until a handler asks for it: the whole CaseData, the sections of it the LazyCaseData gives, or
+ *  the case details. A handler that copies the raw map through to its response still has the map
+ *  built, from the same tree, so it only saves the map being built when it does not ask for it.
+ */
+@JsonDeserialize(using = TypedCallbackRequest.Deserializer.class)
+public class TypedCallbackRequest {
+
+    private final String eventId;
+
+    private final LazyCaseData lazyCaseData;
+
+    private final Supplier<CaseData> caseData;
+
+    private final Supplier<CaseDetails> caseDetails;
+
+    private final Supplier<CaseDetails> caseDetailsBefore;
+
+    @Builder
+    public TypedCallbackRequest(String eventId,
+                                CaseData caseData,
+                                LazyCaseData lazyCaseData,
+                                CaseDetails caseDetails,
+                                CaseDetails caseDetailsBefore) {
+        this(
+            eventId,
+            lazyCaseData,
+            caseData == null && lazyCaseData != null ? lazyCaseData::getCaseData : () -> caseData,
+            () -> caseDetails,
+            () -> caseDetailsBefore
+        );
+    }
+
+    private TypedCallbackRequest(String eventId,
+                                 LazyCaseData lazyCaseData,
+                                 Supplier<CaseData> caseData,
+                                 Supplier<CaseDetails> caseDetails,
+                                 Supplier<CaseDetails> caseDetailsBefore) {
+        this.eventId = eventId;
+        this.lazyCaseData = lazyCaseData;
+        this.caseData = caseData;
+        this.caseDetails = Suppliers.memoize(caseDetails::get);
+        this.caseDetailsBefore = Suppliers.memoize(caseDetailsBefore::get);
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    /**
+     *  Case data of the case details, with the id, state and dates of the case set the same as
+     *  CaseUtils.getCaseData sets them.
+     */
+    public CaseData getCaseData() {
+        return caseData.get();
+    }
+
+    /**
+     *  Case data of the case details for handlers that only need some sections of it.
+     */
+    public LazyCaseData getLazyCaseData() {
+        return lazyCaseData;
+    }
+
+    public CaseDetails getCaseDetails() {
+        return caseDetails.get();
+    }
+
+    public CaseDetails getCaseDetailsBefore() {
+        return caseDetailsBefore.get();
+    }
+
+    static class Deserializer extends JsonDeserializer<TypedCallbackRequest> {
+
+        @Override
+        public TypedCallbackRequest deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            ObjectCodec codec = parser.getCodec();
+            JsonNode request = parser.readValueAsTree();
+            JsonNode caseDetails = request.path("case_details");
+            LazyCaseData lazyCaseData = caseDetails.isObject() ? new LazyCaseData(caseDetails, codec) : null;
+            return new TypedCallbackRequest(
+                request.path("event_id").textValue(),
+                lazyCaseData,
+                () -> lazyCaseData != null ? lazyCaseData.getCaseData() : null,
+                () -> toCaseDetails(codec, caseDetails),
+                () -> toCaseDetails(codec, request.path("case_details_before"))
+            );
+        }
+
+        private static CaseDetails toCaseDetails(ObjectCodec codec, JsonNode caseDetails) {
+            if (!caseDetails.isObject()) {
+                return null;
+            }
+            try {
+                return codec.treeToValue(caseDetails, CaseDetails.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Case details of the callback could not be read", e);
+            }
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package uk.gov.hmcts.reform.prl.models.dto.ccd.request;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+import java.util.Map;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -14,5 +19,11 @@ import lombok.NoArgsConstructor;
 public class QueryParam {
     private Query query;
     private String size = "100";
-}
 
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Map<String, String>> sort;
+
+    @JsonProperty("search_after")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<Object> searchAfter;
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.prl.models.user;
+
+/**
+ * Token of the system update user together with the IDAM id of the user it was issued to.
+ */
+public record SystemUserContext(String authorisation, String userId) {
+}
@@ -97,9 +97,13 @@ import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofh
 import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.DomesticAbuseBehaviour;
 import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.OrderRevised;
 import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.RevisedChildAbductionDetails;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.AllegationOfHarm;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.AllegationOfHarmRevised;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.AttendHearing;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.ChildPassportDetails;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.MiamDetails;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.MiamPolicyUpgradeDetails;
 import uk.gov.hmcts.reform.prl.models.user.UserInfo;
 import uk.gov.hmcts.reform.prl.services.tab.TabService;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.FieldGenerator;
@@ -111,6 +115,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
@@ -450,6 +455,35 @@ public class ApplicationsTabService implements TabService {
         return objectMapper.convertValue(object, Map.class);
     }
 
+    private static AllegationOfHarm getAllegationOfHarm(CaseData caseData) {
+        return ofNullable(caseData.getAllegationOfHarm()).orElseGet(() -> AllegationOfHarm.builder().build());
+    }
+
+    private static AllegationOfHarmRevised getAllegationOfHarmRevised(CaseData caseData) {
+        return ofNullable(caseData.getAllegationOfHarmRevised()).orElseGet(() -> AllegationOfHarmRevised.builder().build());
+    }
+
+    private static MiamDetails getMiamDetails(CaseData caseData) {
+        return ofNullable(caseData.getMiamDetails()).orElseGet(() -> MiamDetails.builder().build());
+    }
+
+    private static MiamPolicyUpgradeDetails getMiamPolicyUpgradeDetails(CaseData caseData) {
+        return ofNullable(caseData.getMiamPolicyUpgradeDetails()).orElseGet(() -> MiamPolicyUpgradeDetails.builder().build());
+    }
+
+    /**
+     * The mediator fields have the same names in the MIAM and the MIAM policy upgrade details. The
+     * policy upgrade value is used when there are policy upgrade details, as the later of the two
+     * fields of the same name in the case.
+     */
+    private static String getMediatorField(CaseData caseData, Function<MiamDetails, String> miamField,
+                                           Function<MiamPolicyUpgradeDetails, String> miamPolicyUpgradeField) {
+        if (nonNull(caseData.getMiamPolicyUpgradeDetails())) {
+            return miamPolicyUpgradeField.apply(caseData.getMiamPolicyUpgradeDetails());
+        }
+        return ofNullable(caseData.getMiamDetails()).map(miamField).orElse(null);
+    }
+
     public List<Element<Applicant>> getApplicantsTable(CaseData caseData) {
         List<Element<Applicant>> applicants = new ArrayList<>();
         Optional<List<Element<PartyDetails>>> checkApplicants = ofNullable(caseData.getApplicants());
@@ -566,7 +600,16 @@ public class ApplicationsTabService implements TabService {
     }
 
     public Map<String, Object> getHearingUrgencyTable(CaseData caseData) {
-        HearingUrgency hearingUrgency = objectMapper.convertValue(caseData, HearingUrgency.class);
+        HearingUrgency hearingUrgency = HearingUrgency.builder()
+            .isCaseUrgent(caseData.getIsCaseUrgent())
+            .caseUrgencyTimeAndReason(caseData.getCaseUrgencyTimeAndReason())
+            .effortsMadeWithRespondents(caseData.getEffortsMadeWithRespondents())
+            .doYouNeedAWithoutNoticeHearing(caseData.getDoYouNeedAWithoutNoticeHearing())
+            .reasonsForApplicationWithoutNotice(caseData.getReasonsForApplicationWithoutNotice())
+            .doYouRequireAHearingWithReducedNotice(caseData.getDoYouRequireAHearingWithReducedNotice())
+            .setOutReasonsBelow(caseData.getSetOutReasonsBelow())
+            .areRespondentsAwareOfProceedings(caseData.getAreRespondentsAwareOfProceedings())
+            .build();
         return toMap(hearingUrgency);
     }
 
@@ -599,26 +642,65 @@ public class ApplicationsTabService implements TabService {
     }
 
     public Map<String, Object> getAllegationsOfHarmOverviewTable(CaseData caseData) {
-        AllegationsOfHarmOverview allegationsOfHarmOverview = objectMapper
-            .convertValue(caseData, AllegationsOfHarmOverview.class);
+        AllegationOfHarm allegationOfHarm = getAllegationOfHarm(caseData);
+        // the revised allegations of harm have a child abuse field of the same name, which comes later in the case
+        AllegationsOfHarmOverview allegationsOfHarmOverview = AllegationsOfHarmOverview.builder()
+            .allegationsOfHarmYesNo(allegationOfHarm.getAllegationsOfHarmYesNo())
+            .allegationsOfHarmDomesticAbuseYesNo(allegationOfHarm.getAllegationsOfHarmDomesticAbuseYesNo())
+            .allegationsOfHarmChildAbductionYesNo(allegationOfHarm.getAllegationsOfHarmChildAbductionYesNo())
+            .allegationsOfHarmChildAbuseYesNo(nonNull(caseData.getAllegationOfHarmRevised())
+                                                  ? caseData.getAllegationOfHarmRevised().getAllegationsOfHarmChildAbuseYesNo()
+                                                  : allegationOfHarm.getAllegationsOfHarmChildAbuseYesNo())
+            .allegationsOfHarmSubstanceAbuseYesNo(allegationOfHarm.getAllegationsOfHarmSubstanceAbuseYesNo())
+            .allegationsOfHarmOtherConcernsYesNo(allegationOfHarm.getAllegationsOfHarmOtherConcernsYesNo())
+            .build();
         return toMap(allegationsOfHarmOverview);
 
     }
 
     public Map<String, Object> getAllegationsOfHarmRevisedOverviewTable(CaseData caseData) {
-        AllegationsOfHarmRevisedOverview allegationsOfHarmRevisedOverview = objectMapper
-                .convertValue(caseData, AllegationsOfHarmRevisedOverview.class);
+        AllegationOfHarmRevised allegationOfHarmRevised = getAllegationOfHarmRevised(caseData);
+        AllegationsOfHarmRevisedOverview allegationsOfHarmRevisedOverview = AllegationsOfHarmRevisedOverview.builder()
+            .newAllegationsOfHarmYesNo(allegationOfHarmRevised.getNewAllegationsOfHarmYesNo())
+            .newAllegationsOfHarmDomesticAbuseYesNo(allegationOfHarmRevised.getNewAllegationsOfHarmDomesticAbuseYesNo())
+            .newAllegationsOfHarmChildAbductionYesNo(allegationOfHarmRevised.getNewAllegationsOfHarmChildAbductionYesNo())
+            .newAllegationsOfHarmChildAbuseYesNo(allegationOfHarmRevised.getNewAllegationsOfHarmChildAbuseYesNo())
+            .newAllegationsOfHarmSubstanceAbuseYesNo(allegationOfHarmRevised.getNewAllegationsOfHarmSubstanceAbuseYesNo())
+            .newAllegationsOfHarmSubstanceAbuseDetails(allegationOfHarmRevised.getNewAllegationsOfHarmSubstanceAbuseDetails())
+            .newAllegationsOfHarmOtherConcerns(allegationOfHarmRevised.getNewAllegationsOfHarmOtherConcerns())
+            .newAllegationsOfHarmOtherConcernsDetails(allegationOfHarmRevised.getNewAllegationsOfHarmOtherConcernsDetails())
+            .build();
         return toMap(allegationsOfHarmRevisedOverview);
 
     }
 
     public Map<String, Object> getMiamTable(CaseData caseData) {
-        Miam miam = objectMapper.convertValue(caseData, Miam.class);
+        MiamDetails miamDetails = getMiamDetails(caseData);
+        Miam miam = Miam.builder()
+            .applicantAttendedMiam(miamDetails.getApplicantAttendedMiam())
+            .claimingExemptionMiam(miamDetails.getClaimingExemptionMiam())
+            .familyMediatorMiam(miamDetails.getFamilyMediatorMiam())
+            .mediatorRegistrationNumber(getMediatorField(caseData, MiamDetails::getMediatorRegistrationNumber,
+                                                         MiamPolicyUpgradeDetails::getMediatorRegistrationNumber))
+            .familyMediatorServiceName(getMediatorField(caseData, MiamDetails::getFamilyMediatorServiceName,
+                                                        MiamPolicyUpgradeDetails::getFamilyMediatorServiceName))
+            .soleTraderName(getMediatorField(caseData, MiamDetails::getSoleTraderName, MiamPolicyUpgradeDetails::getSoleTraderName))
+            .build();
         return toMap(miam);
     }
 
     public Map<String, Object> getMiamPolicyUpgradeTable(CaseData caseData) {
-        MiamPolicyUpgrade miam = objectMapper.convertValue(caseData, MiamPolicyUpgrade.class);
+        MiamPolicyUpgradeDetails miamPolicyUpgradeDetails = getMiamPolicyUpgradeDetails(caseData);
+        MiamPolicyUpgrade miam = MiamPolicyUpgrade.builder()
+            .mpuChildInvolvedInMiam(miamPolicyUpgradeDetails.getMpuChildInvolvedInMiam())
+            .mpuApplicantAttendedMiam(miamPolicyUpgradeDetails.getMpuApplicantAttendedMiam())
+            .mpuClaimingExemptionMiam(miamPolicyUpgradeDetails.getMpuClaimingExemptionMiam())
+            .mediatorRegistrationNumber(getMediatorField(caseData, MiamDetails::getMediatorRegistrationNumber,
+                                                         MiamPolicyUpgradeDetails::getMediatorRegistrationNumber))
+            .familyMediatorServiceName(getMediatorField(caseData, MiamDetails::getFamilyMediatorServiceName,
+                                                        MiamPolicyUpgradeDetails::getFamilyMediatorServiceName))
+            .soleTraderName(getMediatorField(caseData, MiamDetails::getSoleTraderName, MiamPolicyUpgradeDetails::getSoleTraderName))
+            .build();
         return toMap(miam);
     }
 
@@ -867,36 +949,76 @@ public class ApplicationsTabService implements TabService {
     }
 
     public Map<String, Object> getInternationalElementTable(CaseData caseData) {
-        InternationalElement internationalElement = objectMapper.convertValue(caseData, InternationalElement.class);
+        InternationalElement internationalElement = InternationalElement.builder()
+            .habitualResidentInOtherState(caseData.getHabitualResidentInOtherState())
+            .habitualResidentInOtherStateGiveReason(caseData.getHabitualResidentInOtherStateGiveReason())
+            .jurisdictionIssue(caseData.getJurisdictionIssue())
+            .jurisdictionIssueGiveReason(caseData.getJurisdictionIssueGiveReason())
+            .requestToForeignAuthority(caseData.getRequestToForeignAuthority())
+            .requestToForeignAuthorityGiveReason(caseData.getRequestToForeignAuthorityGiveReason())
+            .build();
         return toMap(internationalElement);
     }
 
     public Map<String, Object> getAttendingTheHearingTable(CaseData caseData) {
-        AttendingTheHearing attendingTheHearing = objectMapper.convertValue(caseData, AttendingTheHearing.class);
+        AttendHearing attendHearing = ofNullable(caseData.getAttendHearing()).orElseGet(() -> AttendHearing.builder().build());
+        AttendingTheHearing attendingTheHearing = AttendingTheHearing.builder()
+            .isWelshNeeded(attendHearing.getIsWelshNeeded())
+            .isInterpreterNeeded(attendHearing.getIsInterpreterNeeded())
+            .isDisabilityPresent(attendHearing.getIsDisabilityPresent())
+            .adjustmentsRequired(attendHearing.getAdjustmentsRequired())
+            .isSpecialArrangementsRequired(attendHearing.getIsSpecialArrangementsRequired())
+            .specialArrangementsRequired(attendHearing.getSpecialArrangementsRequired())
+            .isIntermediaryNeeded(attendHearing.getIsIntermediaryNeeded())
+            .reasonsForIntermediary(attendHearing.getReasonsForIntermediary())
+            .build();
         return toMap(attendingTheHearing);
     }
 
     public Map<String, Object> getLitigationCapacityDetails(CaseData caseData) {
-        LitigationCapacity litigationCapacity = objectMapper.convertValue(caseData, LitigationCapacity.class);
+        LitigationCapacity litigationCapacity = LitigationCapacity.builder()
+            .litigationCapacityFactors(caseData.getLitigationCapacityFactors())
+            .litigationCapacityReferrals(caseData.getLitigationCapacityReferrals())
+            .litigationCapacityOtherFactors(caseData.getLitigationCapacityOtherFactors())
+            .litigationCapacityOtherFactorsDetails(caseData.getLitigationCapacityOtherFactorsDetails())
+            .build();
         return toMap(litigationCapacity);
     }
 
     public Map<String, Object> getWelshLanguageRequirementsTable(CaseData caseData) {
-        WelshLanguageRequirements welshLanguageRequirements = objectMapper
-            .convertValue(caseData, WelshLanguageRequirements.class);
+        WelshLanguageRequirements welshLanguageRequirements = WelshLanguageRequirements.builder()
+            .welshLanguageRequirement(caseData.getWelshLanguageRequirement())
+            .welshLanguageRequirementApplication(caseData.getWelshLanguageRequirementApplication())
+            .languageRequirementApplicationNeedWelsh(caseData.getLanguageRequirementApplicationNeedWelsh())
+            .welshLanguageRequirementApplicationNeedEnglish(caseData.getWelshLanguageRequirementApplicationNeedEnglish())
+            .build();
         return toMap(welshLanguageRequirements);
     }
 
     public Map<String, Object> getAllegationsOfHarmOrdersTable(CaseData caseData) {
-        AllegationsOfHarmOrders allegationsOfHarmOrders = objectMapper
-            .convertValue(caseData, AllegationsOfHarmOrders.class);
+        AllegationOfHarm allegationOfHarm = getAllegationOfHarm(caseData);
+        AllegationsOfHarmOrders allegationsOfHarmOrders = AllegationsOfHarmOrders.builder()
+            .ordersNonMolestation(allegationOfHarm.getOrdersNonMolestation())
+            .ordersOccupation(allegationOfHarm.getOrdersOccupation())
+            .ordersForcedMarriageProtection(allegationOfHarm.getOrdersForcedMarriageProtection())
+            .ordersRestraining(allegationOfHarm.getOrdersRestraining())
+            .ordersOtherInjunctive(allegationOfHarm.getOrdersOtherInjunctive())
+            .ordersUndertakingInPlace(allegationOfHarm.getOrdersUndertakingInPlace())
+            .build();
         getSpecificOrderDetails(allegationsOfHarmOrders, caseData);
         return toMap(allegationsOfHarmOrders);
     }
 
     public Map<String, Object> getAllegationsOfHarmRevisedOrdersTable(CaseData caseData) {
-        AllegationsOfHarmRevisedOrders allegationsOfHarmRevisedOrders = objectMapper
-                .convertValue(caseData, AllegationsOfHarmRevisedOrders.class);
+        AllegationOfHarmRevised allegationOfHarmRevised = getAllegationOfHarmRevised(caseData);
+        AllegationsOfHarmRevisedOrders allegationsOfHarmRevisedOrders = AllegationsOfHarmRevisedOrders.builder()
+            .newOrdersNonMolestation(allegationOfHarmRevised.getNewOrdersNonMolestation())
+            .newOrdersOccupation(allegationOfHarmRevised.getNewOrdersOccupation())
+            .newOrdersForcedMarriageProtection(allegationOfHarmRevised.getNewOrdersForcedMarriageProtection())
+            .newOrdersRestraining(allegationOfHarmRevised.getNewOrdersRestraining())
+            .newOrdersOtherInjunctive(allegationOfHarmRevised.getNewOrdersOtherInjunctive())
+            .newOrdersUndertakingInPlace(allegationOfHarmRevised.getNewOrdersUndertakingInPlace())
+            .build();
         getSpecificOrderRevisedDetails(allegationsOfHarmRevisedOrders, caseData);
         return toMap(allegationsOfHarmRevisedOrders);
     }
@@ -1105,12 +1227,30 @@ public class ApplicationsTabService implements TabService {
     }
 
     public Map<String, Object> getChildAbductionTable(CaseData caseData) {
-        ChildAbductionDetails childAbductionDetails = objectMapper.convertValue(caseData, ChildAbductionDetails.class);
+        AllegationOfHarm allegationOfHarm = getAllegationOfHarm(caseData);
+        ChildAbductionDetails childAbductionDetails = ChildAbductionDetails.builder()
+            .previousAbductionThreats(allegationOfHarm.getPreviousAbductionThreats())
+            .previousAbductionThreatsDetails(allegationOfHarm.getPreviousAbductionThreatsDetails())
+            .childrenLocationNow(allegationOfHarm.getChildrenLocationNow())
+            .abductionPassportOfficeNotified(allegationOfHarm.getAbductionPassportOfficeNotified())
+            .abductionPreviousPoliceInvolvement(allegationOfHarm.getAbductionPreviousPoliceInvolvement())
+            .abductionPreviousPoliceInvolvementDetails(allegationOfHarm.getAbductionPreviousPoliceInvolvementDetails())
+            .build();
         return toMap(childAbductionDetails);
     }
 
     public Map<String, Object> getRevisedChildAbductionTable(CaseData caseData) {
-        RevisedChildAbductionDetails revisedChildAbductionDetails = objectMapper.convertValue(caseData, RevisedChildAbductionDetails.class);
+        AllegationOfHarmRevised allegationOfHarmRevised = getAllegationOfHarmRevised(caseData);
+        RevisedChildAbductionDetails revisedChildAbductionDetails = RevisedChildAbductionDetails.builder()
+            .newChildAbductionReasons(allegationOfHarmRevised.getNewChildAbductionReasons())
+            .newPreviousAbductionThreats(allegationOfHarmRevised.getNewPreviousAbductionThreats())
+            .newPreviousAbductionThreatsDetails(allegationOfHarmRevised.getNewPreviousAbductionThreatsDetails())
+            .newChildrenLocationNow(allegationOfHarmRevised.getNewChildrenLocationNow())
+            .newAbductionPassportOfficeNotified(allegationOfHarmRevised.getNewAbductionPassportOfficeNotified())
+            .newAbductionPreviousPoliceInvolvement(allegationOfHarmRevised.getNewAbductionPreviousPoliceInvolvement())
+            .newAbductionPreviousPoliceInvolvementDetails(allegationOfHarmRevised.getNewAbductionPreviousPoliceInvolvementDetails())
+            .newAbductionChildHasPassport(allegationOfHarmRevised.getNewAbductionChildHasPassport())
+            .build();
         Optional<ChildPassportDetails> childPassportDetails = Optional.ofNullable(caseData.getAllegationOfHarmRevised().getChildPassportDetails());
         if (YesOrNo.Yes.equals(revisedChildAbductionDetails.getNewAbductionChildHasPassport()) && childPassportDetails.isPresent()) {
             revisedChildAbductionDetails.setNewChildHasMultiplePassports(childPassportDetails.get().getNewChildHasMultiplePassports());
@@ -1122,8 +1262,18 @@ public class ApplicationsTabService implements TabService {
 
 
     public Map<String, Object> getAllegationsOfHarmOtherConcerns(CaseData caseData) {
-        AllegationsOfHarmOtherConcerns allegationsOfHarmOtherConcerns = objectMapper
-            .convertValue(caseData, AllegationsOfHarmOtherConcerns.class);
+        AllegationOfHarm allegationOfHarm = getAllegationOfHarm(caseData);
+        // the revised allegations of harm have an other concerns details field of the same name, which comes later in the case
+        AllegationsOfHarmOtherConcerns allegationsOfHarmOtherConcerns = AllegationsOfHarmOtherConcerns.builder()
+            .allegationsOfHarmOtherConcerns(allegationOfHarm.getAllegationsOfHarmOtherConcerns())
+            .allegationsOfHarmOtherConcernsDetails(nonNull(caseData.getAllegationOfHarmRevised())
+                                                       ? caseData.getAllegationOfHarmRevised().getAllegationsOfHarmOtherConcernsDetails()
+                                                       : allegationOfHarm.getAllegationsOfHarmOtherConcernsDetails())
+            .allegationsOfHarmOtherConcernsCourtActions(allegationOfHarm.getAllegationsOfHarmOtherConcernsCourtActions())
+            .agreeChildUnsupervisedTime(allegationOfHarm.getAgreeChildUnsupervisedTime())
+            .agreeChildSupervisedTime(allegationOfHarm.getAgreeChildSupervisedTime())
+            .agreeChildOtherContact(allegationOfHarm.getAgreeChildOtherContact())
+            .build();
         return toMap(allegationsOfHarmOtherConcerns);
     }
 
@@ -1135,8 +1285,12 @@ public class ApplicationsTabService implements TabService {
     }
 
     public Map<String, Object> getAllegationsOfHarmRevisedChildContact(CaseData caseData) {
-        AllegationsOfHarmRevisedChildContact allegationsOfHarmRevisedChildContact = objectMapper
-                .convertValue(caseData, AllegationsOfHarmRevisedChildContact.class);
+        AllegationOfHarmRevised allegationOfHarmRevised = getAllegationOfHarmRevised(caseData);
+        AllegationsOfHarmRevisedChildContact allegationsOfHarmRevisedChildContact = AllegationsOfHarmRevisedChildContact.builder()
+            .newAgreeChildUnsupervisedTime(allegationOfHarmRevised.getNewAgreeChildUnsupervisedTime())
+            .newAgreeChildSupervisedTime(allegationOfHarmRevised.getNewAgreeChildSupervisedTime())
+            .newAgreeChildOtherContact(allegationOfHarmRevised.getNewAgreeChildOtherContact())
+            .build();
         return toMap(allegationsOfHarmRevisedChildContact);
     }
 
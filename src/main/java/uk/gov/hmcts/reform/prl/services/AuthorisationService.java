@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import uk.gov.hmcts.reform.authorisation.ServiceAuthorisationApi;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
@@ -16,6 +18,8 @@ import java.util.Arrays;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class AuthorisationService {
 
+    private static final String USER_INFO_ATTRIBUTE = AuthorisationService.class.getName() + ".userInfo";
+
     private final ServiceAuthorisationApi serviceAuthorisationApi;
 
     @Value("${private-law.authorised-services}")
@@ -26,12 +30,15 @@ public class AuthorisationService {
 
     private final IdamClient idamClient;
 
-    private UserInfo userInfo;
+    private final TokenIntrospectionCache tokenIntrospectionCache;
 
     public Boolean authoriseService(String serviceAuthHeader) {
         String callingService;
         try {
-            callingService = serviceAuthorisationApi.getServiceName(serviceAuthHeader);
+            callingService = tokenIntrospectionCache.getServiceName(
+                serviceAuthHeader,
+                () -> serviceAuthorisationApi.getServiceName(serviceAuthHeader)
+            );
             if (callingService != null && Arrays.asList(s2sAuthorisedServices.split(","))
                 .contains(callingService)) {
                 return true;
@@ -44,8 +51,15 @@ public class AuthorisationService {
 
     public Boolean authoriseUser(String authorisation) {
         try {
-            userInfo = idamClient.getUserInfo(authorisation);
+            UserInfo userInfo = tokenIntrospectionCache.getUserInfo(
+                authorisation,
+                () -> idamClient.getUserInfo(authorisation)
+            );
             if (null != userInfo) {
+                RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+                if (null != requestAttributes) {
+                    requestAttributes.setAttribute(USER_INFO_ATTRIBUTE, userInfo, RequestAttributes.SCOPE_REQUEST);
+                }
                 return true;
             }
         } catch (Exception ex) {
@@ -54,8 +68,16 @@ public class AuthorisationService {
         return false;
     }
 
+    /**
+     *  User info of the user authorised by {@link #authoriseUser(String)} in the current request.
+     *
+     * @return UserInfo, or null if no user has been authorised in this request
+     */
     public UserInfo getUserInfo() {
-        return this.userInfo;
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return null != requestAttributes
+            ? (UserInfo) requestAttributes.getAttribute(USER_INFO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            : null;
     }
 
     public boolean isAuthorized(String authorisation, String s2sToken) {
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import com.google.common.base.Suppliers;
+import uk.gov.hmcts.reform.prl.mapper.AppObjectMapper;
+import uk.gov.hmcts.reform.prl.mapper.welshlang.WelshLangMapper;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseDetails;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.C100_CASE_TYPE;
+
+/**
+ *  Case details of one callback as sent to docmosis, created by DgsService.createRenderContext. The
+ *  case is converted to a map the first time a document needs it and every template rendered with
+ *  the context shares that read only map. Welsh templates share one translation of it, which copies
+ *  only the parts of the map holding a translated value. Safe to use from several threads.
+ */
+public class DgsRenderContext {
+
+    private static final String CASE_DATA = "case_data";
+
+    private final CaseDetails caseDetails;
+
+    private final Supplier<Map<String, Object>> caseDetailsMap;
+
+    private final Supplier<Map<String, Object>> welshCaseDetailsMap;
+
+    private final Supplier<Map<String, Object>> templateValues;
+
+    DgsRenderContext(CaseDetails caseDetails, Supplier<Map<String, Object>> templateValues) {
+        this.caseDetails = caseDetails;
+        this.templateValues = Suppliers.memoize(templateValues::get);
+        this.caseDetailsMap = Suppliers.memoize(this::convertCaseDetails);
+        this.welshCaseDetailsMap = Suppliers.memoize(this::translateCaseDetails);
+    }
+
+    public CaseDetails getCaseDetails() {
+        return caseDetails;
+    }
+
+    /**
+     *  Values for a template, the shared case details map with the values every template of the
+     *  callback gets laid over it.
+     *
+     * @param caseDetailsKey key the case details map is put under
+     * @param welsh whether the Welsh case details are wanted
+     * @return values to send to docmosis
+     */
+    Map<String, Object> getValues(String caseDetailsKey, boolean welsh) {
+        Map<String, Object> values = new HashMap<>(templateValues.get());
+        values.put(caseDetailsKey, welsh ? welshCaseDetailsMap.get() : caseDetailsMap.get());
+        return values;
+    }
+
+    private Map<String, Object> convertCaseDetails() {
+        Map<String, Object> converted = AppObjectMapper.getObjectMapper().convertValue(caseDetails, Map.class);
+        Map<String, Object> caseData = (Map<String, Object>) converted.get(CASE_DATA);
+        if (caseData != null) {
+            converted.put(CASE_DATA, Collections.unmodifiableMap(caseData));
+        }
+        return Collections.unmodifiableMap(converted);
+    }
+
+    private Map<String, Object> translateCaseDetails() {
+        Map<String, Object> english = caseDetailsMap.get();
+        Map<String, Object> caseData = (Map<String, Object>) english.get(CASE_DATA);
+        if (caseData == null) {
+            return english;
+        }
+        Map<String, Object> welsh = new LinkedHashMap<>(english);
+        welsh.put(CASE_DATA, WelshLangMapper.getWelshTranslation(
+            caseData,
+            C100_CASE_TYPE.equalsIgnoreCase(caseDetails.getCaseData().getCaseTypeOfApplication())
+        ));
+        return Collections.unmodifiableMap(welsh);
+    }
+}
@@ -53,92 +53,65 @@ public class DgsService {
     }
 
     public GeneratedDocumentInfo generateDocument(String authorisation, CaseDetails caseDetails, String templateName) throws Exception {
+        return generateDocument(authorisation, createRenderContext(caseDetails), templateName);
+    }
 
-        CaseData caseData = caseDetails.getCaseData();
-        if (C100_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())) {
-            caseDetails.setCaseData(allegationOfHarmService.updateChildAbusesForDocmosis(caseData));
-        }
-        Map<String, Object> tempCaseDetails = new HashMap<>();
-        //PRL-4981 - Populate applicants/respondents & representing solicitors names
-        if (CollectionUtils.isNotEmpty(caseData.getManageOrders().getOrdersHearingDetails())) {
-            hearingDataService.populatePartiesAndSolicitorsNames(caseData, tempCaseDetails);
-        }
-        tempCaseDetails.put(
-            CASE_DETAILS_STRING,
-            AppObjectMapper.getObjectMapper().convertValue(caseDetails, Map.class)
-        );
-        GeneratedDocumentInfo generatedDocumentInfo = null;
-        try {
-            generatedDocumentInfo =
-                dgsApiClient.generateDocument(authorisation, GenerateDocumentRequest
-                    .builder().template(templateName).values(tempCaseDetails).build()
-                );
-
-        } catch (Exception ex) {
-            log.error(ERROR_MESSAGE, caseDetails.getCaseId());
-            throw new DocumentGenerationException(ex.getMessage(), ex);
-        }
-        return generatedDocumentInfo;
+    public GeneratedDocumentInfo generateDocument(String authorisation, DgsRenderContext renderContext,
+                                                  String templateName) throws Exception {
+        return render(authorisation, renderContext, templateName, false);
     }
 
     public GeneratedDocumentInfo generateWelshDocument(String authorisation, String caseId, String caseTypeOfApplication, String templateName,
                                                        Map<String, Object> dataMap) throws Exception {
 
-        Map<String, Object> welshDataMap = new HashMap<>();
-        welshDataMap.putAll(dataMap);
-        welshDataMap.forEach((k, v) -> {
-            if (v != null) {
-                Object updatedWelshObj = WelshLangMapper.applyWelshTranslation(k, v,
-                                                                               PrlAppsConstants.C100_CASE_TYPE
-                                                                                   .equalsIgnoreCase(
-                                                                                       caseTypeOfApplication)
-                );
-                welshDataMap.put(k, updatedWelshObj);
-            }
-        });
+        Map<String, Object> welshDataMap = WelshLangMapper.applyWelshTranslation(
+            new HashMap<>(dataMap),
+            PrlAppsConstants.C100_CASE_TYPE.equalsIgnoreCase(caseTypeOfApplication)
+        );
         return generateDocument(authorisation, caseId, templateName,
                                 welshDataMap
         );
     }
 
     public GeneratedDocumentInfo generateWelshDocument(String authorisation, CaseDetails caseDetails, String templateName) throws Exception {
+        return generateWelshDocument(authorisation, createRenderContext(caseDetails), templateName);
+    }
 
+    public GeneratedDocumentInfo generateWelshDocument(String authorisation, DgsRenderContext renderContext,
+                                                       String templateName) throws Exception {
+        return render(authorisation, renderContext, templateName, true);
+    }
 
+    /**
+     * Context for rendering several templates from the same case details, which converts the case
+     * once for all of them instead of once per template.
+     */
+    public DgsRenderContext createRenderContext(CaseDetails caseDetails) {
         CaseData caseData = caseDetails.getCaseData();
         if (C100_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())) {
             caseDetails.setCaseData(allegationOfHarmService.updateChildAbusesForDocmosis(caseData));
         }
-        // Get the Welsh Value of each object using Welsh Mapper
-        Map<String, Object> caseDataMap = AppObjectMapper.getObjectMapper().convertValue(caseDetails, Map.class);
-        Map<String, Object> caseDataValues = (Map<String, Object>) caseDataMap.get("case_data");
-        caseDataValues.forEach((k, v) -> {
-            if (v != null) {
-                Object updatedWelshObj = WelshLangMapper.applyWelshTranslation(k, v,
-                                                                               PrlAppsConstants.C100_CASE_TYPE
-                                                                                   .equalsIgnoreCase(
-                                                                                       caseDetails.getCaseData()
-                                                                                           .getCaseTypeOfApplication()
-                                                                                   )
-                );
-                caseDataValues.put(k, updatedWelshObj);
+        return new DgsRenderContext(caseDetails, () -> {
+            Map<String, Object> templateValues = new HashMap<>();
+            //PRL-4981 - Populate applicants/respondents & representing solicitors names
+            if (CollectionUtils.isNotEmpty(caseData.getManageOrders().getOrdersHearingDetails())) {
+                hearingDataService.populatePartiesAndSolicitorsNames(caseData, templateValues);
             }
+            return templateValues;
         });
-        caseDataMap.put("case_data", caseDataValues);
-        Map<String, Object> tempCaseDetails = new HashMap<>();
-        //PRL-4981 - Populate applicants/respondents & representing solicitors names
-        if (CollectionUtils.isNotEmpty(caseData.getManageOrders().getOrdersHearingDetails())) {
-            hearingDataService.populatePartiesAndSolicitorsNames(caseData, tempCaseDetails);
-        }
-        tempCaseDetails.put(CASE_DETAILS_STRING, caseDataMap);
+    }
+
+    private GeneratedDocumentInfo render(String authorisation, DgsRenderContext renderContext, String templateName,
+                                         boolean welsh) throws Exception {
         GeneratedDocumentInfo generatedDocumentInfo = null;
         try {
             generatedDocumentInfo =
                 dgsApiClient.generateDocument(authorisation, GenerateDocumentRequest
-                    .builder().template(templateName).values(tempCaseDetails).build()
+                    .builder().template(templateName).values(renderContext.getValues(CASE_DETAILS_STRING, welsh)).build()
                 );
 
         } catch (Exception ex) {
-            log.error(ERROR_MESSAGE, caseDetails.getCaseId());
+            log.error(ERROR_MESSAGE, renderContext.getCaseDetails().getCaseId());
             throw new DocumentGenerationException(ex.getMessage(), ex);
         }
         return generatedDocumentInfo;
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.config.Fm5ReminderConfiguration;
+import uk.gov.hmcts.reform.prl.models.Fm5ReminderCheckpoint;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ *  Keeps the checkpoint of the FM5 reminder run in a file (private-law.fm5-reminder.checkpoint-file),
+ *  so a rerun after the job pod crashed can carry on from the last page that was fully processed.
+ *  The file is replaced atomically, so a crash while saving leaves the previous checkpoint in place.
+ *  It has to be on storage every replica of the job mounts, a pod's own disk is lost with the pod.
+ *  With no file set there is no checkpoint and every run starts from the first page.
+ */
+@Slf4j
+@Component
+public class Fm5ReminderCheckpointStore {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Path checkpointFile;
+
+    public Fm5ReminderCheckpointStore(Fm5ReminderConfiguration fm5ReminderConfiguration) {
+        if (StringUtils.isBlank(fm5ReminderConfiguration.getCheckpointFile())) {
+            log.warn("No FM5 reminder checkpoint file is set, an interrupted run will start again from the first page");
+            this.checkpointFile = null;
+        } else {
+            this.checkpointFile = Paths.get(fm5ReminderConfiguration.getCheckpointFile());
+        }
+    }
+
+    public Optional<Fm5ReminderCheckpoint> load() {
+        if (null == checkpointFile || !Files.exists(checkpointFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(objectMapper.readValue(checkpointFile.toFile(), Fm5ReminderCheckpoint.class));
+        } catch (IOException e) {
+            log.warn("Could not read FM5 reminder checkpoint {}, starting from the beginning", checkpointFile, e);
+            return Optional.empty();
+        }
+    }
+
+    public void save(Fm5ReminderCheckpoint checkpoint) {
+        if (null == checkpointFile) {
+            return;
+        }
+        try {
+            Path parent = checkpointFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, checkpointFile.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), checkpoint);
+            try {
+                Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // the run carries on, a rerun would just redo more of the work
+            log.warn("Could not save FM5 reminder checkpoint {}", checkpointFile, e);
+        }
+    }
+
+    public void clear() {
+        if (null == checkpointFile) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(checkpointFile);
+        } catch (IOException e) {
+            log.warn("Could not delete FM5 reminder checkpoint {}", checkpointFile, e);
+        }
+    }
+}
@@ -1,14 +1,13 @@
 package uk.gov.hmcts.reform.prl.services;
 
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
@@ -17,10 +16,13 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.prl.clients.HearingApiClient;
 import uk.gov.hmcts.reform.prl.clients.ccd.records.StartAllTabsUpdateDataContent;
+import uk.gov.hmcts.reform.prl.config.Fm5ReminderConfiguration;
 import uk.gov.hmcts.reform.prl.enums.State;
 import uk.gov.hmcts.reform.prl.enums.managedocuments.DocumentPartyEnum;
 import uk.gov.hmcts.reform.prl.enums.serviceofapplication.Fm5PendingParty;
+import uk.gov.hmcts.reform.prl.mapper.CcdObjectMapper;
 import uk.gov.hmcts.reform.prl.models.Element;
+import uk.gov.hmcts.reform.prl.models.Fm5ReminderCheckpoint;
 import uk.gov.hmcts.reform.prl.models.SearchResultResponse;
 import uk.gov.hmcts.reform.prl.models.complextypes.QuarantineLegalDoc;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
@@ -38,11 +40,14 @@ import uk.gov.hmcts.reform.prl.models.dto.hearings.CaseHearing;
 import uk.gov.hmcts.reform.prl.models.dto.hearings.HearingDaySchedule;
 import uk.gov.hmcts.reform.prl.models.dto.hearings.Hearings;
 import uk.gov.hmcts.reform.prl.models.dto.notification.NotificationDetails;
+import uk.gov.hmcts.reform.prl.services.hearings.BatchedHearings;
+import uk.gov.hmcts.reform.prl.services.hearings.BatchedHearingsClient;
 import uk.gov.hmcts.reform.prl.services.tab.alltabs.AllTabServiceImpl;
 import uk.gov.hmcts.reform.prl.utils.CaseUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -50,6 +55,11 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
@@ -70,76 +80,200 @@ import static uk.gov.hmcts.reform.prl.utils.ElementUtils.nullSafeCollection;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class Fm5ReminderService {
 
+    private static final String LAST_MODIFIED_SORT_FIELD = "last_modified";
+    private static final String REFERENCE_SORT_FIELD = "reference.keyword";
+    private static final String SORT_ORDER_ASC = "asc";
+
     private final SystemUserService systemUserService;
     private final AuthTokenGenerator authTokenGenerator;
     private final CoreCaseDataApi coreCaseDataApi;
     private final HearingApiClient hearingApiClient;
+    private final BatchedHearingsClient batchedHearingsClient;
     private final Fm5NotificationService fm5NotificationService;
     private final AllTabServiceImpl allTabService;
+    private final Fm5ReminderConfiguration fm5ReminderConfiguration;
+    private final Fm5ReminderCheckpointStore fm5ReminderCheckpointStore;
 
     private final ObjectMapper objectMapper;
 
 
 
+    /**
+     *  Sends the FM5 reminders, a page of cases at a time. The cases of a page are updated in parallel
+     *  by a bounded pool of workers, each case being retried with back-off when CCD or notify fail, and
+     *  a checkpoint is saved after every page so a rerun on the same day resumes after the last page
+     *  that was fully processed. Cases whose hearings could not be fetched are left out of their page
+     *  and the checkpoint is not moved past them, so a rerun checks them again.
+     *
+     * @param hearingAwayDays number of days before the first listed hearing to send the reminders
+     */
     public void sendFm5ReminderNotifications(Long hearingAwayDays) {
         long startTime = System.currentTimeMillis();
-        //Fetch all cases in Hearing state pending fm5 reminder notifications
-        List<CaseDetails> caseDetailsList = retrieveCasesInHearingStatePendingFm5Reminders();
-
-
-        if (isNotEmpty(caseDetailsList)) {
-            //Iterate all cases to evaluate rules to trigger FM5 reminder
-            Map<String, Fm5PendingParty> qualifiedCasesAndPartiesBeforeHearing =
-                getQualifiedCasesAndHearingsForNotifications(caseDetailsList, hearingAwayDays);
-            log.info("Qualified cases meeting all system rules {}", qualifiedCasesAndPartiesBeforeHearing);
-
-            //Send FM5 reminders to cases meeting all system rules, else update not needed
-            qualifiedCasesAndPartiesBeforeHearing.forEach(
-                (key, fm5PendingParty) -> {
-                    StartAllTabsUpdateDataContent startAllTabsUpdateDataContent;
-                    Map<String, Object> caseDataUpdated = new HashMap<>();
-                    if (Fm5PendingParty.NOTIFICATION_NOT_REQUIRED.equals(fm5PendingParty)) {
-                        log.info("FM5 reminders are not needed for caseId {}, update the flag fm5RemindersSent->NOT_REQUIRED", key);
-                        startAllTabsUpdateDataContent
-                            = allTabService.getStartUpdateForSpecificEvent(key, FM5_NOTIFICATION_NOT_REQUIRED_CASE_UPDATE.getValue());
-                        caseDataUpdated.put("fm5RemindersSent", "NOT_REQUIRED");
-                    } else {
-                        log.info("*** Sending FM5 reminders for caseId {}", key);
-                        startAllTabsUpdateDataContent
-                            = allTabService.getStartUpdateForSpecificEvent(key, FM5_NOTIFICATION_CASE_UPDATE.getValue());
-
-                        List<Element<NotificationDetails>> fm5ReminderNotifications = fm5NotificationService.sendFm5ReminderNotifications(
-                            startAllTabsUpdateDataContent.caseData(),
-                            fm5PendingParty
-                        );
-
-                        if (isNotEmpty(fm5ReminderNotifications)) {
-                            log.info("FM5 reminders are sent for caseId {}, update the flag fm5RemindersSent->YES", key);
-                            caseDataUpdated.put("fm5ReminderNotifications", fm5ReminderNotifications);
-                            caseDataUpdated.put("fm5RemindersSent", "YES");
-                        }
+        Fm5ReminderCheckpoint checkpoint = resumeOrStartRun(hearingAwayDays);
+        LocalDateTime runStartedAt = LocalDateTime.parse(checkpoint.getRunStartedAt());
+        ExecutorService workers = Executors.newFixedThreadPool(
+            fm5ReminderConfiguration.getWorkers(),
+            new CustomizableThreadFactory("fm5-reminder-")
+        );
+        boolean casesLeftOut = false;
+        try {
+            List<CaseDetails> caseDetailsList;
+            do {
+                //Fetch the next page of cases in Hearing state pending fm5 reminder notifications
+                caseDetailsList = retrieveCasesInHearingStatePendingFm5Reminders(runStartedAt, checkpoint.toSearchAfter());
+
+                if (isNotEmpty(caseDetailsList)) {
+                    if (!sendFm5ReminderNotificationsForPage(caseDetailsList, hearingAwayDays, workers)) {
+                        casesLeftOut = true;
+                    }
+
+                    CaseDetails lastCase = caseDetailsList.get(caseDetailsList.size() - 1);
+                    checkpoint = checkpoint.toBuilder()
+                        .casesProcessed(checkpoint.getCasesProcessed() + caseDetailsList.size())
+                        .build();
+                    if (!casesLeftOut && caseDetailsList.size() == fm5ReminderConfiguration.getPageSize()) {
+                        checkpoint = checkpoint.toBuilder()
+                            .lastModified(sortValueOf(lastCase))
+                            .reference(String.valueOf(lastCase.getId()))
+                            .build();
+                        fm5ReminderCheckpointStore.save(checkpoint);
                     }
-                    //Save case data
-                    allTabService.submitAllTabsUpdate(
-                        startAllTabsUpdateDataContent.authorisation(),
-                        key,
-                        startAllTabsUpdateDataContent.startEventResponse(),
-                        startAllTabsUpdateDataContent.eventRequestData(),
-                        caseDataUpdated
-                    );
                 }
-            );
+            } while (caseDetailsList != null && caseDetailsList.size() == fm5ReminderConfiguration.getPageSize());
+
+            if (casesLeftOut) {
+                log.warn("FM5 reminders run left out cases whose hearings could not be fetched, keeping the checkpoint");
+            } else {
+                fm5ReminderCheckpointStore.clear();
+            }
+        } finally {
+            workers.shutdownNow();
         }
 
         log.info(
-            "*** Total time taken to run fm5 reminders task - {}s ***",
-            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime)
+            "*** Total time taken to run fm5 reminders task - {}s, {} cases processed ***",
+            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime),
+            checkpoint.getCasesProcessed()
+        );
+    }
+
+    private Fm5ReminderCheckpoint resumeOrStartRun(Long hearingAwayDays) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<Fm5ReminderCheckpoint> checkpoint = fm5ReminderCheckpointStore.load()
+            .filter(saved -> null != saved.getRunStartedAt()
+                && Objects.equals(hearingAwayDays, saved.getHearingAwayDays())
+                //hearings are due a fixed number of days from today, so only a run of the same day can be resumed
+                && LocalDateTime.parse(saved.getRunStartedAt()).toLocalDate().equals(now.toLocalDate()));
+        if (checkpoint.isPresent()) {
+            log.info("Resuming FM5 reminders run started at {} after {} cases",
+                     checkpoint.get().getRunStartedAt(), checkpoint.get().getCasesProcessed());
+            return checkpoint.get();
+        }
+        return Fm5ReminderCheckpoint.builder()
+            .runStartedAt(now.toString())
+            .hearingAwayDays(hearingAwayDays)
+            .build();
+    }
+
+    private boolean sendFm5ReminderNotificationsForPage(List<CaseDetails> caseDetailsList,
+                                                        Long hearingAwayDays,
+                                                        ExecutorService workers) {
+        //Iterate all cases to evaluate rules to trigger FM5 reminder
+        List<String> casesWithoutHearings = new ArrayList<>();
+        Map<String, Fm5PendingParty> qualifiedCasesAndPartiesBeforeHearing =
+            getQualifiedCasesAndHearingsForNotifications(caseDetailsList, hearingAwayDays, casesWithoutHearings);
+        log.info("Qualified cases meeting all system rules {}", qualifiedCasesAndPartiesBeforeHearing);
+
+        //Send FM5 reminders to cases meeting all system rules, else update not needed
+        CompletableFuture<?>[] caseUpdates = qualifiedCasesAndPartiesBeforeHearing.entrySet().stream()
+            .map(entry -> CompletableFuture.runAsync(
+                () -> sendFm5ReminderWithRetry(entry.getKey(), entry.getValue()),
+                workers
+            ))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(caseUpdates).join();
+        return casesWithoutHearings.isEmpty();
+    }
+
+    private void sendFm5ReminderWithRetry(String caseId, Fm5PendingParty fm5PendingParty) {
+        //notifications already sent are kept across attempts, so a failed submit does not send them again
+        List<Element<NotificationDetails>> fm5ReminderNotifications = new ArrayList<>();
+        int maxAttempts = Math.max(1, fm5ReminderConfiguration.getMaxAttempts());
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                sendFm5Reminder(caseId, fm5PendingParty, fm5ReminderNotifications);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == maxAttempts) {
+                    log.error("FM5 reminders failed for caseId {} after {} attempts", caseId, attempt, e);
+                    return;
+                }
+                long backoffMillis = fm5ReminderConfiguration.getRetryBackoffMillis() << (attempt - 1);
+                log.warn("FM5 reminders attempt {} failed for caseId {}, retrying in {}ms", attempt, caseId, backoffMillis, e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    log.error("FM5 reminders interrupted for caseId {}", caseId);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void sendFm5Reminder(String caseId,
+                                 Fm5PendingParty fm5PendingParty,
+                                 List<Element<NotificationDetails>> fm5ReminderNotifications) {
+        StartAllTabsUpdateDataContent startAllTabsUpdateDataContent;
+        Map<String, Object> caseDataUpdated = new HashMap<>();
+        if (Fm5PendingParty.NOTIFICATION_NOT_REQUIRED.equals(fm5PendingParty)) {
+            log.info("FM5 reminders are not needed for caseId {}, update the flag fm5RemindersSent->NOT_REQUIRED", caseId);
+            startAllTabsUpdateDataContent
+                = allTabService.getStartUpdateForSpecificEvent(caseId, FM5_NOTIFICATION_NOT_REQUIRED_CASE_UPDATE.getValue());
+            caseDataUpdated.put("fm5RemindersSent", "NOT_REQUIRED");
+        } else {
+            startAllTabsUpdateDataContent
+                = allTabService.getStartUpdateForSpecificEvent(caseId, FM5_NOTIFICATION_CASE_UPDATE.getValue());
+
+            if (fm5ReminderNotifications.isEmpty()) {
+                log.info("*** Sending FM5 reminders for caseId {}", caseId);
+                fm5ReminderNotifications.addAll(nullSafeCollection(fm5NotificationService.sendFm5ReminderNotifications(
+                    startAllTabsUpdateDataContent.caseData(),
+                    fm5PendingParty
+                )));
+            }
+
+            if (isNotEmpty(fm5ReminderNotifications)) {
+                log.info("FM5 reminders are sent for caseId {}, update the flag fm5RemindersSent->YES", caseId);
+                caseDataUpdated.put("fm5ReminderNotifications", fm5ReminderNotifications);
+                caseDataUpdated.put("fm5RemindersSent", "YES");
+            }
+        }
+        //Save case data
+        allTabService.submitAllTabsUpdate(
+            startAllTabsUpdateDataContent.authorisation(),
+            caseId,
+            startAllTabsUpdateDataContent.startEventResponse(),
+            startAllTabsUpdateDataContent.eventRequestData(),
+            caseDataUpdated
         );
     }
 
+    private static long sortValueOf(CaseDetails caseDetails) {
+        if (null == caseDetails.getLastModified() || null == caseDetails.getId()) {
+            throw new IllegalStateException("Case is missing last modified date or reference to page from");
+        }
+        return caseDetails.getLastModified().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
 
     public Map<String, Fm5PendingParty> getQualifiedCasesAndHearingsForNotifications(List<CaseDetails> caseDetailsList,
                                                                                           Long hearingAwayDays) {
+        return getQualifiedCasesAndHearingsForNotifications(caseDetailsList, hearingAwayDays, new ArrayList<>());
+    }
+
+    private Map<String, Fm5PendingParty> getQualifiedCasesAndHearingsForNotifications(List<CaseDetails> caseDetailsList,
+                                                                                       Long hearingAwayDays,
+                                                                                       List<String> casesWithoutHearings) {
         log.info("Running system rules on the cases");
         List<String> caseIdsForHearing = new ArrayList<>();
         Map<String, Fm5PendingParty> qualifiedCasesAndPartiesBeforeHearing = new HashMap<>();
@@ -162,11 +296,18 @@ public class Fm5ReminderService {
 
         if (isNotEmpty(caseIdsForHearing)) {
             log.info("Fetching hearings for cases {}", caseIdsForHearing);
-            List<Hearings> hearingsForAllCaseIdsWithCourtVenue = hearingApiClient.getHearingsForAllCaseIdsWithCourtVenue(
-                systemUserService.getSysUserToken(),
-                authTokenGenerator.generate(),
-                caseIdsForHearing
+            final String userToken = systemUserService.getSysUserToken();
+            final String s2sToken = authTokenGenerator.generate();
+            BatchedHearings<String, Hearings> batchedHearings = batchedHearingsClient.fetchInChunks(
+                caseIdsForHearing,
+                caseIds -> hearingApiClient.getHearingsForAllCaseIdsWithCourtVenue(userToken, s2sToken, caseIds)
             );
+            if (batchedHearings.hasFailedCases()) {
+                //left out of this run, they are neither reminded nor marked as not needing a reminder
+                log.error("Hearings could not be fetched for cases {}, leaving them out", batchedHearings.getFailedCases());
+                casesWithoutHearings.addAll(batchedHearings.getFailedCases());
+            }
+            List<Hearings> hearingsForAllCaseIdsWithCourtVenue = batchedHearings.getHearings();
 
             if (isNotEmpty(hearingsForAllCaseIdsWithCourtVenue)) {
                 hearingsForAllCaseIdsWithCourtVenue.forEach(
@@ -248,18 +389,44 @@ public class Fm5ReminderService {
         return caseIdPendingPartyMapping;
     }
 
+    /**
+     *  Fetches all the cases pending FM5 reminders, reading the search a page at a time.
+     */
     public List<CaseDetails> retrieveCasesInHearingStatePendingFm5Reminders() {
+        LocalDateTime runStartedAt = LocalDateTime.now();
+        List<CaseDetails> allCases = new ArrayList<>();
+        List<Object> searchAfter = null;
+        List<CaseDetails> caseDetailsList;
+        do {
+            caseDetailsList = retrieveCasesInHearingStatePendingFm5Reminders(runStartedAt, searchAfter);
+            if (isNotEmpty(caseDetailsList)) {
+                allCases.addAll(caseDetailsList);
+            }
+            if (caseDetailsList != null && caseDetailsList.size() == fm5ReminderConfiguration.getPageSize()) {
+                CaseDetails lastCase = caseDetailsList.get(caseDetailsList.size() - 1);
+                searchAfter = List.of(sortValueOf(lastCase), String.valueOf(lastCase.getId()));
+            }
+        } while (caseDetailsList != null && caseDetailsList.size() == fm5ReminderConfiguration.getPageSize());
+        return allCases;
+    }
+
+    /**
+     *  Fetches a page of the cases pending FM5 reminders, sorted on last modified date and reference.
+     *
+     * @param runStartedAt start of the run, cases modified since then are left out of the search
+     * @param searchAfter sort values of the last case of the previous page, null for the first page
+     * @return cases of the page
+     */
+    public List<CaseDetails> retrieveCasesInHearingStatePendingFm5Reminders(LocalDateTime runStartedAt,
+                                                                            List<Object> searchAfter) {
 
         SearchResultResponse response = SearchResultResponse.builder()
             .cases(new ArrayList<>()).build();
 
-        QueryParam ccdQueryParam = buildCcdQueryParam();
+        QueryParam ccdQueryParam = buildCcdQueryParam(runStartedAt, searchAfter);
 
         try {
-            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-            objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-            String searchString = objectMapper.writeValueAsString(ccdQueryParam);
+            String searchString = CcdObjectMapper.getSearchQueryWriter().writeValueAsString(ccdQueryParam);
 
             String userToken = systemUserService.getSysUserToken();
             final String s2sToken = authTokenGenerator.generate();
@@ -270,7 +437,7 @@ public class Fm5ReminderService {
                 searchString
             );
 
-            response = objectMapper.convertValue(
+            response = CcdObjectMapper.convertSearchResult(
                 searchResult,
                 SearchResultResponse.class
             );
@@ -285,7 +452,7 @@ public class Fm5ReminderService {
         return Collections.emptyList();
     }
 
-    private QueryParam buildCcdQueryParam() {
+    private QueryParam buildCcdQueryParam(LocalDateTime runStartedAt, List<Object> searchAfter) {
         //C100 cases where fm5 reminders are not sent already
         List<Should> shoulds = List.of(Should.builder()
                                              .match(Match.builder()
@@ -307,7 +474,11 @@ public class Fm5ReminderService {
             .build();
         Must mustFilter = Must.builder().stateFilter(stateFilter).build();
 
-        LastModified lastModified = LastModified.builder().gte(LocalDateTime.now().minusDays(10).toString()).build();
+        //The window is fixed at the start of the run, so cases updated by the run do not come back in later pages
+        LastModified lastModified = LastModified.builder()
+            .gte(runStartedAt.minusDays(10).toString())
+            .lte(runStartedAt.toString())
+            .build();
         Range range = Range.builder().lastModified(lastModified).build();
         Filter filter = Filter.builder().range(range).build();
 
@@ -320,6 +491,12 @@ public class Fm5ReminderService {
 
         return QueryParam.builder()
             .query(Query.builder().bool(finalFilter).build())
+            .size(String.valueOf(fm5ReminderConfiguration.getPageSize()))
+            .sort(List.of(
+                Map.of(LAST_MODIFIED_SORT_FIELD, SORT_ORDER_ASC),
+                Map.of(REFERENCE_SORT_FIELD, SORT_ORDER_ASC)
+            ))
+            .searchAfter(searchAfter)
             .build();
     }
 
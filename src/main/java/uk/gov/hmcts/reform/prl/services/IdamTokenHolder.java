@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.idam.client.models.TokenResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ *  Keeps a value fetched with an IDAM token until the token is close to expiry (refresh-before-expiry
+ *  before its expires_in, capped at half the life of the token). The first caller to find the value
+ *  due for refresh fetches a new one while the others carry on with the current value, and a failed
+ *  refresh keeps the current value until it expires. Once it has expired callers wait for a single
+ *  fetch instead of each going to IDAM.
+ */
+@Slf4j
+public class IdamTokenHolder<T> {
+
+    // used when IDAM does not send expires_in, tokens used to be kept for 30 minutes
+    private static final long DEFAULT_EXPIRES_IN_SECONDS = 1800L;
+
+    private final String name;
+
+    private final Supplier<Fetched<T>> fetch;
+
+    private final long refreshBeforeExpiryMillis;
+
+    // current time in millis, System.currentTimeMillis outside of tests
+    private final LongSupplier clock;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Cached<T> cached;
+
+    public IdamTokenHolder(String name, Supplier<Fetched<T>> fetch, long refreshBeforeExpirySeconds, LongSupplier clock) {
+        this.name = name;
+        this.fetch = fetch;
+        this.refreshBeforeExpiryMillis = TimeUnit.SECONDS.toMillis(refreshBeforeExpirySeconds);
+        this.clock = clock;
+    }
+
+    public T get() {
+        Cached<T> current = cached;
+        long now = clock.getAsLong();
+        if (current != null && now < current.refreshAt) {
+            return current.value;
+        }
+        if (current != null && now < current.expiresAt) {
+            // due for refresh but still valid, only one caller refreshes and nobody waits for it
+            if (refreshLock.tryLock()) {
+                try {
+                    if (cached == current) {
+                        refreshKeepingCurrentOnFailure();
+                    }
+                } finally {
+                    refreshLock.unlock();
+                }
+            }
+            return cached.value;
+        }
+        refreshLock.lock();
+        try {
+            current = cached;
+            if (current == null || clock.getAsLong() >= current.expiresAt) {
+                cached = fetch();
+            }
+            return cached.value;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     *  Current value if its token has not expired, without going to IDAM.
+     */
+    public T getIfValid() {
+        Cached<T> current = cached;
+        return current != null && clock.getAsLong() < current.expiresAt ? current.value : null;
+    }
+
+    private void refreshKeepingCurrentOnFailure() {
+        try {
+            cached = fetch();
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh {} token, using the current token until it expires", name, e);
+        }
+    }
+
+    private Cached<T> fetch() {
+        log.info("Fetching {} token", name);
+        long fetchedAt = clock.getAsLong();
+        Fetched<T> fetched = fetch.get();
+        long expiresInMillis = TimeUnit.SECONDS.toMillis(expiresInSeconds(fetched.tokenResponse()));
+        return new Cached<>(
+            fetched.value(),
+            fetchedAt + expiresInMillis - Math.min(refreshBeforeExpiryMillis, expiresInMillis / 2),
+            fetchedAt + expiresInMillis
+        );
+    }
+
+    private static long expiresInSeconds(TokenResponse tokenResponse) {
+        try {
+            return Long.parseLong(tokenResponse.expiresIn);
+        } catch (NumberFormatException e) {
+            return DEFAULT_EXPIRES_IN_SECONDS;
+        }
+    }
+
+    /**
+     *  Value fetched from IDAM with the token response it came with.
+     */
+    public record Fetched<T>(T value, TokenResponse tokenResponse) {
+    }
+
+    private record Cached<T>(T value, long refreshAt, long expiresAt) {
+    }
+}
@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.config.JudicialUserCacheConfiguration;
+import uk.gov.hmcts.reform.prl.models.dto.judicial.JudicialUsersApiResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+/**
+ *  Judicial users from the judicial ref data API, keyed by personal code. The same judges come up on
+ *  case after case, so they are kept for a TTL in a size bounded cache, and personal codes the API
+ *  does not know are remembered for a shorter time. Codes missing from the cache are looked up
+ *  together in a single call. Hit/miss counts are published as the judicialUserCache and
+ *  judicialUserNotFoundCache metrics.
+ */
+@Slf4j
+@Component
+public class JudicialUserDirectory {
+
+    public static final String JUDICIAL_USER_CACHE = "judicialUserCache";
+
+    public static final String JUDICIAL_USER_NOT_FOUND_CACHE = "judicialUserNotFoundCache";
+
+    private final Cache<String, JudicialUsersApiResponse> judicialUsers;
+
+    private final Cache<String, Boolean> notFoundJudicialUsers;
+
+    @Autowired
+    public JudicialUserDirectory(JudicialUserCacheConfiguration configuration, MeterRegistry meterRegistry) {
+        this.judicialUsers = CacheBuilder.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfterWrite(configuration.getTtlMinutes(), TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+        this.notFoundJudicialUsers = CacheBuilder.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfterWrite(configuration.getNotFoundTtlMinutes(), TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, judicialUsers, JUDICIAL_USER_CACHE);
+        GuavaCacheMetrics.monitor(meterRegistry, notFoundJudicialUsers, JUDICIAL_USER_NOT_FOUND_CACHE);
+    }
+
+    /**
+     *  Returns the judicial users for the personal codes, in the order the codes were asked for.
+     *  Codes that are neither cached nor known to be missing are sent to the loader in one call.
+     *  If the loader fails nothing is cached and the failure goes back to the caller.
+     *
+     * @param apiVersion version of the judicial API the loader calls, responses are cached per version
+     * @param personalCodes personal codes to resolve, blanks and duplicates are ignored
+     * @param loader judicial API lookup for the codes that are not cached
+     * @return judicial users found, empty if none were
+     */
+    public List<JudicialUsersApiResponse> resolve(String apiVersion, Collection<String> personalCodes,
+                                                  Function<String[], List<JudicialUsersApiResponse>> loader) {
+        Set<String> codes = new LinkedHashSet<>();
+        personalCodes.stream().filter(code -> isNotBlank(code)).forEach(codes::add);
+
+        Map<String, JudicialUsersApiResponse> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String code : codes) {
+            JudicialUsersApiResponse cached = judicialUsers.getIfPresent(key(apiVersion, code));
+            if (cached != null) {
+                found.put(code, cached);
+            } else if (notFoundJudicialUsers.getIfPresent(key(apiVersion, code)) == null) {
+                missing.add(code);
+            }
+        }
+        if (!missing.isEmpty()) {
+            found.putAll(load(apiVersion, missing, loader));
+        }
+
+        List<JudicialUsersApiResponse> result = new ArrayList<>(found.size());
+        codes.stream().map(found::get).filter(judicialUser -> judicialUser != null).forEach(result::add);
+        return result;
+    }
+
+    private Map<String, JudicialUsersApiResponse> load(String apiVersion, List<String> missing,
+                                                       Function<String[], List<JudicialUsersApiResponse>> loader) {
+        List<JudicialUsersApiResponse> response = loader.apply(missing.toArray(new String[0]));
+        Map<String, JudicialUsersApiResponse> loaded = new HashMap<>();
+        if (response == null) {
+            // nothing to cache, callers already cope with no judges found
+            return loaded;
+        }
+        for (JudicialUsersApiResponse judicialUser : response) {
+            if (judicialUser != null && judicialUser.getPersonalCode() != null) {
+                loaded.putIfAbsent(judicialUser.getPersonalCode(), judicialUser);
+            }
+        }
+        if (loaded.isEmpty() && missing.size() == 1 && !response.isEmpty() && response.get(0) != null) {
+            // a single code lookup has always used the first judge returned
+            loaded.put(missing.get(0), response.get(0));
+        }
+        for (String code : missing) {
+            JudicialUsersApiResponse judicialUser = loaded.get(code);
+            if (judicialUser != null) {
+                judicialUsers.put(key(apiVersion, code), judicialUser);
+            } else {
+                log.info("Judicial user not found for personal code {}", code);
+                notFoundJudicialUsers.put(key(apiVersion, code), Boolean.TRUE);
+            }
+        }
+        return loaded;
+    }
+
+    private static String key(String apiVersion, String personalCode) {
+        return apiVersion + ":" + personalCode;
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.prl.clients.LocationRefDataApi;
@@ -13,10 +14,14 @@ import uk.gov.hmcts.reform.prl.models.court.CourtDetails;
 import uk.gov.hmcts.reform.prl.models.court.CourtVenue;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.apache.logging.log4j.util.Strings.concat;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.C100_DEFAULT_BASE_LOCATION_ID;
@@ -33,6 +38,7 @@ public class LocationRefDataService {
     public static final String LOCATION_REFERENCE_DATA_LOOKUP_FAILED = "Location Reference Data Lookup Failed - ";
     private final AuthTokenGenerator authTokenGenerator;
     private final LocationRefDataApi locationRefDataApi;
+    private final SystemUserService systemUserService;
 
     public static final String SCOTLAND = "Scotland";
     public static final String MIDLANDS = "Midlands";
@@ -46,16 +52,14 @@ public class LocationRefDataService {
     @Value("${courts.caDefaultCourtEpimmsID}")
     protected String caDefaultCourtEpimmsID;
 
+    private final Object catalogueLock = new Object();
+
+    private volatile CourtCatalogue catalogue;
+
     public List<DynamicListElement> getCourtLocations(String authToken) {
         try {
-            CourtDetails courtDetails = locationRefDataApi.getCourtDetailsByService(
-                authToken,
-                authTokenGenerator.generate(),
-                SERVICE_ID
-            );
-            return onlyEnglandAndWalesLocations(courtDetails).stream()
-                .sorted(Comparator.comparing(m -> m.getLabel(), Comparator.naturalOrder()))
-                .toList();
+            CourtCatalogue catalogue = getCatalogue(authToken);
+            return catalogue == null ? new ArrayList<>() : catalogue.courtLocations;
         } catch (Exception e) {
             log.error(LOCATION_REFERENCE_DATA_LOOKUP_FAILED + e.getMessage(), e);
         }
@@ -64,12 +68,8 @@ public class LocationRefDataService {
 
     public List<DynamicListElement> getDaCourtLocations(String authToken) {
         try {
-            CourtDetails courtDetails = locationRefDataApi.getCourtDetailsByService(
-                authToken,
-                authTokenGenerator.generate(),
-                SERVICE_ID
-            );
-            return daOnlyEnglandAndWalesLocations(courtDetails);
+            CourtCatalogue catalogue = getCatalogue(authToken);
+            return catalogue == null ? new ArrayList<>() : catalogue.daCourtLocations;
         } catch (Exception e) {
             log.error(LOCATION_REFERENCE_DATA_LOOKUP_FAILED + e.getMessage(), e);
         }
@@ -78,12 +78,8 @@ public class LocationRefDataService {
 
     public List<DynamicListElement> getFilteredCourtLocations(String authToken) {
         try {
-            CourtDetails courtDetails = locationRefDataApi.getCourtDetailsByService(
-                authToken,
-                authTokenGenerator.generate(),
-                SERVICE_ID
-            );
-            return filterOnboardedCourtList(this.courtsToFilter,courtDetails);
+            CourtCatalogue catalogue = getCatalogue(authToken);
+            return catalogue == null ? new ArrayList<>() : catalogue.filteredCourtLocations;
         } catch (Exception e) {
             log.error(LOCATION_REFERENCE_DATA_LOOKUP_FAILED + e.getMessage(), e);
         }
@@ -92,151 +88,210 @@ public class LocationRefDataService {
 
     public List<DynamicListElement> getDaFilteredCourtLocations(String authToken) {
         try {
-            CourtDetails courtDetails = locationRefDataApi.getCourtDetailsByService(
-                authToken,
-                authTokenGenerator.generate(),
-                SERVICE_ID
-            );
-            return filterOnboardedCourtList(this.daCourtsToFilter, courtDetails);
+            CourtCatalogue catalogue = getCatalogue(authToken);
+            return catalogue == null ? new ArrayList<>() : catalogue.daFilteredCourtLocations;
         } catch (Exception e) {
             log.error(LOCATION_REFERENCE_DATA_LOOKUP_FAILED + e.getMessage(), e);
         }
         return List.of(DynamicListElement.builder().build());
     }
 
-    private List<DynamicListElement> daOnlyEnglandAndWalesLocations(CourtDetails locationRefData) {
-        String[] courtList = daCourtsToFilter.split(",");
-
-        return (locationRefData == null
-            ? new ArrayList<>()
-            : locationRefData.getCourtVenues().stream().filter(location -> !SCOTLAND.equals(location.getRegion()))
-            .filter(location -> FAMILY_COURT_TYPE_ID.equalsIgnoreCase(location.getCourtTypeId()))
-            .filter(location -> {
-                if (courtList.length == 1) {
-                    return true;
-                }
-                List<String> ids = Arrays.stream(courtList).map(ele -> Arrays.stream(ele.split(":")).toArray()[0]
-                    .toString())
-                    .toList();
-                return ids.contains(location.getCourtEpimmsId());
-            })
-            .map(this::getDaDisplayEntry).toList());
-    }
-
-    private DynamicListElement getDaDisplayEntry(CourtVenue location) {
-        String value = concat(
-            concat(concat(location.getSiteName(), " - "), concat(location.getCourtAddress(), " - ")),
-            location.getPostcode()
-        );
-        String key = location.getCourtEpimmsId() + ":";
-        if (daCourtsToFilter.length() > 1) {
-            Optional<String> code = Arrays.stream(daCourtsToFilter.split(",")).filter(ele -> Arrays.stream(ele.split(":")).toArray()[0]
-                .toString().equalsIgnoreCase(location.getCourtEpimmsId())).findFirst();
-            if (code.isPresent()) {
-                key += Arrays.stream(code.get().split(":")).toArray().length > 1
-                    ? Arrays.stream(code.get().split(":")).toArray()[1] : "";
+    /**
+     *  Reloads the court catalogue with the system user, so the lists are kept up to date without
+     *  a caseworker callback paying for the ref data call. Nothing is loaded until the catalogue has
+     *  been used, and if the reload fails the current catalogue is kept until a later one succeeds.
+     */
+    @Scheduled(fixedDelayString = "${courts.catalogue.refresh-interval-millis:3600000}",
+        initialDelayString = "${courts.catalogue.refresh-interval-millis:3600000}")
+    public void refreshCatalogue() {
+        if (catalogue == null) {
+            return;
+        }
+        try {
+            CourtCatalogue refreshed = loadCatalogue(systemUserService.getSysUserToken());
+            if (refreshed != null) {
+                catalogue = refreshed;
+                log.info("Court catalogue refreshed with {} venues", refreshed.venueCount);
             }
+        } catch (Exception e) {
+            log.warn("Could not refresh court catalogue, using cached venues", e);
         }
-        return DynamicListElement.builder().code(key).label(value).build();
-    }
-
-    private List<DynamicListElement> onlyEnglandAndWalesLocations(CourtDetails locationRefData) {
-        String[] courtList = courtsToFilter.split(",");
-
-        return (locationRefData == null
-            ? new ArrayList<>()
-            : locationRefData.getCourtVenues().stream().filter(location -> !SCOTLAND.equals(location.getRegion()))
-            .filter(location -> FAMILY_COURT_TYPE_ID.equalsIgnoreCase(location.getCourtTypeId()))
-            .filter(location -> {
-                if (courtList.length == 1) {
-                    return true;
-                }
-                List<String> ids = Arrays.stream(courtList).map(ele -> Arrays.stream(ele.split(":")).toArray()[0]
-                    .toString())
-                    .toList();
-                return ids.contains(location.getCourtEpimmsId());
-            })
-            .map(this::getDisplayEntry).toList());
-    }
-
-    private List<DynamicListElement> filterOnboardedCourtList(String courtList, CourtDetails locationRefData) {
-        String[] filteredCourtArray = Arrays.stream(courtList.split(",")).filter(
-            element -> StringUtils.isEmpty(Arrays.stream(element.split(":")).toArray().length > 1
-                                               ? element.split(":")[1] : "")
-        ).toArray(size -> new String[size]);
-        return (locationRefData == null
-            ? new ArrayList<>()
-            : locationRefData.getCourtVenues().stream()
-            .filter(location -> {
-                List<String> ids = Arrays.stream(filteredCourtArray).map(ele -> Arrays.stream(ele.split(":")).toArray()[0]
-                        .toString()).toList();
-                return !SCOTLAND.equals(location.getRegion()) && ids.contains(location.getCourtEpimmsId())
-                    && FAMILY_COURT_TYPE_ID.equalsIgnoreCase(location.getCourtTypeId());
-            })
-            .map(this::getDisplayEntry).toList());
     }
 
-
-    private DynamicListElement getDisplayEntry(CourtVenue location) {
-        String value = concat(
-            concat(concat(location.getSiteName(), " - "), concat(location.getCourtAddress(), " - ")),
-            location.getPostcode()
-        );
-        String key = location.getCourtEpimmsId() + ":";
-        if (courtsToFilter.length() > 1) {
-            Optional<String> code = Arrays.stream(courtsToFilter.split(",")).filter(ele -> Arrays.stream(ele.split(":")).toArray()[0]
-                .toString().equalsIgnoreCase(location.getCourtEpimmsId())).findFirst();
-            if (code.isPresent()) {
-                key += Arrays.stream(code.get().split(":")).toArray().length > 1
-                    ? Arrays.stream(code.get().split(":")).toArray()[1] : "";
+    private CourtCatalogue getCatalogue(String authToken) {
+        CourtCatalogue current = catalogue;
+        if (current != null) {
+            return current;
+        }
+        synchronized (catalogueLock) {
+            if (catalogue == null) {
+                // first lookup, failures and empty responses go back to the caller and are not cached
+                catalogue = loadCatalogue(authToken);
             }
+            return catalogue;
         }
-        return DynamicListElement.builder().code(key).label(value).build();
     }
 
-    public Optional<CourtVenue> getCourtDetailsFromEpimmsId(String baseLocationId, String authToken) {
+    private CourtCatalogue loadCatalogue(String authToken) {
         CourtDetails courtDetails = locationRefDataApi.getCourtDetailsByService(
             authToken,
             authTokenGenerator.generate(),
             SERVICE_ID
         );
-        return  (null == courtDetails || null == courtDetails.getCourtVenues())
+        if (null == courtDetails || null == courtDetails.getCourtVenues() || courtDetails.getCourtVenues().isEmpty()) {
+            return null;
+        }
+        return new CourtCatalogue(
+            courtDetails.getCourtVenues(),
+            new CourtFilter(courtsToFilter),
+            new CourtFilter(daCourtsToFilter)
+        );
+    }
+
+    public Optional<CourtVenue> getCourtDetailsFromEpimmsId(String baseLocationId, String authToken) {
+        CourtCatalogue courtCatalogue = getCatalogue(authToken);
+        return null == courtCatalogue
             ? Optional.empty()
-            : courtDetails.getCourtVenues().stream().filter(location -> !SCOTLAND.equals(
-                location.getRegion()))
-            .filter(location -> FAMILY_COURT_TYPE_ID.equalsIgnoreCase(location.getCourtTypeId()))
-            .filter(location -> baseLocationId.equalsIgnoreCase(location.getCourtEpimmsId()))
-            .findFirst();
+            : Optional.ofNullable(courtCatalogue.familyVenuesById.get(baseLocationId.toLowerCase(Locale.ROOT)));
     }
 
 
     public CaseManagementLocation getDefaultCourtForCA(String authorisation) {
-        CourtDetails courtDetails = locationRefDataApi.getCourtDetailsByService(
-            authorisation,
-            authTokenGenerator.generate(),
-            SERVICE_ID
-        );
+        CourtCatalogue courtCatalogue = getCatalogue(authorisation);
         CaseManagementLocation defaultCaseManagementLocation = CaseManagementLocation.builder()
             .region(C100_DEFAULT_REGION_ID)
             .baseLocation(C100_DEFAULT_BASE_LOCATION_ID).regionName(C100_DEFAULT_REGION_NAME)
             .baseLocationName(C100_DEFAULT_BASE_LOCATION_NAME).build();
 
-        if (null == courtDetails || null == courtDetails.getCourtVenues()) {
+        if (null == courtCatalogue || null == caDefaultCourtEpimmsID) {
             log.error("******Default court Id is failing, as fallback defaulted to Ctsc stoke****");
             return defaultCaseManagementLocation;
         }
 
-        Optional<CourtVenue> courtVenue = courtDetails.getCourtVenues().stream()
-            .filter(location -> caDefaultCourtEpimmsID.equalsIgnoreCase(location.getCourtEpimmsId()))
-            .findFirst();
-        if (courtVenue.isPresent()) {
+        CourtVenue courtVenue = courtCatalogue.venuesById.get(caDefaultCourtEpimmsID.toLowerCase(Locale.ROOT));
+        if (courtVenue != null) {
             return CaseManagementLocation.builder()
-                .baseLocation(courtVenue.get().getCourtEpimmsId())
-                .baseLocationName(courtVenue.get().getVenueName())
-                .region(courtVenue.get().getRegionId())
-                .regionName(courtVenue.get().getRegion()).build();
+                .baseLocation(courtVenue.getCourtEpimmsId())
+                .baseLocationName(courtVenue.getVenueName())
+                .region(courtVenue.getRegionId())
+                .regionName(courtVenue.getRegion()).build();
         }
         log.error("******Default court Id is failing, as fallback defaulted to Ctsc stoke****");
         return defaultCaseManagementLocation;
     }
+
+    private static DynamicListElement displayEntry(CourtVenue location, CourtFilter flagsFrom) {
+        String value = concat(
+            concat(concat(location.getSiteName(), " - "), concat(location.getCourtAddress(), " - ")),
+            location.getPostcode()
+        );
+        String key = location.getCourtEpimmsId() + ":" + flagsFrom.flagFor(location.getCourtEpimmsId());
+        return DynamicListElement.builder().code(key).label(value).build();
+    }
+
+    private static boolean isEnglandAndWalesFamilyCourt(CourtVenue location) {
+        return !SCOTLAND.equals(location.getRegion()) && FAMILY_COURT_TYPE_ID.equalsIgnoreCase(location.getCourtTypeId());
+    }
+
+    /**
+     *  A courts.filter style list of epimms ids, each optionally followed by a colon and a flag
+     *  (e.g. 234946:email), parsed once instead of for every venue.
+     */
+    private static final class CourtFilter {
+
+        private final boolean filtering;
+
+        private final Set<String> ids = new HashSet<>();
+
+        private final Set<String> onboardedIds = new HashSet<>();
+
+        private final Map<String, String> flagsById = new HashMap<>();
+
+        private CourtFilter(String filter) {
+            String[] entries = filter.split(",");
+            // a single entry has always meant all courts are shown
+            this.filtering = entries.length > 1;
+            for (String entry : entries) {
+                String[] parts = entry.split(":");
+                if (parts.length == 0) {
+                    continue;
+                }
+                String flag = parts.length > 1 ? parts[1] : "";
+                ids.add(parts[0]);
+                if (StringUtils.isEmpty(flag)) {
+                    onboardedIds.add(parts[0]);
+                }
+                if (filter.length() > 1) {
+                    flagsById.putIfAbsent(parts[0].toLowerCase(Locale.ROOT), flag);
+                }
+            }
+        }
+
+        private boolean includes(CourtVenue location) {
+            return !filtering || ids.contains(location.getCourtEpimmsId());
+        }
+
+        private boolean isOnboarded(CourtVenue location) {
+            return onboardedIds.contains(location.getCourtEpimmsId());
+        }
+
+        private String flagFor(String courtEpimmsId) {
+            return courtEpimmsId == null ? "" : flagsById.getOrDefault(courtEpimmsId.toLowerCase(Locale.ROOT), "");
+        }
+    }
+
+    /**
+     *  Venues from one location ref data response with the court lists already built from them.
+     *  Everything in here is immutable, so callers share the same lists.
+     */
+    private static final class CourtCatalogue {
+
+        private final int venueCount;
+
+        private final Map<String, CourtVenue> venuesById = new HashMap<>();
+
+        private final Map<String, CourtVenue> familyVenuesById = new HashMap<>();
+
+        private final List<DynamicListElement> courtLocations;
+
+        private final List<DynamicListElement> daCourtLocations;
+
+        private final List<DynamicListElement> filteredCourtLocations;
+
+        private final List<DynamicListElement> daFilteredCourtLocations;
+
+        private CourtCatalogue(List<CourtVenue> courtVenues, CourtFilter courtFilter, CourtFilter daCourtFilter) {
+            this.venueCount = courtVenues.size();
+            List<CourtVenue> familyVenues = new ArrayList<>();
+            for (CourtVenue location : courtVenues) {
+                if (location.getCourtEpimmsId() != null) {
+                    venuesById.putIfAbsent(location.getCourtEpimmsId().toLowerCase(Locale.ROOT), location);
+                }
+                if (isEnglandAndWalesFamilyCourt(location)) {
+                    familyVenues.add(location);
+                    if (location.getCourtEpimmsId() != null) {
+                        familyVenuesById.putIfAbsent(location.getCourtEpimmsId().toLowerCase(Locale.ROOT), location);
+                    }
+                }
+            }
+            this.courtLocations = familyVenues.stream()
+                .filter(courtFilter::includes)
+                .map(location -> displayEntry(location, courtFilter))
+                .sorted(Comparator.comparing(DynamicListElement::getLabel, Comparator.naturalOrder()))
+                .toList();
+            this.daCourtLocations = familyVenues.stream()
+                .filter(daCourtFilter::includes)
+                .map(location -> displayEntry(location, daCourtFilter))
+                .toList();
+            this.filteredCourtLocations = familyVenues.stream()
+                .filter(courtFilter::isOnboarded)
+                .map(location -> displayEntry(location, courtFilter))
+                .toList();
+            // the onboarded DA list has always been keyed with the flags from courts.filter
+            this.daFilteredCourtLocations = familyVenues.stream()
+                .filter(daCourtFilter::isOnboarded)
+                .map(location -> displayEntry(location, courtFilter))
+                .toList();
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader.InvalidCacheLoadException;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.config.OrganisationCacheConfiguration;
+import uk.gov.hmcts.reform.prl.models.Organisations;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ *  Organisation details from PRD, shared by every flow that looks up a solicitor organisation.
+ *  Organisations are kept for a TTL in a size bounded cache, least recently used first out,
+ *  and organisations PRD does not know (404) are remembered for a shorter time.
+ *  Hit/miss counts are published as the organisationDetailsCache and organisationNotFoundCache metrics.
+ */
+@Slf4j
+@Component
+public class OrganisationDetailsCache {
+
+    public static final String ORGANISATION_DETAILS_CACHE = "organisationDetailsCache";
+
+    public static final String ORGANISATION_NOT_FOUND_CACHE = "organisationNotFoundCache";
+
+    private final Cache<String, Organisations> organisations;
+
+    private final Cache<String, FeignException.NotFound> notFoundOrganisations;
+
+    @Autowired
+    public OrganisationDetailsCache(OrganisationCacheConfiguration configuration, MeterRegistry meterRegistry) {
+        this.organisations = CacheBuilder.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfterWrite(configuration.getTtlMinutes(), TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+        this.notFoundOrganisations = CacheBuilder.newBuilder()
+            .maximumSize(configuration.getMaximumSize())
+            .expireAfterWrite(configuration.getNotFoundTtlMinutes(), TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+        GuavaCacheMetrics.monitor(meterRegistry, organisations, ORGANISATION_DETAILS_CACHE);
+        GuavaCacheMetrics.monitor(meterRegistry, notFoundOrganisations, ORGANISATION_NOT_FOUND_CACHE);
+    }
+
+    /**
+     *  Returns the cached organisation, or loads it. Concurrent lookups of the same organisation
+     *  share a single load. A cached 404 is thrown again as a new FeignException.NotFound.
+     *
+     * @param organisationId PRD organisation id
+     * @param loader PRD lookup for the organisation
+     * @return organisation details, null if PRD returned no body
+     */
+    public Organisations get(String organisationId, Supplier<Organisations> loader) {
+        FeignException.NotFound notFound = notFoundOrganisations.getIfPresent(organisationId);
+        if (notFound != null) {
+            log.trace("Organisation {} not found in PRD (cached)", organisationId);
+            throw new FeignException.NotFound(notFound.getMessage(), notFound.request(), null, null);
+        }
+        try {
+            return organisations.get(organisationId, loader::get);
+        } catch (InvalidCacheLoadException e) {
+            // nothing to cache, callers already cope with a null organisation
+            return null;
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof FeignException.NotFound) {
+                notFoundOrganisations.put(organisationId, (FeignException.NotFound) e.getCause());
+            }
+            throw (RuntimeException) e.getCause();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -30,6 +30,7 @@ public class OrganisationService {
     private Organisations organisations;
     private final AuthTokenGenerator authTokenGenerator;
     private final SystemUserService systemUserService;
+    private final OrganisationDetailsCache organisationDetailsCache;
     private List<Element<PartyDetails>> applicantsWithOrganisationDetails = new ArrayList<>();
 
     public CaseData getApplicantOrganisationDetails(CaseData caseData) {
@@ -98,9 +99,15 @@ public class OrganisationService {
         return respondent;
     }
 
+    /**
+     *  Organisation details are the same whichever user asks for them, so they are served from the
+     *  shared {@link OrganisationDetailsCache} and PRD is only called on a miss.
+     */
     public Organisations getOrganisationDetails(String userToken, String organisationID) {
-        log.trace("Fetching organisation details for organisation id: {}", organisationID);
-        return organisationApi.findOrganisation(userToken, authTokenGenerator.generate(), organisationID);
+        return organisationDetailsCache.get(organisationID, () -> {
+            log.trace("Fetching organisation details for organisation id: {}", organisationID);
+            return organisationApi.findOrganisation(userToken, authTokenGenerator.generate(), organisationID);
+        });
     }
 
     public OrgSolicitors getOrganisationSolicitorDetails(String userToken, String organisationID) {
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.TokenResponse;
+
+import java.util.function.LongSupplier;
+
+/**
+ *  IDAM token of the ref data user, used for the staff and judicial ref data APIs. The token is kept
+ *  by an {@link IdamTokenHolder} until prl.refdata.refresh-before-expiry-seconds before it expires,
+ *  instead of logging the ref data user in for every call.
+ */
+@Component
+public class RefDataAccessTokenHolder {
+
+    private static final String BEARER = "Bearer ";
+
+    private final IdamClient idamClient;
+
+    private final String refDataIdamUsername;
+
+    private final String refDataIdamPassword;
+
+    private final IdamTokenHolder<String> tokenHolder;
+
+    @Autowired
+    public RefDataAccessTokenHolder(IdamClient idamClient,
+                                    @Value("${prl.refdata.username}") String refDataIdamUsername,
+                                    @Value("${prl.refdata.password}") String refDataIdamPassword,
+                                    @Value("${prl.refdata.refresh-before-expiry-seconds}") long refreshBeforeExpirySeconds) {
+        this(idamClient, refDataIdamUsername, refDataIdamPassword, refreshBeforeExpirySeconds, System::currentTimeMillis);
+    }
+
+    RefDataAccessTokenHolder(IdamClient idamClient,
+                             String refDataIdamUsername,
+                             String refDataIdamPassword,
+                             long refreshBeforeExpirySeconds,
+                             LongSupplier clock) {
+        this.idamClient = idamClient;
+        this.refDataIdamUsername = refDataIdamUsername;
+        this.refDataIdamPassword = refDataIdamPassword;
+        this.tokenHolder = new IdamTokenHolder<>("ref data user", this::fetch, refreshBeforeExpirySeconds, clock);
+    }
+
+    public String getAccessToken() {
+        return tokenHolder.get();
+    }
+
+    private IdamTokenHolder.Fetched<String> fetch() {
+        TokenResponse tokenResponse = idamClient.getAccessTokenResponse(refDataIdamUsername, refDataIdamPassword);
+        return new IdamTokenHolder.Fetched<>(BEARER + tokenResponse.accessToken, tokenResponse);
+    }
+}
@@ -2,15 +2,13 @@ package uk.gov.hmcts.reform.prl.services;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.prl.clients.CommonDataRefApi;
 import uk.gov.hmcts.reform.prl.clients.JudicialUserDetailsApi;
-import uk.gov.hmcts.reform.prl.clients.StaffResponseDetailsApi;
 import uk.gov.hmcts.reform.prl.config.launchdarkly.LaunchDarklyClient;
 import uk.gov.hmcts.reform.prl.models.common.dynamic.DynamicListElement;
 import uk.gov.hmcts.reform.prl.models.dto.datamigration.caseflag.CaseFlag;
@@ -21,63 +19,34 @@ import uk.gov.hmcts.reform.prl.models.dto.judicial.JudicialUsersApiRequest;
 import uk.gov.hmcts.reform.prl.models.dto.judicial.JudicialUsersApiResponse;
 import uk.gov.hmcts.reform.prl.models.dto.legalofficer.StaffResponse;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static org.apache.logging.log4j.util.Strings.concat;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.LEGALOFFICE;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_FIRST_PAGE;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_PAGE_SIZE;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_SECOND_PAGE;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_TOTAL_RECORDS_HEADER;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.SERVICENAME;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.SERVICE_ID;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.STAFFORDERASC;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.STAFFSORTCOLUMN;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class RefDataUserService {
+    private static final String JUDICIAL_API_V1 = "v1";
+    private static final String JUDICIAL_API_V2 = "v2";
+    private static final String CASE_FLAGS_CATALOGUE = "caseFlags";
+
     private final AuthTokenGenerator authTokenGenerator;
-    private final StaffResponseDetailsApi staffResponseDetailsApi;
     private final JudicialUserDetailsApi judicialUserDetailsApi;
-    private final IdamClient idamClient;
+    private final RefDataAccessTokenHolder refDataAccessTokenHolder;
+    private final StaffDirectoryService staffDirectoryService;
+    private final JudicialUserDirectory judicialUserDirectory;
     private final CommonDataRefApi commonDataRefApi;
     private final LaunchDarklyClient launchDarklyClient;
-
-    @Value("${prl.refdata.username}")
-    private String refDataIdamUsername;
-    @Value("${prl.refdata.password}")
-    private String refDataIdamPassword;
-
-    private List<DynamicListElement> listOfCategoryValues;
-    private CommonDataResponse commonDataResponse;
-
-    private CaseFlag caseFlag;
+    private final ReferenceCatalogueCache referenceCatalogueCache;
 
     public List<DynamicListElement> getLegalAdvisorList() {
         try {
-            ResponseEntity<List<StaffResponse>> response = getStaffResponse(RD_STAFF_FIRST_PAGE);
-            if (null != response) {
-                Optional<String> totalRecordsStr = Optional.ofNullable(response.getHeaders().getFirst(
-                    RD_STAFF_TOTAL_RECORDS_HEADER));
-                int totalRecords = totalRecordsStr.map(Integer::parseInt).orElse(0);
-                if (totalRecords > 0 && totalRecords < RD_STAFF_PAGE_SIZE) {
-                    return onlyLegalAdvisor(response.getBody());
-                } else {
-                    List<DynamicListElement> listOfLegalAdvisors = onlyLegalAdvisor(response.getBody());
-                    int noOfPages = (int) Math.ceil(totalRecords / (double) RD_STAFF_PAGE_SIZE);
-                    for (int pageNumber = RD_STAFF_SECOND_PAGE; pageNumber < noOfPages; pageNumber++) {
-                        listOfLegalAdvisors.addAll(onlyLegalAdvisor(getStaffResponse(pageNumber).getBody()));
-                    }
-                    return listOfLegalAdvisors;
-                }
-
-            }
+            return staffDirectoryService.getLegalAdvisers();
         } catch (Exception e) {
             log.error("Staff details Lookup Failed - {}", e);
         }
@@ -85,57 +54,55 @@ public class RefDataUserService {
     }
 
     public ResponseEntity<List<StaffResponse>> getStaffResponse(int pageNumber) {
-        return staffResponseDetailsApi.getAllStaffResponseDetails(
-            idamClient.getAccessToken(refDataIdamUsername, refDataIdamPassword),
-            authTokenGenerator.generate(),
-            SERVICENAME,
-            STAFFSORTCOLUMN,
-            STAFFORDERASC,
-            RD_STAFF_PAGE_SIZE,
-            pageNumber
-        );
+        return staffDirectoryService.getStaffResponse(pageNumber);
     }
 
     public List<JudicialUsersApiResponse> getAllJudicialUserDetails(JudicialUsersApiRequest judicialUsersApiRequest) {
-        if (launchDarklyClient.isFeatureEnabled("judicial-v2-change")) {
+        final boolean v2 = launchDarklyClient.isFeatureEnabled("judicial-v2-change");
+        if (null == judicialUsersApiRequest.getCcdServiceName() && null != judicialUsersApiRequest.getPersonalCode()
+            && Arrays.stream(judicialUsersApiRequest.getPersonalCode()).anyMatch(StringUtils::isNotBlank)) {
+            // personal code lookups go through the cache, only codes not seen recently reach the API
+            return judicialUserDirectory.resolve(
+                v2 ? JUDICIAL_API_V2 : JUDICIAL_API_V1,
+                Arrays.asList(judicialUsersApiRequest.getPersonalCode()),
+                personalCodes -> retrieveJudicialUserDetails(
+                    v2, JudicialUsersApiRequest.builder().personalCode(personalCodes).build())
+            );
+        }
+        return retrieveJudicialUserDetails(v2, judicialUsersApiRequest);
+    }
+
+    private List<JudicialUsersApiResponse> retrieveJudicialUserDetails(boolean v2, JudicialUsersApiRequest judicialUsersApiRequest) {
+        if (v2) {
             log.info("Refdata Judicial API V2 called and LD flag is ON");
             return judicialUserDetailsApi.getAllJudicialUserDetailsV2(
-                idamClient.getAccessToken(refDataIdamUsername, refDataIdamPassword),
+                refDataAccessTokenHolder.getAccessToken(),
                 authTokenGenerator.generate(),
                 judicialUsersApiRequest
             );
         }
         log.info("Refdata Judicial API V1 called and LD flag is OFF");
         return judicialUserDetailsApi.getAllJudicialUserDetails(
-            idamClient.getAccessToken(refDataIdamUsername, refDataIdamPassword),
+            refDataAccessTokenHolder.getAccessToken(),
             authTokenGenerator.generate(),
             judicialUsersApiRequest
         );
     }
 
-    private List<DynamicListElement> onlyLegalAdvisor(List<StaffResponse> listOfStaffResponse) {
-        if (null != listOfStaffResponse) {
-            return listOfStaffResponse.stream()
-                .filter(response -> response.getStaffProfile().getUserType().equalsIgnoreCase(LEGALOFFICE))
-                .map(this::getDisplayEntry).collect(Collectors.toList());
-        }
-        return List.of(DynamicListElement.builder().build());
-    }
-
-    private DynamicListElement getDisplayEntry(StaffResponse staffResponse) {
-        String value = concat(staffResponse.getStaffProfile().getLastName(),"(").concat(staffResponse.getStaffProfile().getEmailId()).concat(")");
-        return DynamicListElement.builder().code(value).label(value).build();
-    }
-
     public CommonDataResponse retrieveCategoryValues(String authorization, String categoryId,String isHearingChildRequired) {
         log.info("retrieveCategoryValues {}", categoryId);
+        CommonDataResponse commonDataResponse = null;
         try {
-            commonDataResponse = commonDataRefApi.getAllCategoryValuesByCategoryId(
-                authorization,
-                authTokenGenerator.generate(),
+            commonDataResponse = referenceCatalogueCache.get(
                 categoryId,
-                SERVICE_ID,
-                isHearingChildRequired
+                isHearingChildRequired,
+                () -> commonDataRefApi.getAllCategoryValuesByCategoryId(
+                    authorization,
+                    authTokenGenerator.generate(),
+                    categoryId,
+                    SERVICE_ID,
+                    isHearingChildRequired
+                )
             );
 
         } catch (Exception e) {
@@ -147,12 +114,17 @@ public class RefDataUserService {
 
     public CaseFlag retrieveCaseFlags(String authorization, String flagType) {
         log.info("retrieve case flags for flag type{} ", flagType);
+        CaseFlag caseFlag = null;
         try {
-            caseFlag = commonDataRefApi.retrieveCaseFlagsByServiceId(
-                authorization,
-                authTokenGenerator.generate(),
-                SERVICE_ID,
-                flagType
+            caseFlag = referenceCatalogueCache.get(
+                CASE_FLAGS_CATALOGUE,
+                flagType,
+                () -> commonDataRefApi.retrieveCaseFlagsByServiceId(
+                    authorization,
+                    authTokenGenerator.generate(),
+                    SERVICE_ID,
+                    flagType
+                )
             );
         } catch (Exception e) {
             log.error("Case flags Values look up failed {} ", e);
@@ -162,7 +134,7 @@ public class RefDataUserService {
 
     public List<DynamicListElement> filterCategoryValuesByCategoryId(CommonDataResponse commonDataResponse,String categoryId) {
         if (null != commonDataResponse) {
-            listOfCategoryValues = commonDataResponse.getCategoryValues().stream()
+            List<DynamicListElement> listOfCategoryValues = commonDataResponse.getCategoryValues().stream()
                 .filter(response -> response.getCategoryKey().equalsIgnoreCase(categoryId))
                 .map(this::getDisplayCategoryEntry).collect(Collectors.toList());
             Collections.sort(listOfCategoryValues, (a, b) -> a.getCode().compareToIgnoreCase(b.getCode()));
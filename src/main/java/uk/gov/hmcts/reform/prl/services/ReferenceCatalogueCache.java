@@ -0,0 +1,169 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.config.ReferenceCatalogueConfiguration;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ *  Near static reference catalogues from common data, such as hearing types, hearing channels and
+ *  the case flag tree. Each catalogue is kept for the TTL of its category, set under
+ *  commonData.catalogue.ttl-minutes with commonData.catalogue.default-ttl-minutes for the rest.
+ *  Once a catalogue is older than that it is reloaded in the background, with the token of the
+ *  call that found it stale, while callers keep getting the cached catalogue. A failed or empty
+ *  first load is never cached, and a failed reload keeps the catalogue already held.
+ */
+@Slf4j
+@Component
+public class ReferenceCatalogueCache {
+
+    private final ReferenceCatalogueConfiguration configuration;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ExecutorService refreshExecutor =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("reference-catalogue-refresh-"));
+
+    public ReferenceCatalogueCache(ReferenceCatalogueConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     *  Returns the cached catalogue, loading it on first use.
+     *
+     * @param category category the TTL is looked up by
+     * @param key catalogue within the category, e.g. whether child values are included
+     * @param loader common data lookup, may throw or return null when the catalogue is unavailable
+     * @return the catalogue, null if it is not cached and could not be loaded
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String category, String key, Supplier<T> loader) {
+        final String cacheKey = cacheKey(category, key);
+        Entry entry = entries.get(cacheKey);
+        if (entry == null) {
+            T value = loader.get();
+            if (value != null) {
+                entries.put(cacheKey, new Entry(category, value, ttlMillis(category)));
+            }
+            return value;
+        }
+        if (entry.isStale(System.currentTimeMillis()) && entry.refreshing.compareAndSet(false, true)) {
+            refreshInBackground(cacheKey, entry, loader);
+        }
+        return (T) entry.value;
+    }
+
+    public List<EntryDetails> getEntries() {
+        final long now = System.currentTimeMillis();
+        return entries.entrySet().stream()
+            .map(entry -> entry.getValue().details(entry.getKey(), now))
+            .sorted(Comparator.comparing(EntryDetails::key))
+            .toList();
+    }
+
+    public EntryDetails getEntry(String cacheKey) {
+        Entry entry = entries.get(cacheKey);
+        return entry == null ? null : entry.details(cacheKey, System.currentTimeMillis());
+    }
+
+    /**
+     *  Marks the catalogue as stale, so the next call for it reloads it in the background.
+     *
+     * @param cacheKey key as listed by {@link #getEntries()}
+     * @return the catalogue details, null if it is not cached
+     */
+    public EntryDetails requestRefresh(String cacheKey) {
+        Entry entry = entries.get(cacheKey);
+        if (entry == null) {
+            return null;
+        }
+        entry.refreshRequested = true;
+        log.info("Refresh requested for reference catalogue {}", cacheKey);
+        return entry.details(cacheKey, System.currentTimeMillis());
+    }
+
+    public boolean evict(String cacheKey) {
+        boolean evicted = entries.remove(cacheKey) != null;
+        if (evicted) {
+            log.info("Evicted reference catalogue {}", cacheKey);
+        }
+        return evicted;
+    }
+
+    private void refreshInBackground(String cacheKey, Entry entry, Supplier<?> loader) {
+        refreshExecutor.execute(() -> {
+            try {
+                Object value = loader.get();
+                if (value != null) {
+                    // replace only the entry that was found stale, an evicted one stays evicted
+                    entries.replace(cacheKey, entry, new Entry(entry.category, value, ttlMillis(entry.category)));
+                } else {
+                    log.warn("No response refreshing reference catalogue {}, using cached catalogue", cacheKey);
+                }
+            } catch (Exception e) {
+                log.warn("Could not refresh reference catalogue {}, using cached catalogue", cacheKey, e);
+            } finally {
+                entry.refreshing.set(false);
+            }
+        });
+    }
+
+    private long ttlMillis(String category) {
+        return TimeUnit.MINUTES.toMillis(configuration.ttlMinutesFor(category));
+    }
+
+    private static String cacheKey(String category, String key) {
+        return key == null ? category : category + ":" + key;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public record EntryDetails(String key, String category, Instant loadedAt, long ttlMinutes, boolean stale,
+                               boolean refreshing) {
+    }
+
+    private static final class Entry {
+
+        private final String category;
+
+        private final Object value;
+
+        private final long loadedAt = System.currentTimeMillis();
+
+        private final long ttlMillis;
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private volatile boolean refreshRequested;
+
+        private Entry(String category, Object value, long ttlMillis) {
+            this.category = category;
+            this.value = value;
+            this.ttlMillis = ttlMillis;
+        }
+
+        private boolean isStale(long now) {
+            return refreshRequested || now - loadedAt >= ttlMillis;
+        }
+
+        private EntryDetails details(String key, long now) {
+            return new EntryDetails(key, category, Instant.ofEpochMilli(loadedAt),
+                                    TimeUnit.MILLISECONDS.toMinutes(ttlMillis), isStale(now), refreshing.get());
+        }
+    }
+}
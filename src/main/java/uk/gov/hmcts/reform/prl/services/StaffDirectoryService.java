@@ -0,0 +1,195 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.prl.clients.StaffResponseDetailsApi;
+import uk.gov.hmcts.reform.prl.config.StaffDirectoryConfiguration;
+import uk.gov.hmcts.reform.prl.models.common.dynamic.DynamicListElement;
+import uk.gov.hmcts.reform.prl.models.dto.legalofficer.StaffResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.apache.logging.log4j.util.Strings.concat;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.LEGALOFFICE;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_FIRST_PAGE;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_PAGE_SIZE;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_SECOND_PAGE;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_TOTAL_RECORDS_HEADER;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.SERVICENAME;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.STAFFORDERASC;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.STAFFSORTCOLUMN;
+
+/**
+ *  Legal advisers from the RD staff API. The first page says how many staff there are, the rest of
+ *  the pages are then fetched together, at most staffDetails.directory.max-concurrent-pages at a time.
+ *  The list is cached, and once it is older than staffDetails.directory.refresh-after-minutes it is
+ *  reloaded in the background while callers keep getting the cached list. A failed load is never
+ *  cached, so a partial list is not served.
+ */
+@Slf4j
+@Service
+public class StaffDirectoryService {
+
+    private final StaffResponseDetailsApi staffResponseDetailsApi;
+
+    private final AuthTokenGenerator authTokenGenerator;
+
+    private final RefDataAccessTokenHolder refDataAccessTokenHolder;
+
+    private final long refreshAfterNanos;
+
+    private final ExecutorService pageExecutor;
+
+    private final ExecutorService refreshExecutor =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("staff-directory-refresh-"));
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile LegalAdvisers legalAdvisers;
+
+    public StaffDirectoryService(StaffResponseDetailsApi staffResponseDetailsApi,
+                                 AuthTokenGenerator authTokenGenerator,
+                                 RefDataAccessTokenHolder refDataAccessTokenHolder,
+                                 StaffDirectoryConfiguration configuration) {
+        this.staffResponseDetailsApi = staffResponseDetailsApi;
+        this.authTokenGenerator = authTokenGenerator;
+        this.refDataAccessTokenHolder = refDataAccessTokenHolder;
+        this.refreshAfterNanos = TimeUnit.MINUTES.toNanos(configuration.getRefreshAfterMinutes());
+        this.pageExecutor = Executors.newFixedThreadPool(
+            configuration.getMaxConcurrentPages(),
+            new CustomizableThreadFactory("staff-directory-")
+        );
+    }
+
+    public List<DynamicListElement> getLegalAdvisers() {
+        LegalAdvisers current = legalAdvisers;
+        if (current == null) {
+            synchronized (this) {
+                current = legalAdvisers;
+                if (current == null) {
+                    current = new LegalAdvisers(loadLegalAdvisers());
+                    legalAdvisers = current;
+                }
+            }
+        } else if (current.isDueForRefresh() && refreshing.compareAndSet(false, true)) {
+            refreshInBackground();
+        }
+        return current.list;
+    }
+
+    public ResponseEntity<List<StaffResponse>> getStaffResponse(int pageNumber) {
+        return getStaffResponse(refDataAccessTokenHolder.getAccessToken(), authTokenGenerator.generate(), pageNumber);
+    }
+
+    private ResponseEntity<List<StaffResponse>> getStaffResponse(String authorisation, String serviceAuthorisation,
+                                                                 int pageNumber) {
+        return staffResponseDetailsApi.getAllStaffResponseDetails(
+            authorisation,
+            serviceAuthorisation,
+            SERVICENAME,
+            STAFFSORTCOLUMN,
+            STAFFORDERASC,
+            RD_STAFF_PAGE_SIZE,
+            pageNumber
+        );
+    }
+
+    private void refreshInBackground() {
+        refreshExecutor.execute(() -> {
+            try {
+                legalAdvisers = new LegalAdvisers(loadLegalAdvisers());
+            } catch (Exception e) {
+                log.warn("Could not refresh legal advisers, using cached list", e);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private List<DynamicListElement> loadLegalAdvisers() {
+        final String authorisation = refDataAccessTokenHolder.getAccessToken();
+        final String serviceAuthorisation = authTokenGenerator.generate();
+        ResponseEntity<List<StaffResponse>> firstPage = getStaffResponse(authorisation, serviceAuthorisation, RD_STAFF_FIRST_PAGE);
+        if (null == firstPage) {
+            throw new IllegalStateException("No response from staff ref data");
+        }
+        int totalRecords = Optional.ofNullable(firstPage.getHeaders().getFirst(RD_STAFF_TOTAL_RECORDS_HEADER))
+            .map(Integer::parseInt).orElse(0);
+        int noOfPages = (int) Math.ceil(totalRecords / (double) RD_STAFF_PAGE_SIZE);
+
+        List<Future<List<DynamicListElement>>> remainingPages = new ArrayList<>();
+        for (int pageNumber = RD_STAFF_SECOND_PAGE; pageNumber < noOfPages; pageNumber++) {
+            final int page = pageNumber;
+            remainingPages.add(pageExecutor.submit(
+                () -> onlyLegalAdvisers(getStaffResponse(authorisation, serviceAuthorisation, page).getBody())
+            ));
+        }
+        List<DynamicListElement> listOfLegalAdvisers = new ArrayList<>(onlyLegalAdvisers(firstPage.getBody()));
+        try {
+            // pages are added in page order so the list is the same as when they were fetched one by one
+            for (Future<List<DynamicListElement>> page : remainingPages) {
+                listOfLegalAdvisers.addAll(page.get());
+            }
+        } catch (ExecutionException e) {
+            // the pages still queued are dropped and the ones being fetched are interrupted
+            remainingPages.forEach(page -> page.cancel(true));
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            remainingPages.forEach(page -> page.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        log.info("Loaded {} legal advisers from {} staff pages", listOfLegalAdvisers.size(), Math.max(noOfPages, 1));
+        return List.copyOf(listOfLegalAdvisers);
+    }
+
+    private static List<DynamicListElement> onlyLegalAdvisers(List<StaffResponse> listOfStaffResponse) {
+        if (null == listOfStaffResponse) {
+            return List.of();
+        }
+        return listOfStaffResponse.stream()
+            .filter(response -> response.getStaffProfile().getUserType().equalsIgnoreCase(LEGALOFFICE))
+            .map(StaffDirectoryService::getDisplayEntry)
+            .toList();
+    }
+
+    private static DynamicListElement getDisplayEntry(StaffResponse staffResponse) {
+        String value = concat(staffResponse.getStaffProfile().getLastName(), "(")
+            .concat(staffResponse.getStaffProfile().getEmailId()).concat(")");
+        return DynamicListElement.builder().code(value).label(value).build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+        pageExecutor.shutdownNow();
+    }
+
+    private final class LegalAdvisers {
+
+        private final List<DynamicListElement> list;
+
+        private final long loadedAt = System.nanoTime();
+
+        private LegalAdvisers(List<DynamicListElement> list) {
+            this.list = list;
+        }
+
+        private boolean isDueForRefresh() {
+            return System.nanoTime() - loadedAt >= refreshAfterNanos;
+        }
+    }
+}
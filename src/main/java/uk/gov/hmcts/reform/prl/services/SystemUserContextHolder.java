@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.TokenResponse;
+import uk.gov.hmcts.reform.prl.config.SystemUserConfiguration;
+import uk.gov.hmcts.reform.prl.models.user.SystemUserContext;
+
+import java.util.function.LongSupplier;
+
+/**
+ *  Holds the system update user's token and IDAM id, fetched together and kept by an
+ *  {@link IdamTokenHolder} until prl.system-update.refresh-before-expiry-seconds before the token expires.
+ */
+@Component
+public class SystemUserContextHolder {
+
+    private static final String BEARER = "Bearer ";
+
+    private final IdamClient idamClient;
+
+    private final SystemUserConfiguration userConfig;
+
+    private final Timer refreshTimer;
+
+    private final Counter refreshFailures;
+
+    private final IdamTokenHolder<SystemUserContext> tokenHolder;
+
+    @Autowired
+    public SystemUserContextHolder(IdamClient idamClient,
+                                   SystemUserConfiguration userConfig,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${prl.system-update.refresh-before-expiry-seconds}") long refreshBeforeExpirySeconds) {
+        this(idamClient, userConfig, meterRegistry, refreshBeforeExpirySeconds, System::currentTimeMillis);
+    }
+
+    SystemUserContextHolder(IdamClient idamClient,
+                            SystemUserConfiguration userConfig,
+                            MeterRegistry meterRegistry,
+                            long refreshBeforeExpirySeconds,
+                            LongSupplier clock) {
+        this.idamClient = idamClient;
+        this.userConfig = userConfig;
+        this.refreshTimer = Timer.builder("prl.system_user.refresh")
+            .description("Time taken to fetch the system user token and user id from IDAM")
+            .register(meterRegistry);
+        this.refreshFailures = Counter.builder("prl.system_user.refresh.failures")
+            .description("Failed attempts to fetch the system user token and user id from IDAM")
+            .register(meterRegistry);
+        this.tokenHolder = new IdamTokenHolder<>("system user", this::fetch, refreshBeforeExpirySeconds, clock);
+    }
+
+    public SystemUserContext get() {
+        return tokenHolder.get();
+    }
+
+    /**
+     *  Current context if it has not expired, without going to IDAM.
+     */
+    public SystemUserContext getIfValid() {
+        return tokenHolder.getIfValid();
+    }
+
+    private IdamTokenHolder.Fetched<SystemUserContext> fetch() {
+        try {
+            return refreshTimer.record(() -> {
+                TokenResponse tokenResponse = idamClient.getAccessTokenResponse(
+                    userConfig.getUserName(),
+                    userConfig.getPassword()
+                );
+                String authorisation = BEARER + tokenResponse.accessToken;
+                String userId = idamClient.getUserInfo(authorisation).getUid();
+                return new IdamTokenHolder.Fetched<>(new SystemUserContext(authorisation, userId), tokenResponse);
+            });
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            throw e;
+        }
+    }
+}
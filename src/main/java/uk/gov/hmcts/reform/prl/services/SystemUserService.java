@@ -3,40 +3,36 @@ package uk.gov.hmcts.reform.prl.services;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.OAuth2Configuration;
-import uk.gov.hmcts.reform.prl.config.SystemUserConfiguration;
+import uk.gov.hmcts.reform.prl.models.user.SystemUserContext;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor(onConstructor_ = {@Autowired})
 public class SystemUserService {
 
-    public static final String SYS_USER_CACHE = "systemUserCache";
-
     private final OAuth2Configuration auth;
 
-    private final SystemUserConfiguration userConfig;
-
     private final IdamClient idamClient;
 
-    @Cacheable(cacheNames = SYS_USER_CACHE)
+    private final SystemUserContextHolder systemUserContextHolder;
+
     public String getSysUserToken() {
-        log.info("Fetching system user token");
-        return idamClient.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+        return systemUserContextHolder.get().authorisation();
     }
 
-    @CacheEvict(allEntries = true, cacheNames = SYS_USER_CACHE)
-    @Scheduled(fixedDelay = 1800000)
-    public void cacheEvict() {
-        log.info("Evicting system user cron cache");
+    public SystemUserContext getSystemUserContext() {
+        return systemUserContextHolder.get();
     }
 
     public String getUserId(String userToken) {
+        // the system user's id is fetched with its token, any other token still goes to IDAM
+        SystemUserContext systemUserContext = systemUserContextHolder.getIfValid();
+        if (systemUserContext != null && systemUserContext.authorisation().equals(userToken)) {
+            return systemUserContext.userId();
+        }
         return idamClient.getUserInfo(userToken).getUid();
     }
 }
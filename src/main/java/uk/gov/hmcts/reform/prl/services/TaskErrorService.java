@@ -19,13 +19,18 @@ import java.util.Map;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class TaskErrorService {
 
-    Map<EventErrorsEnum, EventValidationErrors> eventErrors = new EnumMap<>(EventErrorsEnum.class);
+    /**
+     *  Errors left by the checkers of the task list being worked out on this thread. Task lists of
+     *  different cases are refreshed at the same time, so each thread keeps its own errors.
+     */
+    final ThreadLocal<Map<EventErrorsEnum, EventValidationErrors>> eventErrors =
+        ThreadLocal.withInitial(() -> new EnumMap<>(EventErrorsEnum.class));
 
     public List<EventValidationErrors> getEventErrors(CaseData caseData) {
 
         List<EventValidationErrors> eventErrorList = new ArrayList<>();
 
-        for (Map.Entry<EventErrorsEnum, EventValidationErrors> entry : eventErrors.entrySet()) {
+        for (Map.Entry<EventErrorsEnum, EventValidationErrors> entry : eventErrors.get().entrySet()) {
             eventErrorList.add(entry.getValue());
         }
         eventErrorList.sort(Comparator.comparingInt(x -> Event.getEventOrder(caseData)
@@ -34,7 +39,7 @@ public class TaskErrorService {
     }
 
     public void addEventError(Event event, EventErrorsEnum errorType, String error) {
-        eventErrors.put(errorType, EventValidationErrors
+        eventErrors.get().put(errorType, EventValidationErrors
                                     .builder()
                                     .event(event)
                                     .errors(Collections.singletonList(error))
@@ -43,11 +48,11 @@ public class TaskErrorService {
 
 
     public void removeError(EventErrorsEnum errorType) {
-        eventErrors.remove(errorType);
+        eventErrors.get().remove(errorType);
     }
 
     public void clearErrors() {
-        eventErrors.clear();
+        eventErrors.remove();
     }
 
 }
@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.prl.utils.HashGenerator;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ *  Results of checking user tokens with IDAM and service tokens with S2S, so a token that has
+ *  already been checked is not sent back for every call made with it. Entries are keyed by a
+ *  SHA-256 hash of the token, never the token itself, and are dropped when the token expires
+ *  or after private-law.token-cache.max-ttl-seconds, whichever comes first. Only tokens that
+ *  were accepted are cached.
+ */
+@Slf4j
+@Component
+public class TokenIntrospectionCache {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final long maxTtlMillis;
+
+    private final Cache<String, Introspection<UserInfo>> userTokens;
+
+    private final Cache<String, Introspection<String>> serviceTokens;
+
+    public TokenIntrospectionCache(@Value("${private-law.token-cache.maximum-size}") long maximumSize,
+                                   @Value("${private-law.token-cache.max-ttl-seconds}") long maxTtlSeconds) {
+        this.maxTtlMillis = TimeUnit.SECONDS.toMillis(maxTtlSeconds);
+        this.userTokens = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(maxTtlSeconds, TimeUnit.SECONDS)
+            .build();
+        this.serviceTokens = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(maxTtlSeconds, TimeUnit.SECONDS)
+            .build();
+    }
+
+    public UserInfo getUserInfo(String authorisation, Supplier<UserInfo> introspect) {
+        return get(userTokens, authorisation, introspect);
+    }
+
+    public String getServiceName(String serviceAuthorisation, Supplier<String> introspect) {
+        return get(serviceTokens, serviceAuthorisation, introspect);
+    }
+
+    private <T> T get(Cache<String, Introspection<T>> cache, String token, Supplier<T> introspect) {
+        final String key = hash(token);
+        final long now = System.currentTimeMillis();
+        Introspection<T> cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.result;
+        }
+        T result = introspect.get();
+        long expiresAt = Math.min(tokenExpiry(token), now + maxTtlMillis);
+        if (result != null && expiresAt > now) {
+            cache.put(key, new Introspection<>(result, expiresAt));
+        }
+        return result;
+    }
+
+    /**
+     *  Expiry of the token from its exp claim. The signature is not checked here, the claim is only
+     *  used to stop caching the token for longer than IDAM or S2S would accept it.
+     *
+     * @param token JWT, with or without the Bearer prefix
+     * @return expiry in epoch millis, 0 if the token has no readable expiry
+     */
+    private long tokenExpiry(String token) {
+        String jwt = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+        String[] parts = jwt.split("\\.");
+        if (parts.length < 2) {
+            return 0L;
+        }
+        try {
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            JsonNode exp = claims.get("exp");
+            return exp != null && exp.canConvertToLong() ? TimeUnit.SECONDS.toMillis(exp.asLong()) : 0L;
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Token has no readable expiry, not caching it");
+            return 0L;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            return HashGenerator.generatePasswordHash(token);
+        } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Introspection<T> {
+
+        private final T result;
+
+        private final long expiresAt;
+
+        private Introspection(T result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
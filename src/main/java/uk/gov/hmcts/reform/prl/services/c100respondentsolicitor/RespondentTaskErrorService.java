@@ -21,12 +21,16 @@ import java.util.Map;
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class RespondentTaskErrorService {
 
-    Map<RespondentEventErrorsEnum, RespondentEventValidationErrors> eventErrors = new EnumMap<>(
-            RespondentEventErrorsEnum.class);
+    /**
+     *  Errors left by the checkers of the task list being worked out on this thread. Task lists of
+     *  different cases are refreshed at the same time, so each thread keeps its own errors.
+     */
+    final ThreadLocal<Map<RespondentEventErrorsEnum, RespondentEventValidationErrors>> eventErrors =
+        ThreadLocal.withInitial(() -> new EnumMap<>(RespondentEventErrorsEnum.class));
 
     public List<RespondentEventValidationErrors> getEventErrors(CaseData caseData) {
         List<RespondentEventValidationErrors> eventErrorList = new ArrayList<>();
-        for (Map.Entry<RespondentEventErrorsEnum, RespondentEventValidationErrors> entry : eventErrors.entrySet()) {
+        for (Map.Entry<RespondentEventErrorsEnum, RespondentEventValidationErrors> entry : eventErrors.get().entrySet()) {
             eventErrorList.add(entry.getValue());
         }
         eventErrorList.sort(Comparator.comparingInt(x -> RespondentSolicitorEvents.getEventOrder(caseData)
@@ -35,7 +39,7 @@ public class RespondentTaskErrorService {
     }
 
     public void addEventError(RespondentSolicitorEvents event, RespondentEventErrorsEnum errorType, String error) {
-        eventErrors.put(errorType, RespondentEventValidationErrors
+        eventErrors.get().put(errorType, RespondentEventValidationErrors
                 .builder()
                 .event(event)
                 .errors(Collections.singletonList(error))
@@ -43,11 +47,11 @@ public class RespondentTaskErrorService {
     }
 
     public void removeError(RespondentEventErrorsEnum errorType) {
-        eventErrors.remove(errorType);
+        eventErrors.get().remove(errorType);
     }
 
     public void clearErrors() {
-        eventErrors.clear();
+        eventErrors.remove();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.prl.services.cafcass;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.config.cafcass.CafcassEnrichmentConfiguration;
+import uk.gov.hmcts.reform.prl.exception.cafcass.CafcassEnrichmentTimeoutException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ *  Runs the remote calls made while enriching the Cafcass search results on a bounded pool.
+ *  Each downstream service has its own limit on concurrent calls, shared by all requests,
+ *  so a large search cannot flood any one of them.
+ */
+@Component
+public class CafcassEnrichmentExecutor {
+
+    public enum Downstream {
+        HEARINGS,
+        REF_DATA,
+        ORGANISATIONS
+    }
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<Downstream, Semaphore> downstreamPermits = new EnumMap<>(Downstream.class);
+
+    private final long deadlineMillis;
+
+    @Autowired
+    public CafcassEnrichmentExecutor(CafcassEnrichmentConfiguration configuration) {
+        this.executor = new ThreadPoolExecutor(
+            configuration.getPoolSize(),
+            configuration.getPoolSize(),
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(configuration.getQueueCapacity()),
+            new CustomizableThreadFactory("cafcass-enrichment-"),
+            // when the queue is full the request thread makes the call itself, still within the downstream limit
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+        this.deadlineMillis = configuration.getDeadlineMillis();
+        downstreamPermits.put(Downstream.HEARINGS, new Semaphore(configuration.getMaxConcurrentHearingCalls(), true));
+        downstreamPermits.put(Downstream.REF_DATA, new Semaphore(configuration.getMaxConcurrentRefDataCalls(), true));
+        downstreamPermits.put(Downstream.ORGANISATIONS, new Semaphore(configuration.getMaxConcurrentOrganisationCalls(), true));
+    }
+
+    /**
+     *  Makes the remote call on the pool, within the limit of its downstream. Cancelling the returned
+     *  future, as {@link #await(long, CompletableFuture[])} does on a timeout, takes a call that has not
+     *  started off the queue and interrupts one that is running. A call blocked reading its response
+     *  only sees the interrupt when the client's own read timeout ends it, the permit and pool thread
+     *  are held until then.
+     */
+    public <T> CompletableFuture<T> supply(Downstream downstream, Supplier<T> remoteCall) {
+        Semaphore permits = downstreamPermits.get(downstream);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+                return;
+            }
+            try {
+                result.complete(remoteCall.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        }, null);
+        result.whenComplete((value, failure) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+                executor.remove(task);
+            }
+        });
+        executor.execute(task);
+        return result;
+    }
+
+    /**
+     *  Deadline for a single enrichment, to be passed to {@link #await(long, CompletableFuture[])}.
+     *
+     * @return deadline as a System.nanoTime() value
+     */
+    public long newDeadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+    }
+
+    /**
+     *  Waits for all the futures to complete before the deadline. The first failure is rethrown
+     *  as it was thrown by the remote call, so callers see the same exceptions as for a serial call.
+     *
+     * @param deadline value returned from {@link #newDeadline()}
+     * @param futures futures to wait for
+     */
+    public void await(long deadline, CompletableFuture<?>... futures) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures);
+        try {
+            all.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            for (CompletableFuture<?> future : futures) {
+                future.cancel(true);
+            }
+            throw new CafcassEnrichmentTimeoutException(
+                "Cafcass enrichment did not complete within " + deadlineMillis + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CafcassEnrichmentTimeoutException("Interrupted waiting for Cafcass enrichment", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
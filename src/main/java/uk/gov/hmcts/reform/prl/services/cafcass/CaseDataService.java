@@ -1,9 +1,5 @@
 package uk.gov.hmcts.reform.prl.services.cafcass;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +11,7 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.prl.enums.DocTypeOtherDocumentsEnum;
+import uk.gov.hmcts.reform.prl.exception.cafcass.InvalidSearchPageException;
 import uk.gov.hmcts.reform.prl.filter.cafcaas.CafCassFilter;
 import uk.gov.hmcts.reform.prl.mapper.CcdObjectMapper;
 import uk.gov.hmcts.reform.prl.models.Address;
@@ -25,6 +22,7 @@ import uk.gov.hmcts.reform.prl.models.dto.cafcass.ApplicantDetails;
 import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassCaseData;
 import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassCaseDetail;
 import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassResponse;
+import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassSearchCursor;
 import uk.gov.hmcts.reform.prl.models.dto.cafcass.CaseManagementLocation;
 import uk.gov.hmcts.reform.prl.models.dto.cafcass.Document;
 import uk.gov.hmcts.reform.prl.models.dto.cafcass.Element;
@@ -44,11 +42,22 @@ import uk.gov.hmcts.reform.prl.services.SystemUserService;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import static uk.gov.hmcts.reform.prl.constants.cafcass.CafcassAppConstants.LAST_MODIFIED_SORT_FIELD;
+import static uk.gov.hmcts.reform.prl.constants.cafcass.CafcassAppConstants.REFERENCE_SORT_FIELD;
+import static uk.gov.hmcts.reform.prl.constants.cafcass.CafcassAppConstants.SORT_ORDER_ASC;
+import static uk.gov.hmcts.reform.prl.services.cafcass.CafcassEnrichmentExecutor.Downstream.HEARINGS;
+import static uk.gov.hmcts.reform.prl.services.cafcass.CafcassEnrichmentExecutor.Downstream.ORGANISATIONS;
+import static uk.gov.hmcts.reform.prl.services.cafcass.CafcassEnrichmentExecutor.Downstream.REF_DATA;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
@@ -85,6 +94,8 @@ public class CaseDataService {
 
     private final OrganisationService organisationService;
 
+    private final CafcassEnrichmentExecutor enrichmentExecutor;
+
     public CafCassResponse getCaseData(String authorisation, String startDate, String endDate) throws IOException {
 
         log.info("Search API start date - {}, end date - {}", startDate, endDate);
@@ -95,77 +106,162 @@ public class CaseDataService {
             if (caseTypeList != null && !caseTypeList.isEmpty()) {
                 caseTypeList = caseTypeList.stream().map(String::trim).toList();
 
-                ObjectMapper objectMapper = CcdObjectMapper.getObjectMapper();
-                objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-                objectMapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
-                objectMapper.registerModule(new ParameterNamesModule());
-                objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+                final String s2sToken = authTokenGenerator.generate();
+                cafCassResponse = searchCases(buildCcdQueryParam(startDate, endDate), s2sToken);
 
-                QueryParam ccdQueryParam = buildCcdQueryParam(startDate, endDate);
-                String searchString = objectMapper.writeValueAsString(ccdQueryParam);
+                if (cafCassResponse.getCases() != null && !cafCassResponse.getCases().isEmpty()) {
+                    return enrichCafCassResponse(authorisation, s2sToken, cafCassResponse);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error in search cases {}", e);
+            throw e;
+        }
+        return cafCassResponse;
+    }
 
-                String userToken = systemUserService.getSysUserToken();
-                final String s2sToken = authTokenGenerator.generate();
-                SearchResult searchResult = cafcassCcdDataStoreService.searchCases(
-                    userToken,
-                    searchString,
-                    s2sToken,
-                    cafCassSearchCaseTypeId
-                );
+    /**
+     *  Paged variant of getCaseData. Cases are sorted on last modified date and reference
+     *  so that the search can resume after the last case of the previous page (search_after)
+     *  instead of being capped at a single result set.
+     *
+     * @param authorisation Authorisation header
+     * @param startDate start of the last modified window
+     * @param endDate end of the last modified window
+     * @param pageSize number of cases to search for in this page
+     * @param continuationToken token returned with the previous page, null for the first page
+     * @return CafCassResponse for the page, carrying the token for the next page if there may be more cases.
+     */
+    public CafCassResponse getCaseDataPage(String authorisation, String startDate, String endDate,
+                                           int pageSize, String continuationToken) throws IOException {
+
+        log.info("Paged search API start date - {}, end date - {}, page size - {}", startDate, endDate, pageSize);
+
+        if (pageSize < 1 || pageSize > Integer.parseInt(ccdElasticSearchApiResultSize.trim())) {
+            throw new InvalidSearchPageException("page_size must be between 1 and " + ccdElasticSearchApiResultSize);
+        }
+        CafCassSearchCursor searchAfter = continuationToken != null
+            ? CafCassSearchCursor.fromToken(continuationToken) : null;
 
-                cafCassResponse = objectMapper.convertValue(
-                    searchResult,
-                    CafCassResponse.class
-                );
+        CafCassResponse cafCassResponse = CafCassResponse.builder().cases(new ArrayList<>()).build();
 
-                if (cafCassResponse.getCases() != null && !cafCassResponse.getCases().isEmpty()) {
+        try {
+            if (caseTypeList != null && !caseTypeList.isEmpty()) {
+                caseTypeList = caseTypeList.stream().map(String::trim).toList();
+
+                QueryParam ccdQueryParam = buildCcdQueryParam(startDate, endDate);
+                ccdQueryParam.setSize(String.valueOf(pageSize));
+                ccdQueryParam.setSort(List.of(
+                    Map.of(LAST_MODIFIED_SORT_FIELD, SORT_ORDER_ASC),
+                    Map.of(REFERENCE_SORT_FIELD, SORT_ORDER_ASC)
+                ));
+                if (searchAfter != null) {
+                    ccdQueryParam.setSearchAfter(searchAfter.toSearchAfter());
+                }
 
-                    log.info("CCD Search Result Size --> {}", cafCassResponse.getTotal());
-                    cafCassFilter.filter(cafCassResponse);
-                    log.info("After applying filter Result Size --> {}", cafCassResponse.getTotal());
-                    CafCassResponse filteredCafcassData = getHearingDetailsForAllCases(authorisation, cafCassResponse);
-                    updateHearingResponse(authorisation, s2sToken, filteredCafcassData);
-                    updateSolicitorAddressForParties(filteredCafcassData);
-                    return CafCassResponse.builder()
-                        .cases(filteredCafcassData.getCases())
-                        .total(filteredCafcassData.getCases().size())
-                        .build();
+                final String s2sToken = authTokenGenerator.generate();
+                cafCassResponse = searchCases(ccdQueryParam, s2sToken);
+
+                List<CafCassCaseDetail> pageCases = cafCassResponse.getCases();
+                if (pageCases != null && !pageCases.isEmpty()) {
+                    // the cursor must come from the search page itself, before cases are filtered out
+                    String nextContinuationToken = pageCases.size() == pageSize
+                        ? CafCassSearchCursor.fromCase(pageCases.get(pageCases.size() - 1)).toToken() : null;
+                    cafCassResponse = enrichCafCassResponse(authorisation, s2sToken, cafCassResponse);
+                    cafCassResponse.setContinuationToken(nextContinuationToken);
                 }
             }
         } catch (Exception e) {
-            log.error("Error in search cases {}", e);
+            log.error("Error in paged search cases {}", e);
             throw e;
         }
         return cafCassResponse;
     }
 
-    private void updateSolicitorAddressForParties(CafCassResponse filteredCafcassData) {
+    private CafCassResponse searchCases(QueryParam ccdQueryParam, String s2sToken) throws IOException {
+        String searchString = CcdObjectMapper.getSearchQueryWriter().writeValueAsString(ccdQueryParam);
+
+        String userToken = systemUserService.getSysUserToken();
+        SearchResult searchResult = cafcassCcdDataStoreService.searchCases(
+            userToken,
+            searchString,
+            s2sToken,
+            cafCassSearchCaseTypeId
+        );
+
+        return CcdObjectMapper.convertSearchResult(
+            searchResult,
+            CafCassResponse.class
+        );
+    }
+
+    private CafCassResponse enrichCafCassResponse(String authorisation, String s2sToken, CafCassResponse cafCassResponse) {
+        log.info("CCD Search Result Size --> {}", cafCassResponse.getTotal());
+        cafCassFilter.filter(cafCassResponse);
+        log.info("After applying filter Result Size --> {}", cafCassResponse.getTotal());
+        Map<String, String> caseIdWithRegionIdMap = new HashMap<>();
+        CafCassResponse filteredCafcassData = filterCasesByRegion(cafCassResponse, caseIdWithRegionIdMap);
+
+        // the remote lookups only read the filtered cases, their results are applied below on this thread
+        final long deadline = enrichmentExecutor.newDeadline();
+        CompletableFuture<Map<String, Hearings>> hearingsFuture = enrichmentExecutor.supply(
+            HEARINGS,
+            () -> hearingService.getHearingsForAllCases(authorisation, caseIdWithRegionIdMap)
+        ).thenApply(CaseDataService::indexHearingsByCaseRef);
+        CompletableFuture<Map<String, String>> hearingTypesFuture = hearingsFuture.thenCompose(
+            hearingsByCaseRef -> getHearingTypes(authorisation, s2sToken, filteredCafcassData, hearingsByCaseRef)
+        );
+        Map<String, CompletableFuture<Address>> orgIdToAddressFutures = getSolicitorAddressesForParties(filteredCafcassData);
+
+        List<CompletableFuture<?>> futures = new ArrayList<>(orgIdToAddressFutures.values());
+        futures.add(hearingsFuture);
+        futures.add(hearingTypesFuture);
+        enrichmentExecutor.await(deadline, futures.toArray(new CompletableFuture<?>[0]));
+
+        updateHearingDataCafcass(filteredCafcassData, hearingsFuture.join());
+        updateHearingResponse(filteredCafcassData, hearingTypesFuture.join());
         Map<String, Address> orgIdToAddressMap = new HashMap<>();
-        List<String> orgIdListForAllCases = new ArrayList<>();
+        orgIdToAddressFutures.forEach((orgId, address) -> orgIdToAddressMap.put(orgId, address.join()));
+        updateSolicitorAddressForParties(filteredCafcassData, orgIdToAddressMap);
+        return CafCassResponse.builder()
+            .cases(filteredCafcassData.getCases())
+            .total(filteredCafcassData.getCases().size())
+            .build();
+    }
+
+    private Map<String, CompletableFuture<Address>> getSolicitorAddressesForParties(CafCassResponse filteredCafcassData) {
+        Set<String> orgIdsForAllCases = new LinkedHashSet<>();
         filteredCafcassData.getCases().stream().forEach(
             caseDetail -> {
                 CafCassCaseData cafCassCaseData = caseDetail.getCaseData();
-                orgIdListForAllCases.addAll(cafCassCaseData.getApplicants().stream()
+                orgIdsForAllCases.addAll(cafCassCaseData.getApplicants().stream()
                     .filter(party -> party.getValue().getSolicitorOrg() != null)
                     .map(partyDetail -> partyDetail.getValue().getSolicitorOrg().getOrganisationID())
                     .collect(Collectors.toList()));
-                orgIdListForAllCases.addAll(cafCassCaseData.getRespondents().stream()
+                orgIdsForAllCases.addAll(cafCassCaseData.getRespondents().stream()
                                                    .filter(party -> party.getValue().getSolicitorOrg() != null)
                                                    .map(partyDetail -> partyDetail.getValue().getSolicitorOrg().getOrganisationID())
                                                    .toList());
             });
-        orgIdListForAllCases.stream().distinct()
+        Map<String, CompletableFuture<Address>> orgIdToAddressFutures = new HashMap<>();
+        if (orgIdsForAllCases.isEmpty()) {
+            return orgIdToAddressFutures;
+        }
+        final String userToken = systemUserService.getSysUserToken();
+        orgIdsForAllCases
             .forEach(orgId ->
-                         orgIdToAddressMap.put(
+                         orgIdToAddressFutures.put(
                              orgId,
-                             organisationService.getOrganisationDetails(
-                                     systemUserService.getSysUserToken(),
-                                     orgId
-                                 )
-                                 .getContactInformation().get(0).toAddress()
+                             enrichmentExecutor.supply(
+                                 ORGANISATIONS,
+                                 () -> organisationService.getOrganisationDetails(userToken, orgId)
+                                     .getContactInformation().get(0).toAddress()
+                             )
                          ));
+        return orgIdToAddressFutures;
+    }
 
-
+    private void updateSolicitorAddressForParties(CafCassResponse filteredCafcassData, Map<String, Address> orgIdToAddressMap) {
         filteredCafcassData.getCases().stream().forEach(
             caseDetail -> {
                 CafCassCaseData cafCassCaseData = caseDetail.getCaseData();
@@ -263,11 +359,10 @@ public class CaseDataService {
         return shoulds;
     }
 
-    private CafCassResponse getHearingDetailsForAllCases(String authorisation, CafCassResponse cafCassResponse) {
+    private CafCassResponse filterCasesByRegion(CafCassResponse cafCassResponse, Map<String, String> caseIdWithRegionIdMap) {
         CafCassResponse filteredCafcassResponse = CafCassResponse.builder()
             .cases(new ArrayList<>())
             .build();
-        Map<String, String> caseIdWithRegionIdMap = new HashMap<>();
         for (CafCassCaseDetail caseDetails : cafCassResponse.getCases()) {
             CaseManagementLocation caseManagementLocation = caseDetails.getCaseData().getCaseManagementLocation();
             if (caseManagementLocation != null) {
@@ -289,12 +384,6 @@ public class CaseDataService {
                 }
             }
         }
-        List<Hearings> listOfHearingDetails = hearingService.getHearingsForAllCases(
-            authorisation,
-            caseIdWithRegionIdMap
-        );
-
-        updateHearingDataCafcass(filteredCafcassResponse, listOfHearingDetails);
         return filteredCafcassResponse;
     }
 
@@ -321,12 +410,25 @@ public class CaseDataService {
         return otherDocsList;
     }
 
-    private void updateHearingDataCafcass(CafCassResponse filteredCafcassResponse, List<Hearings> listOfHearingDetails) {
-        if (null != listOfHearingDetails && !listOfHearingDetails.isEmpty()) {
+    /**
+     *  Hearings keyed by case reference, so each case is joined to its hearings with a single lookup.
+     *  As with the scan this replaces, the first hearings returned for a case reference win.
+     */
+    static Map<String, Hearings> indexHearingsByCaseRef(List<Hearings> listOfHearingDetails) {
+        if (null == listOfHearingDetails || listOfHearingDetails.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Hearings> hearingsByCaseRef = new HashMap<>();
+        for (Hearings hearings : listOfHearingDetails) {
+            hearingsByCaseRef.putIfAbsent(hearings.getCaseRef(), hearings);
+        }
+        return hearingsByCaseRef;
+    }
+
+    static void updateHearingDataCafcass(CafCassResponse filteredCafcassResponse, Map<String, Hearings> hearingsByCaseRef) {
+        if (!hearingsByCaseRef.isEmpty()) {
             for (CafCassCaseDetail cafCassCaseDetail : filteredCafcassResponse.getCases()) {
-                Hearings filteredHearing =
-                    listOfHearingDetails.stream().filter(hearings -> hearings.getCaseRef().equals(String.valueOf(
-                        cafCassCaseDetail.getId()))).findFirst().orElse(null);
+                Hearings filteredHearing = hearingsByCaseRef.get(String.valueOf(cafCassCaseDetail.getId()));
                 if (filteredHearing != null) {
                     cafCassCaseDetail.getCaseData().setHearingData(filteredHearing);
                     cafCassCaseDetail.getCaseData().setCourtName(filteredHearing.getCourtName());
@@ -346,23 +448,34 @@ public class CaseDataService {
         }
     }
 
-    private void updateHearingResponse(String authorisation, String s2sToken, CafCassResponse cafCassResponse) {
-
-        Map<String, String> refDataCategoryValueMap = null;
-
-        for (CafCassCaseDetail cafCassCaseDetail : cafCassResponse.getCases()) {
-            final Hearings hearingData = cafCassCaseDetail.getCaseData().getHearingData();
-            if (null != hearingData) {
-
-                if (refDataCategoryValueMap == null) {
-                    refDataCategoryValueMap = refDataService.getRefDataCategoryValueMap(
+    private CompletableFuture<Map<String, String>> getHearingTypes(String authorisation, String s2sToken,
+                                                                   CafCassResponse filteredCafcassResponse,
+                                                                   Map<String, Hearings> hearingsByCaseRef) {
+        if (hearingsByCaseRef.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        // service code of the first case that will be given hearing data by updateHearingDataCafcass
+        for (CafCassCaseDetail cafCassCaseDetail : filteredCafcassResponse.getCases()) {
+            Hearings hearingData = hearingsByCaseRef.get(String.valueOf(cafCassCaseDetail.getId()));
+            if (hearingData != null) {
+                return enrichmentExecutor.supply(
+                    REF_DATA,
+                    () -> refDataService.getRefDataCategoryValueMap(
                         authorisation,
                         s2sToken,
                         hearingData.getHmctsServiceCode(),
                         categoryId
-                    );
-                }
+                    )
+                );
+            }
+        }
+        return CompletableFuture.completedFuture(Collections.emptyMap());
+    }
 
+    private void updateHearingResponse(CafCassResponse cafCassResponse, Map<String, String> refDataCategoryValueMap) {
+        for (CafCassCaseDetail cafCassCaseDetail : cafCassResponse.getCases()) {
+            final Hearings hearingData = cafCassCaseDetail.getCaseData().getHearingData();
+            if (null != hearingData) {
                 for (CaseHearing caseHearing : hearingData.getCaseHearings()) {
                     caseHearing.setHearingTypeValue(refDataCategoryValueMap.get(caseHearing.getHearingType()));
                 }
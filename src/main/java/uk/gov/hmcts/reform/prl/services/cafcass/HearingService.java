@@ -9,8 +9,12 @@ import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.prl.clients.cafcass.HearingApiClient;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.CaseHearing;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.Hearings;
+import uk.gov.hmcts.reform.prl.services.hearings.BatchedHearings;
+import uk.gov.hmcts.reform.prl.services.hearings.BatchedHearingsClient;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -23,18 +27,17 @@ public class HearingService {
     @Value("#{'${cafcaas.hearingStatus}'.split(',')}")
     private List<String> hearingStatusList;
 
-    private Hearings hearingDetails;
-
-    private List<Hearings> listOfHearingDetails;
-
     private final AuthTokenGenerator authTokenGenerator;
 
     private final HearingApiClient hearingApiClient;
 
+    private final BatchedHearingsClient batchedHearingsClient;
+
     public Hearings getHearings(String userToken, String caseReferenceNumber) {
+        Hearings hearingDetails = null;
         try {
             hearingDetails = hearingApiClient.getHearingDetails(userToken, authTokenGenerator.generate(), caseReferenceNumber);
-            filterHearings();
+            hearingDetails = filterHearings(hearingDetails);
         } catch (Exception e) {
             log.error("Error in getHearings", e);
         }
@@ -43,15 +46,30 @@ public class HearingService {
 
     public List<Hearings> getHearingsForAllCases(String userToken, Map<String,String> caseIdWithRegionIdMap) {
         try {
-            listOfHearingDetails = hearingApiClient.getHearingDetailsForAllCaseIds(userToken, authTokenGenerator.generate(), caseIdWithRegionIdMap);
+            final String s2sToken = authTokenGenerator.generate();
+            BatchedHearings<Map.Entry<String, String>, Hearings> batchedHearings = batchedHearingsClient.fetchInChunks(
+                new ArrayList<>(caseIdWithRegionIdMap.entrySet()),
+                chunk -> {
+                    Map<String, String> chunkCaseIdWithRegionIdMap = new LinkedHashMap<>();
+                    chunk.forEach(caseIdWithRegionId -> chunkCaseIdWithRegionIdMap.put(
+                        caseIdWithRegionId.getKey(),
+                        caseIdWithRegionId.getValue()
+                    ));
+                    return hearingApiClient.getHearingDetailsForAllCaseIds(userToken, s2sToken, chunkCaseIdWithRegionIdMap);
+                }
+            );
+            if (batchedHearings.hasFailedCases()) {
+                log.error("Hearings could not be fetched for cases {}",
+                          batchedHearings.getFailedCases().stream().map(Map.Entry::getKey).toList());
+            }
+            return batchedHearings.getHearings();
         } catch (Exception e) {
             log.error("Error while getHearingsForAllCases {}",e);
             return Collections.emptyList();
         }
-        return listOfHearingDetails;
     }
 
-    private void filterHearings() {
+    private Hearings filterHearings(Hearings hearingDetails) {
 
         if (hearingDetails != null && hearingDetails.getCaseHearings() != null)  {
 
@@ -72,8 +90,9 @@ public class HearingService {
                 hearingDetails.setCaseHearings(hearings);
                 log.debug("Hearings filtered based on Listed hearing");
             } else {
-                hearingDetails = null;
+                return null;
             }
         }
+        return hearingDetails;
     }
 }
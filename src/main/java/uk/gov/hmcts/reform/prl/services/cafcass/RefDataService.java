@@ -1,22 +1,76 @@
 package uk.gov.hmcts.reform.prl.services.cafcass;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.prl.clients.cafcass.ReferenceDataApi;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.refdata.Categories;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.refdata.Category;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
+/**
+ *  List of values lookups from common data ref data. The values for a service and category hardly
+ *  ever change, so they are cached. Once an entry is older than refdata.cache.refresh-after-minutes
+ *  it is reloaded in the background while callers keep getting the cached values, and if the reload
+ *  fails the cached values are kept until a later reload succeeds.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 public class RefDataService {
 
+    @Value("${refdata.cache.refresh-after-minutes:60}")
+    private long refreshAfterMinutes;
+
     private final ReferenceDataApi referenceDataApiefDataApi;
 
+    private final Map<List<String>, CategoryValues> categoryValuesCache = new ConcurrentHashMap<>();
+
+    private final ExecutorService refreshExecutor =
+        Executors.newSingleThreadExecutor(new CustomizableThreadFactory("refdata-refresh-"));
+
     public Map<String, String> getRefDataCategoryValueMap(
+        String authorization, String serviceAuthorization, String serviceCode, String categoryId) {
+        final List<String> key = List.of(String.valueOf(serviceCode), String.valueOf(categoryId));
+        CategoryValues cached = categoryValuesCache.get(key);
+        if (cached == null) {
+            // first lookup for this service and category, failures go back to the caller as before
+            cached = new CategoryValues(
+                retrieveCategoryValueMap(authorization, serviceAuthorization, serviceCode, categoryId));
+            categoryValuesCache.put(key, cached);
+        } else if (cached.isDueForRefresh() && cached.refreshing.compareAndSet(false, true)) {
+            refreshInBackground(key, cached, authorization, serviceAuthorization, serviceCode, categoryId);
+        }
+        return cached.values;
+    }
+
+    private void refreshInBackground(List<String> key, CategoryValues cached, String authorization,
+                                     String serviceAuthorization, String serviceCode, String categoryId) {
+        refreshExecutor.execute(() -> {
+            try {
+                categoryValuesCache.put(key, new CategoryValues(
+                    retrieveCategoryValueMap(authorization, serviceAuthorization, serviceCode, categoryId)));
+            } catch (Exception e) {
+                log.warn("Could not refresh ref data {} for service {}, using cached values", categoryId, serviceCode, e);
+                cached.refreshing.set(false);
+            }
+        });
+    }
+
+    private Map<String, String> retrieveCategoryValueMap(
         String authorization, String serviceAuthorization, String serviceCode, String categoryId) {
         // Call hearing api to get hmc status value
         final Categories categoriesByCategoryId =
@@ -27,7 +81,29 @@ public class RefDataService {
                 serviceCode
             );
 
-        return categoriesByCategoryId.getListOfCategory().stream()
-            .collect(Collectors.toMap(Category::getKey, Category::getValueEn));
+        return Collections.unmodifiableMap(categoriesByCategoryId.getListOfCategory().stream()
+            .collect(Collectors.toMap(Category::getKey, Category::getValueEn)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private final class CategoryValues {
+
+        private final Map<String, String> values;
+
+        private final long loadedAt = System.nanoTime();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CategoryValues(Map<String, String> values) {
+            this.values = values;
+        }
+
+        private boolean isDueForRefresh() {
+            return System.nanoTime() - loadedAt >= TimeUnit.MINUTES.toNanos(refreshAfterMinutes);
+        }
     }
 }
@@ -40,6 +40,7 @@ import uk.gov.hmcts.reform.prl.models.dto.citizen.DocumentRequest;
 import uk.gov.hmcts.reform.prl.models.dto.citizen.GenerateAndUploadDocumentRequest;
 import uk.gov.hmcts.reform.prl.models.language.DocumentLanguage;
 import uk.gov.hmcts.reform.prl.services.AllegationOfHarmRevisedService;
+import uk.gov.hmcts.reform.prl.services.DgsRenderContext;
 import uk.gov.hmcts.reform.prl.services.DgsService;
 import uk.gov.hmcts.reform.prl.services.DocumentLanguageService;
 import uk.gov.hmcts.reform.prl.services.OrganisationService;
@@ -61,6 +62,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -308,6 +310,7 @@ public class DocumentGenService {
     protected String citizenC1aFinalResponseWelshTemplate;
 
     private final DgsService dgsService;
+    private final DocumentGenerationExecutor documentGenerationExecutor;
     private final DocumentLanguageService documentLanguageService;
     private final OrganisationService organisationService;
     private final UploadDocumentService uploadService;
@@ -367,8 +370,11 @@ public class DocumentGenService {
 
         Map<String, Object> updatedCaseData = new HashMap<>();
         DocumentLanguage documentLanguage = documentLanguageService.docGenerateLang(caseData);
-        documentLanguageIsEng(authorisation, caseData, updatedCaseData, documentLanguage);
-        documentLanguageIsWelsh(authorisation, caseData, updatedCaseData, documentLanguage);
+        Map<String, DocumentGenerationExecutor.Render> renders = new LinkedHashMap<>();
+        DgsRenderContext renderContext = renderContext(caseData);
+        documentLanguageIsEng(authorisation, caseData, updatedCaseData, renders, renderContext, documentLanguage);
+        documentLanguageIsWelsh(authorisation, caseData, updatedCaseData, renders, renderContext, documentLanguage);
+        updatedCaseData.putAll(documentGenerationExecutor.renderAll(renders));
         if (documentLanguage.isGenEng() && !documentLanguage.isGenWelsh()) {
             updatedCaseData.put(DOCUMENT_FIELD_FINAL_WELSH, null);
             updatedCaseData.put(DOCUMENT_FIELD_C1A_WELSH, null);
@@ -382,33 +388,36 @@ public class DocumentGenService {
     }
 
     private void documentLanguageIsWelsh(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData,
-                                         DocumentLanguage documentLanguage) throws Exception {
+                                         Map<String, DocumentGenerationExecutor.Render> renders, DgsRenderContext renderContext,
+                                         DocumentLanguage documentLanguage) {
         if (documentLanguage.isGenWelsh()) {
             updatedCaseData.put("isWelshDocGen", Yes.toString());
-            isConfidentialInformationPresentForC100Welsh(authorisation, caseData, updatedCaseData);
-            isC100CaseTypeWelsh(authorisation, caseData, updatedCaseData);
+            isConfidentialInformationPresentForC100Welsh(authorisation, caseData, updatedCaseData, renders, renderContext);
+            isC100CaseTypeWelsh(authorisation, caseData, updatedCaseData, renders, renderContext);
             if (FL401_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication()) || State.CASE_ISSUED.equals(
                 caseData.getState()) || State.JUDICIAL_REVIEW.equals(caseData.getState())) {
-                updatedCaseData.put(
+                renders.put(
                     DOCUMENT_FIELD_FINAL_WELSH,
-                    getDocument(authorisation, caseData, FINAL_HINT, true)
+                    () -> getDocument(authorisation, caseData, FINAL_HINT, true, renderContext)
                 );
             }
         }
     }
 
-    private void isC100CaseTypeWelsh(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData) throws Exception {
+    private void isC100CaseTypeWelsh(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData,
+                                     Map<String, DocumentGenerationExecutor.Render> renders,
+                                     DgsRenderContext renderContext) {
         if (C100_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())
             && (caseData.getAllegationOfHarm() != null
             && YesOrNo.Yes.equals(caseData.getAllegationOfHarm().getAllegationsOfHarmYesNo()))
             || (caseData.getAllegationOfHarmRevised() != null
             && YesOrNo.Yes.equals(caseData.getAllegationOfHarmRevised().getNewAllegationsOfHarmYesNo()))) {
             if (State.CASE_ISSUED.equals(caseData.getState()) || State.JUDICIAL_REVIEW.equals(caseData.getState())) {
-                updatedCaseData.put(DOCUMENT_FIELD_C1A_WELSH, getDocument(authorisation, caseData, C1A_HINT, true));
+                renders.put(DOCUMENT_FIELD_C1A_WELSH, () -> getDocument(authorisation, caseData, C1A_HINT, true, renderContext));
             } else {
-                updatedCaseData.put(
+                renders.put(
                     DOCUMENT_FIELD_C1A_DRAFT_WELSH,
-                    getDocument(authorisation, caseData, C1A_DRAFT_HINT, true)
+                    () -> getDocument(authorisation, caseData, C1A_DRAFT_HINT, true, renderContext)
                 );
             }
         } else {
@@ -417,49 +426,53 @@ public class DocumentGenService {
     }
 
     private void isConfidentialInformationPresentForC100Welsh(String authorisation, CaseData caseData,
-                                                              Map<String, Object> updatedCaseData) throws Exception {
+                                                              Map<String, Object> updatedCaseData,
+                                                              Map<String, DocumentGenerationExecutor.Render> renders,
+                                                              DgsRenderContext renderContext) {
         if (isConfidentialInformationPresentForC100(caseData)) {
             if (State.CASE_ISSUED.equals(caseData.getState()) || State.JUDICIAL_REVIEW.equals(caseData.getState())) {
-                updatedCaseData.put(DOCUMENT_FIELD_C8_WELSH, getDocument(authorisation, caseData, C8_HINT, true));
+                renders.put(DOCUMENT_FIELD_C8_WELSH, () -> getDocument(authorisation, caseData, C8_HINT, true, renderContext));
             } else {
-                updatedCaseData.put(
+                renders.put(
                     DOCUMENT_FIELD_C8_DRAFT_WELSH,
-                    getDocument(authorisation, caseData, C8_DRAFT_HINT, true)
+                    () -> getDocument(authorisation, caseData, C8_DRAFT_HINT, true, renderContext)
                 );
             }
         } else if (FL401_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())
             && isApplicantOrChildDetailsConfidential(caseData)) {
-            updatedCaseData.put(DOCUMENT_FIELD_C8_WELSH, getDocument(authorisation, caseData, C8_HINT, true));
+            renders.put(DOCUMENT_FIELD_C8_WELSH, () -> getDocument(authorisation, caseData, C8_HINT, true, renderContext));
         } else {
             updatedCaseData.put(DOCUMENT_FIELD_C8_WELSH, null);
         }
     }
 
     private void documentLanguageIsEng(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData,
-                                       DocumentLanguage documentLanguage) throws Exception {
+                                       Map<String, DocumentGenerationExecutor.Render> renders, DgsRenderContext renderContext,
+                                       DocumentLanguage documentLanguage) {
         if (documentLanguage.isGenEng()) {
             updatedCaseData.put(ENGDOCGEN, Yes.toString());
-            isConfidentialInformationPresentForC100Eng(authorisation, caseData, updatedCaseData);
-            isC100CaseTypeEng(authorisation, caseData, updatedCaseData);
+            isConfidentialInformationPresentForC100Eng(authorisation, caseData, updatedCaseData, renders, renderContext);
+            isC100CaseTypeEng(authorisation, caseData, updatedCaseData, renders, renderContext);
             if (FL401_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication()) || State.CASE_ISSUED.equals(
                 caseData.getState()) || State.JUDICIAL_REVIEW.equals(caseData.getState())) {
-                updatedCaseData.put(DOCUMENT_FIELD_FINAL, getDocument(authorisation, caseData, FINAL_HINT, false));
+                renders.put(DOCUMENT_FIELD_FINAL, () -> getDocument(authorisation, caseData, FINAL_HINT, false, renderContext));
             }
         }
     }
 
-    private void isC100CaseTypeEng(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData) throws Exception {
+    private void isC100CaseTypeEng(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData,
+                                   Map<String, DocumentGenerationExecutor.Render> renders, DgsRenderContext renderContext) {
         if (C100_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())
             && (caseData.getAllegationOfHarm() != null
             && YesOrNo.Yes.equals(caseData.getAllegationOfHarm().getAllegationsOfHarmYesNo()))
             || (caseData.getAllegationOfHarmRevised() != null
             && YesOrNo.Yes.equals(caseData.getAllegationOfHarmRevised().getNewAllegationsOfHarmYesNo()))) {
             if (State.CASE_ISSUED.equals(caseData.getState()) || State.JUDICIAL_REVIEW.equals(caseData.getState())) {
-                updatedCaseData.put(DOCUMENT_FIELD_C1A, getDocument(authorisation, caseData, C1A_HINT, false));
+                renders.put(DOCUMENT_FIELD_C1A, () -> getDocument(authorisation, caseData, C1A_HINT, false, renderContext));
             } else {
-                updatedCaseData.put(
+                renders.put(
                     DOCUMENT_FIELD_DRAFT_C1A,
-                    getDocument(authorisation, caseData, C1A_DRAFT_HINT, false)
+                    () -> getDocument(authorisation, caseData, C1A_DRAFT_HINT, false, renderContext)
                 );
 
             }
@@ -469,19 +482,21 @@ public class DocumentGenService {
     }
 
     private void isConfidentialInformationPresentForC100Eng(String authorisation, CaseData caseData,
-                                                            Map<String, Object> updatedCaseData) throws Exception {
+                                                            Map<String, Object> updatedCaseData,
+                                                            Map<String, DocumentGenerationExecutor.Render> renders,
+                                                            DgsRenderContext renderContext) {
         if (isConfidentialInformationPresentForC100(caseData)) {
             if (State.CASE_ISSUED.equals(caseData.getState()) || State.JUDICIAL_REVIEW.equals(caseData.getState())) {
-                updatedCaseData.put(DOCUMENT_FIELD_C8, getDocument(authorisation, caseData, C8_HINT, false));
+                renders.put(DOCUMENT_FIELD_C8, () -> getDocument(authorisation, caseData, C8_HINT, false, renderContext));
             } else {
-                updatedCaseData.put(
+                renders.put(
                     DOCUMENT_FIELD_DRAFT_C8,
-                    getDocument(authorisation, caseData, C8_DRAFT_HINT, false)
+                    () -> getDocument(authorisation, caseData, C8_DRAFT_HINT, false, renderContext)
                 );
             }
         } else if (FL401_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())
             && isApplicantOrChildDetailsConfidential(caseData)) {
-            updatedCaseData.put(DOCUMENT_FIELD_C8, getDocument(authorisation, caseData, C8_HINT, false));
+            renders.put(DOCUMENT_FIELD_C8, () -> getDocument(authorisation, caseData, C8_HINT, false, renderContext));
         } else {
             updatedCaseData.put(DOCUMENT_FIELD_C8, null);
         }
@@ -511,13 +526,14 @@ public class DocumentGenService {
             documentLanguage.isGenEng(),
             documentLanguage.isGenWelsh()
         );
+        DgsRenderContext renderContext = renderContext(caseData);
         if (documentLanguage.isGenEng()) {
             updatedCaseData.put(ENGDOCGEN, Yes.toString());
-            updatedCaseData.put(DRAFT_APPLICATION_DOCUMENT_FIELD, getDocument(authorisation, caseData, DRAFT_HINT, false));
+            updatedCaseData.put(DRAFT_APPLICATION_DOCUMENT_FIELD, getDocument(authorisation, caseData, DRAFT_HINT, false, renderContext));
         }
         if (documentLanguage.isGenWelsh()) {
             updatedCaseData.put(IS_WELSH_DOC_GEN, Yes.toString());
-            updatedCaseData.put(DRAFT_APPLICATION_DOCUMENT_WELSH_FIELD, getDocument(authorisation, caseData, DRAFT_HINT, true));
+            updatedCaseData.put(DRAFT_APPLICATION_DOCUMENT_WELSH_FIELD, getDocument(authorisation, caseData, DRAFT_HINT, true, renderContext));
         }
 
         return updatedCaseData;
@@ -534,10 +550,12 @@ public class DocumentGenService {
             && YesOrNo.Yes.equals(caseData.getAllegationOfHarmRevised().getNewAllegationsOfHarmYesNo()));
 
         updatedCaseData.putAll(generateDraftDocuments(authorisation, caseData));
+        DgsRenderContext renderContext = renderContext(caseData);
         generateDraftEngC1aAndC8DocumentsForResubmission(
             authorisation,
             caseData,
             updatedCaseData,
+            renderContext,
             documentLanguage,
             isConfidentialInformationPresentForC100,
             isC1aPresentForC100
@@ -546,6 +564,7 @@ public class DocumentGenService {
             authorisation,
             caseData,
             updatedCaseData,
+            renderContext,
             documentLanguage,
             isConfidentialInformationPresentForC100,
             isC1aPresentForC100
@@ -556,6 +575,7 @@ public class DocumentGenService {
     private void generateDraftWelshC1aAndC8DocumentsForResubmission(String authorisation,
                                                                     CaseData caseData,
                                                                     Map<String, Object> updatedCaseData,
+                                                                    DgsRenderContext renderContext,
                                                                     DocumentLanguage documentLanguage,
                                                                     boolean isConfidentialInformationPresentForC100,
                                                                     boolean isC1aPresentForC100) throws Exception {
@@ -563,7 +583,7 @@ public class DocumentGenService {
             if (isConfidentialInformationPresentForC100) {
                 updatedCaseData.put(
                     DOCUMENT_FIELD_C8_DRAFT_WELSH,
-                    getDocument(authorisation, caseData, C8_DRAFT_HINT, true)
+                    getDocument(authorisation, caseData, C8_DRAFT_HINT, true, renderContext)
                 );
             } else {
                 updatedCaseData.put(
@@ -572,7 +592,7 @@ public class DocumentGenService {
             if (isC1aPresentForC100) {
                 updatedCaseData.put(
                     DOCUMENT_FIELD_C1A_DRAFT_WELSH,
-                    getDocument(authorisation, caseData, C1A_DRAFT_HINT, true)
+                    getDocument(authorisation, caseData, C1A_DRAFT_HINT, true, renderContext)
                 );
             } else {
                 updatedCaseData.put(DOCUMENT_FIELD_C1A_DRAFT_WELSH, null);
@@ -583,6 +603,7 @@ public class DocumentGenService {
     private void generateDraftEngC1aAndC8DocumentsForResubmission(String authorisation,
                                                                   CaseData caseData,
                                                                   Map<String, Object> updatedCaseData,
+                                                                  DgsRenderContext renderContext,
                                                                   DocumentLanguage documentLanguage,
                                                                   boolean isConfidentialInformationPresentForC100,
                                                                   boolean isC1aPresentForC100) throws Exception {
@@ -590,7 +611,7 @@ public class DocumentGenService {
             if (isConfidentialInformationPresentForC100) {
                 updatedCaseData.put(
                     DOCUMENT_FIELD_DRAFT_C8,
-                    getDocument(authorisation, caseData, C8_DRAFT_HINT, false)
+                    getDocument(authorisation, caseData, C8_DRAFT_HINT, false, renderContext)
                 );
             } else {
                 updatedCaseData.put(
@@ -599,7 +620,7 @@ public class DocumentGenService {
             if (isC1aPresentForC100) {
                 updatedCaseData.put(
                     DOCUMENT_FIELD_DRAFT_C1A,
-                    getDocument(authorisation, caseData, C1A_DRAFT_HINT, false)
+                    getDocument(authorisation, caseData, C1A_DRAFT_HINT, false, renderContext)
                 );
 
             } else {
@@ -623,10 +644,15 @@ public class DocumentGenService {
     }
 
     private Document getDocument(String authorisation, CaseData caseData, String hint, boolean isWelsh)
+        throws Exception {
+        return getDocument(authorisation, caseData, hint, isWelsh, renderContext(caseData));
+    }
+
+    private Document getDocument(String authorisation, CaseData caseData, String hint, boolean isWelsh, DgsRenderContext renderContext)
         throws Exception {
         return generateDocumentField(
             getFileName(caseData, hint, isWelsh),
-            generateDocument(authorisation, getTemplate(caseData, hint, isWelsh), caseData, isWelsh)
+            generateDocument(authorisation, getTemplate(caseData, hint, isWelsh), caseData.getId(), isWelsh, renderContext)
         );
     }
 
@@ -641,6 +667,18 @@ public class DocumentGenService {
         );
     }
 
+    /**
+     * Context shared by the documents generated from the same case data in a callback, so the case
+     * is converted for docmosis, and translated for the Welsh documents, once for all of them.
+     */
+    private DgsRenderContext renderContext(CaseData caseData) {
+        return dgsService.createRenderContext(
+            uk.gov.hmcts.reform.prl.models.dto.ccd.CaseDetails.builder()
+                .caseData(caseData.toBuilder().isDocumentGenerated("No").build())
+                .build()
+        );
+    }
+
     public Map<String, Object> generateC7DraftDocuments(String authorisation, CaseData caseData) throws Exception {
 
         Map<String, Object> updatedCaseData = new HashMap<>();
@@ -803,30 +841,18 @@ public class DocumentGenService {
         return generatedDocumentInfo;
     }
 
-    private GeneratedDocumentInfo generateDocument(String authorisation, String template, CaseData caseData,
-                                                   boolean isWelsh)
+    private GeneratedDocumentInfo generateDocument(String authorisation, String template, Long caseId, boolean isWelsh,
+                                                   DgsRenderContext renderContext)
         throws Exception {
-        log.info(GENERATED_THE_DOCUMENT_FOR_CASE_ID, template, caseData.getId());
-        GeneratedDocumentInfo generatedDocumentInfo = null;
-        caseData = caseData.toBuilder().isDocumentGenerated("No").build();
+        log.info(GENERATED_THE_DOCUMENT_FOR_CASE_ID, template, caseId);
+        GeneratedDocumentInfo generatedDocumentInfo;
         if (isWelsh) {
-            generatedDocumentInfo = dgsService.generateWelshDocument(
-                authorisation,
-                uk.gov.hmcts.reform.prl.models.dto.ccd.CaseDetails.builder().caseData(caseData).build(),
-                template
-            );
+            generatedDocumentInfo = dgsService.generateWelshDocument(authorisation, renderContext, template);
         } else {
             log.info("Generating document for {} ", template);
-            generatedDocumentInfo = dgsService.generateDocument(
-                authorisation,
-                uk.gov.hmcts.reform.prl.models.dto.ccd.CaseDetails.builder().caseData(caseData).build(),
-                template
-            );
-        }
-        if (null != generatedDocumentInfo) {
-            caseData = caseData.toBuilder().isDocumentGenerated("Yes").build();
+            generatedDocumentInfo = dgsService.generateDocument(authorisation, renderContext, template);
         }
-        log.info(GENERATED_THE_DOCUMENT_FOR_CASE_ID, template, caseData.getId());
+        log.info(GENERATED_THE_DOCUMENT_FOR_CASE_ID, template, caseId);
         return generatedDocumentInfo;
     }
 
@@ -1309,8 +1335,9 @@ public class DocumentGenService {
         caseData = fillOrgDetails(caseData);
         DocumentLanguage documentLanguage = documentLanguageService.docGenerateLang(caseData);
 
-        documentLanguageIsEngForTestingSupport(authorisation, caseData, updatedCaseData, documentLanguage);
-        documentLanguageIsWelshForTestingSupport(authorisation, caseData, updatedCaseData, documentLanguage);
+        DgsRenderContext renderContext = renderContext(caseData);
+        documentLanguageIsEngForTestingSupport(authorisation, caseData, updatedCaseData, renderContext, documentLanguage);
+        documentLanguageIsWelshForTestingSupport(authorisation, caseData, updatedCaseData, renderContext, documentLanguage);
         if (documentLanguage.isGenEng() && !documentLanguage.isGenWelsh()) {
             updatedCaseData.put(DOCUMENT_FIELD_FINAL_WELSH, null);
             updatedCaseData.put(DOCUMENT_FIELD_C1A_WELSH, null);
@@ -1324,40 +1351,44 @@ public class DocumentGenService {
     }
 
     private void documentLanguageIsEngForTestingSupport(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData,
-                                                        DocumentLanguage documentLanguage) throws Exception {
+                                                        DgsRenderContext renderContext, DocumentLanguage documentLanguage)
+        throws Exception {
         if (documentLanguage.isGenEng()) {
             updatedCaseData.put(ENGDOCGEN, Yes.toString());
-            isConfidentialInformationPresentForC100EngForTestingSupport(authorisation, caseData, updatedCaseData);
-            isC100CaseTypeEngForTestingSupport(authorisation, caseData, updatedCaseData);
-            updatedCaseData.put(DOCUMENT_FIELD_FINAL, getDocument(authorisation, caseData, FINAL_HINT, false));
-            updatedCaseData.put(DRAFT_APPLICATION_DOCUMENT_FIELD, getDocument(authorisation, caseData, DRAFT_HINT, false));
+            isConfidentialInformationPresentForC100EngForTestingSupport(authorisation, caseData, updatedCaseData, renderContext);
+            isC100CaseTypeEngForTestingSupport(authorisation, caseData, updatedCaseData, renderContext);
+            updatedCaseData.put(DOCUMENT_FIELD_FINAL, getDocument(authorisation, caseData, FINAL_HINT, false, renderContext));
+            updatedCaseData.put(DRAFT_APPLICATION_DOCUMENT_FIELD, getDocument(authorisation, caseData, DRAFT_HINT, false, renderContext));
         }
     }
 
     private void isConfidentialInformationPresentForC100EngForTestingSupport(String authorisation, CaseData caseData,
-                                                                             Map<String, Object> updatedCaseData) throws Exception {
+                                                                             Map<String, Object> updatedCaseData,
+                                                                             DgsRenderContext renderContext)
+        throws Exception {
         if (isConfidentialInformationPresentForC100(caseData)) {
-            updatedCaseData.put(DOCUMENT_FIELD_C8, getDocument(authorisation, caseData, C8_HINT, false));
+            updatedCaseData.put(DOCUMENT_FIELD_C8, getDocument(authorisation, caseData, C8_HINT, false, renderContext));
             updatedCaseData.put(
                 DOCUMENT_FIELD_DRAFT_C8,
-                getDocument(authorisation, caseData, C8_DRAFT_HINT, false)
+                getDocument(authorisation, caseData, C8_DRAFT_HINT, false, renderContext)
             );
         } else if (FL401_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())
             && isApplicantOrChildDetailsConfidential(caseData)) {
-            updatedCaseData.put(DOCUMENT_FIELD_C8, getDocument(authorisation, caseData, C8_HINT, false));
+            updatedCaseData.put(DOCUMENT_FIELD_C8, getDocument(authorisation, caseData, C8_HINT, false, renderContext));
         } else {
             updatedCaseData.put(DOCUMENT_FIELD_C8, null);
         }
     }
 
-    private void isC100CaseTypeEngForTestingSupport(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData) throws Exception {
+    private void isC100CaseTypeEngForTestingSupport(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData,
+                                                    DgsRenderContext renderContext) throws Exception {
         if (C100_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())
             && caseData.getAllegationOfHarm() != null
             && YesOrNo.Yes.equals(caseData.getAllegationOfHarm().getAllegationsOfHarmYesNo())) {
-            updatedCaseData.put(DOCUMENT_FIELD_C1A, getDocument(authorisation, caseData, C1A_HINT, false));
+            updatedCaseData.put(DOCUMENT_FIELD_C1A, getDocument(authorisation, caseData, C1A_HINT, false, renderContext));
             updatedCaseData.put(
                 DOCUMENT_FIELD_DRAFT_C1A,
-                getDocument(authorisation, caseData, C1A_DRAFT_HINT, false)
+                getDocument(authorisation, caseData, C1A_DRAFT_HINT, false, renderContext)
             );
         } else {
             updatedCaseData.put(DOCUMENT_FIELD_C1A, null);
@@ -1365,43 +1396,47 @@ public class DocumentGenService {
     }
 
     private void documentLanguageIsWelshForTestingSupport(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData,
-                                                          DocumentLanguage documentLanguage) throws Exception {
+                                                          DgsRenderContext renderContext, DocumentLanguage documentLanguage)
+        throws Exception {
         if (documentLanguage.isGenWelsh()) {
             updatedCaseData.put("isWelshDocGen", Yes.toString());
-            isConfidentialInformationPresentForC100WelshForTestingSupport(authorisation, caseData, updatedCaseData);
-            isC100CaseTypeWelshForTestingSupport(authorisation, caseData, updatedCaseData);
+            isConfidentialInformationPresentForC100WelshForTestingSupport(authorisation, caseData, updatedCaseData, renderContext);
+            isC100CaseTypeWelshForTestingSupport(authorisation, caseData, updatedCaseData, renderContext);
             updatedCaseData.put(
                 DOCUMENT_FIELD_FINAL_WELSH,
-                getDocument(authorisation, caseData, FINAL_HINT, true)
+                getDocument(authorisation, caseData, FINAL_HINT, true, renderContext)
             );
-            updatedCaseData.put(DRAFT_APPLICATION_DOCUMENT_WELSH_FIELD, getDocument(authorisation, caseData, DRAFT_HINT, true));
+            updatedCaseData.put(DRAFT_APPLICATION_DOCUMENT_WELSH_FIELD, getDocument(authorisation, caseData, DRAFT_HINT, true, renderContext));
         }
     }
 
     private void isConfidentialInformationPresentForC100WelshForTestingSupport(String authorisation, CaseData caseData,
-                                                                               Map<String, Object> updatedCaseData) throws Exception {
+                                                                               Map<String, Object> updatedCaseData,
+                                                                               DgsRenderContext renderContext)
+        throws Exception {
         if (isConfidentialInformationPresentForC100(caseData)) {
-            updatedCaseData.put(DOCUMENT_FIELD_C8_WELSH, getDocument(authorisation, caseData, C8_HINT, true));
+            updatedCaseData.put(DOCUMENT_FIELD_C8_WELSH, getDocument(authorisation, caseData, C8_HINT, true, renderContext));
             updatedCaseData.put(
                 DOCUMENT_FIELD_C8_DRAFT_WELSH,
-                getDocument(authorisation, caseData, C8_DRAFT_HINT, true)
+                getDocument(authorisation, caseData, C8_DRAFT_HINT, true, renderContext)
             );
         } else if (FL401_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())
             && isApplicantOrChildDetailsConfidential(caseData)) {
-            updatedCaseData.put(DOCUMENT_FIELD_C8_WELSH, getDocument(authorisation, caseData, C8_HINT, true));
+            updatedCaseData.put(DOCUMENT_FIELD_C8_WELSH, getDocument(authorisation, caseData, C8_HINT, true, renderContext));
         } else {
             updatedCaseData.put(DOCUMENT_FIELD_C8_WELSH, null);
         }
     }
 
-    private void isC100CaseTypeWelshForTestingSupport(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData) throws Exception {
+    private void isC100CaseTypeWelshForTestingSupport(String authorisation, CaseData caseData, Map<String, Object> updatedCaseData,
+                                                      DgsRenderContext renderContext) throws Exception {
         if (C100_CASE_TYPE.equalsIgnoreCase(caseData.getCaseTypeOfApplication())
             && caseData.getAllegationOfHarm() != null
             && YesOrNo.Yes.equals(caseData.getAllegationOfHarm().getAllegationsOfHarmYesNo())) {
-            updatedCaseData.put(DOCUMENT_FIELD_C1A_WELSH, getDocument(authorisation, caseData, C1A_HINT, true));
+            updatedCaseData.put(DOCUMENT_FIELD_C1A_WELSH, getDocument(authorisation, caseData, C1A_HINT, true, renderContext));
             updatedCaseData.put(
                 DOCUMENT_FIELD_C1A_DRAFT_WELSH,
-                getDocument(authorisation, caseData, C1A_DRAFT_HINT, true)
+                getDocument(authorisation, caseData, C1A_DRAFT_HINT, true, renderContext)
             );
         } else {
             updatedCaseData.put(DOCUMENT_FIELD_C1A_WELSH, null);
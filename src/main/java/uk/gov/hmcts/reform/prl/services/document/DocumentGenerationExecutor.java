@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.prl.services.document;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.config.DocumentGenerationConfiguration;
+import uk.gov.hmcts.reform.prl.framework.exceptions.DocumentGenerationException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ *  Renders the independent documents of a submission at the same time on a bounded pool, so the
+ *  callback waits for the slowest render instead of all of them in turn. Each render has to finish
+ *  within prl.document.generate.render-timeout-millis of being submitted and the whole batch within
+ *  deadline-millis, renders still running when the batch fails are interrupted. Results are waited
+ *  for in the order the renders were added and the first failure in that order is rethrown, so a
+ *  batch fails the same way whichever render finishes first. With concurrent set to false the
+ *  renders run one after another on the caller's thread.
+ */
+@Slf4j
+@Component
+public class DocumentGenerationExecutor {
+
+    @FunctionalInterface
+    public interface Render {
+        Object render() throws Exception;
+    }
+
+    private final DocumentGenerationConfiguration configuration;
+
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    public DocumentGenerationExecutor(DocumentGenerationConfiguration configuration) {
+        this.configuration = configuration;
+        this.executor = new ThreadPoolExecutor(
+            configuration.getPoolSize(),
+            configuration.getPoolSize(),
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(configuration.getQueueCapacity()),
+            new CustomizableThreadFactory("document-generation-"),
+            // when the queue is full the callback thread renders the document itself
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     *  Renders each document and returns the results against the same keys, in the same order.
+     *
+     * @param renders documents to render, keyed by the case field they are stored in
+     * @return rendered documents keyed by case field
+     * @throws Exception first failure in the order of the renders, or DocumentGenerationException on a timeout
+     */
+    public Map<String, Object> renderAll(Map<String, Render> renders) throws Exception {
+        Map<String, Object> rendered = new LinkedHashMap<>();
+        if (!configuration.isConcurrent() || renders.size() < 2) {
+            for (Map.Entry<String, Render> render : renders.entrySet()) {
+                rendered.put(render.getKey(), render.getValue().render());
+            }
+            return rendered;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(configuration.getDeadlineMillis());
+        Map<String, Future<Object>> futures = new LinkedHashMap<>();
+        Map<String, Long> renderDeadlines = new LinkedHashMap<>();
+        renders.forEach((field, render) -> {
+            renderDeadlines.put(field, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(configuration.getRenderTimeoutMillis()));
+            futures.put(field, executor.submit(render::render));
+        });
+        try {
+            for (Map.Entry<String, Future<Object>> future : futures.entrySet()) {
+                String field = future.getKey();
+                rendered.put(field, await(field, future.getValue(), renderDeadlines.get(field), deadline));
+            }
+        } finally {
+            if (rendered.size() < futures.size()) {
+                // interrupts renders still running, a blocked call to the document service only ends at its read timeout
+                futures.values().forEach(future -> future.cancel(true));
+            }
+        }
+        return rendered;
+    }
+
+    private Object await(String field, Future<Object> future, long renderDeadline, long deadline) throws Exception {
+        try {
+            return future.get(Math.max(0L, Math.min(renderDeadline, deadline) - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (renderDeadline <= deadline) {
+                throw new DocumentGenerationException(
+                    field + " was not generated within " + configuration.getRenderTimeoutMillis() + "ms", e);
+            }
+            throw new DocumentGenerationException(
+                "Documents were not generated within " + configuration.getDeadlineMillis() + "ms, waiting for " + field, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DocumentGenerationException("Interrupted waiting for " + field, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.error("Generating {} failed", field, cause);
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new DocumentGenerationException("Generating " + field + " failed", cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
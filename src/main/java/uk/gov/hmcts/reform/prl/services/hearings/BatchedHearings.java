@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.prl.services.hearings;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ *  Hearings fetched by {@link BatchedHearingsClient}, with the cases of the chunks that could not be
+ *  fetched. Those cases are missing from the hearings and must not be taken as cases without hearings.
+ */
+@Value
+public class BatchedHearings<T, H> {
+
+    List<H> hearings;
+
+    List<T> failedCases;
+
+    public boolean hasFailedCases() {
+        return !failedCases.isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.prl.services.hearings;
+
+import com.google.common.collect.Lists;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ *  Looks up hearings for many cases at once by splitting the cases into chunks of
+ *  fis_hearing.batch.chunk-size, fetching up to fis_hearing.batch.max-concurrent-chunks chunks at a
+ *  time and merging the results. A chunk that fails only loses the hearings of its own cases, which are
+ *  returned as failed so callers never mistake them for cases without hearings.
+ */
+@Slf4j
+@Component
+public class BatchedHearingsClient {
+
+    private final int chunkSize;
+
+    private final ExecutorService chunkExecutor;
+
+    public BatchedHearingsClient(@Value("${fis_hearing.batch.chunk-size}") int chunkSize,
+                                 @Value("${fis_hearing.batch.max-concurrent-chunks}") int maxConcurrentChunks) {
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunkExecutor = Executors.newFixedThreadPool(
+            Math.max(1, maxConcurrentChunks),
+            new CustomizableThreadFactory("hearings-batch-")
+        );
+    }
+
+    /**
+     *  Fetches the hearings for the cases a chunk at a time.
+     *
+     * @param cases cases to look up, e.g. case ids
+     * @param fetchChunk call to the hearings api for a chunk of the cases
+     * @return hearings of the chunks that were fetched, in chunk order, and the cases of the chunks that failed
+     */
+    public <T, H> BatchedHearings<T, H> fetchInChunks(List<T> cases, Function<List<T>, List<H>> fetchChunk) {
+        List<H> hearings = new ArrayList<>();
+        List<T> failedCases = new ArrayList<>();
+        if (cases == null || cases.isEmpty()) {
+            return new BatchedHearings<>(hearings, failedCases);
+        }
+        List<List<T>> chunks = Lists.partition(cases, chunkSize);
+        if (chunks.size() == 1) {
+            // nothing to run in parallel, save the hand off to the pool
+            try {
+                hearings.addAll(fetchChunk(chunks.get(0), fetchChunk));
+            } catch (RuntimeException e) {
+                failedCases.addAll(chunks.get(0));
+            }
+            return new BatchedHearings<>(hearings, failedCases);
+        }
+        List<Future<List<H>>> chunkFutures = chunks.stream()
+            .map(chunk -> chunkExecutor.submit(() -> fetchChunk(chunk, fetchChunk)))
+            .toList();
+        boolean completed = false;
+        try {
+            for (int i = 0; i < chunks.size(); i++) {
+                try {
+                    hearings.addAll(chunkFutures.get(i).get());
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof RuntimeException)) {
+                        throw new IllegalStateException("Could not fetch hearings", e.getCause());
+                    }
+                    failedCases.addAll(chunks.get(i));
+                }
+            }
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching hearings", e);
+        } finally {
+            if (!completed) {
+                // the lookup has failed, stop the chunks still fetching
+                chunkFutures.forEach(chunkFuture -> chunkFuture.cancel(true));
+            }
+        }
+        log.info("Fetched hearings for {} cases in {} chunks, {} cases failed", cases.size(), chunks.size(), failedCases.size());
+        return new BatchedHearings<>(hearings, failedCases);
+    }
+
+    private <T, H> List<H> fetchChunk(List<T> chunk, Function<List<T>, List<H>> fetchChunk) {
+        try {
+            List<H> chunkHearings = fetchChunk.apply(chunk);
+            return chunkHearings != null ? chunkHearings : new ArrayList<>();
+        } catch (RuntimeException e) {
+            log.error("Could not fetch hearings for cases {}", chunk, e);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chunkExecutor.shutdownNow();
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.prl.services.tab.alltabs;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
@@ -17,6 +19,7 @@ import uk.gov.hmcts.reform.prl.clients.ccd.CcdCoreCaseDataService;
 import uk.gov.hmcts.reform.prl.clients.ccd.records.StartAllTabsUpdateDataContent;
 import uk.gov.hmcts.reform.prl.enums.CaseEvent;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
+import uk.gov.hmcts.reform.prl.models.user.SystemUserContext;
 import uk.gov.hmcts.reform.prl.services.ApplicationsTabService;
 import uk.gov.hmcts.reform.prl.services.ConfidentialityTabService;
 import uk.gov.hmcts.reform.prl.services.SystemUserService;
@@ -24,6 +27,7 @@ import uk.gov.hmcts.reform.prl.services.tab.summary.CaseSummaryTabService;
 import uk.gov.hmcts.reform.prl.utils.CaseUtils;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -85,8 +89,9 @@ public class AllTabServiceImpl implements AllTabsService {
 
     @Override
     public StartAllTabsUpdateDataContent getStartAllTabsUpdate(String caseId) {
-        String systemAuthorisation = systemUserService.getSysUserToken();
-        String systemUpdateUserId = systemUserService.getUserId(systemAuthorisation);
+        SystemUserContext systemUserContext = systemUserService.getSystemUserContext();
+        String systemAuthorisation = systemUserContext.authorisation();
+        String systemUpdateUserId = systemUserContext.userId();
         EventRequestData allTabsUpdateEventRequestData = ccdCoreCaseDataService.eventRequest(
             CaseEvent.UPDATE_ALL_TABS,
             systemUpdateUserId
@@ -106,7 +111,7 @@ public class AllTabServiceImpl implements AllTabsService {
             systemAuthorisation,
             allTabsUpdateEventRequestData,
             allTabsUpdateStartEventResponse,
-            allTabsUpdateStartEventResponse.getCaseDetails().getData(),
+            new HashMap<>(allTabsUpdateStartEventResponse.getCaseDetails().getData()),
             allTabsUpdateCaseData,
             null
         );
@@ -114,8 +119,9 @@ public class AllTabServiceImpl implements AllTabsService {
 
     @Override
     public StartAllTabsUpdateDataContent getStartUpdateForSpecificEvent(String caseId, String eventId) {
-        String systemAuthorisation = systemUserService.getSysUserToken();
-        String systemUpdateUserId = systemUserService.getUserId(systemAuthorisation);
+        SystemUserContext systemUserContext = systemUserService.getSystemUserContext();
+        String systemAuthorisation = systemUserContext.authorisation();
+        String systemUpdateUserId = systemUserContext.userId();
         EventRequestData allTabsUpdateEventRequestData = ccdCoreCaseDataService.eventRequest(
             CaseEvent.fromValue(eventId),
             systemUpdateUserId
@@ -135,20 +141,99 @@ public class AllTabServiceImpl implements AllTabsService {
             systemAuthorisation,
             allTabsUpdateEventRequestData,
             allTabsUpdateStartEventResponse,
-            allTabsUpdateStartEventResponse.getCaseDetails().getData(),
+            new HashMap<>(allTabsUpdateStartEventResponse.getCaseDetails().getData()),
             allTabsUpdateCaseData,
             null
         );
     }
 
+    /**
+     * Recomputes the tabs, confidential details and documents of the case and submits only the
+     * fields that differ from the case as it was when the event started.
+     * @return CaseDetails from CCD, or those of the started event when nothing changed and no
+     *     submit was made
+     **/
     public CaseDetails mapAndSubmitAllTabsUpdate(String systemAuthorisation,
                                                  String caseId,
                                                  StartEventResponse startEventResponse,
                                                  EventRequestData eventRequestData,
                                                  CaseData caseData) {
         Map<String, Object> combinedFieldsMap = findCaseDataMap(caseData);
+        Map<String, Object> changedFieldsMap = getChangedFields(startEventResponse, combinedFieldsMap);
+        if (changedFieldsMap.isEmpty()) {
+            log.info("All tabs of case {} are up to date, nothing to submit", caseId);
+            return startEventResponse.getCaseDetails();
+        }
+
+        return submitAllTabsUpdate(systemAuthorisation, caseId, startEventResponse, eventRequestData, changedFieldsMap);
+    }
+
+    /**
+     * Fields of combinedFieldsMap whose value differs from the case as it was when the event started.
+     * Values are compared as json, with a missing field the same as a null one.
+     */
+    private Map<String, Object> getChangedFields(StartEventResponse startEventResponse,
+                                                 Map<String, Object> combinedFieldsMap) {
+        Map<String, Object> existingData = startEventResponse.getCaseDetails() != null
+            ? startEventResponse.getCaseDetails().getData() : null;
+        if (existingData == null) {
+            return combinedFieldsMap;
+        }
+        Map<String, Object> changedFieldsMap = new HashMap<>();
+        combinedFieldsMap.forEach((field, value) -> {
+            if (!isUnchanged(value, existingData.get(field))) {
+                changedFieldsMap.put(field, value);
+            }
+        });
+        return changedFieldsMap;
+    }
+
+    private boolean isUnchanged(Object value, Object existingValue) {
+        JsonNode tree = value != null ? objectMapper.valueToTree(value) : NullNode.getInstance();
+        JsonNode existingTree = existingValue != null ? objectMapper.valueToTree(existingValue) : NullNode.getInstance();
+        return tree != null && existingTree != null && isSameJson(tree, existingTree);
+    }
+
+    private static boolean isSameJson(JsonNode node, JsonNode other) {
+        if (isNullJson(node) || isNullJson(other)) {
+            return isNullJson(node) && isNullJson(other);
+        }
+        if (node.isObject() && other.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!isSameJson(field.getValue(), other.path(field.getKey()))) {
+                    return false;
+                }
+            }
+            Iterator<Map.Entry<String, JsonNode>> otherFields = other.fields();
+            while (otherFields.hasNext()) {
+                Map.Entry<String, JsonNode> otherField = otherFields.next();
+                if (!node.has(otherField.getKey()) && !isNullJson(otherField.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (node.isArray() && other.isArray()) {
+            if (node.size() != other.size()) {
+                return false;
+            }
+            for (int i = 0; i < node.size(); i++) {
+                if (!isSameJson(node.get(i), other.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (node.isNumber() && other.isNumber()) {
+            return node.decimalValue().compareTo(other.decimalValue()) == 0;
+        }
+        return node.equals(other);
+    }
 
-        return submitAllTabsUpdate(systemAuthorisation, caseId, startEventResponse, eventRequestData, combinedFieldsMap);
+    private static boolean isNullJson(JsonNode node) {
+        return node.isNull() || node.isMissingNode();
     }
 
     public CaseDetails submitAllTabsUpdate(String systemAuthorisation,
@@ -299,7 +384,7 @@ public class AllTabServiceImpl implements AllTabsService {
             authorisation,
             allTabsUpdateEventRequestData,
             allTabsUpdateStartEventResponse,
-            allTabsUpdateStartEventResponse.getCaseDetails().getData(),
+            new HashMap<>(allTabsUpdateStartEventResponse.getCaseDetails().getData()),
             allTabsUpdateCaseData,
             userDetails
         );
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.prl.services.tab.summary;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.prl.config.CaseSummaryTabConfiguration;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.CaseSummary;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.FieldGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Runs the summary tab generators of a case. By default they run one after another on the caller's
+ *  thread, which measured quicker than the pool for the cases we see. With prl.summary-tab.concurrent
+ *  set, a case with at least prl.summary-tab.concurrent-from-parties parties has its generators run at
+ *  the same time on a small bounded pool. Summaries are returned in the order of the generators and the
+ *  first failure in that order is rethrown as it was thrown, interrupting the generators still running.
+ */
+@Component
+public class CaseSummaryGeneratorExecutor {
+
+    private final CaseSummaryTabConfiguration configuration;
+
+    private final ThreadPoolExecutor executor;
+
+    @Autowired
+    public CaseSummaryGeneratorExecutor(CaseSummaryTabConfiguration configuration) {
+        this.configuration = configuration;
+        this.executor = new ThreadPoolExecutor(
+            configuration.getPoolSize(),
+            configuration.getPoolSize(),
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(configuration.getQueueCapacity()),
+            new CustomizableThreadFactory("case-summary-tab-"),
+            // when the queue is full the callback thread runs the generator itself
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     *  Runs each generator once against the case data.
+     *
+     * @param generators generators to run
+     * @param caseData case data to generate the summaries from
+     * @param parties number of parties, children and proceedings of the case
+     * @return summaries in the order of the generators
+     */
+    public List<CaseSummary> generateAll(List<FieldGenerator> generators, CaseData caseData, int parties) {
+        List<CaseSummary> summaries = new ArrayList<>(generators.size());
+        if (!configuration.isConcurrent() || parties < configuration.getConcurrentFromParties() || generators.size() < 2) {
+            for (FieldGenerator generator : generators) {
+                summaries.add(generator.generate(caseData));
+            }
+            return summaries;
+        }
+        List<Future<CaseSummary>> futures = new ArrayList<>(generators.size());
+        for (FieldGenerator generator : generators) {
+            futures.add(executor.submit(() -> generator.generate(caseData)));
+        }
+        boolean completed = false;
+        try {
+            for (Future<CaseSummary> future : futures) {
+                summaries.add(future.get());
+            }
+            completed = true;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating the summary tab", e);
+        } finally {
+            if (!completed) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+        return summaries;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
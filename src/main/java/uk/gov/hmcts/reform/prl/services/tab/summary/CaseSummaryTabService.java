@@ -1,7 +1,7 @@
 package uk.gov.hmcts.reform.prl.services.tab.summary;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -22,10 +22,12 @@ import uk.gov.hmcts.reform.prl.services.tab.summary.generator.SpecialArrangement
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.TypeOfApplicationGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.UrgencyGenerator;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.FL401_CASE_TYPE;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.TASK_LIST_VERSION_V2;
@@ -37,6 +39,22 @@ import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.TASK_LIST_VERSI
 @Qualifier("caseSummaryTab")
 public class CaseSummaryTabService implements TabService {
 
+    // case fields of the summary tab, named as the properties of CaseSummary
+    private static final Map<String, Function<CaseSummary, Object>> SUMMARY_FIELDS = ImmutableMap.<String, Function<CaseSummary, Object>>builder()
+        .put("allocatedJudgeDetails", CaseSummary::getAllocatedJudgeDetails)
+        .put("caseStatus", CaseSummary::getCaseStatus)
+        .put("confidentialDetails", CaseSummary::getConfidentialDetails)
+        .put("urgencyDetails", CaseSummary::getUrgencyDetails)
+        .put("allegationOfHarm", CaseSummary::getAllegationOfHarm)
+        .put("allegationOfHarmRevised", CaseSummary::getAllegationOfHarmRevised)
+        .put("specialArrangement", CaseSummary::getSpecialArrangement)
+        .put("summaryTabForOrderAppliedFor", CaseSummary::getSummaryTabForOrderAppliedFor)
+        .put("otherProceedingsForSummaryTab", CaseSummary::getOtherProceedingsForSummaryTab)
+        .put("otherProceedingEmptyTable", CaseSummary::getOtherProceedingEmptyTable)
+        .put("dateOfSubmission", CaseSummary::getDateOfSubmission)
+        .put("applicationTypeDetails", CaseSummary::getApplicationTypeDetails)
+        .build();
+
     private final AllocatedJudgeDetailsGenerator allocatedJudgeDetailsGenerator;
     private final CaseStatusGenerator caseStatusGenerator;
     private final ConfidentialDetailsGenerator confidentialDetailsGenerator;
@@ -47,32 +65,23 @@ public class CaseSummaryTabService implements TabService {
     private final AllegationOfHarmGenerator allegationOfHarmGenerator;
     private final AllegationOfHarmRevisedGenerator allegationOfHarmRevisedGenerator;
     private final DateOfSubmissionGenerator dateOfSubmissionGenerator;
-    private final ObjectMapper objectMapper;
     private final TypeOfApplicationGenerator typeOfApplicationGenerator;
+    private final CaseSummaryGeneratorExecutor caseSummaryGeneratorExecutor;
 
     @Override
     public Map<String, Object> updateTab(CaseData caseData) {
-
-        Map<String, Object> summaryTabFields = getGenerators(caseData).stream()
-            .map(generator -> generator.generate(caseData))
-            .flatMap(summary -> objectMapper.convertValue(
-                    summary,
-                    new TypeReference<Map<String, Object>>() {
-                    }
-                )
-                .entrySet().stream())
-            .collect(HashMap::new, (m, v) -> {
-                Object value = m.getOrDefault(v.getKey(), null);
-                if (Objects.isNull(value)) {
-                    m.put(v.getKey(), v.getValue());
-                }
-            }, HashMap::putAll);
-
+        List<FieldGenerator> generators = new ArrayList<>(getGenerators(caseData));
         // For Collection Fields, We should do manually since it should have element structure..
-        CaseSummary caseSummary = otherProceedingsGenerator.generate(caseData);
+        generators.add(otherProceedingsGenerator);
+        List<CaseSummary> summaries = caseSummaryGeneratorExecutor.generateAll(generators, caseData, countParties(caseData));
 
-        summaryTabFields.put("otherProceedingsForSummaryTab", otherProceedingsGenerator.getOtherProceedingsDetails(caseData));
-        summaryTabFields.put("otherProceedingEmptyTable", caseSummary.getOtherProceedingEmptyTable());
+        // every field of the summary is written, the first generator to set a field wins
+        Map<String, Object> summaryTabFields = Maps.newHashMapWithExpectedSize(SUMMARY_FIELDS.size());
+        SUMMARY_FIELDS.forEach((field, getter) -> summaryTabFields.put(field, summaries.stream()
+            .map(getter)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null)));
         return summaryTabFields;
     }
 
@@ -100,6 +109,20 @@ public class CaseSummaryTabService implements TabService {
         );
     }
 
+    private static int countParties(CaseData caseData) {
+        return Stream.of(
+                caseData.getApplicants(),
+                caseData.getRespondents(),
+                caseData.getChildren(),
+                caseData.getNewChildDetails(),
+                caseData.getOtherPartyInTheCaseRevised(),
+                caseData.getExistingProceedings()
+            )
+            .filter(Objects::nonNull)
+            .mapToInt(List::size)
+            .sum();
+    }
+
     @Override
     public void calEventToRefreshUI() {
         // no current implementation required.
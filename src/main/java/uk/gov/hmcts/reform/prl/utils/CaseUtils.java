@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.prl.utils;
 
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections.CollectionUtils;
@@ -39,6 +41,7 @@ import uk.gov.hmcts.reform.prl.models.dto.ccd.ServeOrderData;
 import uk.gov.hmcts.reform.prl.models.dto.notify.serviceofapplication.EmailNotificationDetails;
 import uk.gov.hmcts.reform.prl.models.roleassignment.getroleassignment.RoleAssignmentServiceResponse;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -124,6 +127,34 @@ public class CaseUtils {
         return caseDataBuilder.build();
     }
 
+    /**
+     * Binds the case data of case details, as the json tree CCD sends them in a callback, straight
+     * to CaseData instead of converting the map of the case data.
+     */
+    public static CaseData getCaseData(JsonNode caseDetails, ObjectCodec codec) throws IOException {
+        JsonNode data = caseDetails.has("case_data") ? caseDetails.get("case_data") : caseDetails.path("data");
+        CaseData caseData = data.isObject() ? codec.treeToValue(data, CaseData.class) : CaseData.builder().build();
+        State state = State.tryFromValue(caseDetails.path("state").textValue()).orElse(null);
+        JsonNode id = caseDetails.get("id");
+        if (id != null && !id.isNull()) {
+            caseData.setId(id.asLong());
+        }
+        caseData.setState(state);
+        caseData.setCreatedDate(getDateTime(caseDetails.path("created_date"), codec));
+        caseData.setLastModifiedDate(getDateTime(caseDetails.path("last_modified"), codec));
+
+        if (State.SUBMITTED_PAID.equals(state) && caseData.getDateSubmitted() == null) {
+            ZonedDateTime zonedDateTime = ZonedDateTime.now(ZoneId.of(EUROPE_LONDON));
+            caseData.setDateSubmitted(DateTimeFormatter.ISO_LOCAL_DATE.format(zonedDateTime));
+        }
+
+        return caseData;
+    }
+
+    private static LocalDateTime getDateTime(JsonNode dateTime, ObjectCodec codec) throws IOException {
+        return dateTime.isTextual() || dateTime.isArray() ? codec.treeToValue(dateTime, LocalDateTime.class) : null;
+    }
+
     public static String getStateLabel(State state) {
         return state != null ? state.getLabel() : "";
     }
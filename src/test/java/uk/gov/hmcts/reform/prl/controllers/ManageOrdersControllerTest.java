@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.prl.controllers;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -51,9 +52,11 @@ import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseDetails;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.HearingData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.HearingDataPrePopulatedDynamicLists;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.LazyCaseData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.ManageOrders;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.ServeOrderData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.StandardDirectionOrder;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.TypedCallbackRequest;
 import uk.gov.hmcts.reform.prl.models.dto.hearings.Hearings;
 import uk.gov.hmcts.reform.prl.models.language.DocumentLanguage;
 import uk.gov.hmcts.reform.prl.services.AmendOrderService;
@@ -101,6 +104,10 @@ import static uk.gov.hmcts.reform.prl.utils.ElementUtils.element;
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class ManageOrdersControllerTest {
 
+    private static final ObjectMapper CASE_DATA_MAPPER = new ObjectMapper()
+        .findAndRegisterModules()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
     private MockMvc mockMvc;
 
     @InjectMocks
@@ -2580,6 +2587,15 @@ public class ManageOrdersControllerTest {
         }, RuntimeException.class, "Invalid Client");
     }
 
+    private static TypedCallbackRequest typed(CallbackRequest callbackRequest) {
+        return TypedCallbackRequest.builder()
+            .eventId(callbackRequest.getEventId())
+            .caseDetails(callbackRequest.getCaseDetails())
+            .caseDetailsBefore(callbackRequest.getCaseDetailsBefore())
+            .lazyCaseData(LazyCaseData.of(callbackRequest.getCaseDetails(), CASE_DATA_MAPPER))
+            .build();
+    }
+
     protected <T extends Throwable> void assertExpectedException(ThrowingRunnable methodExpectedToFail, Class<T> expectedThrowableClass,
                                                                  String expectedMessage) {
         T exception = assertThrows(expectedThrowableClass, methodExpectedToFail);
@@ -2603,12 +2619,10 @@ public class ManageOrdersControllerTest {
             .build();
 
         Mockito.when(authorisationService.isAuthorized(authToken,s2sToken)).thenReturn(true);
-        when(objectMapper.convertValue(caseData, CaseData.class)).thenReturn(caseData);
-        when(objectMapper.convertValue(stringObjectMap, CaseData.class)).thenReturn(caseData);
         when(manageOrderService.populatePreviewOrder(authToken, callbackRequest, caseData)).thenReturn(stringObjectMap);
 
         AboutToStartOrSubmitCallbackResponse callbackResponse = manageOrdersController
-            .validateAndPopulateHearingData(authToken, s2sToken, callbackRequest);
+            .validateAndPopulateHearingData(authToken, s2sToken, typed(callbackRequest));
 
         assertNotNull(callbackResponse);
         assertNotNull(callbackResponse.getErrors());
@@ -2633,12 +2647,10 @@ public class ManageOrdersControllerTest {
             .build();
 
         Mockito.when(authorisationService.isAuthorized(authToken,s2sToken)).thenReturn(true);
-        when(objectMapper.convertValue(caseData, CaseData.class)).thenReturn(caseData);
-        when(objectMapper.convertValue(stringObjectMap, CaseData.class)).thenReturn(caseData);
         when(manageOrderService.populatePreviewOrder(authToken, callbackRequest, caseData)).thenReturn(stringObjectMap);
 
         AboutToStartOrSubmitCallbackResponse callbackResponse = manageOrdersController
-            .validateAndPopulateHearingData(authToken, s2sToken, callbackRequest);
+            .validateAndPopulateHearingData(authToken, s2sToken, typed(callbackRequest));
 
         assertNotNull(callbackResponse);
         assertNotNull(callbackResponse.getErrors());
@@ -2669,12 +2681,10 @@ public class ManageOrdersControllerTest {
             .build();
 
         Mockito.when(authorisationService.isAuthorized(authToken,s2sToken)).thenReturn(true);
-        when(objectMapper.convertValue(caseData, CaseData.class)).thenReturn(caseData);
-        when(objectMapper.convertValue(stringObjectMap, CaseData.class)).thenReturn(caseData);
         when(manageOrderService.populatePreviewOrder(authToken, callbackRequest, caseData)).thenReturn(stringObjectMap);
 
         AboutToStartOrSubmitCallbackResponse callbackResponse = manageOrdersController
-            .validateAndPopulateHearingData(authToken, s2sToken, callbackRequest);
+            .validateAndPopulateHearingData(authToken, s2sToken, typed(callbackRequest));
 
         assertNotNull(callbackResponse);
         assertNotNull(callbackResponse.getErrors());
@@ -2705,12 +2715,10 @@ public class ManageOrdersControllerTest {
             .build();
 
         Mockito.when(authorisationService.isAuthorized(authToken,s2sToken)).thenReturn(true);
-        when(objectMapper.convertValue(caseData, CaseData.class)).thenReturn(caseData);
-        when(objectMapper.convertValue(stringObjectMap, CaseData.class)).thenReturn(caseData);
         when(manageOrderService.populatePreviewOrder(authToken, callbackRequest, caseData)).thenReturn(stringObjectMap);
 
         AboutToStartOrSubmitCallbackResponse callbackResponse = manageOrdersController
-            .validateAndPopulateHearingData(authToken, s2sToken, callbackRequest);
+            .validateAndPopulateHearingData(authToken, s2sToken, typed(callbackRequest));
 
         assertNotNull(callbackResponse);
         assertNotNull(callbackResponse.getErrors());
@@ -2752,12 +2760,10 @@ public class ManageOrdersControllerTest {
                                    .build())
             .build();
 
-        when(objectMapper.convertValue(stringObjectMap, CaseData.class)).thenReturn(expectedCaseData);
-        when(objectMapper.convertValue(caseData, CaseData.class)).thenReturn(caseData);
         when(authorisationService.isAuthorized(any(),any())).thenReturn(true);
 
         AboutToStartOrSubmitCallbackResponse callbackResponse = manageOrdersController
-            .validateAndPopulateHearingData(authToken, s2sToken, callbackRequest);
+            .validateAndPopulateHearingData(authToken, s2sToken, typed(callbackRequest));
 
         assertNotNull(callbackResponse);
     }
@@ -3030,12 +3036,10 @@ public class ManageOrdersControllerTest {
             .build();
 
         Mockito.when(authorisationService.isAuthorized(authToken,s2sToken)).thenReturn(true);
-        when(objectMapper.convertValue(caseData, CaseData.class)).thenReturn(caseData);
-        when(objectMapper.convertValue(stringObjectMap, CaseData.class)).thenReturn(caseData);
         when(manageOrderService.populatePreviewOrder(authToken, callbackRequest, caseData)).thenReturn(stringObjectMap);
 
         AboutToStartOrSubmitCallbackResponse callbackResponse = manageOrdersController
-            .validateAndPopulateHearingData(authToken, s2sToken, callbackRequest);
+            .validateAndPopulateHearingData(authToken, s2sToken, typed(callbackRequest));
 
         assertNotNull(callbackResponse);
         assertNotNull(callbackResponse.getErrors());
@@ -3621,7 +3625,8 @@ public class ManageOrdersControllerTest {
         Mockito.when(authorisationService.isAuthorized(authToken,s2sToken)).thenReturn(false);
 
         assertExpectedException(() -> {
-            manageOrdersController.validateAndPopulateHearingData(authToken, s2sToken, callbackRequest); }, RuntimeException.class, "Invalid Client");
+            manageOrdersController.validateAndPopulateHearingData(authToken, s2sToken, typed(callbackRequest));
+        }, RuntimeException.class, "Invalid Client");
 
     }
 
@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.prl.controllers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import javassist.NotFoundException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -9,7 +8,6 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.annotation.PropertySource;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
-import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.prl.constants.PrlAppsConstants;
 import uk.gov.hmcts.reform.prl.enums.Gender;
@@ -25,6 +23,7 @@ import uk.gov.hmcts.reform.prl.models.complextypes.OtherPersonRelationshipToChil
 import uk.gov.hmcts.reform.prl.models.complextypes.PartyDetails;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.Relations;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.TypedCallbackRequest;
 import uk.gov.hmcts.reform.prl.services.UploadAdditionalApplicationService;
 import uk.gov.hmcts.reform.prl.utils.ApplicantsListGenerator;
 import uk.gov.hmcts.reform.prl.workflows.ApplicationConsiderationTimetableValidationWorkflow;
@@ -40,7 +39,6 @@ import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
-import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.prl.enums.Gender.female;
 import static uk.gov.hmcts.reform.prl.enums.OrderTypeEnum.childArrangementsOrder;
 import static uk.gov.hmcts.reform.prl.utils.ElementUtils.element;
@@ -59,9 +57,6 @@ public class RelationshipsControllerTest {
     @InjectMocks
     private RelationshipsController relationshipsController;
 
-    @Mock
-    private ObjectMapper objectMapper;
-
     @Mock
     private ApplicantsListGenerator applicantsListGenerator;
     @Mock
@@ -105,11 +100,10 @@ public class RelationshipsControllerTest {
         Map<String, Object> caseDataUpdated = new HashMap<>();
         caseDataUpdated.put("applicantChildRelationsList", "test1 test22");
 
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateApplicantToChildRelation("test",
@@ -157,11 +151,10 @@ public class RelationshipsControllerTest {
         Map<String, Object> caseDataUpdated = new HashMap<>();
         caseDataUpdated.put("applicantChildRelationsList", "test1 test22");
 
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendApplicantToChildRelation("test",
@@ -211,11 +204,10 @@ public class RelationshipsControllerTest {
         Map<String, Object> caseDataUpdated = new HashMap<>();
         caseDataUpdated.put("applicantChildRelationsList", "test1 test22");
 
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendApplicantToChildRelation("test",
@@ -272,11 +264,10 @@ public class RelationshipsControllerTest {
         Map<String, Object> caseDataUpdated = new HashMap<>();
         caseDataUpdated.put("childAndApplicantRelations", "test1 test22");
 
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
 
         assertNotNull(relationshipsController.populateApplicantToChildRelation("test",
@@ -317,11 +308,10 @@ public class RelationshipsControllerTest {
         Map<String, Object> caseDataUpdated = new HashMap<>();
         caseDataUpdated.put("applicantChildRelationsList", "test1 test22");
 
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateRespondentToChildRelation("test",
@@ -374,11 +364,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendRespondentToChildRelation("test",
@@ -432,11 +421,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendRespondentToChildRelation("test",
@@ -501,11 +489,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendRespondentToChildRelation("test",
@@ -571,11 +558,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendRespondentToChildRelation("test",
@@ -643,11 +629,10 @@ public class RelationshipsControllerTest {
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
 
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         ChildrenAndRespondentRelation expectedRelation = ChildrenAndRespondentRelation.builder()
             .respondentFullName("Test")
@@ -712,11 +697,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         List<Element<ChildrenAndRespondentRelation>> expectedRelation = Collections.singletonList(
             Element.<ChildrenAndRespondentRelation>builder().value(childrenAndRespondentRelation).build());
@@ -783,11 +767,10 @@ public class RelationshipsControllerTest {
         Map<String, Object> caseDataUpdated = new HashMap<>();
         caseDataUpdated.put("buffChildAndOtherPeopleRelations", "test1 test22");
 
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                       .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateOtherPeopleToChildRelation("test",
@@ -841,11 +824,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendOtherPeopleToChildRelation("test",
@@ -900,11 +882,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendOtherPeopleToChildRelation("test",
@@ -971,11 +952,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendOtherPeopleToChildRelation("test",
@@ -1042,11 +1022,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse aboutToStartOrSubmitCallbackResponse =
             relationshipsController.prePopulateAmendOtherPeopleToChildRelation("test",
@@ -1148,11 +1127,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         ChildrenAndOtherPeopleRelation expectedRelation = ChildrenAndOtherPeopleRelation.builder()
             .otherPeopleFullName("Test")
@@ -1218,11 +1196,10 @@ public class RelationshipsControllerTest {
             .build();
 
         Map<String, Object> caseDataUpdated = new HashMap<>();
-        when(objectMapper.convertValue(caseDataUpdated, CaseData.class)).thenReturn(caseData);
-
-        CallbackRequest callbackRequest =
-            CallbackRequest.builder().caseDetails(CaseDetails.builder().id(123L)
-                                                      .data(caseDataUpdated).build()).build();
+        TypedCallbackRequest callbackRequest = TypedCallbackRequest.builder()
+            .caseData(caseData)
+            .caseDetails(CaseDetails.builder().id(123L).data(caseDataUpdated).build())
+            .build();
 
         AboutToStartOrSubmitCallbackResponse response = relationshipsController.populateOtherPeopleToChildRelation(
             "test",
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.prl.controllers.cafcass;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import feign.FeignException;
@@ -12,6 +13,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.prl.exception.cafcass.InvalidSearchPageException;
 import uk.gov.hmcts.reform.prl.exception.cafcass.exceptionhandlers.ApiError;
 import uk.gov.hmcts.reform.prl.mapper.CcdObjectMapper;
 import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassResponse;
@@ -19,6 +22,7 @@ import uk.gov.hmcts.reform.prl.services.AuthorisationService;
 import uk.gov.hmcts.reform.prl.services.cafcass.CaseDataService;
 import uk.gov.hmcts.reform.prl.utils.TestResourceUtil;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Map;
 
@@ -140,6 +144,88 @@ public class CafCassControllerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
     }
 
+    @Test
+    public void testSearchCasesPagedStreamsCasesAndContinuationToken() throws IOException {
+        ObjectMapper objectMapper = CcdObjectMapper.getObjectMapper();
+        objectMapper.registerModule(new ParameterNamesModule());
+        CafCassResponse expectedCafCassResponse = objectMapper.readValue(
+            TestResourceUtil.readFileFrom(jsonInString),
+            CafCassResponse.class
+        );
+        expectedCafCassResponse.setContinuationToken("token");
+        CafCassController controller = new CafCassController(objectMapper, null, caseDataService, authorisationService);
+
+        when(authorisationService.authoriseService(any())).thenReturn(true);
+        when(authorisationService.authoriseUser(any())).thenReturn(true);
+        when(caseDataService.getCaseDataPage("authorisation", "startDate", "endDate", 4, null))
+            .thenReturn(expectedCafCassResponse);
+        ResponseEntity<StreamingResponseBody> responseEntity = controller.searchCasesByDatesPaged(
+            "authorisation",
+            "serviceAuthorisation",
+            "startDate",
+            "endDate",
+            4,
+            null
+        );
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        responseEntity.getBody().writeTo(outputStream);
+        JsonNode streamedResponse = objectMapper.readTree(outputStream.toByteArray());
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(expectedCafCassResponse)), streamedResponse);
+        assertEquals("token", streamedResponse.get("continuation_token").asText());
+        assertEquals(4, streamedResponse.get("cases").size());
+    }
+
+    @Test
+    public void testSearchCasesPagedInvalidTokenBadRequest() throws IOException {
+        when(authorisationService.authoriseService(any())).thenReturn(true);
+        when(authorisationService.authoriseUser(any())).thenReturn(true);
+        when(caseDataService.getCaseDataPage(TEST_AUTHORIZATION, "startDate", "endDate", 10, "invalid"))
+            .thenThrow(new InvalidSearchPageException("Invalid continuation token"));
+        final ResponseEntity<StreamingResponseBody> response = cafCassController.searchCasesByDatesPaged(
+            TEST_AUTHORIZATION,
+            TEST_SERVICE_AUTHORIZATION,
+            "startDate",
+            "endDate",
+            10,
+            "invalid"
+        );
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void testSearchCasesPagedOtherIllegalArgumentIsServerError() throws IOException {
+        when(authorisationService.authoriseService(any())).thenReturn(true);
+        when(authorisationService.authoriseUser(any())).thenReturn(true);
+        when(caseDataService.getCaseDataPage(TEST_AUTHORIZATION, "startDate", "endDate", 10, null))
+            .thenThrow(new IllegalArgumentException("Cannot deserialize value"));
+        final ResponseEntity<StreamingResponseBody> response = cafCassController.searchCasesByDatesPaged(
+            TEST_AUTHORIZATION,
+            TEST_SERVICE_AUTHORIZATION,
+            "startDate",
+            "endDate",
+            10,
+            null
+        );
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    public void testSearchCasesPagedUnAuthorised() {
+        when(authorisationService.authoriseService(any())).thenReturn(false);
+        when(authorisationService.authoriseUser(any())).thenReturn(false);
+        final ResponseEntity<StreamingResponseBody> response = cafCassController.searchCasesByDatesPaged(
+            "authorisation",
+            "inValidServiceAuthorisation",
+            "startDate",
+            "endDate",
+            10,
+            null
+        );
+        assertEquals(UNAUTHORIZED, response.getStatusCode());
+    }
+
     public static FeignException feignException(int status, String message) {
         return FeignException.errorStatus(message, Response.builder()
             .status(status)
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.prl.handlers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -38,7 +39,9 @@ import java.util.Map;
 
 import static org.apache.commons.lang3.RandomUtils.nextLong;
 import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.C100_CASE_TYPE;
@@ -79,6 +82,9 @@ public class CaseEventHandlerTest {
     @Mock
     private AllTabServiceImpl allTabService;
 
+    @Mock
+    private TaskListRefreshQueue taskListRefreshQueue;
+
     @InjectMocks
     private CaseEventHandler caseEventHandler;
     @Mock
@@ -86,6 +92,14 @@ public class CaseEventHandlerTest {
 
     public static final String authToken = "Bearer TestAuthToken";
 
+    @Before
+    public void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(taskListRefreshQueue).submit(anyString(), any(Runnable.class));
+    }
+
     @Test
     public void shouldUpdateTaskListForCasesInOpenStateC100() {
         final CaseData caseData = CaseData.builder()
@@ -540,4 +554,14 @@ public class CaseEventHandlerTest {
         verify(taskListService).getTasksForOpenCase(caseData);
         verify(taskListRenderer).render(c100Tasks, errors, true, caseData);
     }
+
+    @Test
+    public void shouldQueueRefreshForChangedCase() {
+        final CaseData caseData = CaseData.builder().id(12345L).build();
+        Mockito.reset(taskListRefreshQueue);
+
+        caseEventHandler.handleCaseDataChange(new CaseDataChanged(caseData));
+
+        verify(taskListRefreshQueue).submit(Mockito.eq("12345"), any(Runnable.class));
+    }
 }
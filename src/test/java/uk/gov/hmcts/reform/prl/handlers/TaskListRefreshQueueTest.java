@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.prl.handlers;
+
+import feign.FeignException;
+import org.junit.After;
+import org.junit.Test;
+import uk.gov.hmcts.reform.prl.config.TaskListRefreshConfiguration;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class TaskListRefreshQueueTest {
+
+    private final TaskListRefreshQueue taskListRefreshQueue =
+        new TaskListRefreshQueue(new TaskListRefreshConfiguration(50, 2, 2, 3, 10));
+
+    @After
+    public void tearDown() {
+        taskListRefreshQueue.shutdown();
+    }
+
+    @Test
+    public void testBurstForCaseIsRefreshedOnce() {
+        Runnable refresh = mock(Runnable.class);
+
+        for (int i = 0; i < 5; i++) {
+            taskListRefreshQueue.submit("1", refresh);
+        }
+
+        verify(refresh, timeout(5000)).run();
+        verify(refresh, after(200).times(1)).run();
+    }
+
+    @Test
+    public void testRefreshAskedForWhileRunningRunsAgain() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch refreshedAgain = new CountDownLatch(1);
+        taskListRefreshQueue.submit("1", () -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        taskListRefreshQueue.submit("1", refreshedAgain::countDown);
+        release.countDown();
+
+        assertTrue(refreshedAgain.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConflictIsRetried() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch refreshed = new CountDownLatch(1);
+
+        taskListRefreshQueue.submit("1", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw mock(FeignException.Conflict.class);
+            }
+            refreshed.countDown();
+        });
+
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void testConflictRetriesStopAtMaxAttempts() {
+        Runnable refresh = mock(Runnable.class);
+        doThrow(mock(FeignException.Conflict.class)).when(refresh).run();
+
+        taskListRefreshQueue.submit("1", refresh);
+
+        verify(refresh, timeout(5000).times(3)).run();
+        verify(refresh, after(200).times(3)).run();
+    }
+
+    @Test
+    public void testRefreshRunsOnCallerWhenQueueIsFull() {
+        AtomicInteger refreshes = new AtomicInteger();
+        taskListRefreshQueue.submit("1", refreshes::incrementAndGet);
+        taskListRefreshQueue.submit("2", refreshes::incrementAndGet);
+
+        taskListRefreshQueue.submit("3", refreshes::incrementAndGet);
+
+        assertEquals(1, refreshes.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
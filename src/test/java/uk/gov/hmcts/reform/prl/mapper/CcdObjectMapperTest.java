@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.prl.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.Test;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.request.QueryParam;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class CcdObjectMapperTest {
+
+    @Test
+    public void testSearchQueryIsWrittenCompactWithoutEmptyValues() throws JsonProcessingException {
+        QueryParam queryParam = QueryParam.builder()
+            .size("10")
+            .sort(List.of(Map.of("last_modified", "asc")))
+            .searchAfter(List.of())
+            .build();
+
+        assertEquals(
+            "{\"size\":\"10\",\"sort\":[{\"last_modified\":\"asc\"}]}",
+            CcdObjectMapper.getSearchQueryWriter().writeValueAsString(queryParam)
+        );
+    }
+
+    @Test
+    public void testSearchResultIsConvertedWithoutEmptyValues() {
+        Map<String, Object> searchResult = Map.of("total", 1, "cases", List.of(Map.of("id", 123L, "data", Map.of("applicantName", ""))));
+
+        Map<?, ?> converted = CcdObjectMapper.convertSearchResult(searchResult, Map.class);
+
+        assertEquals(Map.of("total", 1, "cases", List.of(Map.of("id", 123L))), converted);
+    }
+}
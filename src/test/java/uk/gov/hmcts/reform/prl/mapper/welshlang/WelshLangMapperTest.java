@@ -15,6 +15,7 @@ import uk.gov.hmcts.reform.prl.models.dto.ccd.AttendHearing;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.StandardDirectionOrder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -103,4 +104,61 @@ public class WelshLangMapperTest {
                                                                                 .getDisplayedValue())));
         Assert.assertEquals(caseDataValues.get("typeOfApplicationOrders"), map);
     }
+
+    @Test
+    public void shouldPreferFieldTranslationOverValueTranslation() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("isWelshNeeded", "yes");
+        values.put("isDisabilityPresent", "Yes");
+        values.put("applicantCaseName", "Yes");
+
+        WelshLangMapper.applyWelshTranslation(values, true);
+
+        Assert.assertEquals(WelshLangMapper.CA_WELSH_MAP.get("isWelshNeeded_yes"), values.get("isWelshNeeded"));
+        Assert.assertEquals(WelshLangMapper.CA_WELSH_MAP.get("isDisabilityPresent_Yes"), values.get("isDisabilityPresent"));
+        Assert.assertEquals(WelshLangMapper.CA_WELSH_MAP.get("Yes"), values.get("applicantCaseName"));
+    }
+
+    @Test
+    public void shouldNotTranslateConditionalFields() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("canYouProvideEmailAddress", "Yes");
+        values.put("ordersNonMolestation", "No");
+
+        WelshLangMapper.applyWelshTranslation(values, true);
+
+        Assert.assertEquals("Yes", values.get("canYouProvideEmailAddress"));
+        Assert.assertEquals("No", values.get("ordersNonMolestation"));
+    }
+
+    @Test
+    public void shouldTranslateListValuesWithoutTheirField() {
+        List<Object> values = new ArrayList<>(List.of("yes", "Yes", "not translated"));
+
+        WelshLangMapper.applyWelshTranslation("isWelshNeeded", values, true);
+
+        Assert.assertEquals(Arrays.asList("yes", WelshLangMapper.CA_WELSH_MAP.get("Yes"), "not translated"), values);
+    }
+
+    @Test
+    public void shouldLeaveUntranslatedValuesOfImmutableCollections() {
+        Map<String, Object> values = Map.of("applicantCaseName", "not translated", "orders", List.of("not translated"));
+
+        Assert.assertSame(values, WelshLangMapper.applyWelshTranslation(values, false));
+    }
+
+    @Test
+    public void shouldCopyOnlyTheTranslatedPartsOfTheValues() {
+        List<Object> untranslated = List.of("not translated");
+        Map<String, Object> applicant = Map.of("firstName", "not translated", "isAddressConfidential", "Yes");
+        Map<String, Object> values = Map.of("orders", untranslated, "applicant", applicant, "applicantCaseName", "Yes");
+
+        Map<String, Object> welsh = WelshLangMapper.getWelshTranslation(values, true);
+
+        Assert.assertEquals("Yes", values.get("applicantCaseName"));
+        Assert.assertEquals(WelshLangMapper.CA_WELSH_MAP.get("Yes"), welsh.get("applicantCaseName"));
+        Assert.assertSame(untranslated, welsh.get("orders"));
+        Assert.assertNotSame(applicant, welsh.get("applicant"));
+        Assert.assertEquals("Yes", applicant.get("isAddressConfidential"));
+    }
 }
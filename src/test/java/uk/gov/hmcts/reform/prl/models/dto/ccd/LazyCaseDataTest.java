@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.prl.models.dto.ccd;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.Before;
+import org.junit.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.prl.enums.State;
+import uk.gov.hmcts.reform.prl.enums.YesOrNo;
+import uk.gov.hmcts.reform.prl.models.Element;
+import uk.gov.hmcts.reform.prl.models.complextypes.OtherDocuments;
+import uk.gov.hmcts.reform.prl.models.documents.Document;
+import uk.gov.hmcts.reform.prl.utils.CaseUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static uk.gov.hmcts.reform.prl.utils.ElementUtils.element;
+
+public class LazyCaseDataTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+    private CaseDetails caseDetails;
+
+    @Before
+    public void setUp() {
+        CaseData caseData = CaseData.builder()
+            .applicantCaseName("Test case")
+            .caseTypeOfApplication("C100")
+            .manageOrders(ManageOrders.builder()
+                              .isCaseWithdrawn(YesOrNo.No)
+                              .recitalsOrPreamble("Recitals")
+                              .orderDirections("Directions")
+                              .build())
+            .serviceOfApplication(ServiceOfApplication.builder()
+                                      .soaCafcassServedOptions(YesOrNo.Yes)
+                                      .soaCafcassEmailId("cafcass@example.com")
+                                      .build())
+            .otherDocuments(List.of(element(OtherDocuments.builder()
+                                                .documentName("Other document")
+                                                .documentOther(Document.builder().documentFileName("other.pdf").build())
+                                                .build())))
+            .build();
+        caseDetails = CaseDetails.builder()
+            .id(1643814972454925L)
+            .state(State.CASE_ISSUED.getValue())
+            .data(objectMapper.convertValue(caseData, new TypeReference<Map<String, Object>>() {}))
+            .build();
+    }
+
+    @Test
+    public void testSectionsAreBoundTheSameAsInTheWholeCaseData() {
+        CaseData caseData = CaseUtils.getCaseData(caseDetails, objectMapper);
+        LazyCaseData lazyCaseData = LazyCaseData.of(caseDetails, objectMapper);
+
+        assertEquals(caseData.getManageOrders(), lazyCaseData.getManageOrders());
+        assertEquals(caseData.getServiceOfApplication(), lazyCaseData.getServiceOfApplication());
+        assertEquals(caseData.getServeOrderData(), lazyCaseData.getServeOrderData());
+        assertEquals(
+            caseData.getOtherDocuments(),
+            lazyCaseData.getField("otherDocuments", new TypeReference<List<Element<OtherDocuments>>>() {})
+        );
+        assertEquals(caseData, lazyCaseData.getCaseData());
+    }
+
+    @Test
+    public void testSectionsAreBoundWithTheCodecOfTheRequest() throws Exception {
+        String request = objectMapper.writeValueAsString(Map.of("event_id", "manageOrders", "case_details", caseDetails));
+
+        TypedCallbackRequest callbackRequest = objectMapper.readerFor(TypedCallbackRequest.class).readValue(request);
+
+        assertEquals(callbackRequest.getCaseData().getManageOrders(), callbackRequest.getLazyCaseData().getManageOrders());
+    }
+
+    @Test
+    public void testSectionsAreBoundOnce() {
+        LazyCaseData lazyCaseData = LazyCaseData.of(caseDetails, objectMapper);
+
+        assertSame(lazyCaseData.getManageOrders(), lazyCaseData.getManageOrders());
+        assertSame(lazyCaseData.getCaseData(), lazyCaseData.getCaseData());
+        assertNull(lazyCaseData.getField("finalDocument", new TypeReference<Document>() {}));
+        assertEquals("Recitals", lazyCaseData.getManageOrders().getRecitalsOrPreamble());
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.prl.models.dto.ccd;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.prl.enums.State;
+import uk.gov.hmcts.reform.prl.enums.YesOrNo;
+import uk.gov.hmcts.reform.prl.utils.CaseUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class TypedCallbackRequestTest {
+
+    private static final String CALLBACK_REQUEST = """
+        {
+          "event_id": "submitAndPay",
+          "case_details": {
+            "id": 1643814972454925,
+            "jurisdiction": "PRIVATELAW",
+            "case_type_id": "PRLAPPS",
+            "state": "SUBMITTED_PAID",
+            "created_date": "2021-12-16T13:18:30.307",
+            "last_modified": "2021-12-17T09:00:00",
+            "case_data": {
+              "applicantCaseName": "Test case",
+              "caseTypeOfApplication": "C100",
+              "isCaseUrgent": "Yes",
+              "applicants": [
+                {
+                  "id": "48fd1001-a785-454c-b142-d0056fec7556",
+                  "value": {
+                    "firstName": "Applicant",
+                    "lastName": "Surname",
+                    "dateOfBirth": "1990-01-01",
+                    "address": {"AddressLine1": "1 High Street", "PostCode": "SW1A 1AA"}
+                  }
+                }
+              ],
+              "passThroughField": "unknown field"
+            }
+          }
+        }
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    public void testCaseDataIsBoundTheSameAsFromTheCaseDetailsMap() throws Exception {
+        TypedCallbackRequest typedCallbackRequest = objectMapper.readValue(CALLBACK_REQUEST, TypedCallbackRequest.class);
+        CallbackRequest callbackRequest = objectMapper.readValue(CALLBACK_REQUEST, CallbackRequest.class);
+
+        CaseData caseData = typedCallbackRequest.getCaseData();
+
+        assertEquals(CaseUtils.getCaseData(callbackRequest.getCaseDetails(), objectMapper), caseData);
+        assertEquals(1643814972454925L, caseData.getId());
+        assertEquals(State.SUBMITTED_PAID, caseData.getState());
+        assertEquals(LocalDateTime.of(2021, 12, 16, 13, 18, 30, 307_000_000), caseData.getCreatedDate());
+        assertNotNull(caseData.getDateSubmitted());
+        assertEquals(YesOrNo.Yes, caseData.getIsCaseUrgent());
+        assertEquals("Applicant", caseData.getApplicants().get(0).getValue().getFirstName());
+        assertEquals("submitAndPay", typedCallbackRequest.getEventId());
+    }
+
+    @Test
+    public void testIdOfTheCaseDataIsKeptWhenCaseDetailsHaveNoId() throws Exception {
+        TypedCallbackRequest typedCallbackRequest = objectMapper.readValue(
+            "{\"case_details\": {\"case_data\": {\"id\": 1643814972454925}}}",
+            TypedCallbackRequest.class
+        );
+
+        assertEquals(1643814972454925L, typedCallbackRequest.getCaseData().getId());
+    }
+
+    @Test
+    public void testCaseDetailsKeepTheRawCaseData() throws Exception {
+        TypedCallbackRequest typedCallbackRequest = objectMapper.readValue(CALLBACK_REQUEST, TypedCallbackRequest.class);
+
+        assertEquals(
+            objectMapper.readValue(CALLBACK_REQUEST, CallbackRequest.class).getCaseDetails(),
+            typedCallbackRequest.getCaseDetails()
+        );
+        assertEquals("unknown field", typedCallbackRequest.getCaseDetails().getData().get("passThroughField"));
+        assertNull(typedCallbackRequest.getCaseDetailsBefore());
+    }
+}
@@ -93,7 +93,6 @@ import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofh
 import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharm.DomesticAbuseVictim;
 import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.AllegationsOfHarmRevisedOrders;
 import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.OrderRevised;
-import uk.gov.hmcts.reform.prl.models.complextypes.applicationtab.allegationsofharmrevised.RevisedChildAbductionDetails;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.AllegationOfHarm;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.AllegationOfHarmRevised;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.AttendHearing;
@@ -531,13 +530,6 @@ public class ApplicationsTabServiceTest {
             .thenReturn(Respondent.builder().build());
         when(objectMapper.convertValue(partyDetails, OtherPersonInTheCase.class))
             .thenReturn(OtherPersonInTheCase.builder().build());
-        when(objectMapper.convertValue(caseDataWithParties, AllegationsOfHarmOrders.class))
-            .thenReturn(allegationsOfHarmOrders);
-        when(objectMapper.convertValue(caseDataWithParties, ChildAbductionDetails.class))
-            .thenReturn(
-                ChildAbductionDetails.builder().build());
-        when(objectMapper.convertValue(caseDataWithParties, AllegationsOfHarmOtherConcerns.class))
-            .thenReturn(AllegationsOfHarmOtherConcerns.builder().build());
 
         assertNotNull(applicationsTabService.updateTab(caseDataWithParties));
     }
@@ -577,8 +569,17 @@ public class ApplicationsTabServiceTest {
         ChildAbuse childAbuse = ChildAbuse.builder().abuseNatureDescription("test").typeOfAbuse(ChildAbuseEnum.physicalAbuse)
             .build();
 
-        RevisedChildAbductionDetails revisedChildAbductionDetails = RevisedChildAbductionDetails.builder()
-            .newAbductionChildHasPassport(Yes).build();
+        when(objectMapper.convertValue(partyDetails, Applicant.class))
+            .thenReturn(Applicant.builder().gender("male").build());
+        when(objectMapper.convertValue(partyDetails, Respondent.class))
+            .thenReturn(Respondent.builder().build());
+        Mockito.lenient().when(allegationOfHarmRevisedService.getIfAllChildrenAreRisk(any(ChildAbuseEnum.class), any(AllegationOfHarmRevised.class)))
+            .thenReturn(YesOrNo.Yes);
+        Mockito.lenient().when(allegationOfHarmRevisedService.getWhichChildrenAreInRisk(any(ChildAbuseEnum.class),any(AllegationOfHarmRevised.class)))
+            .thenReturn(DynamicMultiSelectList
+                            .builder().value(List.of(DynamicMultiselectListElement
+                                                         .builder().code("test").build())).build());
+
         CaseData caseData = caseDataWithParties.toBuilder().taskListVersion(TASK_LIST_VERSION_V2)
             .allegationOfHarmRevised(AllegationOfHarmRevised.builder()
                                          .childPassportDetails(ChildPassportDetails.builder().newChildPassportPossession(
@@ -599,20 +600,6 @@ public class ApplicationsTabServiceTest {
                                          .childFinancialAbuse(childAbuse)
                                          .childSexualAbuse(childAbuse).build()).build();
 
-        when(objectMapper.convertValue(caseData, AllegationsOfHarmRevisedOrders.class))
-            .thenReturn(allegationsOfHarmRevisedOrders);
-        when(objectMapper.convertValue(caseData, RevisedChildAbductionDetails.class))
-            .thenReturn(revisedChildAbductionDetails);
-        when(objectMapper.convertValue(partyDetails, Applicant.class))
-            .thenReturn(Applicant.builder().gender("male").build());
-        when(objectMapper.convertValue(partyDetails, Respondent.class))
-            .thenReturn(Respondent.builder().build());
-        Mockito.lenient().when(allegationOfHarmRevisedService.getIfAllChildrenAreRisk(any(ChildAbuseEnum.class), any(AllegationOfHarmRevised.class)))
-            .thenReturn(YesOrNo.Yes);
-        Mockito.lenient().when(allegationOfHarmRevisedService.getWhichChildrenAreInRisk(any(ChildAbuseEnum.class),any(AllegationOfHarmRevised.class)))
-            .thenReturn(DynamicMultiSelectList
-                            .builder().value(List.of(DynamicMultiselectListElement
-                                                         .builder().code("test").build())).build());
         assertNotNull(applicationsTabService.updateTab(caseData));
     }
 
@@ -651,8 +638,6 @@ public class ApplicationsTabServiceTest {
             .undertakingInPlaceOrder(orderRevised)
             .build();
 
-        RevisedChildAbductionDetails revisedChildAbductionDetails = RevisedChildAbductionDetails.builder()
-            .newAbductionChildHasPassport(Yes).build();
 
         CaseData caseData = caseDataWithParties.toBuilder()
             .taskListVersion(TASK_LIST_VERSION_V3)
@@ -669,10 +654,6 @@ public class ApplicationsTabServiceTest {
             .thenReturn(Respondent.builder().build());
         when(miamPolicyUpgradeService.updateMiamPolicyUpgradeDetails(any(CaseData.class), anyMap()))
             .thenReturn(caseData);
-        when(objectMapper.convertValue(caseData, AllegationsOfHarmRevisedOrders.class))
-            .thenReturn(allegationsOfHarmRevisedOrders);
-        when(objectMapper.convertValue(caseData, RevisedChildAbductionDetails.class))
-            .thenReturn(revisedChildAbductionDetails);
 
         assertNotNull(applicationsTabService.updateTab(caseData));
     }
@@ -709,8 +690,6 @@ public class ApplicationsTabServiceTest {
             .undertakingInPlaceOrder(orderRevised)
             .build();
 
-        RevisedChildAbductionDetails revisedChildAbductionDetails = RevisedChildAbductionDetails.builder()
-            .newAbductionChildHasPassport(Yes).build();
 
         Element<PartyDetails> applicantElement = Element.<PartyDetails>builder().value(partyDetails).build();
         List<Element<PartyDetails>> applicantList = Collections.singletonList(applicantElement);
@@ -745,10 +724,6 @@ public class ApplicationsTabServiceTest {
             .thenReturn(Respondent.builder().build());
         when(miamPolicyUpgradeService.updateMiamPolicyUpgradeDetails(any(CaseData.class), anyMap()))
             .thenReturn(caseData);
-        when(objectMapper.convertValue(caseData, AllegationsOfHarmRevisedOrders.class))
-            .thenReturn(allegationsOfHarmRevisedOrders);
-        when(objectMapper.convertValue(caseData, RevisedChildAbductionDetails.class))
-            .thenReturn(revisedChildAbductionDetails);
 
         assertNotNull(applicationsTabService.updateTab(caseData));
 
@@ -833,7 +808,6 @@ public class ApplicationsTabServiceTest {
             "doYouRequireAHearingWithReducedNotice", "No"
         );
 
-        when(objectMapper.convertValue(caseDataWithParties, HearingUrgency.class)).thenReturn(hearingUrgency);
         when(objectMapper.convertValue(hearingUrgency, Map.class)).thenReturn(hearingUrgencyMap);
         assertEquals(hearingUrgencyMap, applicationsTabService.getHearingUrgencyTable(caseDataWithParties));
     }
@@ -872,12 +846,17 @@ public class ApplicationsTabServiceTest {
             "allegationsOfHarmDomesticAbuseYesNo", "Yes",
             "allegationsOfHarmChildAbductionYesNo", "Yes"
         );
-        when(objectMapper.convertValue(caseDataWithParties, AllegationsOfHarmOverview.class))
-            .thenReturn(allegationsOfHarmOverview);
+        CaseData caseData = caseDataWithParties.toBuilder()
+            .allegationOfHarm(AllegationOfHarm.builder()
+                                  .allegationsOfHarmYesNo(Yes)
+                                  .allegationsOfHarmDomesticAbuseYesNo(Yes)
+                                  .allegationsOfHarmChildAbductionYesNo(Yes)
+                                  .build())
+            .build();
         when(objectMapper.convertValue(allegationsOfHarmOverview, Map.class)).thenReturn(allegationsOfHarmOverviewMap);
         assertEquals(
             allegationsOfHarmOverviewMap,
-            applicationsTabService.getAllegationsOfHarmOverviewTable(caseDataWithParties)
+            applicationsTabService.getAllegationsOfHarmOverviewTable(caseData)
         );
     }
 
@@ -893,11 +872,28 @@ public class ApplicationsTabServiceTest {
             "claimingExemptionMiam", "No",
             "familyMediatorMiam", "Yes"
         );
-        when(objectMapper.convertValue(caseDataWithParties, Miam.class)).thenReturn(miam);
         when(objectMapper.convertValue(miam, Map.class)).thenReturn(miamMap);
         assertEquals(miamMap, applicationsTabService.getMiamTable(caseDataWithParties));
     }
 
+    @Test
+    public void testMiamTableTakesMediatorFromPolicyUpgradeDetails() {
+        CaseData caseData = CaseData.builder()
+            .miamDetails(MiamDetails.builder().mediatorRegistrationNumber("MIAM").soleTraderName("Sole trader").build())
+            .build();
+        Miam miam = Miam.builder().mediatorRegistrationNumber("MIAM").soleTraderName("Sole trader").build();
+        Miam policyUpgradeMiam = Miam.builder().mediatorRegistrationNumber("Policy upgrade").build();
+        Map<String, Object> miamMap = Map.of("mediatorRegistrationNumber", "MIAM");
+        Map<String, Object> policyUpgradeMiamMap = Map.of("mediatorRegistrationNumber", "Policy upgrade");
+        when(objectMapper.convertValue(miam, Map.class)).thenReturn(miamMap);
+        when(objectMapper.convertValue(policyUpgradeMiam, Map.class)).thenReturn(policyUpgradeMiamMap);
+
+        assertEquals(miamMap, applicationsTabService.getMiamTable(caseData));
+        assertEquals(policyUpgradeMiamMap, applicationsTabService.getMiamTable(caseData.toBuilder()
+            .miamPolicyUpgradeDetails(MiamPolicyUpgradeDetails.builder().mediatorRegistrationNumber("Policy upgrade").build())
+            .build()));
+    }
+
     @Test
     public void testCompleteMiamExemptionsTableMapper() {
         String exemptions = MiamExemptionsChecklistEnum.domesticViolence.getDisplayedValue();
@@ -1006,8 +1002,6 @@ public class ApplicationsTabServiceTest {
             "habitualResidentInOtherStateGiveReason", "Example reason",
             "requestToForeignAuthority", YesOrNo.Yes
         );
-        when(objectMapper.convertValue(caseDataWithParties, InternationalElement.class))
-            .thenReturn(internationalElement);
         when(objectMapper.convertValue(internationalElement, Map.class)).thenReturn(internationalElementMap);
         assertEquals(internationalElementMap, applicationsTabService.getInternationalElementTable(caseDataWithParties));
     }
@@ -1025,8 +1019,6 @@ public class ApplicationsTabServiceTest {
             "adjustmentsRequired", "Adjustments String",
             "isDisabilityPresent", YesOrNo.No
         );
-        when(objectMapper.convertValue(caseDataWithParties, AttendingTheHearing.class))
-            .thenReturn(attendingTheHearing);
         when(objectMapper.convertValue(attendingTheHearing, Map.class)).thenReturn(attendingTheHearingMap);
         assertEquals(attendingTheHearingMap, applicationsTabService.getAttendingTheHearingTable(caseDataWithParties));
     }
@@ -1042,8 +1034,6 @@ public class ApplicationsTabServiceTest {
             "litigationCapacityFactors", "Test",
             "litigationCapacityOtherFactors", YesOrNo.Yes
         );
-        when(objectMapper.convertValue(caseDataWithParties, LitigationCapacity.class))
-            .thenReturn(litigationCapacity);
         when(objectMapper.convertValue(litigationCapacity, Map.class)).thenReturn(litigationCapacityMap);
         assertEquals(litigationCapacityMap, applicationsTabService.getLitigationCapacityDetails(caseDataWithParties));
     }
@@ -1071,10 +1061,6 @@ public class ApplicationsTabServiceTest {
             "ordersNonMolestation", "Yes",
             "nonMolestationOrder", Map.of("courtName", "non mol test")
         );
-        when(objectMapper.convertValue(
-            orderCaseData,
-            AllegationsOfHarmOrders.class
-        )).thenReturn(allegationsOfHarmOrders);
         when(objectMapper.convertValue(allegationsOfHarmOrders, Map.class)).thenReturn(orderMap);
         assertEquals(orderMap, applicationsTabService.getAllegationsOfHarmOrdersTable(orderCaseData));
     }
@@ -1112,8 +1098,6 @@ public class ApplicationsTabServiceTest {
             "welshLanguageRequirement", YesOrNo.Yes,
             "languageRequirementApplicationNeedWelsh", YesOrNo.No
         );
-        when(objectMapper.convertValue(caseDataWithParties, WelshLanguageRequirements.class))
-            .thenReturn(welshLanguageRequirements);
         when(objectMapper.convertValue(welshLanguageRequirements, Map.class)).thenReturn(welshMap);
         assertEquals(welshMap, applicationsTabService.getWelshLanguageRequirementsTable(caseDataWithParties));
 
@@ -1132,8 +1116,6 @@ public class ApplicationsTabServiceTest {
             "abductionPreviousPoliceInvolvement", YesOrNo.No
         );
 
-        when(objectMapper.convertValue(caseDataWithParties, ChildAbductionDetails.class))
-            .thenReturn(childAbductionDetails);
         when(objectMapper.convertValue(childAbductionDetails, Map.class)).thenReturn(abductionMap);
         assertEquals(abductionMap, applicationsTabService.getChildAbductionTable(caseDataWithParties));
     }
@@ -1151,8 +1133,6 @@ public class ApplicationsTabServiceTest {
             "agreeChildUnsupervisedTime", YesOrNo.No
         );
 
-        when(objectMapper.convertValue(caseDataWithParties, AllegationsOfHarmOtherConcerns.class))
-            .thenReturn(allegationsOfHarmOtherConcerns);
         when(objectMapper.convertValue(allegationsOfHarmOtherConcerns, Map.class)).thenReturn(concernMap);
         assertEquals(concernMap, applicationsTabService.getAllegationsOfHarmOtherConcerns(caseDataWithParties));
     }
@@ -1779,13 +1759,6 @@ public class ApplicationsTabServiceTest {
 
         when(objectMapper.convertValue(partyDetails, OtherPersonInTheCase.class))
             .thenReturn(OtherPersonInTheCase.builder().build());
-        when(objectMapper.convertValue(caseDataWithParties, AllegationsOfHarmOrders.class))
-            .thenReturn(allegationsOfHarmOrders);
-        when(objectMapper.convertValue(caseDataWithParties, ChildAbductionDetails.class))
-            .thenReturn(
-                ChildAbductionDetails.builder().build());
-        when(objectMapper.convertValue(caseDataWithParties, AllegationsOfHarmOtherConcerns.class))
-            .thenReturn(AllegationsOfHarmOtherConcerns.builder().build());
         when(objectMapper.convertValue(partyDetails, Applicant.class))
             .thenReturn(Applicant.builder().gender("male").build());
         when(objectMapper.convertValue(partyDetails, Respondent.class))
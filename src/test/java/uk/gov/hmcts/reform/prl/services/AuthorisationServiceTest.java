@@ -1,12 +1,17 @@
 package uk.gov.hmcts.reform.prl.services;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import uk.gov.hmcts.reform.authorisation.ServiceAuthorisationApi;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
@@ -14,8 +19,12 @@ import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import java.util.UUID;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
@@ -30,11 +39,19 @@ public class AuthorisationServiceTest {
     @Mock
     IdamClient idamClient;
 
+    @Spy
+    TokenIntrospectionCache tokenIntrospectionCache = new TokenIntrospectionCache(100, 300);
+
     @Before
     public void setup() {
         ReflectionTestUtils.setField(authorisationService, "s2sAuthorisedServices", "payment_api");
     }
 
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     public void authoriseWhenTheServiceIsCalledFromPayment() {
 
@@ -79,4 +96,39 @@ public class AuthorisationServiceTest {
         when(serviceAuthorisationApi.getServiceName(any())).thenReturn("unknown_api");
         assertFalse(authorisationService.isAuthorized("Bearer abcasda", "s2s token"));
     }
+
+    @Test
+    public void authoriseUserChecksTokenWithIdamOnlyOnceUntilItExpires() {
+        String authorisation = "Bearer " + TokenIntrospectionCacheTest.jwtExpiringIn(3600);
+        when(idamClient.getUserInfo(authorisation)).thenReturn(UserInfo.builder().uid(UUID.randomUUID().toString()).build());
+
+        assertTrue(authorisationService.authoriseUser(authorisation));
+        assertTrue(authorisationService.authoriseUser(authorisation));
+
+        verify(idamClient, times(1)).getUserInfo(authorisation);
+    }
+
+    @Test
+    public void authoriseServiceChecksTokenWithS2sOnlyOnceUntilItExpires() {
+        String serviceAuthorisation = "Bearer " + TokenIntrospectionCacheTest.jwtExpiringIn(3600);
+        when(serviceAuthorisationApi.getServiceName(serviceAuthorisation)).thenReturn("payment_api");
+
+        assertTrue(authorisationService.authoriseService(serviceAuthorisation));
+        assertTrue(authorisationService.authoriseService(serviceAuthorisation));
+
+        verify(serviceAuthorisationApi, times(1)).getServiceName(serviceAuthorisation);
+    }
+
+    @Test
+    public void getUserInfoReturnsUserAuthorisedInCurrentRequest() {
+        UserInfo userInfo = UserInfo.builder().uid(UUID.randomUUID().toString()).build();
+        when(idamClient.getUserInfo(any())).thenReturn(userInfo);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertTrue(authorisationService.authoriseUser("Bearer abcasda"));
+
+        assertSame(userInfo, authorisationService.getUserInfo());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertNull(authorisationService.getUserInfo());
+    }
 }
@@ -5,11 +5,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.function.ThrowingRunnable;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import uk.gov.hmcts.reform.prl.clients.DgsApiClient;
+import uk.gov.hmcts.reform.prl.enums.YesOrNo;
 import uk.gov.hmcts.reform.prl.framework.exceptions.DocumentGenerationException;
 import uk.gov.hmcts.reform.prl.models.Element;
 import uk.gov.hmcts.reform.prl.models.dto.GenerateDocumentRequest;
@@ -28,9 +30,12 @@ import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -186,6 +191,29 @@ public class DgsServiceTest {
         ), generatedDocumentInfo);
     }
 
+    @Test
+    public void testCaseDetailsAreConvertedOnceForAllRendersOfAContext() throws Exception {
+        caseDetails.setCaseData(caseData.toBuilder().caseTypeOfApplication("FL401").welshLanguageRequirement(YesOrNo.Yes).build());
+        when(dgsApiClient.generateDocument(any(), any())).thenReturn(generatedDocumentInfo);
+
+        DgsRenderContext renderContext = dgsService.createRenderContext(caseDetails);
+        dgsService.generateDocument(authToken, renderContext, PRL_DRAFT_TEMPLATE);
+        dgsService.generateDocument(authToken, renderContext, "FL-PRL-C8-V1.docx");
+        dgsService.generateWelshDocument(authToken, renderContext, PRL_DRAFT_TEMPLATE);
+        dgsService.generateWelshDocument(authToken, renderContext, "FL-PRL-APP-WEL-C8-V1.docx");
+
+        ArgumentCaptor<GenerateDocumentRequest> request = ArgumentCaptor.forClass(GenerateDocumentRequest.class);
+        verify(dgsApiClient, times(4)).generateDocument(any(), request.capture());
+        List<GenerateDocumentRequest> requests = request.getAllValues();
+        Map<String, Object> english = (Map<String, Object>) requests.get(0).getValues().get("caseDetails");
+        Map<String, Object> welsh = (Map<String, Object>) requests.get(2).getValues().get("caseDetails");
+        assertSame(english, requests.get(1).getValues().get("caseDetails"));
+        assertSame(welsh, requests.get(3).getValues().get("caseDetails"));
+        assertEquals("Yes", ((Map<String, Object>) english.get("case_data")).get("welshLanguageRequirement"));
+        assertEquals("Oes", ((Map<String, Object>) welsh.get("case_data")).get("welshLanguageRequirement"));
+        assertEquals(english.get("id"), welsh.get("id"));
+    }
+
     @Test
     public void testgenerateCitizenDocument() throws Exception {
         dgsService.generateCitizenDocument(" ", generateAndUploadDocumentRequest, " ");
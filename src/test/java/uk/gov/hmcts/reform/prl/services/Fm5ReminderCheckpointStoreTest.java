@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.gov.hmcts.reform.prl.config.Fm5ReminderConfiguration;
+import uk.gov.hmcts.reform.prl.models.Fm5ReminderCheckpoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class Fm5ReminderCheckpointStoreTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File checkpointFile;
+
+    private Fm5ReminderCheckpointStore fm5ReminderCheckpointStore;
+
+    @Before
+    public void setUp() {
+        checkpointFile = new File(temporaryFolder.getRoot(), "fm5/checkpoint.json");
+        fm5ReminderCheckpointStore = new Fm5ReminderCheckpointStore(
+            new Fm5ReminderConfiguration(100, 4, 3, 0, checkpointFile.getPath()));
+    }
+
+    @Test
+    public void testSavedCheckpointIsLoaded() {
+        Fm5ReminderCheckpoint checkpoint = Fm5ReminderCheckpoint.builder()
+            .runStartedAt("2024-05-01T21:00:00")
+            .hearingAwayDays(18L)
+            .lastModified(1714557600000L)
+            .reference("1714557600000123")
+            .casesProcessed(200)
+            .build();
+
+        fm5ReminderCheckpointStore.save(checkpoint);
+
+        assertEquals(Optional.of(checkpoint), fm5ReminderCheckpointStore.load());
+    }
+
+    @Test
+    public void testClearedCheckpointIsNotLoaded() {
+        fm5ReminderCheckpointStore.save(Fm5ReminderCheckpoint.builder().runStartedAt("2024-05-01T21:00:00").build());
+
+        fm5ReminderCheckpointStore.clear();
+
+        assertFalse(checkpointFile.exists());
+        assertEquals(Optional.empty(), fm5ReminderCheckpointStore.load());
+    }
+
+    @Test
+    public void testUnreadableCheckpointIsIgnored() throws IOException {
+        Files.createDirectories(checkpointFile.getParentFile().toPath());
+        Files.write(checkpointFile.toPath(), "{not json".getBytes(UTF_8));
+
+        assertEquals(Optional.empty(), fm5ReminderCheckpointStore.load());
+    }
+
+    @Test
+    public void testNothingIsKeptWithoutACheckpointFile() {
+        Fm5ReminderCheckpointStore withoutFile = new Fm5ReminderCheckpointStore(
+            new Fm5ReminderConfiguration(100, 4, 3, 0, ""));
+
+        withoutFile.save(Fm5ReminderCheckpoint.builder().runStartedAt("2024-05-01T21:00:00").build());
+
+        assertEquals(Optional.empty(), withoutFile.load());
+        withoutFile.clear();
+    }
+}
@@ -1,13 +1,14 @@
 package uk.gov.hmcts.reform.prl.services;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
@@ -17,13 +18,14 @@ import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.prl.clients.HearingApiClient;
 import uk.gov.hmcts.reform.prl.clients.ccd.records.StartAllTabsUpdateDataContent;
+import uk.gov.hmcts.reform.prl.config.Fm5ReminderConfiguration;
 import uk.gov.hmcts.reform.prl.enums.State;
 import uk.gov.hmcts.reform.prl.enums.YesOrNo;
 import uk.gov.hmcts.reform.prl.enums.managedocuments.DocumentPartyEnum;
 import uk.gov.hmcts.reform.prl.enums.serviceofapplication.Fm5PendingParty;
 import uk.gov.hmcts.reform.prl.models.Address;
 import uk.gov.hmcts.reform.prl.models.Element;
-import uk.gov.hmcts.reform.prl.models.SearchResultResponse;
+import uk.gov.hmcts.reform.prl.models.Fm5ReminderCheckpoint;
 import uk.gov.hmcts.reform.prl.models.complextypes.PartyDetails;
 import uk.gov.hmcts.reform.prl.models.complextypes.QuarantineLegalDoc;
 import uk.gov.hmcts.reform.prl.models.documents.Document;
@@ -35,16 +37,26 @@ import uk.gov.hmcts.reform.prl.models.dto.hearings.CaseHearing;
 import uk.gov.hmcts.reform.prl.models.dto.hearings.HearingDaySchedule;
 import uk.gov.hmcts.reform.prl.models.dto.hearings.Hearings;
 import uk.gov.hmcts.reform.prl.models.dto.notification.NotificationDetails;
+import uk.gov.hmcts.reform.prl.services.hearings.BatchedHearingsClient;
 import uk.gov.hmcts.reform.prl.services.tab.alltabs.AllTabServiceImpl;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -86,12 +98,21 @@ public class Fm5ReminderServiceTest {
     @Mock
     HearingApiClient hearingApiClient;
 
+    @Spy
+    BatchedHearingsClient batchedHearingsClient = new BatchedHearingsClient(100, 2);
+
     @Mock
     AllTabServiceImpl allTabService;
 
     @Mock
     Fm5NotificationService fm5NotificationService;
 
+    @Spy
+    Fm5ReminderConfiguration fm5ReminderConfiguration = new Fm5ReminderConfiguration(100, 2, 3, 0, "fm5-checkpoint.json");
+
+    @Mock
+    Fm5ReminderCheckpointStore fm5ReminderCheckpointStore;
+
     @Before
     public void setUp() {
         when(systemUserService.getSysUserToken()).thenReturn(authToken);
@@ -132,13 +153,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
 
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
@@ -256,13 +272,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -286,13 +297,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -319,13 +325,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -368,13 +369,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -388,8 +384,7 @@ public class Fm5ReminderServiceTest {
         SearchResult searchResult = SearchResult.builder()
             .total(0)
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(null);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -438,13 +433,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -454,14 +444,15 @@ public class Fm5ReminderServiceTest {
     }
 
     @Test
-    public void testSendFm5ReminderNotificationsWithException() throws JsonProcessingException {
-
-        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("") {});
+    public void testSendFm5ReminderNotificationsSearchQueryIsCompact() {
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
-        //verify
-        verifyNoInteractions(fm5NotificationService);
 
+        ArgumentCaptor<String> searchString = ArgumentCaptor.forClass(String.class);
+        verify(coreCaseDataApi).searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), searchString.capture());
+        assertFalse(searchString.getValue().contains("\n"));
+        assertFalse(searchString.getValue().contains("search_after"));
+        assertTrue(searchString.getValue().contains("\"size\":\"100\""));
     }
 
     @Test
@@ -489,13 +480,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -528,13 +514,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -568,13 +549,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -608,13 +584,8 @@ public class Fm5ReminderServiceTest {
             .total(1)
             .cases(List.of(caseDetails))
             .build();
-        when(coreCaseDataApi.searchCases(authToken, s2sAuthToken, CASE_TYPE, null)).thenReturn(searchResult);
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString())).thenReturn(searchResult);
 
-        SearchResultResponse response = SearchResultResponse.builder()
-            .total(1)
-            .cases(List.of(caseDetails))
-            .build();
-        when(objectMapper.convertValue(searchResult, SearchResultResponse.class)).thenReturn(response);
         when(objectMapper.convertValue(caseDetails.getData(), CaseData.class)).thenReturn(caseData);
 
         fm5ReminderService.sendFm5ReminderNotifications(null);
@@ -623,4 +594,115 @@ public class Fm5ReminderServiceTest {
         verifyNoInteractions(fm5NotificationService);
     }
 
+    @Test
+    public void testSendFm5ReminderNotificationsPagesThroughAllCases() {
+        doReturn(1).when(fm5ReminderConfiguration).getPageSize();
+        caseDetails = caseDetails.toBuilder()
+            .lastModified(LocalDateTime.of(2024, 5, 1, 10, 0))
+            .build();
+        SearchResult firstPage = SearchResult.builder().total(1).cases(List.of(caseDetails)).build();
+        SearchResult lastPage = SearchResult.builder().total(0).cases(new ArrayList<>()).build();
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString()))
+            .thenReturn(firstPage, lastPage);
+
+        fm5ReminderService.sendFm5ReminderNotifications(null);
+
+        ArgumentCaptor<String> searchStrings = ArgumentCaptor.forClass(String.class);
+        verify(coreCaseDataApi, times(2)).searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), searchStrings.capture());
+        long lastModified = caseDetails.getLastModified().toInstant(ZoneOffset.UTC).toEpochMilli();
+        assertFalse(searchStrings.getAllValues().get(0).contains("search_after"));
+        assertTrue(searchStrings.getAllValues().get(1).contains("\"search_after\":[" + lastModified + ",\"123\"]"));
+
+        ArgumentCaptor<Fm5ReminderCheckpoint> checkpoint = ArgumentCaptor.forClass(Fm5ReminderCheckpoint.class);
+        verify(fm5ReminderCheckpointStore).save(checkpoint.capture());
+        assertEquals("123", checkpoint.getValue().getReference());
+        assertEquals(1L, checkpoint.getValue().getCasesProcessed());
+        verify(fm5ReminderCheckpointStore).clear();
+        verify(fm5NotificationService, times(1))
+            .sendFm5ReminderNotifications(caseData, Fm5PendingParty.BOTH);
+    }
+
+    @Test
+    public void testRetrieveCasesPendingFm5RemindersReturnsCasesOfAllPages() {
+        doReturn(1).when(fm5ReminderConfiguration).getPageSize();
+        caseDetails = caseDetails.toBuilder()
+            .lastModified(LocalDateTime.of(2024, 5, 1, 10, 0))
+            .build();
+        CaseDetails secondCase = caseDetails.toBuilder().id(124L).build();
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString()))
+            .thenReturn(
+                SearchResult.builder().total(1).cases(List.of(caseDetails)).build(),
+                SearchResult.builder().total(1).cases(List.of(secondCase)).build(),
+                SearchResult.builder().total(0).cases(new ArrayList<>()).build()
+            );
+
+        List<CaseDetails> cases = fm5ReminderService.retrieveCasesInHearingStatePendingFm5Reminders();
+
+        assertEquals(List.of(123L, 124L), cases.stream().map(CaseDetails::getId).toList());
+        verify(coreCaseDataApi, times(3)).searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString());
+    }
+
+    @Test
+    public void testSendFm5ReminderNotificationsLeavesOutCasesWhoseHearingsCannotBeFetched() {
+        doReturn(1).when(fm5ReminderConfiguration).getPageSize();
+        caseDetails = caseDetails.toBuilder()
+            .lastModified(LocalDateTime.of(2024, 5, 1, 10, 0))
+            .build();
+        when(coreCaseDataApi.searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), anyString()))
+            .thenReturn(
+                SearchResult.builder().total(1).cases(List.of(caseDetails)).build(),
+                SearchResult.builder().total(0).cases(new ArrayList<>()).build()
+            );
+        when(hearingApiClient.getHearingsForAllCaseIdsWithCourtVenue(any(), any(), anyList()))
+            .thenThrow(new RuntimeException("hearings api unavailable"));
+
+        fm5ReminderService.sendFm5ReminderNotifications(null);
+
+        verify(fm5ReminderCheckpointStore, never()).save(any());
+        verify(fm5ReminderCheckpointStore, never()).clear();
+        verifyNoInteractions(fm5NotificationService);
+        verify(allTabService, never()).getStartUpdateForSpecificEvent(anyString(), anyString());
+    }
+
+    @Test
+    public void testSendFm5ReminderNotificationsResumesFromCheckpoint() {
+        when(fm5ReminderCheckpointStore.load()).thenReturn(Optional.of(Fm5ReminderCheckpoint.builder()
+            .runStartedAt(LocalDate.now().atStartOfDay().toString())
+            .lastModified(1714557600000L)
+            .reference("122")
+            .casesProcessed(100)
+            .build()));
+
+        fm5ReminderService.sendFm5ReminderNotifications(null);
+
+        ArgumentCaptor<String> searchString = ArgumentCaptor.forClass(String.class);
+        verify(coreCaseDataApi).searchCases(eq(authToken), eq(s2sAuthToken), eq(CASE_TYPE), searchString.capture());
+        assertTrue(searchString.getValue().contains("\"search_after\":[1714557600000,\"122\"]"));
+        verify(fm5ReminderCheckpointStore).clear();
+    }
+
+    @Test
+    public void testSendFm5ReminderNotificationsRetriesFailedCaseUpdateWithoutResending() {
+        when(allTabService.submitAllTabsUpdate(anyString(), anyString(), any(), any(), any()))
+            .thenThrow(new RuntimeException("ccd unavailable"))
+            .thenReturn(CaseDetails.builder().build());
+
+        fm5ReminderService.sendFm5ReminderNotifications(null);
+
+        verify(allTabService, times(2)).submitAllTabsUpdate(anyString(), anyString(), any(), any(), any());
+        verify(fm5NotificationService, times(1))
+            .sendFm5ReminderNotifications(caseData, Fm5PendingParty.BOTH);
+    }
+
+    @Test
+    public void testSendFm5ReminderNotificationsGivesUpAfterMaxAttempts() {
+        when(allTabService.submitAllTabsUpdate(anyString(), anyString(), any(), any(), any()))
+            .thenThrow(new RuntimeException("ccd unavailable"));
+
+        fm5ReminderService.sendFm5ReminderNotifications(null);
+
+        verify(allTabService, times(3)).submitAllTabsUpdate(anyString(), anyString(), any(), any(), any());
+        verify(fm5ReminderCheckpointStore).clear();
+    }
+
 }
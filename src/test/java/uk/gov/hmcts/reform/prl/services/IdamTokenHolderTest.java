@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import org.junit.Test;
+import uk.gov.hmcts.reform.idam.client.models.TokenResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class IdamTokenHolderTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    public void testTokenWithoutExpiresInIsKeptForThirtyMinutes() {
+        IdamTokenHolder<String> tokenHolder = tokenHolder(null);
+
+        tokenHolder.get();
+        now.addAndGet(1_500_000L - 1);
+        assertEquals("token-1", tokenHolder.get());
+
+        now.addAndGet(1);
+        assertEquals("token-2", tokenHolder.get());
+    }
+
+    @Test
+    public void testRefreshBeforeExpiryIsCappedAtHalfTheLifeOfTheToken() {
+        IdamTokenHolder<String> tokenHolder = tokenHolder("60");
+
+        tokenHolder.get();
+        now.addAndGet(29_999L);
+        assertEquals("token-1", tokenHolder.get());
+
+        now.addAndGet(1);
+        assertEquals("token-2", tokenHolder.get());
+    }
+
+    @Test
+    public void testNothingIsValidBeforeTheFirstFetch() {
+        assertNull(tokenHolder("60").getIfValid());
+        assertEquals(0, fetches.get());
+    }
+
+    private IdamTokenHolder<String> tokenHolder(String expiresIn) {
+        return new IdamTokenHolder<>(
+            "test user",
+            () -> new IdamTokenHolder.Fetched<>(
+                "token-" + fetches.incrementAndGet(),
+                new TokenResponse("access-token", expiresIn, null, null, null, "Bearer")
+            ),
+            300,
+            now::get
+        );
+    }
+}
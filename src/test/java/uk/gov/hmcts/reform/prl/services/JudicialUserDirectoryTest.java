@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import uk.gov.hmcts.reform.prl.config.JudicialUserCacheConfiguration;
+import uk.gov.hmcts.reform.prl.models.dto.judicial.JudicialUsersApiResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static uk.gov.hmcts.reform.prl.services.JudicialUserDirectory.JUDICIAL_USER_CACHE;
+
+public class JudicialUserDirectoryTest {
+
+    private static final String V2 = "v2";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final JudicialUserDirectory judicialUserDirectory = new JudicialUserDirectory(
+        new JudicialUserCacheConfiguration(10, 60, 5), meterRegistry);
+
+    private final List<List<String>> lookups = new ArrayList<>();
+
+    @Test
+    public void testMissingCodesAreLookedUpTogether() {
+        judicialUserDirectory.resolve(V2, List.of("1"), this::lookup);
+
+        List<JudicialUsersApiResponse> judges = judicialUserDirectory.resolve(V2, List.of("3", "1", "2", "3"), this::lookup);
+
+        assertEquals(List.of("3", "1", "2"), judges.stream().map(JudicialUsersApiResponse::getPersonalCode).toList());
+        assertEquals(List.of(List.of("1"), List.of("3", "2")), lookups);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", JUDICIAL_USER_CACHE)
+            .tag("result", "hit").functionCounter().count(), 0.0);
+    }
+
+    @Test
+    public void testUnknownCodesAreRemembered() {
+        judicialUserDirectory.resolve(V2, List.of("1", "unknown"), this::lookup);
+
+        List<JudicialUsersApiResponse> judges = judicialUserDirectory.resolve(V2, List.of("unknown"), this::lookup);
+
+        assertTrue(judges.isEmpty());
+        assertEquals(1, lookups.size());
+    }
+
+    @Test
+    public void testJudgesAreCachedPerApiVersion() {
+        judicialUserDirectory.resolve(V2, List.of("1"), this::lookup);
+        judicialUserDirectory.resolve("v1", List.of("1"), this::lookup);
+
+        assertEquals(2, lookups.size());
+    }
+
+    @Test
+    public void testFailedLookupIsNotCached() {
+        assertThrows(RuntimeException.class, () -> judicialUserDirectory.resolve(V2, List.of("1"), codes -> {
+            throw new RuntimeException("judicial ref data unavailable");
+        }));
+
+        List<JudicialUsersApiResponse> judges = judicialUserDirectory.resolve(V2, List.of("1"), this::lookup);
+
+        assertEquals(1, judges.size());
+    }
+
+    private List<JudicialUsersApiResponse> lookup(String[] personalCodes) {
+        lookups.add(List.of(personalCodes));
+        List<JudicialUsersApiResponse> judges = new ArrayList<>();
+        for (String personalCode : personalCodes) {
+            if (!"unknown".equals(personalCode)) {
+                judges.add(JudicialUsersApiResponse.builder().personalCode(personalCode).surname("judge" + personalCode).build());
+            }
+        }
+        return judges;
+    }
+}
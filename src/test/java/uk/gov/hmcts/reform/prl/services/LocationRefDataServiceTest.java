@@ -24,6 +24,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.C100_DEFAULT_BASE_LOCATION_ID;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.C100_DEFAULT_BASE_LOCATION_NAME;
@@ -49,6 +52,9 @@ public class LocationRefDataServiceTest {
     @Mock
     private AuthTokenGenerator authTokenGenerator;
 
+    @Mock
+    private SystemUserService systemUserService;
+
     @Before
     public void setUp() {
         when(authTokenGenerator.generate()).thenReturn("");
@@ -314,4 +320,73 @@ public class LocationRefDataServiceTest {
         assertEquals(MIDLANDS, caseManagementLocation.getRegionName());
         assertEquals("2", caseManagementLocation.getRegion());
     }
+
+    @Test
+    public void testCourtVenuesAreFetchedOnceForAllLists() {
+        ReflectionTestUtils.setField(locationRefDataService,"courtsToFilter", "2:email,3,4:email");
+        when(locationRefDataApi.getCourtDetailsByService(Mockito.anyString(),Mockito.anyString(),Mockito.anyString()))
+            .thenReturn(CourtDetails.builder()
+                            .courtVenues(List.of(
+                                CourtVenue.builder().siteName("b").courtEpimmsId("2").courtTypeId(FAMILY_COURT_TYPE_ID).build(),
+                                CourtVenue.builder().siteName("a").courtEpimmsId("3").courtTypeId(FAMILY_COURT_TYPE_ID).build(),
+                                CourtVenue.builder().siteName("c").courtEpimmsId("5").courtTypeId(FAMILY_COURT_TYPE_ID).build(),
+                                CourtVenue.builder().siteName("d").courtEpimmsId("4").region(SCOTLAND)
+                                    .courtTypeId(FAMILY_COURT_TYPE_ID).build()))
+                            .build());
+
+        List<DynamicListElement> courtLocations = locationRefDataService.getCourtLocations("test");
+        List<DynamicListElement> filteredCourtLocations = locationRefDataService.getFilteredCourtLocations("test");
+        locationRefDataService.getDaCourtLocations("test");
+        Optional<CourtVenue> courtVenue = locationRefDataService.getCourtDetailsFromEpimmsId("3", "test");
+
+        assertEquals(List.of("3:", "2:email"), courtLocations.stream().map(DynamicListElement::getCode).toList());
+        assertEquals(List.of("3:"), filteredCourtLocations.stream().map(DynamicListElement::getCode).toList());
+        assertTrue(courtVenue.isPresent());
+        verify(locationRefDataApi, times(1)).getCourtDetailsByService(Mockito.anyString(),Mockito.anyString(),Mockito.anyString());
+    }
+
+    @Test
+    public void testScheduledRefreshReplacesCatalogue() {
+        when(systemUserService.getSysUserToken()).thenReturn("system");
+        when(locationRefDataApi.getCourtDetailsByService(Mockito.anyString(),Mockito.anyString(),Mockito.anyString()))
+            .thenReturn(CourtDetails.builder()
+                            .courtVenues(List.of(CourtVenue.builder().siteName("a").courtEpimmsId("2")
+                                                     .courtTypeId(FAMILY_COURT_TYPE_ID).build()))
+                            .build())
+            .thenReturn(CourtDetails.builder()
+                            .courtVenues(List.of(CourtVenue.builder().siteName("a").courtEpimmsId("2")
+                                                     .courtTypeId(FAMILY_COURT_TYPE_ID).build(),
+                                                 CourtVenue.builder().siteName("b").courtEpimmsId("3")
+                                                     .courtTypeId(FAMILY_COURT_TYPE_ID).build()))
+                            .build());
+
+        locationRefDataService.getCourtLocations("test");
+        locationRefDataService.refreshCatalogue();
+
+        assertEquals(2, locationRefDataService.getCourtLocations("test").size());
+        verify(locationRefDataApi).getCourtDetailsByService(Mockito.eq("system"), Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    public void testCatalogueIsKeptWhenRefreshFails() {
+        when(systemUserService.getSysUserToken()).thenReturn("system");
+        when(locationRefDataApi.getCourtDetailsByService(Mockito.anyString(),Mockito.anyString(),Mockito.anyString()))
+            .thenReturn(CourtDetails.builder()
+                            .courtVenues(List.of(CourtVenue.builder().siteName("a").courtEpimmsId("2")
+                                                     .courtTypeId(FAMILY_COURT_TYPE_ID).build()))
+                            .build())
+            .thenThrow(new RuntimeException("ref data unavailable"));
+
+        locationRefDataService.getCourtLocations("test");
+        locationRefDataService.refreshCatalogue();
+
+        assertEquals("2:email", locationRefDataService.getCourtLocations("test").get(0).getCode());
+    }
+
+    @Test
+    public void testRefreshDoesNothingBeforeFirstUse() {
+        locationRefDataService.refreshCatalogue();
+
+        verify(systemUserService, never()).getSysUserToken();
+    }
 }
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+import uk.gov.hmcts.reform.prl.config.OrganisationCacheConfiguration;
+import uk.gov.hmcts.reform.prl.models.Organisations;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static uk.gov.hmcts.reform.prl.services.OrganisationDetailsCache.ORGANISATION_DETAILS_CACHE;
+import static uk.gov.hmcts.reform.prl.services.OrganisationServiceTest.feignException;
+
+public class OrganisationDetailsCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final OrganisationDetailsCache organisationDetailsCache = new OrganisationDetailsCache(
+        new OrganisationCacheConfiguration(2, 60, 5), meterRegistry);
+
+    @Test
+    public void testOrganisationIsLoadedOnceAndCounted() {
+        Organisations organisations = Organisations.builder().organisationIdentifier("ORG1").name("Org 1").build();
+        AtomicInteger loads = new AtomicInteger();
+
+        Organisations first = organisationDetailsCache.get("ORG1", () -> {
+            loads.incrementAndGet();
+            return organisations;
+        });
+        Organisations second = organisationDetailsCache.get("ORG1", () -> {
+            loads.incrementAndGet();
+            return organisations;
+        });
+
+        assertSame(organisations, first);
+        assertSame(organisations, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", ORGANISATION_DETAILS_CACHE)
+            .tag("result", "hit").functionCounter().count(), 0.0);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", ORGANISATION_DETAILS_CACHE)
+            .tag("result", "miss").functionCounter().count(), 0.0);
+    }
+
+    @Test
+    public void testNotFoundIsCachedAndThrownAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThrows(FeignException.NotFound.class, () -> organisationDetailsCache.get("UNKNOWN", () -> {
+            loads.incrementAndGet();
+            throw feignException(404, "Not found");
+        }));
+        assertThrows(FeignException.NotFound.class, () -> organisationDetailsCache.get("UNKNOWN", () -> {
+            loads.incrementAndGet();
+            return Organisations.builder().build();
+        }));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testOtherFailuresAreNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThrows(FeignException.class, () -> organisationDetailsCache.get("ORG1", () -> {
+            loads.incrementAndGet();
+            throw feignException(500, "Internal server error");
+        }));
+        Organisations organisations = organisationDetailsCache.get("ORG1", () -> {
+            loads.incrementAndGet();
+            return Organisations.builder().organisationIdentifier("ORG1").build();
+        });
+
+        assertEquals("ORG1", organisations.getOrganisationIdentifier());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testNullOrganisationIsNotCached() {
+        assertNull(organisationDetailsCache.get("ORG1", () -> null));
+        Organisations organisations = organisationDetailsCache.get("ORG1", () ->
+            Organisations.builder().organisationIdentifier("ORG1").build());
+
+        assertEquals("ORG1", organisations.getOrganisationIdentifier());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedOrganisationIsEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+        for (String organisationId : new String[] {"ORG1", "ORG2", "ORG3", "ORG1"}) {
+            organisationDetailsCache.get(organisationId, () -> {
+                loads.incrementAndGet();
+                return Organisations.builder().organisationIdentifier(organisationId).build();
+            });
+        }
+
+        assertEquals(4, loads.get());
+    }
+}
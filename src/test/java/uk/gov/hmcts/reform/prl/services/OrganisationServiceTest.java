@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.prl.services;
 import feign.FeignException;
 import feign.Request;
 import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import javassist.NotFoundException;
 import org.junit.Before;
 import org.junit.Test;
@@ -10,9 +11,11 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.prl.clients.OrganisationApi;
+import uk.gov.hmcts.reform.prl.config.OrganisationCacheConfiguration;
 import uk.gov.hmcts.reform.prl.enums.YesNoDontKnow;
 import uk.gov.hmcts.reform.prl.models.ContactInformation;
 import uk.gov.hmcts.reform.prl.models.Element;
@@ -45,6 +48,9 @@ public class OrganisationServiceTest {
     private OrganisationApi organisationApi;
     @Mock
     private SystemUserService systemUserService;
+    @Spy
+    private OrganisationDetailsCache organisationDetailsCache = new OrganisationDetailsCache(
+        new OrganisationCacheConfiguration(100, 60, 5), new SimpleMeterRegistry());
 
     private final String authToken = "Bearer testAuthtoken";
     private final String serviceAuthToken = "serviceTestAuthtoken";
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.TokenResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RefDataAccessTokenHolderTest {
+
+    private static final String USERNAME = "refdata";
+    private static final String PASSWORD = "password";
+
+    @Mock
+    private IdamClient idamClient;
+
+    @Test
+    public void testTokenIsReusedUntilCloseToExpiry() {
+        RefDataAccessTokenHolder refDataAccessTokenHolder = new RefDataAccessTokenHolder(idamClient, USERNAME, PASSWORD, 300);
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD)).thenReturn(tokenResponse("token-1", "28800"));
+
+        refDataAccessTokenHolder.getAccessToken();
+        String accessToken = refDataAccessTokenHolder.getAccessToken();
+
+        assertEquals("Bearer token-1", accessToken);
+        verify(idamClient, times(1)).getAccessTokenResponse(USERNAME, PASSWORD);
+    }
+
+    @Test
+    public void testTokenIsFetchedAgainWhenDueForRefresh() {
+        RefDataAccessTokenHolder refDataAccessTokenHolder = new RefDataAccessTokenHolder(idamClient, USERNAME, PASSWORD, 300);
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD))
+            .thenReturn(tokenResponse("token-1", "0"))
+            .thenReturn(tokenResponse("token-2", "28800"));
+
+        refDataAccessTokenHolder.getAccessToken();
+        String accessToken = refDataAccessTokenHolder.getAccessToken();
+
+        assertEquals("Bearer token-2", accessToken);
+        verify(idamClient, times(2)).getAccessTokenResponse(USERNAME, PASSWORD);
+    }
+
+    @Test
+    public void testCurrentTokenIsKeptWhenRefreshBeforeExpiryFails() {
+        AtomicLong now = new AtomicLong(1_000_000L);
+        RefDataAccessTokenHolder refDataAccessTokenHolder =
+            new RefDataAccessTokenHolder(idamClient, USERNAME, PASSWORD, 300, now::get);
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD))
+            .thenReturn(tokenResponse("token-1", "28800"))
+            .thenThrow(new RuntimeException("idam unavailable"));
+
+        refDataAccessTokenHolder.getAccessToken();
+        now.addAndGet(28_600_000L);
+        String accessToken = refDataAccessTokenHolder.getAccessToken();
+
+        assertEquals("Bearer token-1", accessToken);
+        verify(idamClient, times(2)).getAccessTokenResponse(USERNAME, PASSWORD);
+    }
+
+    private static TokenResponse tokenResponse(String accessToken, String expiresIn) {
+        return new TokenResponse(accessToken, expiresIn, null, null, null, "Bearer");
+    }
+}
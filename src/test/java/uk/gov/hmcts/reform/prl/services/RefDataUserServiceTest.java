@@ -1,19 +1,18 @@
 package uk.gov.hmcts.reform.prl.services;
 
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
-import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.prl.clients.CommonDataRefApi;
 import uk.gov.hmcts.reform.prl.clients.JudicialUserDetailsApi;
-import uk.gov.hmcts.reform.prl.clients.StaffResponseDetailsApi;
+import uk.gov.hmcts.reform.prl.config.JudicialUserCacheConfiguration;
+import uk.gov.hmcts.reform.prl.config.ReferenceCatalogueConfiguration;
 import uk.gov.hmcts.reform.prl.config.launchdarkly.LaunchDarklyClient;
 import uk.gov.hmcts.reform.prl.models.common.dynamic.DynamicListElement;
 import uk.gov.hmcts.reform.prl.models.dto.datamigration.caseflag.CaseFlag;
@@ -24,29 +23,28 @@ import uk.gov.hmcts.reform.prl.models.dto.hearingdetails.CategoryValues;
 import uk.gov.hmcts.reform.prl.models.dto.hearingdetails.CommonDataResponse;
 import uk.gov.hmcts.reform.prl.models.dto.judicial.JudicialUsersApiRequest;
 import uk.gov.hmcts.reform.prl.models.dto.judicial.JudicialUsersApiResponse;
-import uk.gov.hmcts.reform.prl.models.dto.legalofficer.StaffProfile;
-import uk.gov.hmcts.reform.prl.models.dto.legalofficer.StaffResponse;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.HEARINGCHANNEL;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.HEARINGTYPE;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.IS_HEARINGCHILDREQUIRED_N;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.LEGALOFFICE;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_FIRST_PAGE;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_PAGE_SIZE;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_SECOND_PAGE;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_TOTAL_RECORDS_HEADER;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.SERVICENAME;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.SERVICE_ID;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.STAFFORDERASC;
-import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.STAFFSORTCOLUMN;
 import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.VIDEOPLATFORM;
 
 
@@ -61,16 +59,14 @@ public class RefDataUserServiceTest {
     private AuthTokenGenerator authTokenGenerator;
 
     @Mock
-    IdamClient idamClient;
+    RefDataAccessTokenHolder refDataAccessTokenHolder;
 
     @Mock
-    StaffResponseDetailsApi staffResponseDetailsApi;
+    StaffDirectoryService staffDirectoryService;
 
-    @Mock
-    StaffProfile staffProfile;
-
-    @Mock
-    StaffResponse staffResponse;
+    @Spy
+    JudicialUserDirectory judicialUserDirectory = new JudicialUserDirectory(
+        new JudicialUserCacheConfiguration(10, 60, 5), new SimpleMeterRegistry());
 
     @Mock
     JudicialUserDetailsApi judicialUserDetailsApi;
@@ -84,73 +80,24 @@ public class RefDataUserServiceTest {
     @Mock
     LaunchDarklyClient launchDarklyClient;
 
-    @Value("${prl.refdata.username}")
-    private String refDataIdamUsername;
-
-    @Value("${prl.refdata.password}")
-    private String refDataIdamPassword;
+    @Spy
+    ReferenceCatalogueCache referenceCatalogueCache = new ReferenceCatalogueCache(new ReferenceCatalogueConfiguration());
 
     public static final String authToken = "Bearer TestAuthToken";
     public static final String s2sToken = "Bearer TestAuthToken";
 
 
-    @Test
-    public void testGetStaffDetailssWithNullStaffData() {
-        when(staffResponseDetailsApi.getAllStaffResponseDetails(
-            idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword),
-            authTokenGenerator.generate(),
-            SERVICENAME,
-            STAFFSORTCOLUMN,
-            STAFFORDERASC,
-            RD_STAFF_PAGE_SIZE,
-            RD_STAFF_FIRST_PAGE
-        )).thenReturn(null);
-        List<DynamicListElement> staffDetails = refDataUserService.getLegalAdvisorList();
-        assertNull(staffDetails.get(0).getCode());
-    }
-
     @Test
     public void testGetStaffDetailsWithException() {
-        when(staffResponseDetailsApi.getAllStaffResponseDetails(
-            idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword),
-            authTokenGenerator.generate(),
-            SERVICENAME,
-            STAFFSORTCOLUMN,
-            STAFFORDERASC,
-            RD_STAFF_PAGE_SIZE,
-            RD_STAFF_FIRST_PAGE
-        ))
-            .thenThrow(NullPointerException.class);
+        when(staffDirectoryService.getLegalAdvisers()).thenThrow(NullPointerException.class);
         List<DynamicListElement> legalAdvisor = refDataUserService.getLegalAdvisorList();
         assertNull(legalAdvisor.get(0).getCode());
     }
 
     @Test
     public void testGetStaffDetailsWithData() {
-
-        StaffProfile staffProfile1 = StaffProfile.builder().userType("Legal office").lastName("David").emailId(
-            "test2@com").build();
-
-        StaffProfile staffProfile2 = StaffProfile.builder().userType(LEGALOFFICE).lastName("John").emailId(
-            "test1@com").build();
-
-        StaffResponse staffResponse1 = StaffResponse.builder().ccdServiceName("PRIVATELAW").staffProfile(staffProfile1).build();
-        StaffResponse staffResponse2 = StaffResponse.builder().ccdServiceName("PRIVATELAW").staffProfile(staffProfile2).build();
-        List<StaffResponse> listOfStaffResponse = new ArrayList<>();
-        listOfStaffResponse.add(staffResponse1);
-        listOfStaffResponse.add(staffResponse2);
-        ResponseEntity<List<StaffResponse>> staffResponse = ResponseEntity.ok().body(listOfStaffResponse);
-        when(idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword)).thenReturn(authToken);
-        when(authTokenGenerator.generate()).thenReturn("s2sToken");
-        when(staffResponseDetailsApi.getAllStaffResponseDetails(
-            idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword),
-            authTokenGenerator.generate(),
-            SERVICENAME,
-            STAFFSORTCOLUMN,
-            STAFFORDERASC,
-            RD_STAFF_PAGE_SIZE,
-            RD_STAFF_FIRST_PAGE
-        )).thenReturn(staffResponse);
+        when(staffDirectoryService.getLegalAdvisers())
+            .thenReturn(List.of(DynamicListElement.builder().code("David(test2@com)").label("David(test2@com)").build()));
 
         List<DynamicListElement> legalAdvisorList = refDataUserService.getLegalAdvisorList();
         assertNotNull(legalAdvisorList.get(0).getCode());
@@ -160,7 +107,7 @@ public class RefDataUserServiceTest {
 
     @Test
     public void testGetAllJudicialUsersForV2() {
-        when(idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword)).thenReturn(authToken);
+        when(refDataAccessTokenHolder.getAccessToken()).thenReturn(authToken);
         when(authTokenGenerator.generate()).thenReturn(s2sToken);
         JudicialUsersApiResponse judge1 = JudicialUsersApiResponse.builder().surname("lastName1").fullName("judge1@test.com").build();
         JudicialUsersApiResponse judge2 = JudicialUsersApiResponse.builder().surname("lastName2").fullName("judge2@test.com").build();
@@ -170,8 +117,8 @@ public class RefDataUserServiceTest {
         when(launchDarklyClient.isFeatureEnabled(any())).thenReturn(true);
         JudicialUsersApiRequest judicialUsersApiRequest = JudicialUsersApiRequest.builder().personalCode(new String[3]).build();
         when(judicialUserDetailsApi.getAllJudicialUserDetailsV2(
-            idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword),
-            authTokenGenerator.generate(),
+            authToken,
+            s2sToken,
             judicialUsersApiRequest
         )).thenReturn(listOfJudges);
         List<JudicialUsersApiResponse> expectedRespose = refDataUserService.getAllJudicialUserDetails(judicialUsersApiRequest);
@@ -181,7 +128,7 @@ public class RefDataUserServiceTest {
 
     @Test
     public void testGetAllJudicialUsersForV1() {
-        when(idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword)).thenReturn(authToken);
+        when(refDataAccessTokenHolder.getAccessToken()).thenReturn(authToken);
         when(authTokenGenerator.generate()).thenReturn(s2sToken);
         JudicialUsersApiResponse judge1 = JudicialUsersApiResponse.builder().surname("lastName1").fullName("judge1@test.com").build();
         JudicialUsersApiResponse judge2 = JudicialUsersApiResponse.builder().surname("lastName2").fullName("judge2@test.com").build();
@@ -191,8 +138,8 @@ public class RefDataUserServiceTest {
         when(launchDarklyClient.isFeatureEnabled(any())).thenReturn(false);
         JudicialUsersApiRequest judicialUsersApiRequest = JudicialUsersApiRequest.builder().personalCode(new String[3]).build();
         when(judicialUserDetailsApi.getAllJudicialUserDetails(
-            idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword),
-            authTokenGenerator.generate(),
+            authToken,
+            s2sToken,
             judicialUsersApiRequest
         )).thenReturn(listOfJudges);
         List<JudicialUsersApiResponse> expectedRespose = refDataUserService.getAllJudicialUserDetails(judicialUsersApiRequest);
@@ -200,6 +147,26 @@ public class RefDataUserServiceTest {
         assertEquals("lastName1",expectedRespose.get(0).getSurname());
     }
 
+    @Test
+    public void testJudicialUsersAreLookedUpOncePerPersonalCode() {
+        when(refDataAccessTokenHolder.getAccessToken()).thenReturn(authToken);
+        when(authTokenGenerator.generate()).thenReturn(s2sToken);
+        when(launchDarklyClient.isFeatureEnabled(any())).thenReturn(true);
+        JudicialUsersApiResponse judge = JudicialUsersApiResponse.builder().personalCode("123").surname("lastName1").build();
+        when(judicialUserDetailsApi.getAllJudicialUserDetailsV2(
+            authToken,
+            s2sToken,
+            JudicialUsersApiRequest.builder().personalCode(new String[]{"123"}).build()
+        )).thenReturn(List.of(judge));
+
+        refDataUserService.getAllJudicialUserDetails(JudicialUsersApiRequest.builder().personalCode(new String[]{"123"}).build());
+        List<JudicialUsersApiResponse> judges = refDataUserService.getAllJudicialUserDetails(
+            JudicialUsersApiRequest.builder().personalCode(new String[]{"123"}).build());
+
+        assertEquals(List.of(judge), judges);
+        verify(judicialUserDetailsApi, times(1)).getAllJudicialUserDetailsV2(any(), any(), any());
+    }
+
     @Test
     public void testGetHearingTypeWithData() {
         when(authTokenGenerator.generate()).thenReturn(s2sToken);
@@ -293,6 +260,35 @@ public class RefDataUserServiceTest {
         assertEquals("On the Papers",commonResponse.getCategoryValues().get(0).getValueEn());
     }
 
+    @Test
+    public void testCategoryValuesAreCached() {
+        when(authTokenGenerator.generate()).thenReturn(s2sToken);
+        CommonDataResponse commonDataResponse = CommonDataResponse.builder().categoryValues(List.of(
+            CategoryValues.builder().categoryKey(HEARINGTYPE).valueEn("Celebration hearing").build())).build();
+        when(commonDataRefApi.getAllCategoryValuesByCategoryId(authToken, s2sToken, HEARINGTYPE, SERVICE_ID,
+                                                               IS_HEARINGCHILDREQUIRED_N)).thenReturn(commonDataResponse);
+
+        refDataUserService.retrieveCategoryValues(authToken, HEARINGTYPE, IS_HEARINGCHILDREQUIRED_N);
+        CommonDataResponse commonResponse = refDataUserService.retrieveCategoryValues(
+            authToken, HEARINGTYPE, IS_HEARINGCHILDREQUIRED_N);
+
+        assertEquals("Celebration hearing", commonResponse.getCategoryValues().get(0).getValueEn());
+        verify(commonDataRefApi, times(1)).getAllCategoryValuesByCategoryId(
+            authToken, s2sToken, HEARINGTYPE, SERVICE_ID, IS_HEARINGCHILDREQUIRED_N);
+    }
+
+    @Test
+    public void testFailedCategoryValuesLookupIsNotCached() {
+        when(authTokenGenerator.generate()).thenReturn(s2sToken);
+        when(commonDataRefApi.getAllCategoryValuesByCategoryId(authToken, s2sToken, HEARINGTYPE, SERVICE_ID,
+                                                               IS_HEARINGCHILDREQUIRED_N))
+            .thenThrow(new RuntimeException("common data unavailable"))
+            .thenReturn(CommonDataResponse.builder().categoryValues(List.of()).build());
+
+        assertNull(refDataUserService.retrieveCategoryValues(authToken, HEARINGTYPE, IS_HEARINGCHILDREQUIRED_N));
+        assertNotNull(refDataUserService.retrieveCategoryValues(authToken, HEARINGTYPE, IS_HEARINGCHILDREQUIRED_N));
+    }
+
     @Test
     public void testFilterCategoryValuesByCategoryId() {
 
@@ -363,83 +359,42 @@ public class RefDataUserServiceTest {
     }
 
     @Test
-    public void testGetStaffDetailsDataSizeLtPageSize() {
-
-        StaffProfile staffProfile1 = StaffProfile.builder().userType(LEGALOFFICE)
-            .lastName("David").emailId("test2@com").build();
-        StaffResponse staffResponse = StaffResponse.builder().ccdServiceName("PRIVATELAW").staffProfile(staffProfile1).build();
-        List<StaffResponse> listOfStaffFirstPage = new ArrayList<>();
-        listOfStaffFirstPage.add(staffResponse);
-        //add a response header for total entries
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(RD_STAFF_TOTAL_RECORDS_HEADER, "45");
-        ResponseEntity<List<StaffResponse>> staffResponseFirstPage = ResponseEntity.ok().headers(headers).body(listOfStaffFirstPage);
-
-        when(idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword)).thenReturn(authToken);
-        when(authTokenGenerator.generate()).thenReturn("s2sToken");
-        when(staffResponseDetailsApi.getAllStaffResponseDetails(
-            idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword),
-            authTokenGenerator.generate(),
-            SERVICENAME,
-            STAFFSORTCOLUMN,
-            STAFFORDERASC,
-            RD_STAFF_PAGE_SIZE,
-            RD_STAFF_FIRST_PAGE
-        )).thenReturn(staffResponseFirstPage);
-
-        List<DynamicListElement> legalAdvisorList = refDataUserService.getLegalAdvisorList();
-
-        assertNotNull(legalAdvisorList.get(0).getCode());
-        assertEquals("David(test2@com)",legalAdvisorList.get(0).getCode());
-        assertEquals(1, legalAdvisorList.size());
-    }
-
-    @Test
-    public void testGetStaffDetailsDataSizeGtPageSize() {
-
-        StaffProfile staffProfile1 = StaffProfile.builder().userType(LEGALOFFICE)
-            .lastName("David").emailId("test2@com").build();
-        StaffProfile staffProfile2 = StaffProfile.builder().userType(LEGALOFFICE)
-            .lastName("John").emailId("test1@com").build();
-        StaffResponse staffResponse1 = StaffResponse.builder().ccdServiceName("PRIVATELAW").staffProfile(staffProfile1).build();
-        StaffResponse staffResponse2 = StaffResponse.builder().ccdServiceName("PRIVATELAW").staffProfile(staffProfile2).build();
-        List<StaffResponse> listOfStaffFirstPage = new ArrayList<>();
-        List<StaffResponse> listOfStaffSecondPage = new ArrayList<>();
-        listOfStaffFirstPage.add(staffResponse1);
-        listOfStaffSecondPage.add(staffResponse2);
-        //add a response header for total entries
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(RD_STAFF_TOTAL_RECORDS_HEADER, "67");
-        ResponseEntity<List<StaffResponse>> staffResponseFirstPage = ResponseEntity.ok().headers(headers).body(listOfStaffFirstPage);
-        ResponseEntity<List<StaffResponse>> staffResponseSecondPage = ResponseEntity.ok().headers(headers).body(listOfStaffSecondPage);
-
-        when(idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword)).thenReturn(authToken);
-        when(authTokenGenerator.generate()).thenReturn("s2sToken");
-        when(staffResponseDetailsApi.getAllStaffResponseDetails(
-            idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword),
-            authTokenGenerator.generate(),
-            SERVICENAME,
-            STAFFSORTCOLUMN,
-            STAFFORDERASC,
-            RD_STAFF_PAGE_SIZE,
-            RD_STAFF_FIRST_PAGE
-        )).thenReturn(staffResponseFirstPage);
-        when(staffResponseDetailsApi.getAllStaffResponseDetails(
-            idamClient.getAccessToken(refDataIdamUsername,refDataIdamPassword),
-            authTokenGenerator.generate(),
-            SERVICENAME,
-            STAFFSORTCOLUMN,
-            STAFFORDERASC,
-            RD_STAFF_PAGE_SIZE,
-            RD_STAFF_SECOND_PAGE
-        )).thenReturn(staffResponseSecondPage);
-
-        List<DynamicListElement> legalAdvisorList = refDataUserService.getLegalAdvisorList();
-
-        assertNotNull(legalAdvisorList.get(0).getCode());
-        assertEquals("David(test2@com)",legalAdvisorList.get(0).getCode());
-        assertEquals(1, legalAdvisorList.size());
+    public void testConcurrentLookupsDoNotShareResults() throws Exception {
+        final int threads = 8;
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        when(authTokenGenerator.generate()).thenReturn(s2sToken);
+        when(commonDataRefApi.getAllCategoryValuesByCategoryId(anyString(), anyString(), anyString(), anyString(), anyString()))
+            .thenAnswer(invocation -> {
+                // every thread is inside the ref data call before any of them gets its response
+                barrier.await(5, TimeUnit.SECONDS);
+                String categoryId = invocation.getArgument(2);
+                return CommonDataResponse.builder().categoryValues(List.of(
+                    CategoryValues.builder().categoryKey(categoryId).key(categoryId).valueEn(categoryId).build())).build();
+            });
+        when(commonDataRefApi.retrieveCaseFlagsByServiceId(anyString(), anyString(), anyString(), anyString()))
+            .thenAnswer(invocation -> CaseFlag.builder().flags(List.of(Flag.builder().flagDetails(List.of(
+                FlagDetail.builder().flagCode(invocation.getArgument(3)).build())).build())).build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads * 100; i++) {
+                final String categoryId = "category-" + i;
+                results.add(executor.submit(() -> {
+                    CommonDataResponse commonResponse = refDataUserService.retrieveCategoryValues(
+                        authToken, categoryId, IS_HEARINGCHILDREQUIRED_N);
+                    List<DynamicListElement> categoryValues = refDataUserService.filterCategoryValuesByCategoryId(
+                        commonResponse, categoryId);
+                    CaseFlag caseFlag = refDataUserService.retrieveCaseFlags(authToken, categoryId);
+                    return categoryId.equals(categoryValues.get(0).getCode())
+                        && categoryId.equals(caseFlag.getFlags().get(0).getFlagDetails().get(0).getFlagCode());
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
     }
-
 }
-
@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import org.junit.After;
+import org.junit.Test;
+import uk.gov.hmcts.reform.prl.config.ReferenceCatalogueConfiguration;
+import uk.gov.hmcts.reform.prl.config.ReferenceCatalogueEndpoint;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ReferenceCatalogueCacheTest {
+
+    private final ReferenceCatalogueCache referenceCatalogueCache = new ReferenceCatalogueCache(configuration());
+
+    private final ReferenceCatalogueEndpoint referenceCatalogueEndpoint =
+        new ReferenceCatalogueEndpoint(referenceCatalogueCache);
+
+    @After
+    public void tearDown() {
+        referenceCatalogueCache.shutdown();
+    }
+
+    @Test
+    public void testCatalogueIsLoadedOnceWithinTtl() {
+        AtomicInteger loads = new AtomicInteger();
+
+        referenceCatalogueCache.get("HearingType", "N", () -> "types" + loads.incrementAndGet());
+        String catalogue = referenceCatalogueCache.get("HearingType", "N", () -> "types" + loads.incrementAndGet());
+
+        assertEquals("types1", catalogue);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testStaleCatalogueIsServedWhileReloaded() throws Exception {
+        CountDownLatch reloaded = new CountDownLatch(1);
+        referenceCatalogueCache.get("HearingChannel", "Y", () -> "channels1");
+
+        String catalogue = referenceCatalogueCache.get("HearingChannel", "Y", () -> {
+            reloaded.countDown();
+            return "channels2";
+        });
+
+        assertEquals("channels1", catalogue);
+        assertTrue(reloaded.await(5, TimeUnit.SECONDS));
+        awaitNotRefreshing("HearingChannel:Y");
+        assertEquals("channels2", referenceCatalogueCache.get("HearingChannel", "Y", () -> "channels3"));
+    }
+
+    @Test
+    public void testFailedReloadKeepsCatalogue() throws Exception {
+        referenceCatalogueCache.get("HearingChannel", "Y", () -> "channels1");
+
+        referenceCatalogueCache.get("HearingChannel", "Y", () -> {
+            throw new IllegalStateException("common data unavailable");
+        });
+        awaitNotRefreshing("HearingChannel:Y");
+
+        assertEquals("channels1", referenceCatalogueCache.get("HearingChannel", "Y", () -> null));
+    }
+
+    @Test
+    public void testFailedFirstLoadIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> referenceCatalogueCache.get("caseFlags", "PARTY", () -> {
+            throw new IllegalStateException("common data unavailable");
+        }));
+        assertNull(referenceCatalogueCache.get("caseFlags", "PARTY", () -> null));
+
+        assertEquals("flags", referenceCatalogueCache.get("caseFlags", "PARTY", () -> "flags"));
+    }
+
+    @Test
+    public void testEndpointListsRefreshesAndEvictsEntries() {
+        referenceCatalogueCache.get("HearingType", "N", () -> "types");
+        referenceCatalogueCache.get("caseFlags", "PARTY", () -> "flags");
+
+        List<ReferenceCatalogueCache.EntryDetails> entries = referenceCatalogueEndpoint.entries();
+        assertEquals(List.of("HearingType:N", "caseFlags:PARTY"),
+                     entries.stream().map(ReferenceCatalogueCache.EntryDetails::key).toList());
+        assertEquals(60, entries.get(0).ttlMinutes());
+        assertEquals(1440, entries.get(1).ttlMinutes());
+        assertFalse(entries.get(0).stale());
+
+        assertTrue(referenceCatalogueEndpoint.refresh("HearingType:N").stale());
+        assertTrue(referenceCatalogueEndpoint.evict("caseFlags:PARTY"));
+        assertNull(referenceCatalogueEndpoint.entry("caseFlags:PARTY"));
+        assertNull(referenceCatalogueEndpoint.refresh("caseFlags:PARTY"));
+    }
+
+    private void awaitNotRefreshing(String key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (referenceCatalogueCache.getEntry(key).refreshing() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static ReferenceCatalogueConfiguration configuration() {
+        ReferenceCatalogueConfiguration configuration = new ReferenceCatalogueConfiguration();
+        configuration.setTtlMinutes(Map.of("HearingChannel", 0L, "caseFlags", 1440L));
+        return configuration;
+    }
+}
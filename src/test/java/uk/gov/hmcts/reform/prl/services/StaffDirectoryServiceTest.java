@@ -0,0 +1,187 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.prl.clients.StaffResponseDetailsApi;
+import uk.gov.hmcts.reform.prl.config.StaffDirectoryConfiguration;
+import uk.gov.hmcts.reform.prl.models.common.dynamic.DynamicListElement;
+import uk.gov.hmcts.reform.prl.models.dto.legalofficer.StaffProfile;
+import uk.gov.hmcts.reform.prl.models.dto.legalofficer.StaffResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.LEGALOFFICE;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_PAGE_SIZE;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.RD_STAFF_TOTAL_RECORDS_HEADER;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.SERVICENAME;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.STAFFORDERASC;
+import static uk.gov.hmcts.reform.prl.constants.PrlAppsConstants.STAFFSORTCOLUMN;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class StaffDirectoryServiceTest {
+
+    private static final String AUTH = "Bearer refdata";
+    private static final String S2S = "s2sToken";
+
+    @Mock
+    private StaffResponseDetailsApi staffResponseDetailsApi;
+
+    @Mock
+    private AuthTokenGenerator authTokenGenerator;
+
+    @Mock
+    private RefDataAccessTokenHolder refDataAccessTokenHolder;
+
+    private StaffDirectoryService staffDirectoryService;
+
+    @Before
+    public void setUp() {
+        when(refDataAccessTokenHolder.getAccessToken()).thenReturn(AUTH);
+        when(authTokenGenerator.generate()).thenReturn(S2S);
+        staffDirectoryService = new StaffDirectoryService(
+            staffResponseDetailsApi,
+            authTokenGenerator,
+            refDataAccessTokenHolder,
+            new StaffDirectoryConfiguration(2, 60)
+        );
+    }
+
+    @After
+    public void tearDown() {
+        staffDirectoryService.shutdown();
+    }
+
+    @Test
+    public void testOnlyLegalAdvisersAreListed() {
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 0))
+            .thenReturn(page(45, staff("Caseworker", "David", "test2@com"), staff(LEGALOFFICE, "John", "test1@com")));
+
+        List<DynamicListElement> legalAdvisers = staffDirectoryService.getLegalAdvisers();
+
+        assertEquals(List.of("John(test1@com)"), legalAdvisers.stream().map(DynamicListElement::getCode).toList());
+    }
+
+    @Test
+    public void testRemainingPagesAreFetchedInPageOrder() {
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 0))
+            .thenReturn(page(700, staff(LEGALOFFICE, "A", "a@com")));
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 1))
+            .thenReturn(page(700, staff(LEGALOFFICE, "B", "b@com")));
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 2))
+            .thenReturn(page(700, staff(LEGALOFFICE, "C", "c@com")));
+
+        List<DynamicListElement> legalAdvisers = staffDirectoryService.getLegalAdvisers();
+
+        assertEquals(List.of("A(a@com)", "B(b@com)", "C(c@com)"),
+                     legalAdvisers.stream().map(DynamicListElement::getCode).toList());
+        verify(refDataAccessTokenHolder, times(1)).getAccessToken();
+        verify(staffResponseDetailsApi, never()).getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 3);
+    }
+
+    @Test
+    public void testLegalAdvisersAreCached() {
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 0))
+            .thenReturn(page(1, staff(LEGALOFFICE, "John", "test1@com")));
+
+        staffDirectoryService.getLegalAdvisers();
+        staffDirectoryService.getLegalAdvisers();
+
+        verify(staffResponseDetailsApi, times(1)).getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 0);
+    }
+
+    @Test
+    public void testFailedPageIsNotCached() {
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 0))
+            .thenReturn(page(300, staff(LEGALOFFICE, "A", "a@com")));
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 1))
+            .thenThrow(new RuntimeException("staff ref data unavailable"))
+            .thenReturn(page(300, staff(LEGALOFFICE, "B", "b@com")));
+
+        assertThrows(CompletionException.class, () -> staffDirectoryService.getLegalAdvisers());
+        List<DynamicListElement> legalAdvisers = staffDirectoryService.getLegalAdvisers();
+
+        assertEquals(2, legalAdvisers.size());
+    }
+
+    @Test
+    public void testPagesBeingFetchedAreInterruptedWhenAPageFails() throws InterruptedException {
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 0))
+            .thenReturn(page(700, staff(LEGALOFFICE, "A", "a@com")));
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 1))
+            .thenAnswer(invocation -> {
+                fetching.await(5, TimeUnit.SECONDS);
+                throw new RuntimeException("staff ref data unavailable");
+            });
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 2))
+            .thenAnswer(invocation -> {
+                fetching.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return page(700, staff(LEGALOFFICE, "C", "c@com"));
+            });
+
+        assertThrows(CompletionException.class, () -> staffDirectoryService.getLegalAdvisers());
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testNoResponseIsNotCached() {
+        when(staffResponseDetailsApi.getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 0))
+            .thenReturn(null)
+            .thenReturn(page(1, staff(LEGALOFFICE, "John", "test1@com")));
+
+        assertThrows(IllegalStateException.class, () -> staffDirectoryService.getLegalAdvisers());
+
+        assertEquals(1, staffDirectoryService.getLegalAdvisers().size());
+        verify(staffResponseDetailsApi, times(2)).getAllStaffResponseDetails(
+            AUTH, S2S, SERVICENAME, STAFFSORTCOLUMN, STAFFORDERASC, RD_STAFF_PAGE_SIZE, 0);
+    }
+
+    private static StaffResponse staff(String userType, String lastName, String email) {
+        return StaffResponse.builder().ccdServiceName("PRIVATELAW")
+            .staffProfile(StaffProfile.builder().userType(userType).lastName(lastName).emailId(email).build())
+            .build();
+    }
+
+    private static ResponseEntity<List<StaffResponse>> page(int totalRecords, StaffResponse... staff) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(RD_STAFF_TOTAL_RECORDS_HEADER, String.valueOf(totalRecords));
+        return ResponseEntity.ok().headers(headers).body(List.of(staff));
+    }
+}
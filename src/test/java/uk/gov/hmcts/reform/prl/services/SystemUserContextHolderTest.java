@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.TokenResponse;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.prl.config.SystemUserConfiguration;
+import uk.gov.hmcts.reform.prl.models.user.SystemUserContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class SystemUserContextHolderTest {
+
+    private static final String USERNAME = "username";
+    private static final String PASSWORD = "password";
+
+    @Mock
+    private IdamClient idamClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private SystemUserContextHolder systemUserContextHolder;
+
+    @Before
+    public void setUp() {
+        systemUserContextHolder = new SystemUserContextHolder(
+            idamClient, new SystemUserConfiguration(USERNAME, PASSWORD), meterRegistry, 300, now::get);
+        when(idamClient.getUserInfo("Bearer token-1")).thenReturn(UserInfo.builder().uid("system-user-id").build());
+        when(idamClient.getUserInfo("Bearer token-2")).thenReturn(UserInfo.builder().uid("system-user-id").build());
+    }
+
+    @Test
+    public void testTokenAndUserIdAreFetchedOnceWhileValid() {
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD)).thenReturn(tokenResponse("token-1", "28800"));
+
+        systemUserContextHolder.get();
+        SystemUserContext systemUserContext = systemUserContextHolder.get();
+
+        assertEquals(new SystemUserContext("Bearer token-1", "system-user-id"), systemUserContext);
+        verify(idamClient, times(1)).getAccessTokenResponse(USERNAME, PASSWORD);
+        verify(idamClient, times(1)).getUserInfo("Bearer token-1");
+        assertEquals(1L, meterRegistry.timer("prl.system_user.refresh").count());
+    }
+
+    @Test
+    public void testTokenIsRefreshedBeforeItExpires() {
+        // refresh-before-expiry is capped at half the life of the token, so this one is due after half a second
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD))
+            .thenReturn(tokenResponse("token-1", "1"))
+            .thenReturn(tokenResponse("token-2", "28800"));
+
+        systemUserContextHolder.get();
+        now.addAndGet(600);
+        SystemUserContext systemUserContext = systemUserContextHolder.get();
+
+        assertEquals("Bearer token-2", systemUserContext.authorisation());
+        verify(idamClient, times(2)).getAccessTokenResponse(USERNAME, PASSWORD);
+    }
+
+    @Test
+    public void testCurrentTokenIsKeptWhenRefreshBeforeExpiryFails() {
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD))
+            .thenReturn(tokenResponse("token-1", "1"))
+            .thenThrow(new RuntimeException("idam unavailable"));
+
+        systemUserContextHolder.get();
+        now.addAndGet(600);
+        SystemUserContext systemUserContext = systemUserContextHolder.get();
+
+        assertEquals("Bearer token-1", systemUserContext.authorisation());
+        assertEquals(1.0, meterRegistry.counter("prl.system_user.refresh.failures").count(), 0.0);
+    }
+
+    @Test
+    public void testExpiredTokenIsNotReturnedWhenRefreshFails() {
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD))
+            .thenReturn(tokenResponse("token-1", "1"))
+            .thenThrow(new RuntimeException("idam unavailable"));
+
+        systemUserContextHolder.get();
+        now.addAndGet(1000);
+
+        assertNull(systemUserContextHolder.getIfValid());
+        assertThrows(RuntimeException.class, () -> systemUserContextHolder.get());
+    }
+
+    @Test
+    public void testConcurrentCallersShareOneFetch() throws Exception {
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD)).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return tokenResponse("token-1", "28800");
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Callable<SystemUserContext>> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            callers.add(systemUserContextHolder::get);
+        }
+
+        try {
+            for (Future<SystemUserContext> systemUserContext : executorService.invokeAll(callers)) {
+                assertEquals("Bearer token-1", systemUserContext.get().authorisation());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(idamClient, times(1)).getAccessTokenResponse(USERNAME, PASSWORD);
+    }
+
+    @Test
+    public void testFailedFetchIsCountedAndNotCached() {
+        when(idamClient.getAccessTokenResponse(USERNAME, PASSWORD))
+            .thenThrow(new RuntimeException("idam unavailable"))
+            .thenReturn(tokenResponse("token-1", "28800"));
+
+        assertThrows(RuntimeException.class, () -> systemUserContextHolder.get());
+        assertNull(systemUserContextHolder.getIfValid());
+
+        assertEquals("Bearer token-1", systemUserContextHolder.get().authorisation());
+        assertEquals(1.0, meterRegistry.counter("prl.system_user.refresh.failures").count(), 0.0);
+    }
+
+    private static TokenResponse tokenResponse(String accessToken, String expiresIn) {
+        return new TokenResponse(accessToken, expiresIn, null, null, null, "Bearer");
+    }
+}
@@ -9,18 +9,17 @@ import org.mockito.junit.MockitoJUnitRunner;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.OAuth2Configuration;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
-import uk.gov.hmcts.reform.prl.config.SystemUserConfiguration;
+import uk.gov.hmcts.reform.prl.models.user.SystemUserContext;
 
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
 public class SystemUserServiceTest {
-    private static final String USERNAME = "username";
-    private static final String PASSWORD = "password";
 
     @Mock
     IdamClient idamClient;
@@ -29,7 +28,7 @@ public class SystemUserServiceTest {
     OAuth2Configuration auth;
 
     @Mock
-    SystemUserConfiguration userConfig;
+    SystemUserContextHolder systemUserContextHolder;
 
     SystemUserService systemUserService;
 
@@ -37,15 +36,13 @@ public class SystemUserServiceTest {
 
     @Before
     public void setUp() {
-        systemUserService = new SystemUserService(auth, userConfig, idamClient);
+        systemUserService = new SystemUserService(auth, idamClient, systemUserContextHolder);
         token = RandomStringUtils.randomAlphanumeric(10);
     }
 
     @Test
     public void given_ValidUserNameAndPass_shouldReturnToken() {
-        when(userConfig.getUserName()).thenReturn(USERNAME);
-        when(userConfig.getPassword()).thenReturn(PASSWORD);
-        when(idamClient.getAccessToken(anyString(), anyString())).thenReturn(token);
+        when(systemUserContextHolder.get()).thenReturn(new SystemUserContext(token, "system-user-id"));
 
         assertThat(token).isEqualTo(systemUserService.getSysUserToken());
     }
@@ -60,4 +57,12 @@ public class SystemUserServiceTest {
 
         assertThat(userInfo.getUid()).isEqualTo(systemUserService.getUserId(token));
     }
+
+    @Test
+    public void shouldReturnCachedSystemUserIdForSystemUserToken() {
+        when(systemUserContextHolder.getIfValid()).thenReturn(new SystemUserContext(token, "system-user-id"));
+
+        assertThat(systemUserService.getUserId(token)).isEqualTo("system-user-id");
+        verify(idamClient, never()).getUserInfo(token);
+    }
 }
@@ -39,7 +39,7 @@ public class TaskErrorServiceTest {
     public void setUp() {
         taskErrorService = new TaskErrorService();
         taskErrorService.addEventError(event, error, errorString);
-        previousMapSize = taskErrorService.eventErrors.size();
+        previousMapSize = taskErrorService.eventErrors.get().size();
     }
 
     @Test
@@ -48,21 +48,31 @@ public class TaskErrorServiceTest {
         EventErrorsEnum newEventError = MIAM_ERROR;
 
         taskErrorService.addEventError(newEvent, newEventError, errorString);
-        assertThat(taskErrorService.eventErrors).hasSize(previousMapSize + 1);
-        assertTrue(taskErrorService.eventErrors.containsKey(newEventError));
+        assertThat(taskErrorService.eventErrors.get()).hasSize(previousMapSize + 1);
+        assertTrue(taskErrorService.eventErrors.get().containsKey(newEventError));
     }
 
     @Test
     public void whenRemoveEventErrorCalledThenMapDecreasesInSize() {
         taskErrorService.removeError(error);
-        assertThat(taskErrorService.eventErrors).hasSize(previousMapSize - 1);
-        assertTrue(!taskErrorService.eventErrors.containsKey(error));
+        assertThat(taskErrorService.eventErrors.get()).hasSize(previousMapSize - 1);
+        assertTrue(!taskErrorService.eventErrors.get().containsKey(error));
     }
 
     @Test
     public void whenClearingErrorsCalledThenMapCleared() {
         taskErrorService.clearErrors();
-        assertThat(taskErrorService.eventErrors).isEmpty();
+        assertThat(taskErrorService.eventErrors.get()).isEmpty();
+    }
+
+    @Test
+    public void whenErrorsAddedOnAnotherThreadThenNotSeenHere() throws Exception {
+        Thread thread = new Thread(() -> taskErrorService.addEventError(MIAM, MIAM_ERROR, errorString));
+        thread.start();
+        thread.join();
+
+        assertThat(taskErrorService.eventErrors.get()).hasSize(previousMapSize);
+        assertTrue(!taskErrorService.eventErrors.get().containsKey(MIAM_ERROR));
     }
 
     @Test
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.prl.services;
+
+import org.junit.Test;
+
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TokenIntrospectionCacheTest {
+
+    private final TokenIntrospectionCache tokenIntrospectionCache = new TokenIntrospectionCache(2, 300);
+
+    @Test
+    public void testTokenIsIntrospectedOnceWhileValid() {
+        String token = "Bearer " + jwtExpiringIn(3600);
+        AtomicInteger introspections = new AtomicInteger();
+
+        tokenIntrospectionCache.getServiceName(token, () -> "ccd_data" + introspections.incrementAndGet());
+        String serviceName = tokenIntrospectionCache.getServiceName(token, () -> "ccd_data" + introspections.incrementAndGet());
+
+        assertEquals("ccd_data1", serviceName);
+        assertEquals(1, introspections.get());
+    }
+
+    @Test
+    public void testExpiredTokenIsNotCached() {
+        String token = jwtExpiringIn(-60);
+        AtomicInteger introspections = new AtomicInteger();
+
+        tokenIntrospectionCache.getServiceName(token, () -> "ccd_data" + introspections.incrementAndGet());
+        tokenIntrospectionCache.getServiceName(token, () -> "ccd_data" + introspections.incrementAndGet());
+
+        assertEquals(2, introspections.get());
+    }
+
+    @Test
+    public void testTokenWithoutExpiryIsNotCached() {
+        AtomicInteger introspections = new AtomicInteger();
+
+        tokenIntrospectionCache.getServiceName("Bearer opaque", () -> "ccd_data" + introspections.incrementAndGet());
+        tokenIntrospectionCache.getServiceName("Bearer opaque", () -> "ccd_data" + introspections.incrementAndGet());
+
+        assertEquals(2, introspections.get());
+    }
+
+    @Test
+    public void testRejectedTokenIsNotCached() {
+        String token = "Bearer " + jwtExpiringIn(3600);
+        AtomicInteger introspections = new AtomicInteger();
+
+        assertNull(tokenIntrospectionCache.getUserInfo(token, () -> {
+            introspections.incrementAndGet();
+            return null;
+        }));
+        tokenIntrospectionCache.getUserInfo(token, () -> {
+            introspections.incrementAndGet();
+            return null;
+        });
+
+        assertEquals(2, introspections.get());
+    }
+
+    static String jwtExpiringIn(long seconds) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        long exp = System.currentTimeMillis() / 1000 + seconds;
+        return encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(UTF_8))
+            + "." + encoder.encodeToString(("{\"sub\":\"user\",\"exp\":" + exp + "}").getBytes(UTF_8))
+            + ".signature";
+    }
+}
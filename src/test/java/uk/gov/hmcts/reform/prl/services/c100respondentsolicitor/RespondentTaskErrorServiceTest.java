@@ -35,7 +35,7 @@ public class RespondentTaskErrorServiceTest {
     public void setUp() {
         respondentTaskErrorService = new RespondentTaskErrorService();
         respondentTaskErrorService.addEventError(event, error, errorString);
-        previousMapSize = respondentTaskErrorService.eventErrors.size();
+        previousMapSize = respondentTaskErrorService.eventErrors.get().size();
     }
 
     @Test
@@ -44,21 +44,21 @@ public class RespondentTaskErrorServiceTest {
         RespondentEventErrorsEnum newEventError = RespondentEventErrorsEnum.MIAM_ERROR;
 
         respondentTaskErrorService.addEventError(newEvent, newEventError, errorString);
-        assertThat(respondentTaskErrorService.eventErrors).hasSize(previousMapSize + 1);
-        assertTrue(respondentTaskErrorService.eventErrors.containsKey(newEventError));
+        assertThat(respondentTaskErrorService.eventErrors.get()).hasSize(previousMapSize + 1);
+        assertTrue(respondentTaskErrorService.eventErrors.get().containsKey(newEventError));
     }
 
     @Test
     public void whenRemoveEventErrorCalledThenMapDecreasesInSize() {
         respondentTaskErrorService.removeError(error);
-        assertThat(respondentTaskErrorService.eventErrors).hasSize(previousMapSize - 1);
-        assertTrue(!respondentTaskErrorService.eventErrors.containsKey(error));
+        assertThat(respondentTaskErrorService.eventErrors.get()).hasSize(previousMapSize - 1);
+        assertTrue(!respondentTaskErrorService.eventErrors.get().containsKey(error));
     }
 
     @Test
     public void whenClearingErrorsCalledThenMapCleared() {
         respondentTaskErrorService.clearErrors();
-        assertThat(respondentTaskErrorService.eventErrors).isEmpty();
+        assertThat(respondentTaskErrorService.eventErrors.get()).isEmpty();
     }
 
     @Test
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.prl.services.cafcass;
+
+import org.junit.After;
+import org.junit.Test;
+import uk.gov.hmcts.reform.prl.config.cafcass.CafcassEnrichmentConfiguration;
+import uk.gov.hmcts.reform.prl.exception.cafcass.CafcassEnrichmentTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static uk.gov.hmcts.reform.prl.services.cafcass.CafcassEnrichmentExecutor.Downstream.HEARINGS;
+import static uk.gov.hmcts.reform.prl.services.cafcass.CafcassEnrichmentExecutor.Downstream.ORGANISATIONS;
+
+public class CafcassEnrichmentExecutorTest {
+
+    private final CafcassEnrichmentExecutor enrichmentExecutor = new CafcassEnrichmentExecutor(
+        new CafcassEnrichmentConfiguration(8, 100, 200, 1, 1, 2));
+
+    @After
+    public void tearDown() {
+        enrichmentExecutor.shutdown();
+    }
+
+    @Test
+    public void testConcurrentCallsAreLimitedPerDownstream() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String orgId = "org" + i;
+            futures.add(enrichmentExecutor.supply(ORGANISATIONS, () -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                sleep(10);
+                inFlight.decrementAndGet();
+                return orgId;
+            }));
+        }
+
+        enrichmentExecutor.await(System.nanoTime() + TimeUnit.SECONDS.toNanos(5),
+                                 futures.toArray(new CompletableFuture<?>[0]));
+
+        assertTrue(maxInFlight.get() <= 2);
+        assertEquals("org9", futures.get(9).join());
+    }
+
+    @Test
+    public void testAwaitThrowsTimeoutWhenDeadlineIsMissed() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> future = enrichmentExecutor.supply(HEARINGS, () -> {
+            awaitLatch(release);
+            return "late";
+        });
+
+        long deadline = enrichmentExecutor.newDeadline();
+        assertThrows(CafcassEnrichmentTimeoutException.class, () -> enrichmentExecutor.await(deadline, future));
+        assertTrue(future.isCancelled());
+        release.countDown();
+    }
+
+    @Test
+    public void testRunningCallIsInterruptedWhenDeadlineIsMissed() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> future = enrichmentExecutor.supply(HEARINGS, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        long deadline = enrichmentExecutor.newDeadline();
+        assertThrows(CafcassEnrichmentTimeoutException.class, () -> enrichmentExecutor.await(deadline, future));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAwaitRethrowsRemoteCallException() {
+        CompletableFuture<String> future = enrichmentExecutor.supply(HEARINGS, () -> {
+            throw new IllegalStateException("hearings unavailable");
+        });
+
+        long deadline = enrichmentExecutor.newDeadline();
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> enrichmentExecutor.await(deadline, future)
+        );
+        assertEquals("hearings unavailable", exception.getMessage());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
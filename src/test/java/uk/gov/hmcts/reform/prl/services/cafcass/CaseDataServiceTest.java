@@ -7,14 +7,18 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.junit.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
+import uk.gov.hmcts.reform.prl.config.cafcass.CafcassEnrichmentConfiguration;
+import uk.gov.hmcts.reform.prl.exception.cafcass.InvalidSearchPageException;
 import uk.gov.hmcts.reform.prl.filter.cafcaas.CafCassFilter;
 import uk.gov.hmcts.reform.prl.mapper.CcdObjectMapper;
 import uk.gov.hmcts.reform.prl.models.ContactInformation;
@@ -22,7 +26,10 @@ import uk.gov.hmcts.reform.prl.models.Organisations;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.CaseHearing;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.HearingDaySchedule;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.Hearings;
+import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassCaseDetail;
 import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassResponse;
+import uk.gov.hmcts.reform.prl.models.dto.cafcass.CafCassSearchCursor;
+import uk.gov.hmcts.reform.prl.models.dto.ccd.request.QueryParam;
 import uk.gov.hmcts.reform.prl.services.OrganisationService;
 import uk.gov.hmcts.reform.prl.services.SystemUserService;
 import uk.gov.hmcts.reform.prl.utils.TestResourceUtil;
@@ -36,11 +43,15 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -74,6 +85,10 @@ public class CaseDataServiceTest {
     @Mock
     private OrganisationService organisationService;
 
+    @Spy
+    private CafcassEnrichmentExecutor enrichmentExecutor = new CafcassEnrichmentExecutor(
+        new CafcassEnrichmentConfiguration(4, 100, 30000, 2, 2, 4));
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -285,5 +300,109 @@ public class CaseDataServiceTest {
         ));
 
     }
-}
 
+    @Test
+    public void testGetCaseDataPageReturnsContinuationToken() throws IOException {
+        ObjectMapper objectMapper = CcdObjectMapper.getObjectMapper();
+        objectMapper.registerModule(new ParameterNamesModule());
+        String expectedCafCassResponse = TestResourceUtil.readFileFrom("classpath:response/CafCaasResponse.json");
+        SearchResult searchResult = objectMapper.readValue(expectedCafCassResponse, SearchResult.class);
+        final CafCassResponse cafCassResponse = objectMapper.readValue(expectedCafCassResponse, CafCassResponse.class);
+
+        when(cafcassCcdDataStoreService.searchCases(anyString(),anyString(),any(),any())).thenReturn(searchResult);
+        when(hearingService.getHearingsForAllCases(anyString(),anyMap())).thenReturn(new ArrayList<>());
+        when(systemUserService.getSysUserToken()).thenReturn(userToken);
+        when(organisationService.getOrganisationDetails(anyString(),anyString()))
+            .thenReturn(Organisations.builder()
+                            .contactInformation(List.of(ContactInformation.builder()
+                                                            .addressLine1("Physio In The City")
+                                                            .build()))
+                            .build());
+        ReflectionTestUtils.setField(caseDataService, "caseStateList", List.of("DECISION_OUTCOME"));
+        ReflectionTestUtils.setField(caseDataService, "caseTypeList", List.of("C100"));
+        ReflectionTestUtils.setField(caseDataService, "ccdElasticSearchApiResultSize", "100");
+
+        CafCassSearchCursor previousPage = new CafCassSearchCursor(1674000000000L, "1673970714366224");
+        CafCassResponse realCafCassResponse = caseDataService.getCaseDataPage("authorisation",
+                                                                              "start", "end",
+                                                                              4, previousPage.toToken()
+        );
+
+        CafCassCaseDetail lastCase = cafCassResponse.getCases().get(cafCassResponse.getCases().size() - 1);
+        assertEquals(CafCassSearchCursor.fromCase(lastCase).toToken(), realCafCassResponse.getContinuationToken());
+        assertEquals(CafCassSearchCursor.fromCase(lastCase),
+                     CafCassSearchCursor.fromToken(realCafCassResponse.getContinuationToken()));
+
+        ArgumentCaptor<String> searchString = ArgumentCaptor.forClass(String.class);
+        verify(cafcassCcdDataStoreService).searchCases(anyString(), searchString.capture(), any(), any());
+        QueryParam queryParam = objectMapper.readValue(searchString.getValue(), QueryParam.class);
+        assertEquals("4", queryParam.getSize());
+        assertEquals(2, queryParam.getSort().size());
+        assertEquals(List.of(1674000000000L, "1673970714366224"), queryParam.getSearchAfter());
+    }
+
+    @Test
+    public void testGetCaseDataPageLastPageHasNoContinuationToken() throws IOException {
+        ObjectMapper objectMapper = CcdObjectMapper.getObjectMapper();
+        objectMapper.registerModule(new ParameterNamesModule());
+        String expectedCafCassResponse = TestResourceUtil.readFileFrom("classpath:response/CafCaasResponse.json");
+        SearchResult searchResult = objectMapper.readValue(expectedCafCassResponse, SearchResult.class);
+
+        when(cafcassCcdDataStoreService.searchCases(anyString(),anyString(),any(),any())).thenReturn(searchResult);
+        when(hearingService.getHearingsForAllCases(anyString(),anyMap())).thenReturn(new ArrayList<>());
+        when(systemUserService.getSysUserToken()).thenReturn(userToken);
+        when(organisationService.getOrganisationDetails(anyString(),anyString()))
+            .thenReturn(Organisations.builder()
+                            .contactInformation(List.of(ContactInformation.builder()
+                                                            .addressLine1("Physio In The City")
+                                                            .build()))
+                            .build());
+        ReflectionTestUtils.setField(caseDataService, "caseStateList", List.of("DECISION_OUTCOME"));
+        ReflectionTestUtils.setField(caseDataService, "caseTypeList", List.of("C100"));
+        ReflectionTestUtils.setField(caseDataService, "ccdElasticSearchApiResultSize", "100");
+
+        CafCassResponse realCafCassResponse = caseDataService.getCaseDataPage("authorisation",
+                                                                              "start", "end",
+                                                                              10, null
+        );
+
+        assertNull(realCafCassResponse.getContinuationToken());
+    }
+
+    @Test
+    public void testGetCaseDataPageWithInvalidPageSize() {
+        ReflectionTestUtils.setField(caseDataService, "ccdElasticSearchApiResultSize", "100");
+
+        assertThrows(InvalidSearchPageException.class, () -> caseDataService.getCaseDataPage("authorisation",
+                                                                                             "start", "end",
+                                                                                             101, null
+        ));
+    }
+
+    @Test
+    public void testGetCaseDataPageWithInvalidContinuationToken() {
+        ReflectionTestUtils.setField(caseDataService, "ccdElasticSearchApiResultSize", "100");
+
+        assertThrows(InvalidSearchPageException.class, () -> caseDataService.getCaseDataPage("authorisation",
+                                                                                             "start", "end",
+                                                                                             10, "not-a-token"
+        ));
+    }
+
+    @Test
+    public void testIndexHearingsByCaseRefKeepsFirstHearingsForCase() {
+        Hearings first = new Hearings();
+        first.setCaseRef("1673970714366224");
+        Hearings second = new Hearings();
+        second.setCaseRef("1673970714366224");
+        Hearings other = new Hearings();
+        other.setCaseRef("1673970714366225");
+
+        Map<String, Hearings> hearingsByCaseRef = CaseDataService.indexHearingsByCaseRef(List.of(first, second, other));
+
+        assertEquals(2, hearingsByCaseRef.size());
+        assertSame(first, hearingsByCaseRef.get("1673970714366224"));
+        assertSame(other, hearingsByCaseRef.get("1673970714366225"));
+        assertTrue(CaseDataService.indexHearingsByCaseRef(null).isEmpty());
+    }
+}
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
@@ -18,14 +20,23 @@ import uk.gov.hmcts.reform.prl.models.cafcass.hearing.CaseHearing;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.HearingDaySchedule;
 import uk.gov.hmcts.reform.prl.models.cafcass.hearing.Hearings;
 import uk.gov.hmcts.reform.prl.models.complextypes.CaseManagementLocation;
+import uk.gov.hmcts.reform.prl.services.hearings.BatchedHearingsClient;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
@@ -41,6 +52,9 @@ public class HearingServiceTest {
     @Mock
     private HearingApiClient hearingApiClient;
 
+    @Spy
+    private BatchedHearingsClient batchedHearingsClient = new BatchedHearingsClient(100, 2);
+
     private  Hearings hearings;
 
     private Map<String, String> caseIdWithRegionIdMap;
@@ -192,4 +206,59 @@ public class HearingServiceTest {
 
     }
 
+    @Test
+    @DisplayName("hearings of the chunks that were fetched are kept when another chunk fails")
+    public void getHearingsForAllCasesKeepsHearingsOfFetchedChunks() {
+        BatchedHearingsClient chunkPerCase = new BatchedHearingsClient(1, 2);
+        HearingService chunkedHearingService = new HearingService(authTokenGenerator, hearingApiClient, chunkPerCase);
+        Map<String, String> twoCases = new LinkedHashMap<>();
+        twoCases.put("1", "1-1");
+        twoCases.put("2", "1-1");
+        when(authTokenGenerator.generate()).thenReturn(s2sToken);
+        when(hearingApiClient.getHearingDetailsForAllCaseIds(authToken, s2sToken, Map.of("1", "1-1")))
+            .thenReturn(hearingsList);
+        when(hearingApiClient.getHearingDetailsForAllCaseIds(authToken, s2sToken, Map.of("2", "1-1")))
+            .thenThrow(new RuntimeException("hearings api unavailable"));
+
+        try {
+            Assert.assertEquals(hearingsList, chunkedHearingService.getHearingsForAllCases(authToken, twoCases));
+        } finally {
+            chunkPerCase.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent hearing lookups each get their own case's hearings.")
+    public void getHearingsConcurrentlyDoesNotShareResults() throws Exception {
+        final int threads = 8;
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        ReflectionTestUtils.setField(hearingService, "hearingStatusList", List.of("LISTED"));
+        when(authTokenGenerator.generate()).thenReturn("s2sToken");
+        when(hearingApiClient.getHearingDetails(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            Hearings caseHearings = Mockito.spy(new Hearings());
+            caseHearings.setCaseRef(invocation.getArgument(2));
+            caseHearings.setCaseHearings(List.of(CaseHearing.caseHearingWith().hmcStatus("LISTED").build()));
+            // every thread has its response in hand before any of them filters it
+            doAnswer(getCaseHearings -> {
+                barrier.await(5, TimeUnit.SECONDS);
+                return getCaseHearings.callRealMethod();
+            }).when(caseHearings).getCaseHearings();
+            return caseHearings;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads * 100; i++) {
+                final String caseReference = String.valueOf(1_700_000_000_000_000L + i);
+                results.add(executor.submit(
+                    () -> caseReference.equals(hearingService.getHearings("Authorization", caseReference).getCaseRef())));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
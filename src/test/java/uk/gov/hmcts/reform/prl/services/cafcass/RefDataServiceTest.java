@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.prl.services.cafcass;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.prl.clients.cafcass.ReferenceDataApi;
+import uk.gov.hmcts.reform.prl.models.cafcass.hearing.refdata.Categories;
+import uk.gov.hmcts.reform.prl.models.cafcass.hearing.refdata.Category;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class RefDataServiceTest {
+
+    private static final String AUTH = "Bearer token";
+    private static final String S2S = "s2s token";
+    private static final String SERVICE_CODE = "ABA5";
+    private static final String HEARING_TYPE = "HearingType";
+
+    @Mock
+    private ReferenceDataApi referenceDataApi;
+
+    @InjectMocks
+    private RefDataService refDataService;
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(refDataService, "refreshAfterMinutes", 60L);
+    }
+
+    @After
+    public void tearDown() {
+        refDataService.shutdown();
+    }
+
+    @Test
+    public void testCategoryValuesAreCachedPerServiceAndCategory() {
+        when(referenceDataApi.retrieveListOfValuesByCategoryId(AUTH, S2S, HEARING_TYPE, SERVICE_CODE))
+            .thenReturn(categories("ABA5-FFH", "First Hearing"));
+        when(referenceDataApi.retrieveListOfValuesByCategoryId(AUTH, S2S, HEARING_TYPE, "ABA3"))
+            .thenReturn(categories("ABA3-FHR", "First Hearing Review"));
+
+        refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE);
+        Map<String, String> values = refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE);
+        Map<String, String> otherServiceValues = refDataService.getRefDataCategoryValueMap(AUTH, S2S, "ABA3", HEARING_TYPE);
+
+        assertEquals(Map.of("ABA5-FFH", "First Hearing"), values);
+        assertEquals(Map.of("ABA3-FHR", "First Hearing Review"), otherServiceValues);
+        verify(referenceDataApi, times(1)).retrieveListOfValuesByCategoryId(AUTH, S2S, HEARING_TYPE, SERVICE_CODE);
+    }
+
+    @Test
+    public void testStaleValuesAreRefreshedInBackground() {
+        ReflectionTestUtils.setField(refDataService, "refreshAfterMinutes", 0L);
+        when(referenceDataApi.retrieveListOfValuesByCategoryId(AUTH, S2S, HEARING_TYPE, SERVICE_CODE))
+            .thenReturn(categories("ABA5-FFH", "First Hearing"))
+            .thenReturn(categories("ABA5-FFH", "First Hearing (updated)"));
+
+        refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE);
+        Map<String, String> staleValues = refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE);
+
+        assertEquals("First Hearing", staleValues.get("ABA5-FFH"));
+        verify(referenceDataApi, timeout(TimeUnit.SECONDS.toMillis(5)).times(2))
+            .retrieveListOfValuesByCategoryId(AUTH, S2S, HEARING_TYPE, SERVICE_CODE);
+    }
+
+    @Test
+    public void testCachedValuesAreServedWhenRefreshFails() {
+        ReflectionTestUtils.setField(refDataService, "refreshAfterMinutes", 0L);
+        when(referenceDataApi.retrieveListOfValuesByCategoryId(AUTH, S2S, HEARING_TYPE, SERVICE_CODE))
+            .thenReturn(categories("ABA5-FFH", "First Hearing"))
+            .thenThrow(new RuntimeException("ref data unavailable"));
+
+        refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE);
+        refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE);
+        verify(referenceDataApi, timeout(TimeUnit.SECONDS.toMillis(5)).times(2))
+            .retrieveListOfValuesByCategoryId(AUTH, S2S, HEARING_TYPE, SERVICE_CODE);
+        refDataService.shutdown();
+        ReflectionTestUtils.setField(refDataService, "refreshAfterMinutes", 60L);
+
+        Map<String, String> values = refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE);
+
+        assertEquals("First Hearing", values.get("ABA5-FFH"));
+    }
+
+    @Test
+    public void testFirstLookupFailureIsNotCached() {
+        when(referenceDataApi.retrieveListOfValuesByCategoryId(AUTH, S2S, HEARING_TYPE, SERVICE_CODE))
+            .thenThrow(new RuntimeException("ref data unavailable"))
+            .thenReturn(categories("ABA5-FFH", "First Hearing"));
+
+        assertThrows(RuntimeException.class,
+            () -> refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE));
+        Map<String, String> values = refDataService.getRefDataCategoryValueMap(AUTH, S2S, SERVICE_CODE, HEARING_TYPE);
+
+        assertEquals("First Hearing", values.get("ABA5-FFH"));
+    }
+
+    private static Categories categories(String key, String value) {
+        return Categories.builder()
+            .listOfCategory(List.of(Category.builder().key(key).valueEn(value).build()))
+            .build();
+    }
+}
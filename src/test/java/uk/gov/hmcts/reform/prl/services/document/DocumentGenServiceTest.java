@@ -8,6 +8,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
@@ -26,6 +27,7 @@ import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserDetails;
 import uk.gov.hmcts.reform.prl.clients.DgsApiClient;
 import uk.gov.hmcts.reform.prl.clients.ccd.records.StartAllTabsUpdateDataContent;
+import uk.gov.hmcts.reform.prl.config.DocumentGenerationConfiguration;
 import uk.gov.hmcts.reform.prl.constants.PrlAppsConstants;
 import uk.gov.hmcts.reform.prl.enums.CaseEvent;
 import uk.gov.hmcts.reform.prl.enums.FL401OrderTypeEnum;
@@ -67,6 +69,7 @@ import uk.gov.hmcts.reform.prl.models.dto.citizen.GenerateAndUploadDocumentReque
 import uk.gov.hmcts.reform.prl.models.language.DocumentLanguage;
 import uk.gov.hmcts.reform.prl.services.AllegationOfHarmRevisedService;
 import uk.gov.hmcts.reform.prl.services.DeleteDocumentService;
+import uk.gov.hmcts.reform.prl.services.DgsRenderContext;
 import uk.gov.hmcts.reform.prl.services.DgsService;
 import uk.gov.hmcts.reform.prl.services.DocumentLanguageService;
 import uk.gov.hmcts.reform.prl.services.OrganisationService;
@@ -165,6 +168,13 @@ public class DocumentGenServiceTest {
     @Mock
     DgsService dgsService;
 
+    @Mock
+    DgsRenderContext renderContext;
+
+    @Spy
+    DocumentGenerationExecutor documentGenerationExecutor = new DocumentGenerationExecutor(
+        new DocumentGenerationConfiguration(true, 4, 10, 5000, 10000));
+
     @Mock
     DocumentLanguageService documentLanguageService;
 
@@ -247,6 +257,7 @@ public class DocumentGenServiceTest {
 
     @Before
     public void setUp() {
+        when(dgsService.createRenderContext(any(CaseDetails.class))).thenReturn(renderContext);
         generatedDocumentInfo = GeneratedDocumentInfo.builder()
             .url("TestUrl")
             .binaryUrl("binaryUrl")
@@ -516,12 +527,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         c100CaseData = c100CaseData.toBuilder().allegationOfHarmRevised(AllegationOfHarmRevised
@@ -540,14 +551,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(3)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(3)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -558,12 +570,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             any()
         );
         when(organisationService.getApplicantOrganisationDetails(any(CaseData.class))).thenReturn(c100CaseDataFinal);
@@ -582,14 +594,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -600,12 +613,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetailsForFL401(Mockito.any(CaseData.class))).thenReturn(
@@ -622,14 +635,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -662,12 +676,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetails(Mockito.any(CaseData.class))).thenReturn(c100CaseData);
@@ -681,14 +695,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(1)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(1)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -699,12 +714,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetails(Mockito.any(CaseData.class))).thenReturn(
@@ -724,14 +739,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(3)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(3)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -741,12 +757,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetailsForFL401(Mockito.any(CaseData.class))).thenReturn(
@@ -761,14 +777,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -778,12 +795,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetailsForFL401(Mockito.any(CaseData.class))).thenReturn(
@@ -802,14 +819,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -889,7 +907,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(true).build();
@@ -901,14 +919,15 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocuments(authToken, fl401CaseData);
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
 
     }
@@ -985,7 +1004,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(true).build();
@@ -997,14 +1016,15 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocuments(authToken, fl401CaseData);
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
 
     }
@@ -1063,7 +1083,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(true).build();
@@ -1076,14 +1096,15 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocuments(authToken, fl401CaseData);
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -1127,7 +1148,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(true).build();
@@ -1140,14 +1161,15 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocuments(authToken, fl401CaseData);
         verify(dgsService, times(1)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(1)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -1191,7 +1213,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(false).build();
@@ -1204,9 +1226,10 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocuments(authToken, fl401CaseData);
         verify(dgsService, times(1)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -1260,9 +1283,10 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocuments(authToken, fl401CaseData);
         verify(dgsService, times(1)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -1303,14 +1327,14 @@ public class DocumentGenServiceTest {
     @Test
     public void testSingleDocGeneration() throws Exception {
         documentGenService.generateSingleDocument("auth", c100CaseData, DOCUMENT_COVER_SHEET_HINT, false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
     public void testSingleDocGenerationC1A() throws Exception {
         c100CaseData = c100CaseData.toBuilder().taskListVersion(TASK_LIST_VERSION_V2).build();
         documentGenService.generateSingleDocument("auth", c100CaseData, C1A_HINT, false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
 
@@ -1323,7 +1347,7 @@ public class DocumentGenServiceTest {
         documentGenService.generateSingleDocument("auth", emptyCaseData, DOCUMENT_PRIVACY_NOTICE_HINT, false);
         documentGenService.generateSingleDocument("auth", emptyCaseData, CITIZEN_HINT, false);
 
-        verify(dgsService, times(5)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(5)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
@@ -1390,7 +1414,7 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
 
@@ -1412,7 +1436,7 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
 
@@ -1443,31 +1467,31 @@ public class DocumentGenServiceTest {
     @Test
     public void testSingleDocGenerationForEnglish() throws Exception {
         documentGenService.generateSingleDocument("auth", c100CaseData, C7_FINAL_RESPONDENT, false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
     public void testSingleDocGenerationForWelsh() throws Exception {
         documentGenService.generateSingleDocument("auth", c100CaseData, C7_FINAL_WELSH, false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
     public void testSingleDocGenerationDefault() throws Exception {
         documentGenService.generateSingleDocument("auth", c100CaseData, "", false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
     public void testSingleDocGenerationC8DraftHint() throws Exception {
         documentGenService.generateSingleDocument("auth", c100CaseData, C8_DRAFT_HINT, false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
     public void testSingleDocGenerationC1ADraftHint() throws Exception {
         documentGenService.generateSingleDocument("auth", c100CaseData, C1A_DRAFT_HINT, false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
@@ -1495,12 +1519,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetails(Mockito.any(CaseData.class))).thenReturn(
@@ -1519,14 +1543,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2052,7 +2077,7 @@ public class DocumentGenServiceTest {
         documentGenService.generateSingleDocument("auth", c100CaseData, SOLICITOR_C1A_WELSH_FINAL_DOCUMENT, false);
         documentGenService.generateSingleDocument("auth", c100CaseData, C8_RESP_DRAFT_HINT, false);
         documentGenService.generateSingleDocument("auth", c100CaseData, C8_RESP_FINAL_HINT, false);
-        verify(dgsService, times(8)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(8)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
@@ -2062,12 +2087,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetails(Mockito.any(CaseData.class))).thenReturn(c100CaseData);
@@ -2085,14 +2110,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(6)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(6)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2103,12 +2129,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             any()
         );
         when(organisationService.getApplicantOrganisationDetails(any(CaseData.class))).thenReturn(c100CaseDataFinal);
@@ -2128,14 +2154,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(4)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             any()
         );
         verify(dgsService, times(4)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2145,12 +2172,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetailsForFL401(Mockito.any(CaseData.class))).thenReturn(
@@ -2170,14 +2197,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(3)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(3)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2188,12 +2216,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetails(Mockito.any(CaseData.class))).thenReturn(
@@ -2215,14 +2243,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(6)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(6)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2232,12 +2261,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetailsForFL401(Mockito.any(CaseData.class))).thenReturn(
@@ -2255,14 +2284,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(3)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(3)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2272,12 +2302,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         when(organisationService.getApplicantOrganisationDetailsForFL401(Mockito.any(CaseData.class))).thenReturn(
@@ -2299,14 +2329,15 @@ public class DocumentGenServiceTest {
 
         verify(dgsService, times(3)).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(3)).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2385,7 +2416,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(true).build();
@@ -2397,14 +2428,15 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocumentsForTestingSupport(authToken, fl401CaseData);
         verify(dgsService, times(3)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(3)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
 
     }
@@ -2480,7 +2512,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(true).build();
@@ -2492,14 +2524,15 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocumentsForTestingSupport(authToken, fl401CaseData);
         verify(dgsService, times(3)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(3)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
 
     }
@@ -2558,7 +2591,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(true).build();
@@ -2571,14 +2604,15 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocumentsForTestingSupport(authToken, fl401CaseData);
         verify(dgsService, times(3)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(3)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2622,7 +2656,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(true).build();
@@ -2635,14 +2669,15 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocumentsForTestingSupport(authToken, fl401CaseData);
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2687,7 +2722,7 @@ public class DocumentGenServiceTest {
             .state(State.AWAITING_FL401_SUBMISSION_TO_HMCTS)
             .build();
 
-        when(dgsService.generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any()))
+        when(dgsService.generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any()))
             .thenReturn(generatedDocumentInfo);
 
         DocumentLanguage documentLanguage = DocumentLanguage.builder().isGenEng(true).isGenWelsh(false).build();
@@ -2700,9 +2735,10 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocumentsForTestingSupport(authToken, fl401CaseData);
         verify(dgsService, times(2)).generateDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
@@ -2756,16 +2792,17 @@ public class DocumentGenServiceTest {
         documentGenService.generateDocumentsForTestingSupport(authToken, fl401CaseData);
         verify(dgsService, times(2)).generateWelshDocument(
             Mockito.anyString(),
-            any(CaseDetails.class),
+            any(DgsRenderContext.class),
             Mockito.any()
         );
+        verify(dgsService, times(1)).createRenderContext(Mockito.any(CaseDetails.class));
         verifyNoMoreInteractions(dgsService);
     }
 
     @Test
     public void testSingleDocGenerationForFl404b() throws Exception {
         documentGenService.generateSingleDocument("auth", fl401CaseData, DA_LIST_ON_NOTICE_FL404B_DOCUMENT, false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
@@ -3102,12 +3139,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         c100CaseData = c100CaseData.toBuilder().allegationOfHarmRevised(AllegationOfHarmRevised
@@ -3136,12 +3173,12 @@ public class DocumentGenServiceTest {
         when(documentLanguageService.docGenerateLang(Mockito.any(CaseData.class))).thenReturn(documentLanguage);
         doReturn(generatedDocumentInfo).when(dgsService).generateDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
         doReturn(generatedDocumentInfo).when(dgsService).generateWelshDocument(
             Mockito.anyString(),
-            Mockito.any(CaseDetails.class),
+            Mockito.any(DgsRenderContext.class),
             Mockito.any()
         );
 
@@ -3195,13 +3232,14 @@ public class DocumentGenServiceTest {
     @Test
     public void testSingleDocGenerationForCitizenDocumentC1aDraftEnglish() throws Exception {
         documentGenService.generateSingleDocument("auth", c100CaseData, DOCUMENT_C1A_DRAFT_HINT, false);
-        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).generateDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 
     @Test
     public void testSingleDocGenerationForCitizenDocumentC1aDraftWelsh() throws Exception {
         documentGenService.generateSingleDocument("auth", c100CaseData, DOCUMENT_C1A_DRAFT_HINT, true);
-        verify(dgsService, times(1)).generateWelshDocument(Mockito.anyString(), any(CaseDetails.class), Mockito.any());
+        verify(dgsService, times(1)).createRenderContext(any(CaseDetails.class));
+        verify(dgsService, times(1)).generateWelshDocument(Mockito.anyString(), any(DgsRenderContext.class), Mockito.any());
     }
 }
 
@@ -0,0 +1,127 @@
+package uk.gov.hmcts.reform.prl.services.document;
+
+import org.junit.After;
+import org.junit.Test;
+import uk.gov.hmcts.reform.prl.config.DocumentGenerationConfiguration;
+import uk.gov.hmcts.reform.prl.framework.exceptions.DocumentGenerationException;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class DocumentGenerationExecutorTest {
+
+    private DocumentGenerationExecutor documentGenerationExecutor;
+
+    @After
+    public void tearDown() {
+        documentGenerationExecutor.shutdown();
+    }
+
+    @Test
+    public void testRendersRunTogetherAndKeepTheirOrder() throws Exception {
+        documentGenerationExecutor = new DocumentGenerationExecutor(configuration(true, 500, 5000));
+        CyclicBarrier allStarted = new CyclicBarrier(3);
+        Map<String, DocumentGenerationExecutor.Render> renders = new LinkedHashMap<>();
+        renders.put("c8Document", () -> {
+            allStarted.await(2, TimeUnit.SECONDS);
+            return "c8";
+        });
+        renders.put("c1ADocument", () -> {
+            allStarted.await(2, TimeUnit.SECONDS);
+            return null;
+        });
+        renders.put("finalDocument", () -> {
+            allStarted.await(2, TimeUnit.SECONDS);
+            return "final";
+        });
+
+        Map<String, Object> rendered = documentGenerationExecutor.renderAll(renders);
+
+        assertEquals(List.of("c8Document", "c1ADocument", "finalDocument"), List.copyOf(rendered.keySet()));
+        assertEquals("c8", rendered.get("c8Document"));
+        assertTrue(rendered.containsKey("c1ADocument"));
+        assertEquals("final", rendered.get("finalDocument"));
+    }
+
+    @Test
+    public void testFirstFailureInOrderIsRethrown() {
+        documentGenerationExecutor = new DocumentGenerationExecutor(configuration(true, 2000, 5000));
+        CountDownLatch laterFailed = new CountDownLatch(1);
+        Map<String, DocumentGenerationExecutor.Render> renders = new LinkedHashMap<>();
+        renders.put("c8Document", () -> {
+            laterFailed.await(2, TimeUnit.SECONDS);
+            throw new IllegalStateException("c8 failed");
+        });
+        renders.put("finalDocument", () -> {
+            laterFailed.countDown();
+            throw new IllegalArgumentException("final failed");
+        });
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> documentGenerationExecutor.renderAll(renders));
+
+        assertEquals("c8 failed", exception.getMessage());
+    }
+
+    @Test
+    public void testRenderOverItsTimeoutFailsTheBatch() {
+        documentGenerationExecutor = new DocumentGenerationExecutor(configuration(true, 100, 5000));
+        Map<String, DocumentGenerationExecutor.Render> renders = new LinkedHashMap<>();
+        renders.put("c8Document", () -> "c8");
+        renders.put("finalDocument", () -> {
+            Thread.sleep(1000);
+            return "final";
+        });
+
+        DocumentGenerationException exception = assertThrows(DocumentGenerationException.class,
+            () -> documentGenerationExecutor.renderAll(renders));
+
+        assertEquals("finalDocument was not generated within 100ms", exception.getMessage());
+    }
+
+    @Test
+    public void testRenderOverItsTimeoutIsInterrupted() throws Exception {
+        documentGenerationExecutor = new DocumentGenerationExecutor(configuration(true, 100, 5000));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Map<String, DocumentGenerationExecutor.Render> renders = new LinkedHashMap<>();
+        renders.put("c8Document", () -> "c8");
+        renders.put("finalDocument", () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return "final";
+        });
+
+        assertThrows(DocumentGenerationException.class, () -> documentGenerationExecutor.renderAll(renders));
+
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRendersRunOnCallerThreadWhenNotConcurrent() throws Exception {
+        documentGenerationExecutor = new DocumentGenerationExecutor(configuration(false, 100, 100));
+        Thread caller = Thread.currentThread();
+        Map<String, DocumentGenerationExecutor.Render> renders = new LinkedHashMap<>();
+        renders.put("c8Document", () -> Thread.currentThread() == caller);
+        renders.put("finalDocument", () -> Thread.currentThread() == caller);
+
+        Map<String, Object> rendered = documentGenerationExecutor.renderAll(renders);
+
+        assertEquals(Boolean.TRUE, rendered.get("c8Document"));
+        assertEquals(Boolean.TRUE, rendered.get("finalDocument"));
+    }
+
+    private static DocumentGenerationConfiguration configuration(boolean concurrent, long renderTimeoutMillis, long deadlineMillis) {
+        return new DocumentGenerationConfiguration(concurrent, 4, 10, renderTimeoutMillis, deadlineMillis);
+    }
+}
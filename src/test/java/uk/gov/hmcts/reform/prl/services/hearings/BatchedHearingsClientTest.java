@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.prl.services.hearings;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class BatchedHearingsClientTest {
+
+    private final BatchedHearingsClient batchedHearingsClient = new BatchedHearingsClient(2, 2);
+
+    @After
+    public void tearDown() {
+        batchedHearingsClient.shutdown();
+    }
+
+    @Test
+    public void testHearingsOfAllChunksAreMergedInOrder() {
+        List<List<String>> chunks = Collections.synchronizedList(new ArrayList<>());
+
+        BatchedHearings<String, String> hearings = batchedHearingsClient.fetchInChunks(
+            List.of("1", "2", "3", "4", "5"),
+            chunk -> {
+                chunks.add(chunk);
+                return chunk.stream().map(caseId -> "hearing-" + caseId).toList();
+            }
+        );
+
+        assertEquals(List.of("hearing-1", "hearing-2", "hearing-3", "hearing-4", "hearing-5"), hearings.getHearings());
+        assertFalse(hearings.hasFailedCases());
+        assertEquals(3, chunks.size());
+        assertTrue(chunks.stream().allMatch(chunk -> chunk.size() <= 2));
+    }
+
+    @Test
+    public void testFailedChunkOnlyLosesItsOwnCases() {
+        BatchedHearings<String, String> hearings = batchedHearingsClient.fetchInChunks(
+            List.of("1", "2", "3", "4", "5"),
+            chunk -> {
+                if (chunk.contains("3")) {
+                    throw new RuntimeException("hearings api unavailable");
+                }
+                return chunk.stream().map(caseId -> "hearing-" + caseId).toList();
+            }
+        );
+
+        assertEquals(List.of("hearing-1", "hearing-2", "hearing-5"), hearings.getHearings());
+        assertEquals(List.of("3", "4"), hearings.getFailedCases());
+    }
+
+    @Test
+    public void testFailedSingleChunkReturnsItsCasesAsFailed() {
+        BatchedHearings<String, String> hearings = batchedHearingsClient.fetchInChunks(
+            List.of("1", "2"),
+            chunk -> {
+                throw new RuntimeException("hearings api unavailable");
+            }
+        );
+
+        assertTrue(hearings.getHearings().isEmpty());
+        assertEquals(List.of("1", "2"), hearings.getFailedCases());
+    }
+
+    @Test
+    public void testChunksStillFetchingAreInterruptedWhenTheLookupFails() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        assertThrows(IllegalStateException.class, () -> batchedHearingsClient.fetchInChunks(
+            List.of("1", "2", "3", "4"),
+            chunk -> {
+                if (chunk.contains("1")) {
+                    try {
+                        started.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new AssertionError("unexpected");
+                }
+                started.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return chunk;
+            }
+        ));
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testChunksAreFetchedWithinConcurrencyCap() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        BatchedHearings<String, String> hearings = batchedHearingsClient.fetchInChunks(
+            List.of("1", "2", "3", "4", "5", "6", "7", "8"),
+            chunk -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return chunk;
+            }
+        );
+
+        assertEquals(8, hearings.getHearings().size());
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    public void testNoCasesMakesNoCalls() {
+        AtomicInteger calls = new AtomicInteger();
+
+        BatchedHearings<String, String> hearings = batchedHearingsClient.fetchInChunks(
+            new ArrayList<String>(),
+            chunk -> {
+                calls.incrementAndGet();
+                return chunk;
+            }
+        );
+
+        assertTrue(hearings.getHearings().isEmpty());
+        assertFalse(hearings.hasFailedCases());
+        assertEquals(0, calls.get());
+    }
+}
@@ -27,6 +27,7 @@ import uk.gov.hmcts.reform.prl.models.complextypes.DomesticAbuseEvidenceDocument
 import uk.gov.hmcts.reform.prl.models.documents.Document;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.MiamPolicyUpgradeDetails;
+import uk.gov.hmcts.reform.prl.models.user.SystemUserContext;
 import uk.gov.hmcts.reform.prl.services.ApplicationsTabService;
 import uk.gov.hmcts.reform.prl.services.ConfidentialityTabService;
 import uk.gov.hmcts.reform.prl.services.SystemUserService;
@@ -39,6 +40,7 @@ import java.util.UUID;
 
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -102,8 +104,7 @@ public class AllTabServiceImplTest {
         List.of(element(caseInvite1), element(caseInvite2));
 
         EventRequestData eventRequestData = EventRequestData.builder().build();
-        when(systemUserService.getSysUserToken()).thenReturn(systemAuthToken);
-        when(systemUserService.getUserId(systemAuthToken)).thenReturn(systemUserId);
+        when(systemUserService.getSystemUserContext()).thenReturn(new SystemUserContext(systemAuthToken, systemUserId));
         when(ccdCoreCaseDataService.eventRequest(CaseEvent.UPDATE_ALL_TABS, systemUserId)).thenReturn(
                 eventRequestData);
         caseDetails = CaseDetails.builder().id(Long.valueOf("123")).data(Map.of("id", caseId)).build();
@@ -124,6 +125,7 @@ public class AllTabServiceImplTest {
 
     @Test
     public void testUpdateAllTabsIncludingConfTab() {
+        when(applicationsTabService.updateTab(caseData)).thenReturn(Map.of("hearingUrgencyTable", Map.of("isCaseUrgent", "Yes")));
         CaseDetails returnedCaseDetails = allTabService.updateAllTabsIncludingConfTab(caseId);
         assertNotNull(returnedCaseDetails);
         verify(ccdCoreCaseDataService, Mockito.times(1)).startUpdate(anyString(), any(), anyString(), anyBoolean());
@@ -133,6 +135,52 @@ public class AllTabServiceImplTest {
         verify(confidentialityTabService, Mockito.times(1)).updateConfidentialityDetails(caseData);
     }
 
+    @Test
+    public void testAllTabsUpdateSubmitsOnlyChangedFields() {
+        allTabService = allTabServiceWithObjectMapper();
+        Map<String, Object> existingData = new HashMap<>();
+        existingData.put("courtName", "Test court");
+        existingData.put("hearingUrgencyTable", Map.of("isCaseUrgent", "Yes", "setOutReasonsBelow", "reasons"));
+        existingData.put("c8Document", null);
+        startEventResponse = StartEventResponse.builder().eventId(eventName).token(eventToken)
+            .caseDetails(CaseDetails.builder().id(123L).data(existingData).build())
+            .build();
+        Map<String, Object> hearingUrgencyTable = new HashMap<>();
+        hearingUrgencyTable.put("isCaseUrgent", "Yes");
+        hearingUrgencyTable.put("setOutReasonsBelow", "reasons");
+        hearingUrgencyTable.put("caseUrgencyTimeAndReason", null);
+        CaseData courtCaseData = caseData.toBuilder().courtName("Test court").build();
+        when(applicationsTabService.updateTab(courtCaseData)).thenReturn(Map.of(
+            "hearingUrgencyTable", hearingUrgencyTable,
+            "miamTable", Map.of("applicantAttendedMiam", "Yes")
+        ));
+
+        allTabService.mapAndSubmitAllTabsUpdate(systemAuthToken, caseId, startEventResponse,
+                                                EventRequestData.builder().build(), courtCaseData);
+
+        verify(ccdCoreCaseDataService).createCaseDataContent(
+            startEventResponse,
+            Map.of("miamTable", Map.of("applicantAttendedMiam", "Yes"))
+        );
+        verify(ccdCoreCaseDataService, Mockito.times(1)).submitUpdate(anyString(), any(), any(), anyString(), anyBoolean());
+    }
+
+    @Test
+    public void testAllTabsUpdateIsNotSubmittedWhenNothingChanged() {
+        allTabService = allTabServiceWithObjectMapper();
+        startEventResponse = StartEventResponse.builder().eventId(eventName).token(eventToken)
+            .caseDetails(CaseDetails.builder().id(123L).data(Map.of("courtId", "123", "dateSubmitted", "2024-01-01")).build())
+            .build();
+
+        CaseDetails returnedCaseDetails = allTabService.mapAndSubmitAllTabsUpdate(
+            systemAuthToken, caseId, startEventResponse, EventRequestData.builder().build(),
+            caseData.toBuilder().courtId("123").dateSubmitted("2024-01-01").build()
+        );
+
+        assertSame(startEventResponse.getCaseDetails(), returnedCaseDetails);
+        verify(ccdCoreCaseDataService, Mockito.never()).submitUpdate(anyString(), any(), any(), anyString(), anyBoolean());
+    }
+
     @Test
     public void testUpdateAllTabsIncludingConfTabWithInvalidCaseId() {
         CaseDetails returnedCaseDetails = allTabService.updateAllTabsIncludingConfTab("");
@@ -302,4 +350,9 @@ public class AllTabServiceImplTest {
 
         verify(ccdCoreCaseDataService, Mockito.times(1)).submitUpdate(anyString(), any(), any(), anyString(),anyBoolean());
     }
+
+    private AllTabServiceImpl allTabServiceWithObjectMapper() {
+        return new AllTabServiceImpl(applicationsTabService, caseSummaryTabService, confidentialityTabService,
+                                     new ObjectMapper(), ccdCoreCaseDataService, systemUserService, idamClient);
+    }
 }
@@ -2,34 +2,56 @@ package uk.gov.hmcts.reform.prl.services.tab.summary;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import uk.gov.hmcts.reform.prl.config.CaseSummaryTabConfiguration;
+import uk.gov.hmcts.reform.prl.models.Element;
 import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.CaseSummary;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.AllegationOfHarm;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.AllocatedJudge;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.CaseStatus;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.ConfidentialDetails;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.DateOfSubmission;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.OrderAppliedFor;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.OtherProceedingEmptyTable;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.OtherProceedings;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.SpecialArrangements;
+import uk.gov.hmcts.reform.prl.models.complextypes.tab.summarytab.summary.Urgency;
 import uk.gov.hmcts.reform.prl.models.dto.ccd.CaseData;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.AllegationOfHarmGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.AllegationOfHarmRevisedGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.AllocatedJudgeDetailsGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.CaseStatusGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.ConfidentialDetailsGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.DateOfSubmissionGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.FieldGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.OrderAppliedForGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.OtherProceedingsGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.SpecialArrangementsGenerator;
+import uk.gov.hmcts.reform.prl.services.tab.summary.generator.TypeOfApplicationGenerator;
 import uk.gov.hmcts.reform.prl.services.tab.summary.generator.UrgencyGenerator;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.Assert.assertEquals;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.prl.utils.ElementUtils.element;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CaseSummaryTabServiceTest {
@@ -61,54 +83,75 @@ public class CaseSummaryTabServiceTest {
     @Mock
     AllegationOfHarmGenerator allegationOfHarmGenerator;
 
+    @Mock
+    AllegationOfHarmRevisedGenerator allegationOfHarmRevisedGenerator;
+
     @Mock
     DateOfSubmissionGenerator dateOfSubmissionGenerator;
 
     @Mock
-    ObjectMapper objectMapper;
+    TypeOfApplicationGenerator typeOfApplicationGenerator;
+
+    @Spy
+    CaseSummaryGeneratorExecutor caseSummaryGeneratorExecutor =
+        new CaseSummaryGeneratorExecutor(new CaseSummaryTabConfiguration(false, 0, 1, 10));
 
     private static final CaseData CASE_DATA = mock(CaseData.class);
-    private static final CaseSummary CASE_SUMMARY0 = mock(CaseSummary.class);
-    private static final CaseSummary CASE_SUMMARY1 = mock(CaseSummary.class);
-    private static final CaseSummary CASE_SUMMARY2 = mock(CaseSummary.class);
-    private static final CaseSummary CASE_SUMMARY3 = mock(CaseSummary.class);
-    private static final CaseSummary CASE_SUMMARY4 = mock(CaseSummary.class);
-    private static final CaseSummary CASE_SUMMARY5 = mock(CaseSummary.class);
-    private static final CaseSummary CASE_SUMMARY6 = mock(CaseSummary.class);
-    private static final CaseSummary CASE_SUMMARY7 = mock(CaseSummary.class);
-    private static final CaseSummary CASE_SUMMARY8 = mock(CaseSummary.class);
-    private static final String[] EMPTY_ARRAY = {};
+    private static final AllocatedJudge ALLOCATED_JUDGE = AllocatedJudge.builder().lastName("Judge").build();
+    private static final CaseStatus CASE_STATUS = CaseStatus.builder().state("Submitted").build();
+    private static final ConfidentialDetails CONFIDENTIAL_DETAILS = ConfidentialDetails.builder()
+        .isConfidentialDetailsAvailable("No").build();
+    private static final OrderAppliedFor ORDER_APPLIED_FOR = OrderAppliedFor.builder().ordersApplyingFor("Child Arrangements Order").build();
+    private static final SpecialArrangements SPECIAL_ARRANGEMENTS = SpecialArrangements.builder().areAnySpecialArrangements("No").build();
+    private static final Urgency URGENCY = Urgency.builder().urgencyStatus("Urgent").build();
+    private static final AllegationOfHarm ALLEGATION_OF_HARM = AllegationOfHarm.builder().typesOfHarm("None").build();
+    private static final DateOfSubmission DATE_OF_SUBMISSION = DateOfSubmission.builder().dateOfSubmission("01 Jan 2024").build();
+    private static final List<Element<OtherProceedings>> OTHER_PROCEEDINGS = List.of(element(OtherProceedings.builder().build()));
+    private static final OtherProceedingEmptyTable OTHER_PROCEEDING_EMPTY_TABLE = OtherProceedingEmptyTable.builder()
+        .otherProceedingEmptyField(" ").build();
 
     @Before
     public void setUp() {
-        when(allocatedJudgeDetailsGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY0);
-        when(caseStatusGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY1);
-        when(confidentialDetailsGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY2);
-        when(orderAppliedForGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY3);
-        when(specialArrangementsGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY4);
-        when(urgencyGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY5);
-        when(allegationOfHarmGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY6);
-        when(dateOfSubmissionGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY7);
-        when(otherProceedingsGenerator.generate(CASE_DATA)).thenReturn(CASE_SUMMARY8);
-        when(otherProceedingsGenerator.getOtherProceedingsDetails(CASE_DATA)).thenReturn(new ArrayList<>());
-
-        when(objectMapper.convertValue(eq(CASE_SUMMARY0),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(Map.of("field0", "value0"));
-        when(objectMapper.convertValue(eq(CASE_SUMMARY1),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(Map.of("field1", "value1"));
-        when(objectMapper.convertValue(eq(CASE_SUMMARY2),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(Map.of("field2", "value2"));
-        when(objectMapper.convertValue(eq(CASE_SUMMARY3),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(Map.of("field3", "value3"));
-        when(objectMapper.convertValue(eq(CASE_SUMMARY4),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(Map.of("field4", "value4"));
-        when(objectMapper.convertValue(eq(CASE_SUMMARY5),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(Map.of("field5", "value5"));
-        when(objectMapper.convertValue(eq(CASE_SUMMARY6),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(Map.of("field6", "value6"));
-        when(objectMapper.convertValue(eq(CASE_SUMMARY7),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(Map.of("field7", "value7"));
+        when(allocatedJudgeDetailsGenerator.generate(CASE_DATA))
+            .thenReturn(CaseSummary.builder().allocatedJudgeDetails(ALLOCATED_JUDGE).build());
+        when(caseStatusGenerator.generate(CASE_DATA)).thenReturn(CaseSummary.builder().caseStatus(CASE_STATUS).build());
+        when(confidentialDetailsGenerator.generate(CASE_DATA))
+            .thenReturn(CaseSummary.builder().confidentialDetails(CONFIDENTIAL_DETAILS).build());
+        when(orderAppliedForGenerator.generate(CASE_DATA))
+            .thenReturn(CaseSummary.builder().summaryTabForOrderAppliedFor(ORDER_APPLIED_FOR).build());
+        when(specialArrangementsGenerator.generate(CASE_DATA))
+            .thenReturn(CaseSummary.builder().specialArrangement(SPECIAL_ARRANGEMENTS).build());
+        when(urgencyGenerator.generate(CASE_DATA)).thenReturn(CaseSummary.builder().urgencyDetails(URGENCY).build());
+        when(allegationOfHarmGenerator.generate(CASE_DATA))
+            .thenReturn(CaseSummary.builder().allegationOfHarm(ALLEGATION_OF_HARM).build());
+        when(dateOfSubmissionGenerator.generate(CASE_DATA))
+            .thenReturn(CaseSummary.builder().dateOfSubmission(DATE_OF_SUBMISSION).build());
+        when(otherProceedingsGenerator.generate(CASE_DATA)).thenReturn(CaseSummary.builder()
+                                                                           .otherProceedingsForSummaryTab(OTHER_PROCEEDINGS)
+                                                                           .otherProceedingEmptyTable(OTHER_PROCEEDING_EMPTY_TABLE)
+                                                                           .build());
+    }
+
+    @After
+    public void tearDown() {
+        caseSummaryGeneratorExecutor.shutdown();
+    }
 
+    private static Map<String, Object> expectedFields() {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("allocatedJudgeDetails", ALLOCATED_JUDGE);
+        fields.put("caseStatus", CASE_STATUS);
+        fields.put("confidentialDetails", CONFIDENTIAL_DETAILS);
+        fields.put("urgencyDetails", URGENCY);
+        fields.put("allegationOfHarm", ALLEGATION_OF_HARM);
+        fields.put("allegationOfHarmRevised", null);
+        fields.put("specialArrangement", SPECIAL_ARRANGEMENTS);
+        fields.put("summaryTabForOrderAppliedFor", ORDER_APPLIED_FOR);
+        fields.put("otherProceedingsForSummaryTab", OTHER_PROCEEDINGS);
+        fields.put("otherProceedingEmptyTable", OTHER_PROCEEDING_EMPTY_TABLE);
+        fields.put("dateOfSubmission", DATE_OF_SUBMISSION);
+        fields.put("applicationTypeDetails", null);
+        return fields;
     }
 
     @Test
@@ -116,78 +159,106 @@ public class CaseSummaryTabServiceTest {
 
         final Map<String, Object> actual = caseSummaryTabService.updateTab(CASE_DATA);
 
-        Map<String, Object> fields = new HashMap<String, Object>();
-        fields.put("field0", "value0");
-        fields.put("field1", "value1");
-        fields.put("field2", "value2");
-        fields.put("field3", "value3");
-        fields.put("field4", "value4");
-        fields.put("field5", "value5");
-        fields.put("field6", "value6");
-        fields.put("field7", "value7");
-        fields.put("otherProceedingEmptyTable", null);
-        fields.put("otherProceedingsForSummaryTab", new ArrayList<>());
-
-
-        assertEquals(fields, actual);
+        assertEquals(expectedFields(), actual);
     }
 
     @Test
-    public void testWhenAllGeneratedFieldsWithNullValuesWillKeep() {
-
-        Map<String, Object> objectObjectHashMap = new HashMap<>();
-        objectObjectHashMap.put("field0", "value0");
-        objectObjectHashMap.put("fieldNull", null);
+    public void testEachGeneratorRunsOnce() {
 
-        when(objectMapper.convertValue(eq(CASE_SUMMARY0),
-                                       Mockito.<TypeReference<Map<String, Object>>>any()))
-            .thenReturn(objectObjectHashMap);
+        caseSummaryTabService.updateTab(CASE_DATA);
 
+        verify(allocatedJudgeDetailsGenerator, times(1)).generate(CASE_DATA);
+        verify(caseStatusGenerator, times(1)).generate(CASE_DATA);
+        verify(dateOfSubmissionGenerator, times(1)).generate(CASE_DATA);
+        verify(otherProceedingsGenerator, times(1)).generate(CASE_DATA);
+        verify(otherProceedingsGenerator, times(0)).getOtherProceedingsDetails(CASE_DATA);
+    }
 
-        Map<String, Object> expected = new HashMap<>();
-        expected.put("field0", "value0");
-        expected.put("fieldNull", null);
-        expected.put("field1", "value1");
-        expected.put("field2", "value2");
-        expected.put("field3", "value3");
-        expected.put("field4", "value4");
-        expected.put("field5", "value5");
-        expected.put("field6", "value6");
-        expected.put("field7", "value7");
-        expected.put("otherProceedingEmptyTable", null);
-        expected.put("otherProceedingsForSummaryTab", new ArrayList<>());
+    @Test
+    public void testWhenAllGeneratedFieldsWithNullValuesWillKeep() {
 
         Map<String, Object> actual = caseSummaryTabService.updateTab(CASE_DATA);
 
-        assertThat(actual).isEqualTo(expected);
-
+        Map<String, Object> summaryFields = new ObjectMapper().convertValue(
+            CaseSummary.builder().build(),
+            new TypeReference<Map<String, Object>>() {
+            }
+        );
+        assertEquals(summaryFields.keySet(), actual.keySet());
+        assertNull(actual.get("applicationTypeDetails"));
     }
 
     @Test
-    public void testWhenAllGeneratedFieldsWithNullValuesWillOverrideWhenOtherNonNull() {
-
-        Map<String, Object> map = new HashMap<>();
-        map.put("field0", "value0");
-        map.put("field1", null);
+    public void testFirstGeneratorToSetAFieldWins() {
 
-        when(objectMapper.convertValue(eq(CASE_SUMMARY0),
-                                       Mockito.<TypeReference<Map<String, Object>>>any())).thenReturn(map);
+        CaseStatus laterCaseStatus = CaseStatus.builder().state("Issued").build();
+        when(urgencyGenerator.generate(CASE_DATA))
+            .thenReturn(CaseSummary.builder().urgencyDetails(URGENCY).caseStatus(laterCaseStatus).build());
 
         final Map<String, Object> actual = caseSummaryTabService.updateTab(CASE_DATA);
 
-        Map<String, Object> expected = new HashMap<>();
-        expected.put("field0", "value0");
-        expected.put("field1", "value1");
-        expected.put("field2", "value2");
-        expected.put("field3", "value3");
-        expected.put("field4", "value4");
-        expected.put("field5", "value5");
-        expected.put("field6", "value6");
-        expected.put("field7", "value7");
-        expected.put("otherProceedingEmptyTable", null);
-        expected.put("otherProceedingsForSummaryTab", new ArrayList<>());
+        assertEquals(expectedFields(), actual);
+        assertEquals(CASE_STATUS, actual.get("caseStatus"));
+    }
 
-        assertThat(actual).isEqualTo(expected);
+    @Test
+    public void testGeneratorsRunConcurrentlyForLargeCases() {
+
+        CaseSummaryGeneratorExecutor concurrentExecutor =
+            new CaseSummaryGeneratorExecutor(new CaseSummaryTabConfiguration(true, 0, 4, 10));
+        CaseSummaryTabService concurrentService = new CaseSummaryTabService(
+            allocatedJudgeDetailsGenerator,
+            caseStatusGenerator,
+            confidentialDetailsGenerator,
+            orderAppliedForGenerator,
+            otherProceedingsGenerator,
+            specialArrangementsGenerator,
+            urgencyGenerator,
+            allegationOfHarmGenerator,
+            allegationOfHarmRevisedGenerator,
+            dateOfSubmissionGenerator,
+            typeOfApplicationGenerator,
+            concurrentExecutor
+        );
+
+        try {
+            assertEquals(expectedFields(), concurrentService.updateTab(CASE_DATA));
+        } finally {
+            concurrentExecutor.shutdown();
+        }
+    }
 
+    @Test
+    public void testFailedGeneratorInterruptsTheOthers() throws InterruptedException {
+
+        CaseSummaryGeneratorExecutor concurrentExecutor =
+            new CaseSummaryGeneratorExecutor(new CaseSummaryTabConfiguration(true, 0, 2, 10));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        FieldGenerator failing = caseData -> {
+            try {
+                started.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalArgumentException("failed");
+        };
+        FieldGenerator blocking = caseData -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        };
+
+        try {
+            assertThrows(IllegalArgumentException.class,
+                () -> concurrentExecutor.generateAll(List.of(failing, blocking), CASE_DATA, 1));
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        } finally {
+            concurrentExecutor.shutdown();
+        }
     }
 }